@@ -1,6 +1,10 @@
 import type { Response, Request } from "express";
 import BaseController from "@controllers/BaseController";
-import { latestDSLVersion, migrateDSLToLatest } from "@services/DslService";
+import {
+  latestDSLVersion,
+  migrateDSLToLatest,
+  migrateDSLsToLatest,
+} from "@services/DslService";
 import { StatusCodes } from "http-status-codes";
 
 export default class DSLController extends BaseController {
@@ -23,6 +27,30 @@ export default class DSLController extends BaseController {
     }
   }
 
+  async migrateDSLs(req: Request, res: Response) {
+    try {
+      if (!Array.isArray(req.body)) {
+        return super.sendError(
+          res,
+          "Expected a list of DSLs",
+          [],
+          StatusCodes.BAD_REQUEST,
+        );
+      }
+
+      const latestDSLs = await migrateDSLsToLatest(req.body);
+
+      super.sendResponse(res, latestDSLs);
+    } catch (err) {
+      return super.sendError(
+        res,
+        this.serverErrorMessage,
+        [err.message],
+        StatusCodes.INTERNAL_SERVER_ERROR,
+      );
+    }
+  }
+
   getLatestDSLVersion(req: Request, res: Response) {
     try {
       super.sendResponse(res, { version: latestDSLVersion });
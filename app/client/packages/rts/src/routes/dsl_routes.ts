@@ -20,4 +20,11 @@ router.post(
     await dslController.migrateDSL(req, res),
 );
 
+router.post(
+  "/migrate/batch",
+  validator.validateRequest,
+  async (req: Request, res: Response) =>
+    await dslController.migrateDSLs(req, res),
+);
+
 export default router;
@@ -6,4 +6,8 @@ export async function migrateDSLToLatest(currentDsl) {
   return latestDSL;
 }
 
+export async function migrateDSLsToLatest(currentDsls) {
+  return Promise.all(currentDsls.map(migrateDSLToLatest));
+}
+
 export const latestDSLVersion = LATEST_DSL_VERSION;
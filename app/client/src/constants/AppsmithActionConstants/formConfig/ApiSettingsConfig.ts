@@ -56,6 +56,22 @@ export default [
         dataType: "NUMBER",
         width: "270px",
       },
+      {
+        label: "Cache responses (in seconds)",
+        subtitle:
+          "Time for which responses are reused in deployed apps. Responses are cached per user",
+        configProperty: "actionConfiguration.cacheResponseTtlInSeconds",
+        controlType: "INPUT_TEXT",
+        dataType: "NUMBER",
+        width: "270px",
+      },
+      {
+        label: "Clear cached responses on success",
+        tooltipText:
+          "Clears the cached responses of all the APIs on this datasource each time this API runs successfully, e.g. for APIs that change data",
+        configProperty: "actionConfiguration.invalidatesCachedResponses",
+        controlType: "SWITCH",
+      },
     ],
   },
 ];
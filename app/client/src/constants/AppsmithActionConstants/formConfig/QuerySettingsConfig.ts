@@ -23,6 +23,22 @@ export default [
         dataType: "NUMBER",
         width: "270px",
       },
+      {
+        label: "Cache responses (in seconds)",
+        subtitle:
+          "Time for which responses are reused in deployed apps. Responses are cached per user",
+        configProperty: "actionConfiguration.cacheResponseTtlInSeconds",
+        controlType: "INPUT_TEXT",
+        dataType: "NUMBER",
+        width: "270px",
+      },
+      {
+        label: "Clear cached responses on success",
+        tooltipText:
+          "Clears the cached responses of all the queries on this datasource each time this query runs successfully, e.g. for queries that change data",
+        configProperty: "actionConfiguration.invalidatesCachedResponses",
+        controlType: "SWITCH",
+      },
     ],
   },
 ];
@@ -32,6 +32,7 @@ export type Authentication =
 
 export interface Connection {
   ssl: SSL;
+  maxPoolSize?: number;
 }
 
 export interface SSL {
@@ -352,6 +352,16 @@ class DatasourceRestAPIEditor extends React.Component<Props> {
           )}
         </FormInputContainer>
         {this.renderSelfSignedCertificateFields()}
+        <FormInputContainer data-location-id={btoa("maxPoolSize")}>
+          {this.renderInputTextControlViaFormControl({
+            configProperty: "connection.maxPoolSize",
+            label: "Maximum connections",
+            placeholderText: "50",
+            dataType: "NUMBER",
+            encrypted: false,
+            isRequired: false,
+          })}
+        </FormInputContainer>
         <Collapsible title="Headers">
           <FormInputContainer
             className="t--headers-array"
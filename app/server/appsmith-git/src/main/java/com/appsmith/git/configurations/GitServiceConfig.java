@@ -13,4 +13,16 @@ public class GitServiceConfig {
 
     @Value("gitInitializeRepo/GitConnect-Initialize-Repo-Template")
     private String readmeTemplatePath;
+
+    @Value("${appsmith.git.repository-cache.max-size:100}")
+    private int repositoryCacheMaxSize;
+
+    @Value("${appsmith.git.repository-cache.expire-after-seconds:600}")
+    private int repositoryCacheExpireAfterSeconds;
+
+    @Value("${appsmith.git.packed-git-limit-mb:64}")
+    private int packedGitLimitMb;
+
+    @Value("${appsmith.git.delta-base-cache-limit-mb:16}")
+    private int deltaBaseCacheLimitMb;
 }
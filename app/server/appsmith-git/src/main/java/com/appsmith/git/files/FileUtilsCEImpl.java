@@ -7,6 +7,7 @@ import com.appsmith.external.git.FileInterface;
 import com.appsmith.external.git.GitExecutor;
 import com.appsmith.external.git.constants.GitSpan;
 import com.appsmith.external.git.operations.FileOperations;
+import com.appsmith.external.git.operations.ResourceManifest;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.ApplicationGitReference;
@@ -14,6 +15,7 @@ import com.appsmith.external.models.ArtifactGitReference;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.helpers.DSLTransformerHelper;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import io.micrometer.tracing.Span;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -74,6 +76,7 @@ public class FileUtilsCEImpl implements FileInterface {
     private final GitExecutor gitExecutor;
     protected final FileOperations fileOperations;
     private final ObservationHelper observationHelper;
+    private final GitRepositoryCache gitRepositoryCache;
 
     private static final String EDIT_MODE_URL_TEMPLATE = "{{editModeUrl}}";
 
@@ -90,11 +93,13 @@ public class FileUtilsCEImpl implements FileInterface {
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
             FileOperations fileOperations,
-            ObservationHelper observationHelper) {
+            ObservationHelper observationHelper,
+            GitRepositoryCache gitRepositoryCache) {
         this.gitServiceConfig = gitServiceConfig;
         this.gitExecutor = gitExecutor;
         this.fileOperations = fileOperations;
         this.observationHelper = observationHelper;
+        this.gitRepositoryCache = gitRepositoryCache;
     }
 
     /**
@@ -207,7 +212,10 @@ public class FileUtilsCEImpl implements FileInterface {
                 .flatMap(isSwitched -> {
                     Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
 
-                    updateEntitiesInRepo(applicationGitReference, baseRepo);
+                    // Only the files whose serialised content has changed since the last save are written again
+                    ResourceManifest resourceManifest = ResourceManifest.load(baseRepo);
+                    updateEntitiesInRepo(applicationGitReference, baseRepo, resourceManifest);
+                    resourceManifest.save();
 
                     processStopwatch.stopAndLogTimeInMillis();
                     return Mono.just(baseRepo);
@@ -216,6 +224,15 @@ public class FileUtilsCEImpl implements FileInterface {
     }
 
     protected Set<String> updateEntitiesInRepo(ApplicationGitReference applicationGitReference, Path baseRepo) {
+        return updateEntitiesInRepo(applicationGitReference, baseRepo, null);
+    }
+
+    /**
+     * Writes all the entities of the application to the repo. When a resource manifest is given, files whose content
+     * is the same as the one recorded in the manifest are not written again.
+     */
+    protected Set<String> updateEntitiesInRepo(
+            ApplicationGitReference applicationGitReference, Path baseRepo, ResourceManifest resourceManifest) {
 
         Set<String> validDatasourceFileNames = new HashSet<>();
         ModifiedResources modifiedResources = applicationGitReference.getModifiedResources();
@@ -227,15 +244,17 @@ public class FileUtilsCEImpl implements FileInterface {
         // Save application
         saveResource(
                 applicationGitReference.getApplication(),
-                baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION));
+                baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION),
+                resourceManifest);
 
         // Save application metadata
-        fileOperations.saveMetadataResource(applicationGitReference, baseRepo);
+        fileOperations.saveMetadataResource(applicationGitReference, baseRepo, resourceManifest);
 
         // Save application theme
         saveResource(
                 applicationGitReference.getTheme(),
-                baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION));
+                baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION),
+                resourceManifest);
 
         // Save pages
         Path pageDirectory = baseRepo.resolve(PAGE_DIRECTORY);
@@ -253,7 +272,8 @@ public class FileUtilsCEImpl implements FileInterface {
                 // Save page metadata
                 saveResource(
                         pageResource.getValue(),
-                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
+                        pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION),
+                        resourceManifest);
                 Map<String, JSONObject> result = DSLTransformerHelper.flatten(
                         new JSONObject(applicationGitReference.getPageDsl().get(pageName)));
                 result.keySet().parallelStream().forEach(key -> {
@@ -265,7 +285,7 @@ public class FileUtilsCEImpl implements FileInterface {
                     Path path = Paths.get(
                             String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
                     validWidgetToParentMap.put(widgetName, path.toFile().toString());
-                    fileOperations.saveWidgets(jsonObject, widgetName, path);
+                    fileOperations.saveWidgets(jsonObject, widgetName, path, resourceManifest);
                 });
                 // Remove deleted widgets from the file system
                 deleteWidgets(
@@ -302,7 +322,7 @@ public class FileUtilsCEImpl implements FileInterface {
 
                 Path jsLibSpecificFile = jsLibDirectory.resolve(fileNameWithExtension);
                 if (isResourceUpdated) {
-                    saveResource(jsLibEntry.getValue(), jsLibSpecificFile);
+                    saveResource(jsLibEntry.getValue(), jsLibSpecificFile, resourceManifest);
                 }
                 validJsLibs.add(fileNameWithExtension);
             });
@@ -343,7 +363,8 @@ public class FileUtilsCEImpl implements FileInterface {
                                     ? applicationGitReference.getActionBody().get(resource.getKey())
                                     : null,
                             queryName,
-                            actionSpecificDirectory.resolve(queryName));
+                            actionSpecificDirectory.resolve(queryName),
+                            resourceManifest);
                     // Delete the resource from the old file structure v2
                     fileOperations.deleteFile(pageSpecificDirectory
                             .resolve(ACTION_DIRECTORY)
@@ -384,7 +405,8 @@ public class FileUtilsCEImpl implements FileInterface {
                                             .getActionCollectionBody()
                                             .get(resource.getKey()),
                                     actionCollectionName,
-                                    actionCollectionSpecificDirectory.resolve(actionCollectionName));
+                                    actionCollectionSpecificDirectory.resolve(actionCollectionName),
+                                    resourceManifest);
                             // Delete the resource from the old file structure v2
                             fileOperations.deleteFile(actionCollectionSpecificDirectory.resolve(
                                     actionCollectionName + CommonConstants.JSON_EXTENSION));
@@ -404,7 +426,8 @@ public class FileUtilsCEImpl implements FileInterface {
                 applicationGitReference.getDatasources().entrySet()) {
             saveResource(
                     resource.getValue(),
-                    baseRepo.resolve(DATASOURCE_DIRECTORY).resolve(resource.getKey() + CommonConstants.JSON_EXTENSION));
+                    baseRepo.resolve(DATASOURCE_DIRECTORY).resolve(resource.getKey() + CommonConstants.JSON_EXTENSION),
+                    resourceManifest);
             validDatasourceFileNames.add(resource.getKey() + CommonConstants.JSON_EXTENSION);
         }
         // Scan datasource directory and delete any unwanted files if present
@@ -424,9 +447,13 @@ public class FileUtilsCEImpl implements FileInterface {
      * @return if the file operation is successful
      */
     protected boolean saveResource(Object sourceEntity, Path path) {
+        return saveResource(sourceEntity, path, null);
+    }
+
+    protected boolean saveResource(Object sourceEntity, Path path, ResourceManifest resourceManifest) {
         try {
             Files.createDirectories(path.getParent());
-            return fileOperations.writeToFile(sourceEntity, path);
+            return fileOperations.writeToFile(sourceEntity, path, resourceManifest);
         } catch (IOException e) {
             log.error("Error while writing resource to file {} with {}", path, e.getMessage());
             log.debug(e.getMessage());
@@ -443,9 +470,11 @@ public class FileUtilsCEImpl implements FileInterface {
      * @param body         actual js code written by the user
      * @param resourceName name of the action collection
      * @param path         file path where the resource will be stored
+     * @param resourceManifest manifest used to skip unchanged files, may be null
      * @return if the file operation is successful
      */
-    private boolean saveActionCollection(Object sourceEntity, String body, String resourceName, Path path) {
+    private boolean saveActionCollection(
+            Object sourceEntity, String body, String resourceName, Path path, ResourceManifest resourceManifest) {
         Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
         try {
             Files.createDirectories(path);
@@ -455,12 +484,12 @@ public class FileUtilsCEImpl implements FileInterface {
                 String resourceType = ACTION_COLLECTION_BODY;
                 span.tag(RESOURCE_TYPE, resourceType);
                 observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
+                writeStringToFile(body, bodyPath, resourceManifest);
             }
 
             // Write metadata for the jsObject
             Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
-            return fileOperations.writeToFile(sourceEntity, metadataPath);
+            return fileOperations.writeToFile(sourceEntity, metadataPath, resourceManifest);
         } catch (IOException e) {
             log.debug(e.getMessage());
         } finally {
@@ -478,9 +507,11 @@ public class FileUtilsCEImpl implements FileInterface {
      * @param body         actual query written by the user
      * @param resourceName name of the action
      * @param path         file path where the resource will be stored
+     * @param resourceManifest manifest used to skip unchanged files, may be null
      * @return if the file operation is successful
      */
-    private boolean saveActions(Object sourceEntity, String body, String resourceName, Path path) {
+    private boolean saveActions(
+            Object sourceEntity, String body, String resourceName, Path path, ResourceManifest resourceManifest) {
         Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
         try {
             Files.createDirectories(path);
@@ -491,12 +522,12 @@ public class FileUtilsCEImpl implements FileInterface {
                 String resourceType = NEW_ACTION_BODY;
                 span.tag(RESOURCE_TYPE, resourceType);
                 observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
+                writeStringToFile(body, bodyPath, resourceManifest);
             }
 
             // Write metadata for the actions
             Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
-            return fileOperations.writeToFile(sourceEntity, metadataPath);
+            return fileOperations.writeToFile(sourceEntity, metadataPath, resourceManifest);
         } catch (IOException e) {
             log.error("Error while reading file {} with message {} with cause", path, e.getMessage(), e.getCause());
         } finally {
@@ -505,7 +536,12 @@ public class FileUtilsCEImpl implements FileInterface {
         return false;
     }
 
-    private void writeStringToFile(String sourceEntity, Path path) throws IOException {
+    private void writeStringToFile(String sourceEntity, Path path, ResourceManifest resourceManifest)
+            throws IOException {
+        if (resourceManifest != null) {
+            resourceManifest.write(path, sourceEntity.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
         try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
             fileWriter.write(sourceEntity);
         }
@@ -580,6 +616,7 @@ public class FileUtilsCEImpl implements FileInterface {
                 .resolve(baseRepoSuffix)
                 .getParent()
                 .toFile();
+        gitRepositoryCache.invalidate(file.toPath());
         while (file.exists()) {
             FileSystemUtils.deleteRecursively(file);
         }
@@ -589,14 +626,13 @@ public class FileUtilsCEImpl implements FileInterface {
     @Override
     public Mono<Boolean> checkIfDirectoryIsEmpty(Path baseRepoSuffix) {
         return Mono.fromCallable(() -> {
-            File[] files = Paths.get(gitServiceConfig.getGitRootPath())
-                    .resolve(baseRepoSuffix)
-                    .toFile()
-                    .listFiles();
+            Path repoPath = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
+            File[] files = repoPath.toFile().listFiles();
             for (File file : files) {
                 if (!ALLOWED_FILE_EXTENSION_PATTERN.matcher(file.getName()).matches()
                         && !file.getName().equals("LICENSE")) {
                     // Remove the cloned repo from the file system since the repo doesnt satisfy the criteria
+                    gitRepositoryCache.invalidate(repoPath);
                     while (file.exists()) {
                         FileSystemUtils.deleteRecursively(file);
                     }
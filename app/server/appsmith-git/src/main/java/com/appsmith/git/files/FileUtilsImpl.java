@@ -5,6 +5,7 @@ import com.appsmith.external.git.GitExecutor;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Import;
@@ -22,7 +23,8 @@ public class FileUtilsImpl extends FileUtilsCEImpl implements FileInterface {
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
             FileOperations fileOperations,
-            ObservationHelper observationHelper) {
-        super(gitServiceConfig, gitExecutor, fileOperations, observationHelper);
+            ObservationHelper observationHelper,
+            GitRepositoryCache gitRepositoryCache) {
+        super(gitServiceConfig, gitExecutor, fileOperations, observationHelper, gitRepositoryCache);
     }
 }
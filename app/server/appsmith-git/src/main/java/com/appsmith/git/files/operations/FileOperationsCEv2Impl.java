@@ -2,6 +2,7 @@ package com.appsmith.git.files.operations;
 
 import com.appsmith.external.git.constants.GitSpan;
 import com.appsmith.external.git.operations.FileOperationsCE;
+import com.appsmith.external.git.operations.ResourceManifest;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.external.models.BaseDomain;
@@ -71,13 +72,26 @@ public class FileOperationsCEv2Impl implements FileOperationsCE {
 
     @Override
     public void saveMetadataResource(ApplicationGitReference applicationGitReference, Path baseRepo) {
+        saveMetadataResource(applicationGitReference, baseRepo, null);
+    }
+
+    @Override
+    public void saveMetadataResource(
+            ApplicationGitReference applicationGitReference, Path baseRepo, ResourceManifest resourceManifest) {
         ObjectNode metadata = objectMapper.valueToTree(applicationGitReference.getMetadata());
         metadata.put(CommonConstants.FILE_FORMAT_VERSION, CommonConstants.fileFormatVersion);
-        saveResource(metadata, baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION));
+        saveResource(
+                metadata, baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION), resourceManifest);
     }
 
     @Override
     public void saveWidgets(JSONObject sourceEntity, String resourceName, Path path) {
+        saveWidgets(sourceEntity, resourceName, path, null);
+    }
+
+    @Override
+    public void saveWidgets(
+            JSONObject sourceEntity, String resourceName, Path path, ResourceManifest resourceManifest) {
         Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
         try {
             Files.createDirectories(path);
@@ -87,7 +101,8 @@ public class FileOperationsCEv2Impl implements FileOperationsCE {
 
             writeToFile(
                     objectReader.readTree(sourceEntity.toString()),
-                    path.resolve(resourceName + CommonConstants.JSON_EXTENSION));
+                    path.resolve(resourceName + CommonConstants.JSON_EXTENSION),
+                    resourceManifest);
         } catch (IOException e) {
             log.debug("Error while writings widgets data to file, {}", e.getMessage());
         } finally {
@@ -97,6 +112,16 @@ public class FileOperationsCEv2Impl implements FileOperationsCE {
 
     @Override
     public boolean writeToFile(Object sourceEntity, Path path) throws IOException {
+        return writeToFile(sourceEntity, path, null);
+    }
+
+    /**
+     * Writes the resource to the file. When a manifest is given, the resource is serialised in memory first and the
+     * file is only written if the content differs from what the manifest has recorded for it.
+     */
+    @Override
+    public boolean writeToFile(Object sourceEntity, Path path, ResourceManifest resourceManifest)
+            throws IOException {
         Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
         String resourceType = sourceEntity.getClass().getSimpleName();
         if (!(sourceEntity instanceof BaseDomain)) {
@@ -105,6 +130,15 @@ public class FileOperationsCEv2Impl implements FileOperationsCE {
         span.tag(RESOURCE_TYPE, resourceType);
         observationHelper.startSpan(span, true);
 
+        if (resourceManifest != null) {
+            try {
+                resourceManifest.write(path, objectWriter.writeValueAsBytes(sourceEntity));
+                return true;
+            } finally {
+                observationHelper.endSpan(span, true);
+            }
+        }
+
         try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
             objectWriter.writeValue(fileWriter, sourceEntity);
             return true;
@@ -192,9 +226,13 @@ public class FileOperationsCEv2Impl implements FileOperationsCE {
      */
     @Override
     public boolean saveResource(Object sourceEntity, Path path) {
+        return saveResource(sourceEntity, path, null);
+    }
+
+    private boolean saveResource(Object sourceEntity, Path path, ResourceManifest resourceManifest) {
         try {
             Files.createDirectories(path.getParent());
-            return writeToFile(sourceEntity, path);
+            return writeToFile(sourceEntity, path, resourceManifest);
         } catch (IOException e) {
             log.error("Error while writing resource to file {} with {}", path, e.getMessage());
             log.debug(e.getMessage());
@@ -0,0 +1,288 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.errors.RepositoryNotFoundException;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.storage.file.WindowCacheConfig;
+import org.eclipse.jgit.util.FS;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Keeps the {@link Repository} of recently used git repositories open, so that git operations on a repository reuse
+ * the pack indexes, refs and config that JGit has already read instead of reading them from disk again on every
+ * {@link Git#open(File)}.
+ * <p>
+ * A cached repository stays consistent with changes made to it outside of this cache, since JGit checks the snapshot
+ * of the files behind its caches (packed-refs, loose refs, pack directory, config) before using them. A repository that
+ * has been deleted and created again at the same path, e.g. by a fresh clone, is detected on open and replaced.
+ * <p>
+ * Repositories are closed once they have been idle for longer than the configured expiry, or when the cache grows
+ * beyond its maximum size. A repository that is in use by an operation is never closed underneath it.
+ */
+@Component
+public class GitRepositoryCache {
+
+    private static final String METRIC_PREFIX = "appsmith.git.repository.cache";
+
+    private final GitServiceConfig gitServiceConfig;
+    private final int maxSize;
+    private final long expireAfterMillis;
+
+    /**
+     * Access ordered, so that iterating it starts at the least recently used repository.
+     */
+    private final LinkedHashMap<Path, CachedRepository> repositories = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer openTimer;
+
+    public GitRepositoryCache(GitServiceConfig gitServiceConfig) {
+        this.gitServiceConfig = gitServiceConfig;
+        this.maxSize = gitServiceConfig.getRepositoryCacheMaxSize();
+        this.expireAfterMillis = gitServiceConfig.getRepositoryCacheExpireAfterSeconds() * 1000L;
+
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".hits").register(Metrics.globalRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".misses").register(Metrics.globalRegistry);
+        this.openTimer = Timer.builder(METRIC_PREFIX + ".open").register(Metrics.globalRegistry);
+        Metrics.globalRegistry.gauge(METRIC_PREFIX + ".size", this, GitRepositoryCache::size);
+    }
+
+    /**
+     * Sizes the pack window and delta base caches of JGit, whose defaults are meant for command line use. These caches
+     * are static, so this changes them for every repository opened in this JVM, including the ones opened without this
+     * cache, and replaces whatever has been installed before.
+     */
+    @PostConstruct
+    public void installWindowCacheConfig() {
+        WindowCacheConfig windowCacheConfig = new WindowCacheConfig();
+        windowCacheConfig.setPackedGitLimit(gitServiceConfig.getPackedGitLimitMb() * WindowCacheConfig.MB);
+        windowCacheConfig.setDeltaBaseCacheLimit(gitServiceConfig.getDeltaBaseCacheLimitMb() * WindowCacheConfig.MB);
+        windowCacheConfig.install();
+    }
+
+    /**
+     * Opens the repository at the given path, reusing the already open repository if there is one. Closing the
+     * returned {@link Git} hands the repository back to the cache instead of closing it, so it must be closed exactly
+     * like one returned by {@link Git#open(File)}.
+     */
+    public Git open(Path repoPath) throws IOException {
+        Path key = repoPath.toAbsolutePath().normalize();
+        File gitDir = RepositoryCache.FileKey.resolve(key.toFile(), FS.DETECTED);
+        if (gitDir == null) {
+            throw new RepositoryNotFoundException(key.toFile());
+        }
+        Object identity = getIdentity(gitDir.toPath());
+
+        List<CachedRepository> toClose = new ArrayList<>();
+        CachedRepository cached = borrow(key, identity, toClose);
+        closeAll(toClose);
+        if (cached != null) {
+            hitCounter.increment();
+            return new CachedGit(cached);
+        }
+
+        missCounter.increment();
+        Timer.Sample sample = Timer.start();
+        Repository repository = new FileRepositoryBuilder()
+                .setGitDir(gitDir)
+                .setMustExist(true)
+                .build();
+        sample.stop(openTimer);
+
+        return new CachedGit(add(new CachedRepository(key, identity, repository)));
+    }
+
+    /**
+     * Closes the repository at the given path, and every repository inside it if it is a parent directory, once they
+     * are no longer in use. It must be called whenever repositories are deleted from disk.
+     */
+    public void invalidate(Path path) {
+        Path directory = path.toAbsolutePath().normalize();
+        List<CachedRepository> toClose = new ArrayList<>();
+        synchronized (this) {
+            Iterator<CachedRepository> iterator = repositories.values().iterator();
+            while (iterator.hasNext()) {
+                CachedRepository cached = iterator.next();
+                if (cached.key.startsWith(directory)) {
+                    iterator.remove();
+                    evict(cached, toClose);
+                }
+            }
+        }
+        closeAll(toClose);
+    }
+
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictExpired() {
+        List<CachedRepository> toClose = new ArrayList<>();
+        synchronized (this) {
+            evictExpiredAndExcess(toClose);
+        }
+        closeAll(toClose);
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        List<CachedRepository> toClose = new ArrayList<>();
+        synchronized (this) {
+            repositories.values().forEach(cached -> evict(cached, toClose));
+            repositories.clear();
+        }
+        closeAll(toClose);
+    }
+
+    public synchronized int size() {
+        return repositories.size();
+    }
+
+    private synchronized CachedRepository borrow(Path key, Object identity, List<CachedRepository> toClose) {
+        CachedRepository cached = repositories.get(key);
+        if (cached == null) {
+            return null;
+        }
+
+        if (!cached.identity.equals(identity)) {
+            // The repository has been deleted and created again since it was opened, the new one is opened instead
+            repositories.remove(key);
+            evict(cached, toClose);
+            return null;
+        }
+
+        cached.borrowCount++;
+        return cached;
+    }
+
+    private CachedRepository add(CachedRepository opened) {
+        List<CachedRepository> toClose = new ArrayList<>();
+        CachedRepository borrowed;
+        synchronized (this) {
+            CachedRepository existing = repositories.get(opened.key);
+            if (existing != null && existing.identity.equals(opened.identity)) {
+                // Another operation has opened the same repository in the meantime
+                existing.borrowCount++;
+                toClose.add(opened);
+                borrowed = existing;
+            } else {
+                if (existing != null) {
+                    evict(existing, toClose);
+                }
+                opened.borrowCount++;
+                repositories.put(opened.key, opened);
+                borrowed = opened;
+            }
+            evictExpiredAndExcess(toClose);
+        }
+        closeAll(toClose);
+        return borrowed;
+    }
+
+    private void release(CachedRepository cached) {
+        boolean isClosable;
+        synchronized (this) {
+            cached.borrowCount--;
+            cached.lastReleasedAt = System.currentTimeMillis();
+            isClosable = cached.isEvicted && cached.borrowCount == 0;
+        }
+        if (isClosable) {
+            cached.repository.close();
+        }
+    }
+
+    private void evictExpiredAndExcess(List<CachedRepository> toClose) {
+        long expiredBefore = System.currentTimeMillis() - expireAfterMillis;
+        int excess = repositories.size() - maxSize;
+        Iterator<CachedRepository> iterator = repositories.values().iterator();
+        while (iterator.hasNext()) {
+            CachedRepository cached = iterator.next();
+            if (cached.borrowCount > 0) {
+                continue;
+            }
+            if (excess > 0 || cached.lastReleasedAt < expiredBefore) {
+                iterator.remove();
+                evict(cached, toClose);
+                excess--;
+            }
+        }
+    }
+
+    /**
+     * Marks a repository that has been removed from the cache for closing. It is closed right away if it is idle, and
+     * by the last operation using it otherwise.
+     */
+    private void evict(CachedRepository cached, List<CachedRepository> toClose) {
+        cached.isEvicted = true;
+        if (cached.borrowCount == 0) {
+            toClose.add(cached);
+        }
+    }
+
+    private static void closeAll(List<CachedRepository> toClose) {
+        toClose.forEach(cached -> cached.repository.close());
+    }
+
+    /**
+     * Identifies the git directory on disk, so that a directory deleted and created again at the same path is told
+     * apart from the one that was opened.
+     */
+    private static Object getIdentity(Path gitDir) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(gitDir, BasicFileAttributes.class);
+        return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+    }
+
+    private static class CachedRepository {
+        private final Path key;
+        private final Object identity;
+        private final Repository repository;
+        private int borrowCount = 0;
+        private long lastReleasedAt = System.currentTimeMillis();
+        private boolean isEvicted = false;
+
+        private CachedRepository(Path key, Object identity, Repository repository) {
+            this.key = key;
+            this.identity = identity;
+            this.repository = repository;
+        }
+    }
+
+    /**
+     * Returns its repository to the cache when closed. Closing it more than once has no further effect.
+     */
+    private class CachedGit extends Git {
+        private final CachedRepository cached;
+        private boolean isClosed = false;
+
+        private CachedGit(CachedRepository cached) {
+            super(cached.repository);
+            this.cached = cached;
+        }
+
+        @Override
+        public void close() {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            release(cached);
+        }
+    }
+}
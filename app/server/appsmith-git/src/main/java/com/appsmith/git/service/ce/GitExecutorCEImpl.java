@@ -15,6 +15,7 @@ import com.appsmith.git.constants.AppsmithBotAsset;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.constants.Constraint;
 import com.appsmith.git.constants.GitDirectories;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import com.appsmith.git.helpers.RepositoryHelper;
 import com.appsmith.git.helpers.SshTransportConfigCallback;
 import com.appsmith.git.helpers.StopwatchHelpers;
@@ -85,6 +86,8 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     protected final ObservationRegistry observationRegistry;
 
+    private final GitRepositoryCache gitRepositoryCache;
+
     public static final DateTimeFormatter ISO_FORMATTER =
             DateTimeFormatter.ISO_INSTANT.withZone(ZoneId.from(ZoneOffset.UTC));
 
@@ -118,7 +121,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         final Path repoPath = TRUE.equals(isSuffixedPath) ? createRepoPath(path) : path;
 
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug("Trying to commit to local repo path, {}", path);
 
@@ -175,7 +178,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<List<GitLogDTO>> getCommitHistory(Path repoSuffix) {
         Path repoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": get commit history for  "
                                             + repoSuffix);
@@ -199,7 +202,9 @@ public class GitExecutorCEImpl implements GitExecutor {
                                     });
                                     return commitLogs;
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
+                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
+                                .name(GitSpan.FS_COMMIT_HISTORY)
+                                .tap(Micrometer.observation(observationRegistry)),
                         Git::close)
                 .subscribeOn(scheduler);
     }
@@ -226,7 +231,7 @@ public class GitExecutorCEImpl implements GitExecutor {
 
         return gitConfig.getIsAtomicPushAllowed().flatMap(isAtomicPushAllowed -> {
             return Mono.using(
-                            () -> Git.open(baseRepoPath.toFile()),
+                            () -> gitRepositoryCache.open(baseRepoPath),
                             git -> Mono.fromCallable(() -> {
                                         log.debug(Thread.currentThread().getName() + ": pushing changes to remote "
                                                 + remoteUrl);
@@ -292,6 +297,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                     File file = Paths.get(gitServiceConfig.getGitRootPath())
                             .resolve(repoSuffix)
                             .toFile();
+                    gitRepositoryCache.invalidate(file.toPath());
                     while (file.exists()) {
                         FileSystemUtils.deleteRecursively(file);
                     }
@@ -321,7 +327,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CREATE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Creating branch  " + branchName
                                             + "for the repo " + repoSuffix);
@@ -351,7 +357,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_DELETE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Deleting branch  " + branchName
                                             + "for the repo " + repoSuffix);
@@ -380,7 +386,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CHECKOUT.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Switching to the branch "
                                             + branchName);
@@ -420,7 +426,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
 
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Pull changes from remote  "
                                             + remoteUrl + " for the branch " + branchName);
@@ -487,7 +493,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Path baseRepoPath = createRepoPath(repoSuffix);
 
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> gitRepositoryCache.open(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get branches for the application "
                                             + repoSuffix);
@@ -515,7 +521,9 @@ public class GitExecutorCEImpl implements GitExecutor {
                                     }
                                     return branchList;
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
+                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
+                                .name(GitSpan.FS_LIST_BRANCHES)
+                                .tap(Micrometer.observation(observationRegistry)),
                         Git::close)
                 .subscribeOn(scheduler);
     }
@@ -524,7 +532,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<String> getRemoteDefaultBranch(Path repoSuffix, String remoteUrl, String privateKey, String publicKey) {
         Path baseRepoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> gitRepositoryCache.open(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback transportConfigCallback =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -538,7 +546,9 @@ public class GitExecutorCEImpl implements GitExecutor {
                                             .getName()
                                             .replace("refs/heads/", "");
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
+                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
+                                .name(GitSpan.FS_REMOTE_DEFAULT_BRANCH)
+                                .tap(Micrometer.observation(observationRegistry)),
                         Git::close)
                 .subscribeOn(scheduler);
     }
@@ -555,7 +565,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_STATUS.getEventName());
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get status for repo  " + repoPath
                                             + ", branch " + branchName);
@@ -794,7 +804,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     @Override
     public Mono<String> mergeBranch(Path repoSuffix, String sourceBranch, String destinationBranch) {
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
                                             repoSuffix, AnalyticsEvents.GIT_MERGE.getEventName());
@@ -849,7 +859,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback config =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -891,7 +901,7 @@ public class GitExecutorCEImpl implements GitExecutor {
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback config =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -930,7 +940,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_MERGE_CHECK.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(
                                             Thread.currentThread().getName()
@@ -1006,7 +1016,9 @@ public class GitExecutorCEImpl implements GitExecutor {
                                         return Mono.error(e);
                                     }
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
+                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
+                                .name(GitSpan.FS_MERGE_CHECK)
+                                .tap(Micrometer.observation(observationRegistry)),
                         Git::close)
                 .subscribeOn(scheduler);
     }
@@ -1015,7 +1027,7 @@ public class GitExecutorCEImpl implements GitExecutor {
         // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
         // open the repo
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Checking out remote branch origin/"
                                             + branchName + " for the repo " + repoSuffix);
@@ -1080,7 +1092,7 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     public Mono<Boolean> resetToLastCommit(Path repoSuffix, String branchName) throws GitAPIException, IOException {
         return Mono.using(
-                () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                 git -> this.resetToLastCommit(git)
                         .flatMap(ref -> checkoutToBranch(repoSuffix, branchName))
                         .flatMap(checkedOut -> resetToLastCommit(git).thenReturn(true)),
@@ -1090,7 +1102,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     public Mono<Boolean> resetHard(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName)
                 .flatMap(aBoolean -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     git.reset()
                                             .setMode(ResetCommand.ResetType.HARD)
@@ -1112,7 +1124,7 @@ public class GitExecutorCEImpl implements GitExecutor {
 
     public Mono<Boolean> rebaseBranch(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName).flatMap(isCheckedOut -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                         git -> Mono.fromCallable(() -> {
                                     RebaseResult result = git.rebase()
                                             .setUpstream("origin/" + branchName)
@@ -1146,7 +1158,7 @@ public class GitExecutorCEImpl implements GitExecutor {
     @Override
     public Mono<BranchTrackingStatus> getBranchTrackingStatus(Path repoPath, String branchName) {
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+                        () -> gitRepositoryCache.open(repoPath),
                         git -> Mono.fromCallable(() -> BranchTrackingStatus.of(git.getRepository(), branchName))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_BRANCH_TRACK)
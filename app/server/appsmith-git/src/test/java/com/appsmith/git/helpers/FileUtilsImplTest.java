@@ -42,7 +42,12 @@ public class FileUtilsImplTest {
         GitServiceConfig gitServiceConfig = new GitServiceConfig();
         gitServiceConfig.setGitRootPath(localTestDirectoryPath.toString());
         FileOperations fileOperations = new FileOperationsImpl(null, ObservationHelper.NOOP);
-        fileUtils = new FileUtilsImpl(gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP);
+        fileUtils = new FileUtilsImpl(
+                gitServiceConfig,
+                gitExecutor,
+                fileOperations,
+                ObservationHelper.NOOP,
+                Mockito.mock(GitRepositoryCache.class));
     }
 
     @AfterEach
@@ -0,0 +1,133 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GitRepositoryCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GitRepositoryCache gitRepositoryCache;
+
+    @BeforeEach
+    public void setUp() {
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setRepositoryCacheMaxSize(1);
+        gitServiceConfig.setRepositoryCacheExpireAfterSeconds(600);
+        gitServiceConfig.setPackedGitLimitMb(10);
+        gitServiceConfig.setDeltaBaseCacheLimitMb(10);
+        gitRepositoryCache = new GitRepositoryCache(gitServiceConfig);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        gitRepositoryCache.closeAll();
+    }
+
+    private Path createRepository(String name) throws Exception {
+        Path repoPath = tempDir.resolve(name);
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+        return repoPath;
+    }
+
+    @Test
+    public void open_sameRepositoryTwice_reusesOpenRepository() throws Exception {
+        Path repoPath = createRepository("repo");
+
+        Repository first;
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            first = git.getRepository();
+        }
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isSameAs(first);
+        }
+        assertThat(gitRepositoryCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void open_repositoryReplaced_opensNewRepository() throws Exception {
+        Path repoPath = createRepository("repo");
+
+        Repository first;
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            first = git.getRepository();
+        }
+
+        // Moved away rather than deleted, so that the new repository can not end up with the same inode
+        Files.move(repoPath, tempDir.resolve("moved"));
+        createRepository("repo");
+
+        try (Git git = gitRepositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isNotSameAs(first);
+        }
+    }
+
+    @Test
+    public void open_beyondMaxSize_evictsIdleRepository() throws Exception {
+        Path firstPath = createRepository("first");
+        Path secondPath = createRepository("second");
+
+        Repository first;
+        try (Git git = gitRepositoryCache.open(firstPath)) {
+            first = git.getRepository();
+        }
+        gitRepositoryCache.open(secondPath).close();
+
+        assertThat(gitRepositoryCache.size()).isEqualTo(1);
+        try (Git git = gitRepositoryCache.open(firstPath)) {
+            assertThat(git.getRepository()).isNotSameAs(first);
+        }
+    }
+
+    @Test
+    public void open_beyondMaxSize_keepsRepositoryInUse() throws Exception {
+        Path firstPath = createRepository("first");
+        Path secondPath = createRepository("second");
+
+        try (Git firstGit = gitRepositoryCache.open(firstPath)) {
+            gitRepositoryCache.open(secondPath).close();
+
+            // The repository in use is kept, the idle one is evicted instead
+            try (Git git = gitRepositoryCache.open(firstPath)) {
+                assertThat(git.getRepository()).isSameAs(firstGit.getRepository());
+            }
+        }
+    }
+
+    @Test
+    public void invalidate_parentDirectory_closesRepositoriesInside() throws Exception {
+        Path firstPath = createRepository("parent/first");
+        Path secondPath = createRepository("other");
+
+        Repository first;
+        try (Git git = gitRepositoryCache.open(firstPath)) {
+            first = git.getRepository();
+        }
+        gitRepositoryCache.invalidate(tempDir.resolve("parent"));
+
+        try (Git git = gitRepositoryCache.open(firstPath)) {
+            assertThat(git.getRepository()).isNotSameAs(first);
+        }
+        Repository second;
+        try (Git git = gitRepositoryCache.open(secondPath)) {
+            second = git.getRepository();
+        }
+
+        // A sibling whose name only starts with the same characters is kept
+        gitRepositoryCache.invalidate(tempDir.resolve("oth"));
+        try (Git git = gitRepositoryCache.open(secondPath)) {
+            assertThat(git.getRepository()).isSameAs(second);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.external.dtos.ModifiedResources;
+import com.appsmith.external.git.operations.FileOperations;
+import com.appsmith.external.git.operations.ResourceManifest;
+import com.appsmith.external.helpers.ObservationHelper;
+import com.appsmith.external.models.ApplicationGitReference;
+import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.constants.CommonConstants;
+import com.appsmith.git.files.FileUtilsImpl;
+import com.appsmith.git.files.operations.FileOperationsImpl;
+import com.appsmith.git.service.GitExecutorImpl;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.appsmith.external.git.constants.ce.GitConstantsCE.NAME_SEPARATOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saves an application to a repo three times, the way git status and commit do: once into an empty repo, once without
+ * any change and once after a single page has been edited. Only the first save and the files of the edited page should
+ * be written, everything else is skipped through the resource manifest.
+ */
+public class SaveApplicationToGitRepoTest {
+
+    private static final int PAGE_COUNT = 3;
+
+    private static final int WIDGETS_PER_PAGE = 3;
+
+    private static final int ACTIONS_PER_PAGE = 2;
+
+    private static final int JS_OBJECTS_PER_PAGE = 1;
+
+    @TempDir
+    Path gitRootPath;
+
+    private FileUtilsImpl fileUtils;
+
+    private final Path baseRepoSuffix = Path.of("workspaceId", "applicationId", "repoName");
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        GitExecutorImpl gitExecutor = Mockito.mock(GitExecutorImpl.class);
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(gitRootPath.toString());
+        FileOperations fileOperations = new FileOperationsImpl(null, ObservationHelper.NOOP);
+        fileUtils = new FileUtilsImpl(
+                gitServiceConfig,
+                gitExecutor,
+                fileOperations,
+                ObservationHelper.NOOP,
+                Mockito.mock(GitRepositoryCache.class));
+
+        Files.createDirectories(gitRootPath.resolve(baseRepoSuffix).resolve(".git"));
+    }
+
+    @Test
+    public void saveApplicationToGitRepo_unchangedResources_areNotWrittenAgain() throws GitAPIException, IOException {
+        Path baseRepo = gitRootPath.resolve(baseRepoSuffix);
+
+        save(createApplication("v1"));
+        assertThat(baseRepo.resolve(".git").resolve(ResourceManifest.MANIFEST_FILE_NAME))
+                .exists();
+        Map<Path, FileTime> modifiedTimes = getModifiedTimes(baseRepo);
+
+        save(createApplication("v1"));
+        assertThat(getModifiedTimes(baseRepo)).isEqualTo(modifiedTimes);
+
+        ApplicationGitReference editedApplication = createApplication("v1");
+        editedApplication.getPageDsl().put("Page0", createPageDsl("Page0", "v2"));
+        save(editedApplication);
+        assertThat(countWrittenFiles(baseRepo, modifiedTimes)).isEqualTo(WIDGETS_PER_PAGE);
+    }
+
+    private void save(ApplicationGitReference applicationGitReference) throws GitAPIException, IOException {
+        fileUtils
+                .saveApplicationToGitRepo(baseRepoSuffix, applicationGitReference, "branch")
+                .block();
+    }
+
+    /**
+     * Modification times are compared at the full precision of the file system, so that a file written again right
+     * after the previous save still gets a different one.
+     */
+    private static Map<Path, FileTime> getModifiedTimes(Path baseRepo) throws IOException {
+        Map<Path, FileTime> modifiedTimes = new HashMap<>();
+        try (Stream<Path> paths = Files.walk(baseRepo)) {
+            for (Path path : paths.filter(path -> !path.startsWith(baseRepo.resolve(".git")))
+                    .filter(Files::isRegularFile)
+                    .toList()) {
+                modifiedTimes.put(path, Files.getLastModifiedTime(path));
+            }
+        }
+        return modifiedTimes;
+    }
+
+    private static long countWrittenFiles(Path baseRepo, Map<Path, FileTime> previousModifiedTimes)
+            throws IOException {
+        return getModifiedTimes(baseRepo).entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(previousModifiedTimes.get(entry.getKey())))
+                .count();
+    }
+
+    private ApplicationGitReference createApplication(String version) {
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "Application"));
+        applicationGitReference.setTheme(Map.of("name", "Default"));
+        applicationGitReference.setMetadata(Map.of("artifactJsonType", "APPLICATION"));
+
+        Map<String, Object> pages = new HashMap<>();
+        Map<String, String> pageDsl = new HashMap<>();
+        Map<String, Object> actions = new HashMap<>();
+        Map<String, String> actionBody = new HashMap<>();
+        Map<String, Object> actionCollections = new HashMap<>();
+        Map<String, String> actionCollectionBody = new HashMap<>();
+        for (int page = 0; page < PAGE_COUNT; page++) {
+            String pageName = "Page" + page;
+            pages.put(pageName, Map.of("name", pageName, "slug", pageName.toLowerCase()));
+            pageDsl.put(pageName, createPageDsl(pageName, version));
+            for (int action = 0; action < ACTIONS_PER_PAGE; action++) {
+                String key = "Query" + action + NAME_SEPARATOR + pageName;
+                actions.put(key, Map.of("name", "Query" + action, "pageId", pageName));
+                actionBody.put(key, "SELECT * FROM users WHERE id = " + action + " LIMIT 10;");
+            }
+            for (int jsObject = 0; jsObject < JS_OBJECTS_PER_PAGE; jsObject++) {
+                String key = "JSObject" + jsObject + NAME_SEPARATOR + pageName;
+                actionCollections.put(key, Map.of("name", "JSObject" + jsObject, "pageId", pageName));
+                actionCollectionBody.put(key, "export default {\n\tmyFun1 () {\n\t\treturn " + jsObject + ";\n\t}\n}");
+            }
+        }
+        applicationGitReference.setPages(pages);
+        applicationGitReference.setPageDsl(pageDsl);
+        applicationGitReference.setActions(actions);
+        applicationGitReference.setActionBody(actionBody);
+        applicationGitReference.setActionCollections(actionCollections);
+        applicationGitReference.setActionCollectionBody(actionCollectionBody);
+        applicationGitReference.setDatasources(Map.of("Users", Map.of("name", "Users", "pluginId", "postgres-plugin")));
+        applicationGitReference.setJsLibraries(new HashMap<>());
+
+        ModifiedResources modifiedResources = new ModifiedResources();
+        modifiedResources.setAllModified(true);
+        applicationGitReference.setModifiedResources(modifiedResources);
+        return applicationGitReference;
+    }
+
+    private static String createPageDsl(String pageName, String version) {
+        JSONArray children = new JSONArray();
+        for (int widget = 0; widget < WIDGETS_PER_PAGE; widget++) {
+            JSONObject child = new JSONObject();
+            child.put(CommonConstants.WIDGET_NAME, "Text" + widget);
+            child.put(CommonConstants.WIDGET_TYPE, "TEXT_WIDGET");
+            child.put(CommonConstants.WIDGET_ID, pageName + "_text" + widget);
+            child.put(CommonConstants.PARENT_ID, "0");
+            child.put("text", "Label " + widget + " " + version);
+            children.put(child);
+        }
+        JSONObject mainContainer = new JSONObject();
+        mainContainer.put(CommonConstants.WIDGET_NAME, CommonConstants.MAIN_CONTAINER);
+        mainContainer.put(CommonConstants.WIDGET_TYPE, "CANVAS_WIDGET");
+        mainContainer.put(CommonConstants.WIDGET_ID, "0");
+        mainContainer.put(CommonConstants.CHILDREN, children);
+        return mainContainer.toString();
+    }
+}
@@ -0,0 +1,185 @@
+package com.appsmith.external.configurations.connectionpool;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exports the state of the connection pools of plugins as Micrometer metrics, and resizes adaptive pools.
+ * <p>
+ * Plugins register a pool when they create it, record how long every connection took to acquire, and unregister the
+ * pool when the datasource is destroyed. An adaptive pool grows when queries are waiting for connections, or when
+ * acquiring one takes long at the 95th percentile, and shrinks again once connections are idle and come without wait.
+ */
+@Slf4j
+public class ConnectionPoolMonitor {
+
+    public static final String METRIC_PREFIX = "appsmith.plugin.connection.pool";
+
+    static final Duration GROW_WAIT_THRESHOLD = Duration.ofMillis(50);
+
+    static final Duration SHRINK_WAIT_THRESHOLD = Duration.ofMillis(5);
+
+    static final Duration RESIZE_INTERVAL = Duration.ofSeconds(10);
+
+    private static final int WAIT_TIME_WINDOW = 64;
+
+    private static final Map<Object, ConnectionPoolMonitor> monitors = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger poolCounter = new AtomicInteger();
+
+    private final ConnectionPoolStats stats;
+
+    private final ConnectionPoolSize size;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer acquireTimer;
+
+    private final List<Meter> meters = new ArrayList<>();
+
+    private final AtomicLong lastResizeMillis = new AtomicLong(System.currentTimeMillis());
+
+    private final long[] waitTimesNanos = new long[WAIT_TIME_WINDOW];
+
+    private int waitTimesCount;
+
+    private int nextWaitTimeIndex;
+
+    ConnectionPoolMonitor(
+            String pluginName, ConnectionPoolStats stats, ConnectionPoolSize size, MeterRegistry meterRegistry) {
+        this.stats = stats;
+        this.size = size;
+        this.meterRegistry = meterRegistry;
+
+        Tags tags = Tags.of("plugin", pluginName, "pool", String.valueOf(poolCounter.incrementAndGet()));
+        registerGauge("active", stats, s -> s.activeConnections().getAsInt(), tags);
+        registerGauge("idle", stats, s -> s.idleConnections().getAsInt(), tags);
+        registerGauge("total", stats, s -> s.totalConnections().getAsInt(), tags);
+        registerGauge("awaiting", stats, s -> s.threadsAwaitingConnection().getAsInt(), tags);
+        registerGauge("max", stats, s -> s.maximumPoolSize().getAsInt(), tags);
+        acquireTimer = Timer.builder(METRIC_PREFIX + ".acquire")
+                .tags(tags)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        meters.add(acquireTimer);
+    }
+
+    /**
+     * Starts exporting the metrics of the pool, and resizing it if it is adaptive.
+     */
+    public static void register(Object pool, String pluginName, ConnectionPoolStats stats, ConnectionPoolSize size) {
+        ConnectionPoolMonitor previous =
+                monitors.put(pool, new ConnectionPoolMonitor(pluginName, stats, size, Metrics.globalRegistry));
+        if (previous != null) {
+            previous.removeMeters();
+        }
+    }
+
+    /**
+     * Records the time a connection took to be acquired from the pool. Does nothing for pools that are not registered.
+     */
+    public static void recordAcquire(Object pool, long waitNanos) {
+        ConnectionPoolMonitor monitor = monitors.get(pool);
+        if (monitor != null) {
+            monitor.recordAcquire(waitNanos);
+        }
+    }
+
+    /**
+     * Stops exporting the metrics of the pool. Meant to be called when the pool is closed.
+     */
+    public static void unregister(Object pool) {
+        ConnectionPoolMonitor monitor = monitors.remove(pool);
+        if (monitor != null) {
+            monitor.removeMeters();
+        }
+    }
+
+    void recordAcquire(long waitNanos) {
+        acquireTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        if (!size.adaptive()) {
+            return;
+        }
+
+        synchronized (waitTimesNanos) {
+            waitTimesNanos[nextWaitTimeIndex] = waitNanos;
+            nextWaitTimeIndex = (nextWaitTimeIndex + 1) % WAIT_TIME_WINDOW;
+            waitTimesCount = Math.min(waitTimesCount + 1, WAIT_TIME_WINDOW);
+        }
+
+        long now = System.currentTimeMillis();
+        long lastResize = lastResizeMillis.get();
+        if (now - lastResize >= RESIZE_INTERVAL.toMillis() && lastResizeMillis.compareAndSet(lastResize, now)) {
+            resize();
+        }
+    }
+
+    void resize() {
+        int currentSize = stats.maximumPoolSize().getAsInt();
+        int awaiting = stats.threadsAwaitingConnection().getAsInt();
+        long waitTimeP95Nanos = getWaitTimeP95Nanos();
+
+        int newSize = currentSize;
+        if (awaiting > 0 || waitTimeP95Nanos >= GROW_WAIT_THRESHOLD.toNanos()) {
+            newSize = Math.min(size.maximumSize(), currentSize + Math.max(1, awaiting));
+        } else if (waitTimeP95Nanos < SHRINK_WAIT_THRESHOLD.toNanos() && stats.idleConnections().getAsInt() > 1) {
+            newSize = Math.max(size.minimumSize(), currentSize - 1);
+        }
+
+        if (newSize != currentSize) {
+            log.debug(
+                    "Resizing connection pool from {} to {}, awaiting - {}, p95 wait - {} ms",
+                    currentSize,
+                    newSize,
+                    awaiting,
+                    TimeUnit.NANOSECONDS.toMillis(waitTimeP95Nanos));
+            stats.maximumPoolSizeSetter().accept(newSize);
+
+            // The next decision is made on how the pool does at its new size
+            synchronized (waitTimesNanos) {
+                waitTimesCount = 0;
+            }
+        }
+    }
+
+    private long getWaitTimeP95Nanos() {
+        long[] waitTimes;
+        synchronized (waitTimesNanos) {
+            waitTimes = Arrays.copyOf(waitTimesNanos, waitTimesCount);
+        }
+        if (waitTimes.length == 0) {
+            return 0;
+        }
+
+        Arrays.sort(waitTimes);
+        return waitTimes[(int) Math.ceil(0.95 * waitTimes.length) - 1];
+    }
+
+    private void registerGauge(
+            String name, ConnectionPoolStats stats, ToDoubleFunction<ConnectionPoolStats> value, Tags tags) {
+        meters.add(Gauge.builder(METRIC_PREFIX + "." + name, stats, value)
+                .tags(tags)
+                .strongReference(true)
+                .register(meterRegistry));
+    }
+
+    private void removeMeters() {
+        meters.forEach(meterRegistry::remove);
+    }
+}
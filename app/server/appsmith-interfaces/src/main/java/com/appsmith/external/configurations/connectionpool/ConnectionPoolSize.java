@@ -0,0 +1,54 @@
+package com.appsmith.external.configurations.connectionpool;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+
+/**
+ * The maximum pool size a plugin's connection pool starts with, and the bounds that maximum may be moved within when
+ * the pool is adaptive. Without adaptive sizing all three are the same.
+ */
+public record ConnectionPoolSize(int initialSize, int minimumSize, int maximumSize, boolean adaptive) {
+
+    /**
+     * No datasource gets more connections than this, whatever it is configured with.
+     */
+    public static final int HARD_MAXIMUM_POOL_SIZE = 100;
+
+    /**
+     * How far an adaptive pool may grow when the datasource does not set its own maximum, as a multiple of the default.
+     */
+    static final int DEFAULT_ADAPTIVE_GROWTH_FACTOR = 4;
+
+    /**
+     * Resolves the pool size of a datasource from the plugin's default and the instance-wide maximum, if the plugin
+     * reads one, overridden by the settings on the datasource's connection.
+     */
+    public static ConnectionPoolSize of(
+            DatasourceConfiguration datasourceConfiguration, int pluginDefaultPoolSize, Integer instanceMaxPoolSize) {
+        int defaultPoolSize = pluginDefaultPoolSize;
+        if (instanceMaxPoolSize != null && instanceMaxPoolSize >= defaultPoolSize) {
+            defaultPoolSize = instanceMaxPoolSize;
+        }
+        defaultPoolSize = Math.min(defaultPoolSize, HARD_MAXIMUM_POOL_SIZE);
+
+        Connection connection = datasourceConfiguration == null ? null : datasourceConfiguration.getConnection();
+        Integer configuredPoolSize = connection == null ? null : connection.getMaxPoolSize();
+        if (configuredPoolSize != null && configuredPoolSize > 0) {
+            configuredPoolSize = Math.min(configuredPoolSize, HARD_MAXIMUM_POOL_SIZE);
+        } else {
+            configuredPoolSize = null;
+        }
+
+        boolean adaptive = connection != null && Boolean.TRUE.equals(connection.getAdaptivePoolSize());
+        if (!adaptive) {
+            int poolSize = configuredPoolSize == null ? defaultPoolSize : configuredPoolSize;
+            return new ConnectionPoolSize(poolSize, poolSize, poolSize, false);
+        }
+
+        int maximumPoolSize = configuredPoolSize == null
+                ? Math.min(defaultPoolSize * DEFAULT_ADAPTIVE_GROWTH_FACTOR, HARD_MAXIMUM_POOL_SIZE)
+                : configuredPoolSize;
+        int minimumPoolSize = Math.min(defaultPoolSize, maximumPoolSize);
+        return new ConnectionPoolSize(minimumPoolSize, minimumPoolSize, maximumPoolSize, true);
+    }
+}
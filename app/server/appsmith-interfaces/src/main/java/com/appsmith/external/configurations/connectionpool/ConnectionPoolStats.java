@@ -0,0 +1,16 @@
+package com.appsmith.external.configurations.connectionpool;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * A view of a plugin's connection pool that does not depend on the pool implementation, which lives in the plugin's
+ * own class loader. For a Hikari pool these are method references to its pool and config MX beans.
+ */
+public record ConnectionPoolStats(
+        IntSupplier activeConnections,
+        IntSupplier idleConnections,
+        IntSupplier totalConnections,
+        IntSupplier threadsAwaitingConnection,
+        IntSupplier maximumPoolSize,
+        IntConsumer maximumPoolSizeSetter) {}
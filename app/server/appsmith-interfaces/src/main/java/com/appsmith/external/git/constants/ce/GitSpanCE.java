@@ -21,6 +21,11 @@ public class GitSpanCE {
     public static final String FS_REBASE = APPSMITH_SPAN_PREFIX + GIT_SPAN_PREFIX + "fs_rebase";
     public static final String FS_PUSH = APPSMITH_SPAN_PREFIX + GIT_SPAN_PREFIX + "fs_push";
     public static final String FS_FETCH_REMOTE = APPSMITH_SPAN_PREFIX + GIT_SPAN_PREFIX + "fs_fetch_remote";
+    public static final String FS_COMMIT_HISTORY = APPSMITH_SPAN_PREFIX + GIT_SPAN_PREFIX + "fs_commit_history";
+    public static final String FS_LIST_BRANCHES = APPSMITH_SPAN_PREFIX + GIT_SPAN_PREFIX + "fs_list_branches";
+    public static final String FS_REMOTE_DEFAULT_BRANCH =
+            APPSMITH_SPAN_PREFIX + GIT_SPAN_PREFIX + "fs_remote_default_branch";
+    public static final String FS_MERGE_CHECK = APPSMITH_SPAN_PREFIX + GIT_SPAN_PREFIX + "fs_merge_check";
     public static final String OPS_STATUS = APPSMITH_SPAN_PREFIX + GIT_SPAN_PREFIX + "ops_status";
     public static final String OPS_COMMIT = APPSMITH_SPAN_PREFIX + GIT_SPAN_PREFIX + "ops_commit";
     public static final String OPS_PUSH = APPSMITH_SPAN_PREFIX + GIT_SPAN_PREFIX + "ops_push";
@@ -12,12 +12,19 @@ import java.util.Set;
 public interface FileOperationsCE {
     void saveMetadataResource(ApplicationGitReference applicationGitReference, Path baseRepo);
 
+    void saveMetadataResource(
+            ApplicationGitReference applicationGitReference, Path baseRepo, ResourceManifest resourceManifest);
+
     boolean saveResource(Object sourceEntity, Path path);
 
     void saveWidgets(JSONObject sourceEntity, String resourceName, Path path);
 
+    void saveWidgets(JSONObject sourceEntity, String resourceName, Path path, ResourceManifest resourceManifest);
+
     boolean writeToFile(Object sourceEntity, Path path) throws IOException;
 
+    boolean writeToFile(Object sourceEntity, Path path, ResourceManifest resourceManifest) throws IOException;
+
     void scanAndDeleteFileForDeletedResources(Set<String> validResources, Path resourceDirectory);
 
     void scanAndDeleteDirectoryForDeletedResources(Set<String> validResources, Path resourceDirectory);
@@ -0,0 +1,157 @@
+package com.appsmith.external.git.operations;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the content hash of every resource file written to a git repository, so that a resource which serialises
+ * to the same content as the file already on disk is not written again. Files that are not rewritten keep their
+ * modification time, which lets git status skip hashing them as well.
+ * <p>
+ * The hash of a file is only trusted while the size and modification time of the file are the ones recorded when the
+ * hash was taken, similar to how git trusts its index. Anything else that touches the file, like a hard reset, makes
+ * the next save write it again. The manifest is kept inside the .git directory, so that it is never committed and is
+ * discarded along with the clone.
+ */
+@Slf4j
+public class ResourceManifest {
+
+    public static final String MANIFEST_FILE_NAME = "appsmith-resource-manifest.json";
+
+    /**
+     * A file modified this close to the time its hash was taken could have been changed again within the resolution of
+     * the file system clock, so its content is compared instead of trusting the hash.
+     */
+    private static final long RACY_WINDOW_MILLIS = 2000;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Path repoPath;
+    private final Path manifestPath;
+    private final Map<String, Entry> entries;
+    private volatile boolean isModified = false;
+
+    public record Entry(String hash, long size, long lastModified, long recordedAt) {}
+
+    private ResourceManifest(Path repoPath, Map<String, Entry> entries) {
+        this.repoPath = repoPath;
+        this.manifestPath = repoPath.resolve(".git").resolve(MANIFEST_FILE_NAME);
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the manifest of the repository at the given path, or starts an empty one if there is none yet or it can
+     * not be read.
+     */
+    public static ResourceManifest load(Path repoPath) {
+        Path manifestPath = repoPath.resolve(".git").resolve(MANIFEST_FILE_NAME);
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        if (Files.isRegularFile(manifestPath)) {
+            try {
+                entries.putAll(
+                        objectMapper.readValue(manifestPath.toFile(), new TypeReference<Map<String, Entry>>() {}));
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable resource manifest {}, {}", manifestPath, e.getMessage());
+            }
+        }
+        return new ResourceManifest(repoPath, entries);
+    }
+
+    /**
+     * Writes the content to the file, unless the file already holds exactly this content.
+     *
+     * @return true if the file has been written
+     */
+    public boolean write(Path path, byte[] content) throws IOException {
+        String key = repoPath.relativize(path).toString();
+        String hash = sha256(content);
+        if (isUnchanged(key, path, hash)) {
+            return false;
+        }
+
+        Files.createDirectories(path.getParent());
+        Files.write(path, content);
+        record(key, path, hash);
+        return true;
+    }
+
+    private boolean isUnchanged(String key, Path path, String hash) throws IOException {
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.hash().equals(hash)) {
+            return false;
+        }
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // The file is gone
+            return false;
+        }
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        if (attributes.size() != entry.size() || lastModified != entry.lastModified()) {
+            return false;
+        }
+
+        if (entry.recordedAt() - lastModified < RACY_WINDOW_MILLIS) {
+            if (!hash.equals(sha256(Files.readAllBytes(path)))) {
+                return false;
+            }
+            // Verified once, the hash can be trusted from now on
+            record(key, path, hash);
+        }
+        return true;
+    }
+
+    private void record(String key, Path path, String hash) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        entries.put(
+                key,
+                new Entry(
+                        hash,
+                        attributes.size(),
+                        attributes.lastModifiedTime().toMillis(),
+                        System.currentTimeMillis()));
+        isModified = true;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Persists the manifest if anything has been written, dropping the entries of files that no longer exist.
+     */
+    public void save() {
+        if (!isModified || !Files.isDirectory(manifestPath.getParent())) {
+            return;
+        }
+
+        entries.keySet().removeIf(key -> !Files.exists(repoPath.resolve(key)));
+        Path tempPath = manifestPath.resolveSibling(MANIFEST_FILE_NAME + ".tmp");
+        try {
+            objectMapper.writeValue(tempPath.toFile(), entries);
+            Files.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            isModified = false;
+        } catch (IOException e) {
+            log.warn("Failed to save resource manifest {}, {}", manifestPath, e.getMessage());
+        }
+    }
+}
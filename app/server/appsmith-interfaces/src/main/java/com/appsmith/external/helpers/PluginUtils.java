@@ -60,6 +60,9 @@ public class PluginUtils {
     // Pattern to match all words in the text
     private static final Pattern WORD_PATTERN = Pattern.compile("\\w+");
 
+    private static final Pattern DATA_MODIFYING_KEYWORD_PATTERN =
+            Pattern.compile("\\b(insert|update|delete|merge)\\b", Pattern.CASE_INSENSITIVE);
+
     /**
      * - Regex to match everything inside double or single quotes, including the quotes.
      * - e.g. Earth "revolves'" '"around"' "the" 'sun' will match:
@@ -88,6 +91,35 @@ public class PluginUtils {
         return columnsList;
     }
 
+    /**
+     * Returns true if the query is a single SELECT statement, optionally preceded by a WITH clause. Anything with a
+     * semicolon before its end is treated as multiple statements, even if the semicolon is inside a string literal.
+     * JDBC drivers that need a transaction to fetch rows with a cursor, like the Postgres one, may only switch off auto
+     * commit for such queries without changing what the query does.
+     */
+    public static boolean isSingleSelectQuery(String query) {
+        if (query == null) {
+            return false;
+        }
+
+        String trimmedQuery = query.trim();
+        while (trimmedQuery.endsWith(";")) {
+            trimmedQuery = trimmedQuery.substring(0, trimmedQuery.length() - 1).trim();
+        }
+        if (trimmedQuery.isEmpty() || trimmedQuery.contains(";")) {
+            return false;
+        }
+
+        String firstWord = trimmedQuery.split("\\s+", 2)[0].toLowerCase();
+        if ("select".equals(firstWord)) {
+            return true;
+        }
+
+        // A WITH clause can also wrap data modifying statements
+        return "with".equals(firstWord)
+                && !DATA_MODIFYING_KEYWORD_PATTERN.matcher(trimmedQuery).find();
+    }
+
     public static List<String> getIdenticalColumns(List<String> columnNames) {
         /*
          * - Get frequency of each column name
@@ -0,0 +1,88 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Collects the rows of a query result as JSON while they are being read from the driver. Each row is converted as soon
+ * as it is read, so that the result is never held both as Java objects and as JSON, and the encoded size of every row
+ * is added to a running total which is checked against the size budget on every row. Together with a driver side fetch
+ * size, the memory used by a query is bounded by the budget rather than by the number of rows the query returns.
+ */
+public class QueryResultCollector {
+
+    /**
+     * Number of rows drivers are asked to fetch from the database per round trip.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final long maxSizeInBytes;
+
+    @Getter
+    private final ArrayNode rows;
+
+    private final CountingOutputStream sizeCounter = new CountingOutputStream();
+
+    @Getter
+    private boolean sizeExceeded = false;
+
+    public QueryResultCollector(ObjectMapper objectMapper, long maxSizeInBytes) {
+        this.objectMapper = objectMapper;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.rows = objectMapper.createArrayNode();
+    }
+
+    /**
+     * Adds a row to the result, unless the size budget has been used up.
+     *
+     * @return false once the result has grown beyond the size budget, in which case the caller should stop reading
+     */
+    public boolean add(Object row) throws IOException {
+        if (sizeExceeded) {
+            return false;
+        }
+
+        JsonNode rowNode = objectMapper.valueToTree(row);
+        objectMapper.writeValue(sizeCounter, rowNode);
+        if (sizeCounter.count > maxSizeInBytes) {
+            sizeExceeded = true;
+            rows.removeAll();
+            return false;
+        }
+
+        rows.add(rowNode);
+        return true;
+    }
+
+    public long getSizeInBytes() {
+        return sizeCounter.count;
+    }
+
+    /**
+     * Counts the bytes written to it without keeping any of them.
+     */
+    private static class CountingOutputStream extends OutputStream {
+        private long count = 0;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            // Stays usable for the next row, ObjectMapper closes the target after every write
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSize;
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps long-lived {@link HttpClient} instances, each backed by its own bounded {@link ConnectionProvider}, so that
+ * consecutive REST API executions against the same datasource reuse keep-alive connections instead of paying the TCP
+ * and TLS handshake on every call.
+ * <p>
+ * The HttpClient itself is cached (and not just the provider) because reactor-netty partitions pooled connections by
+ * the client configuration, which includes the SSL context. Building a fresh SSL context per request would defeat the
+ * pool even when the provider is shared.
+ * <p>
+ * Each pool is bounded by the maximum pool size set on the connection of its datasource, or by
+ * {@code APPSMITH_REST_API_MAX_CONNECTIONS} when the datasource does not set one.
+ * <p>
+ * The metrics of the pools are not registered with Micrometer one pool at a time, since pools come and go with the
+ * datasources and every new one would add series. They are summed up over all pools into the gauges of the registry.
+ */
+@Slf4j
+public class HttpClientRegistry {
+
+    public static final String METRIC_PREFIX = "appsmith.rest.api.connection.pools";
+
+    private static final String PROVIDER_NAME_PREFIX = "rest-api-provider-";
+
+    private static final int MAX_POOLS = getIntFromEnv("APPSMITH_REST_API_MAX_CONNECTION_POOLS", 256);
+
+    private static final int DEFAULT_MAX_CONNECTIONS = getIntFromEnv("APPSMITH_REST_API_MAX_CONNECTIONS", 50);
+
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(600);
+
+    private static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+
+    private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(45);
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(60);
+
+    private final Map<PoolKey, PoolEntry> pools = new ConcurrentHashMap<>();
+
+    private final AtomicInteger providerCounter = new AtomicInteger();
+
+    private final AtomicLong lastSweepMillis = new AtomicLong(System.currentTimeMillis());
+
+    private final int maxPools;
+
+    private final int defaultMaxConnections;
+
+    private final Duration maxIdleTime;
+
+    private static final HttpClientRegistry INSTANCE =
+            new HttpClientRegistry(MAX_POOLS, DEFAULT_MAX_CONNECTIONS, MAX_IDLE_TIME);
+
+    public static HttpClientRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    HttpClientRegistry(int maxPools, int defaultMaxConnections, Duration maxIdleTime) {
+        this.maxPools = maxPools;
+        this.defaultMaxConnections = defaultMaxConnections;
+        this.maxIdleTime = maxIdleTime;
+
+        Metrics.globalRegistry.gauge(METRIC_PREFIX + ".active", pools, Map::size);
+        Metrics.globalRegistry.gauge(
+                METRIC_PREFIX + ".connections.acquired", pools, map -> sum(map, ConnectionPoolMetrics::acquiredSize));
+        Metrics.globalRegistry.gauge(
+                METRIC_PREFIX + ".connections.pending",
+                pools,
+                map -> sum(map, ConnectionPoolMetrics::pendingAcquireSize));
+    }
+
+    /**
+     * Returns the shared client for the given datasource and protocol, creating it on first use.
+     */
+    public HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+        if (httpProtocol == null) {
+            httpProtocol = HttpProtocol.HTTP11;
+        }
+
+        final int maxConnections = ConnectionPoolSize.of(datasourceConfiguration, defaultMaxConnections, null)
+                .maximumSize();
+        final PoolKey key = PoolKey.of(datasourceConfiguration, httpProtocol, maxConnections);
+        final PoolEntry entry = pools.computeIfAbsent(key, k -> createEntry(datasourceConfiguration, k));
+        entry.touch();
+
+        evictIfRequired();
+
+        return entry.httpClient;
+    }
+
+    int size() {
+        return pools.size();
+    }
+
+    private static double sum(Map<PoolKey, PoolEntry> pools, ToIntFunction<ConnectionPoolMetrics> metric) {
+        return pools.values().stream()
+                .flatMap(entry -> entry.poolMetrics.values().stream())
+                .mapToInt(metric)
+                .sum();
+    }
+
+    private PoolEntry createEntry(DatasourceConfiguration datasourceConfiguration, PoolKey key) {
+        final String providerName = PROVIDER_NAME_PREFIX + providerCounter.incrementAndGet();
+        final Map<String, ConnectionPoolMetrics> poolMetrics = new ConcurrentHashMap<>();
+        final ConnectionProvider provider = ConnectionProvider.builder(providerName)
+                .maxConnections(key.maxConnections())
+                .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                .metrics(true, () -> new PoolMetricsRegistrar(poolMetrics))
+                .build();
+
+        final HttpClient httpClient = HttpClient.create(provider)
+                .protocol(key.httpProtocol())
+                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                .compress(true);
+
+        return new PoolEntry(provider, httpClient, poolMetrics);
+    }
+
+    /**
+     * Drops pools that have not been used for longer than the idle time, and the least recently used ones when the
+     * registry has grown past its bound. Pools with connections in use, or with requests waiting for one, are kept
+     * until a later sweep, as disposing them would fail those requests. The registry may stay over its bound meanwhile.
+     */
+    private void evictIfRequired() {
+        final long now = System.currentTimeMillis();
+        final long lastSweep = lastSweepMillis.get();
+        final boolean sweepDue = now - lastSweep >= EVICTION_INTERVAL.toMillis();
+
+        if (!sweepDue && pools.size() <= maxPools) {
+            return;
+        }
+
+        if (sweepDue && !lastSweepMillis.compareAndSet(lastSweep, now)) {
+            // Another thread is already sweeping.
+            return;
+        }
+
+        final long idleCutoff = now - maxIdleTime.toMillis();
+        pools.entrySet().removeIf(e -> {
+            if (e.getValue().lastUsedMillis < idleCutoff && !e.getValue().isBusy()) {
+                e.getValue().dispose();
+                return true;
+            }
+            return false;
+        });
+
+        int overflow = pools.size() - maxPools;
+        if (overflow > 0) {
+            pools.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().lastUsedMillis))
+                    .filter(e -> !e.getValue().isBusy())
+                    .limit(overflow)
+                    .toList()
+                    .forEach(e -> {
+                        if (pools.remove(e.getKey(), e.getValue())) {
+                            e.getValue().dispose();
+                        }
+                    });
+        }
+    }
+
+    private static int getIntFromEnv(String name, int defaultValue) {
+        final String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid value {} for {}, using {}", value, name, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Datasource configurations do not carry the datasource id, so the base URL stands in for it. Two datasources
+     * pointing at the same base URL with the same SSL settings and connection limit can safely share a pool. Changing
+     * the limit of a datasource moves it to a new pool, and the old one is evicted once idle.
+     */
+    record PoolKey(String url, SSLDetails ssl, HttpProtocol httpProtocol, int maxConnections) {
+        static PoolKey of(
+                DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol, int maxConnections) {
+            final SSLDetails ssl = datasourceConfiguration.getConnection() == null
+                    ? null
+                    : datasourceConfiguration.getConnection().getSsl();
+            return new PoolKey(datasourceConfiguration.getUrl(), ssl, httpProtocol, maxConnections);
+        }
+    }
+
+    /**
+     * Keeps the metrics of the pools of a provider, one pool per remote address it has connected to, instead of
+     * registering them with Micrometer.
+     */
+    private record PoolMetricsRegistrar(Map<String, ConnectionPoolMetrics> poolMetrics)
+            implements ConnectionProvider.MeterRegistrar {
+
+        @Override
+        public void registerMetrics(
+                String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+            poolMetrics.put(id + remoteAddress, metrics);
+        }
+
+        @Override
+        public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+            poolMetrics.remove(id + remoteAddress);
+        }
+    }
+
+    private static class PoolEntry {
+        private final ConnectionProvider provider;
+        private final HttpClient httpClient;
+        private final Map<String, ConnectionPoolMetrics> poolMetrics;
+        private volatile long lastUsedMillis = System.currentTimeMillis();
+
+        PoolEntry(ConnectionProvider provider, HttpClient httpClient, Map<String, ConnectionPoolMetrics> poolMetrics) {
+            this.provider = provider;
+            this.httpClient = httpClient;
+            this.poolMetrics = poolMetrics;
+        }
+
+        /**
+         * Whether any connection of the pool is in use, or any request is waiting for one.
+         */
+        boolean isBusy() {
+            return poolMetrics.values().stream()
+                    .anyMatch(metrics -> metrics.acquiredSize() > 0 || metrics.pendingAcquireSize() > 0);
+        }
+
+        void touch() {
+            lastUsedMillis = System.currentTimeMillis();
+        }
+
+        void dispose() {
+            provider.disposeLater()
+                    .subscribe(null, error -> log.debug("Error while disposing REST API connection pool", error));
+        }
+    }
+}
@@ -37,6 +37,9 @@ public class ActionConfiguration implements AppsmithDomain, ExecutableConfigurat
     private static final int MAX_TIMEOUT_VALUE = 60000; // in Milliseconds
     private static final String TIMEOUT_OUT_OF_RANGE_MESSAGE =
             "'Query timeout' field must be an integer between " + MIN_TIMEOUT_VALUE + " and " + MAX_TIMEOUT_VALUE;
+    private static final int MAX_CACHE_RESPONSE_TTL_VALUE = 86400; // in Seconds
+    private static final String CACHE_RESPONSE_TTL_OUT_OF_RANGE_MESSAGE =
+            "'Cache response' field must be an integer between 0 and " + MAX_CACHE_RESPONSE_TTL_VALUE;
     /*
      * Any of the fields mentioned below could be represented in mustache
      * template. If the mustache template is found, it would be replaced
@@ -50,6 +53,23 @@ public class ActionConfiguration implements AppsmithDomain, ExecutableConfigurat
     @JsonView({Views.Public.class, FromRequest.class, Git.class})
     Integer timeoutInMillisecond;
 
+    /*
+     * When set, successful responses of this action in view mode are cached for this many seconds and reused for
+     * identical executions, i.e. same evaluated params, environment and datasource. Cached responses are shared by all
+     * users who can execute the action, so this must only be enabled for read only actions that do not depend on who
+     * is running them.
+     */
+    @Range(min = 0, max = MAX_CACHE_RESPONSE_TTL_VALUE, message = CACHE_RESPONSE_TTL_OUT_OF_RANGE_MESSAGE)
+    @JsonView({Views.Public.class, FromRequest.class, Git.class})
+    Integer cacheResponseTtlInSeconds;
+
+    /*
+     * When true, a successful execution of this action drops all cached responses for the same datasource and
+     * environment. Meant for actions that write to a datasource which other actions read with a response cache.
+     */
+    @JsonView({Views.Public.class, FromRequest.class, Git.class})
+    Boolean invalidatesCachedResponses;
+
     @JsonView({Views.Public.class, FromRequest.class, Git.class})
     PaginationType paginationType = PaginationType.NONE;
 
@@ -36,4 +36,20 @@ public class Connection implements AppsmithDomain {
     SSLDetails ssl;
 
     String defaultDatabaseName;
+
+    /**
+     * Upper bound for the connection pool of this datasource, for plugins that pool their connections. The plugin
+     * default is used when it is not set.
+     */
+    Integer maxPoolSize;
+
+    /**
+     * When set, the pool starts at the plugin default size and grows towards {@link #maxPoolSize} while queries wait
+     * for connections, shrinking back once they no longer do.
+     */
+    Boolean adaptivePoolSize;
+
+    public Connection(Mode mode, Type type, SSLDetails ssl, String defaultDatabaseName) {
+        this(mode, type, ssl, defaultDatabaseName, null, null);
+    }
 }
@@ -0,0 +1,82 @@
+package com.appsmith.external.configurations.connectionpool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConnectionPoolMonitorTest {
+
+    private final AtomicInteger idle = new AtomicInteger();
+
+    private final AtomicInteger awaiting = new AtomicInteger();
+
+    private final AtomicInteger maximumPoolSize = new AtomicInteger();
+
+    private ConnectionPoolStats stats() {
+        return new ConnectionPoolStats(
+                () -> 1, idle::get, () -> 1 + idle.get(), awaiting::get, maximumPoolSize::get, maximumPoolSize::set);
+    }
+
+    private ConnectionPoolMonitor monitor(ConnectionPoolSize size, SimpleMeterRegistry meterRegistry) {
+        maximumPoolSize.set(size.initialSize());
+        return new ConnectionPoolMonitor("test", stats(), size, meterRegistry);
+    }
+
+    @Test
+    public void testMonitor_exportsPoolStatsAndAcquireTimes() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConnectionPoolMonitor monitor = monitor(new ConnectionPoolSize(5, 5, 5, false), meterRegistry);
+        idle.set(3);
+        awaiting.set(2);
+
+        monitor.recordAcquire(TimeUnit.MILLISECONDS.toNanos(20));
+
+        String prefix = ConnectionPoolMonitor.METRIC_PREFIX;
+        assertEquals(3, meterRegistry.get(prefix + ".idle").gauge().value());
+        assertEquals(2, meterRegistry.get(prefix + ".awaiting").gauge().value());
+        assertEquals(5, meterRegistry.get(prefix + ".max").gauge().value());
+        assertEquals(1, meterRegistry.get(prefix + ".acquire").timer().count());
+    }
+
+    @Test
+    public void testResize_queriesAwaitingConnections_growsUpToMaximum() {
+        ConnectionPoolMonitor monitor = monitor(new ConnectionPoolSize(5, 5, 8, true), new SimpleMeterRegistry());
+        awaiting.set(2);
+
+        monitor.resize();
+        assertEquals(7, maximumPoolSize.get());
+
+        monitor.resize();
+        assertEquals(8, maximumPoolSize.get());
+    }
+
+    @Test
+    public void testResize_slowAcquires_grows() {
+        ConnectionPoolMonitor monitor = monitor(new ConnectionPoolSize(5, 5, 20, true), new SimpleMeterRegistry());
+        for (int i = 0; i < 10; i++) {
+            monitor.recordAcquire(ConnectionPoolMonitor.GROW_WAIT_THRESHOLD.toNanos() * 2);
+        }
+
+        monitor.resize();
+
+        assertEquals(6, maximumPoolSize.get());
+    }
+
+    @Test
+    public void testResize_idleConnectionsAndFastAcquires_shrinksDownToMinimum() {
+        ConnectionPoolMonitor monitor = monitor(new ConnectionPoolSize(5, 5, 20, true), new SimpleMeterRegistry());
+        maximumPoolSize.set(6);
+        idle.set(4);
+        monitor.recordAcquire(TimeUnit.MICROSECONDS.toNanos(100));
+
+        monitor.resize();
+        assertEquals(5, maximumPoolSize.get());
+
+        monitor.resize();
+        assertEquals(5, maximumPoolSize.get());
+    }
+}
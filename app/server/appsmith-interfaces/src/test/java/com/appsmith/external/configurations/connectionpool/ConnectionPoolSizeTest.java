@@ -0,0 +1,63 @@
+package com.appsmith.external.configurations.connectionpool;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectionPoolSizeTest {
+
+    private static DatasourceConfiguration datasourceConfiguration(Integer maxPoolSize, Boolean adaptivePoolSize) {
+        Connection connection = new Connection();
+        connection.setMaxPoolSize(maxPoolSize);
+        connection.setAdaptivePoolSize(adaptivePoolSize);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testOf_noConnectionSettings_usesPluginDefault() {
+        ConnectionPoolSize poolSize = ConnectionPoolSize.of(new DatasourceConfiguration(), 5, null);
+
+        assertEquals(new ConnectionPoolSize(5, 5, 5, false), poolSize);
+    }
+
+    @Test
+    public void testOf_instanceMaximum_raisesDefaultButNeverLowersIt() {
+        assertEquals(20, ConnectionPoolSize.of(new DatasourceConfiguration(), 5, 20).initialSize());
+        assertEquals(5, ConnectionPoolSize.of(new DatasourceConfiguration(), 5, 2).initialSize());
+    }
+
+    @Test
+    public void testOf_datasourceMaximum_overridesDefaultUpToHardMaximum() {
+        assertEquals(12, ConnectionPoolSize.of(datasourceConfiguration(12, null), 5, 20).initialSize());
+        assertEquals(
+                ConnectionPoolSize.HARD_MAXIMUM_POOL_SIZE,
+                ConnectionPoolSize.of(datasourceConfiguration(1000, null), 5, null)
+                        .initialSize());
+        assertEquals(5, ConnectionPoolSize.of(datasourceConfiguration(0, null), 5, null).initialSize());
+    }
+
+    @Test
+    public void testOf_adaptive_growsFromDefaultToConfiguredMaximum() {
+        ConnectionPoolSize poolSize = ConnectionPoolSize.of(datasourceConfiguration(30, true), 5, null);
+
+        assertTrue(poolSize.adaptive());
+        assertEquals(5, poolSize.initialSize());
+        assertEquals(5, poolSize.minimumSize());
+        assertEquals(30, poolSize.maximumSize());
+    }
+
+    @Test
+    public void testOf_adaptiveWithoutMaximum_growsToMultipleOfDefault() {
+        ConnectionPoolSize poolSize = ConnectionPoolSize.of(datasourceConfiguration(null, true), 5, null);
+
+        assertEquals(5 * ConnectionPoolSize.DEFAULT_ADAPTIVE_GROWTH_FACTOR, poolSize.maximumSize());
+        assertFalse(ConnectionPoolSize.of(datasourceConfiguration(null, false), 5, null)
+                .adaptive());
+    }
+}
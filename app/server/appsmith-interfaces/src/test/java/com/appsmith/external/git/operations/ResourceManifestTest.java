@@ -0,0 +1,80 @@
+package com.appsmith.external.git.operations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceManifestTest {
+
+    @TempDir
+    Path repoPath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Files.createDirectories(repoPath.resolve(".git"));
+    }
+
+    @Test
+    public void write_sameContentTwice_writesFileOnce() throws IOException {
+        ResourceManifest resourceManifest = ResourceManifest.load(repoPath);
+        Path path = repoPath.resolve("pages").resolve("Page1").resolve("Page1.json");
+
+        assertThat(resourceManifest.write(path, bytes("{\"name\":\"Page1\"}"))).isTrue();
+        assertThat(resourceManifest.write(path, bytes("{\"name\":\"Page1\"}"))).isFalse();
+        assertThat(resourceManifest.write(path, bytes("{\"name\":\"Page2\"}"))).isTrue();
+        assertThat(Files.readString(path)).isEqualTo("{\"name\":\"Page2\"}");
+    }
+
+    @Test
+    public void write_fileChangedOnDisk_writesFileAgain() throws IOException {
+        ResourceManifest resourceManifest = ResourceManifest.load(repoPath);
+        Path path = repoPath.resolve("theme.json");
+        resourceManifest.write(path, bytes("{\"name\":\"Default\"}"));
+
+        Files.writeString(path, "{\"name\":\"Changed\"}");
+        assertThat(resourceManifest.write(path, bytes("{\"name\":\"Default\"}"))).isTrue();
+
+        Files.delete(path);
+        assertThat(resourceManifest.write(path, bytes("{\"name\":\"Default\"}"))).isTrue();
+        assertThat(Files.readString(path)).isEqualTo("{\"name\":\"Default\"}");
+    }
+
+    @Test
+    public void save_reloadedManifest_skipsUnchangedFiles() throws IOException {
+        Path keptPath = repoPath.resolve("application.json");
+        Path deletedPath = repoPath.resolve("datasources").resolve("Users.json");
+        ResourceManifest resourceManifest = ResourceManifest.load(repoPath);
+        resourceManifest.write(keptPath, bytes("{}"));
+        resourceManifest.write(deletedPath, bytes("{}"));
+        Files.delete(deletedPath);
+        resourceManifest.save();
+
+        Path manifestPath = repoPath.resolve(".git").resolve(ResourceManifest.MANIFEST_FILE_NAME);
+        assertThat(manifestPath).exists();
+        assertThat(Files.readString(manifestPath)).contains("application.json").doesNotContain("Users.json");
+
+        ResourceManifest reloadedManifest = ResourceManifest.load(repoPath);
+        assertThat(reloadedManifest.write(keptPath, bytes("{}"))).isFalse();
+        assertThat(reloadedManifest.write(deletedPath, bytes("{}"))).isTrue();
+    }
+
+    @Test
+    public void load_unreadableManifest_startsEmpty() throws IOException {
+        Files.writeString(repoPath.resolve(".git").resolve(ResourceManifest.MANIFEST_FILE_NAME), "not json");
+        Path path = repoPath.resolve("application.json");
+        Files.writeString(path, "{}");
+
+        assertThat(ResourceManifest.load(repoPath).write(path, bytes("{}"))).isTrue();
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -19,6 +19,7 @@ import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -206,4 +207,14 @@ public class PluginUtilsTest {
                         .count()
                 == AppsmithPluginError.values().length);
     }
+
+    @Test
+    public void testIsSingleSelectQuery() {
+        assertTrue(PluginUtils.isSingleSelectQuery("  SELECT * FROM users;"));
+        assertTrue(PluginUtils.isSingleSelectQuery("with recent as (select * from orders) select * from recent"));
+        assertFalse(PluginUtils.isSingleSelectQuery("select 1; delete from users"));
+        assertFalse(PluginUtils.isSingleSelectQuery("with gone as (delete from users returning *) select * from gone"));
+        assertFalse(PluginUtils.isSingleSelectQuery("update users set name = 'a'"));
+        assertFalse(PluginUtils.isSingleSelectQuery(null));
+    }
 }
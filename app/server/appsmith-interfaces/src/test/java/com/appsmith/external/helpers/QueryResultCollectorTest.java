@@ -0,0 +1,50 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryResultCollectorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Map<String, Object> row(int id) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("name", "user" + id);
+        return row;
+    }
+
+    @Test
+    public void testRowsAreCollectedInOrder() throws IOException {
+        QueryResultCollector collector = new QueryResultCollector(objectMapper, 1024);
+        assertTrue(collector.add(row(1)));
+        assertTrue(collector.add(row(2)));
+
+        assertEquals(2, collector.getRows().size());
+        assertEquals("user2", collector.getRows().get(1).get("name").asText());
+        assertEquals(
+                objectMapper.writeValueAsBytes(row(1)).length + objectMapper.writeValueAsBytes(row(2)).length,
+                collector.getSizeInBytes());
+    }
+
+    @Test
+    public void testCollectionStopsOnceBudgetIsExceeded() throws IOException {
+        // A single row is {"id":1,"name":"user1"}, i.e. 23 bytes
+        QueryResultCollector collector = new QueryResultCollector(objectMapper, 50);
+        assertTrue(collector.add(row(1)));
+        assertTrue(collector.add(row(2)));
+        assertFalse(collector.add(row(3)));
+
+        assertTrue(collector.isSizeExceeded());
+        assertFalse(collector.add(row(4)));
+        assertEquals(0, collector.getRows().size());
+    }
+}
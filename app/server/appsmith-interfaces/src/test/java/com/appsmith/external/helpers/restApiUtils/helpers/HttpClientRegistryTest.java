@@ -0,0 +1,83 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HttpClientRegistryTest {
+
+    private static DatasourceConfiguration datasourceConfiguration(String url, SSLDetails.AuthType authType) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl(url);
+        if (authType != null) {
+            Connection connection = new Connection();
+            SSLDetails sslDetails = new SSLDetails();
+            sslDetails.setAuthType(authType);
+            connection.setSsl(sslDetails);
+            datasourceConfiguration.setConnection(connection);
+        }
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testGetHttpClient_sameDatasource_reusesClient() {
+        HttpClientRegistry registry = new HttpClientRegistry(10, 5, Duration.ofMinutes(10));
+
+        HttpClient first = registry.getHttpClient(datasourceConfiguration("https://example.com", null), null);
+        HttpClient second =
+                registry.getHttpClient(datasourceConfiguration("https://example.com", null), HttpProtocol.HTTP11);
+
+        assertSame(first, second);
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testGetHttpClient_differentSslOrProtocol_usesSeparateClients() {
+        HttpClientRegistry registry = new HttpClientRegistry(10, 5, Duration.ofMinutes(10));
+
+        HttpClient plain = registry.getHttpClient(datasourceConfiguration("https://example.com", null), null);
+        HttpClient selfSigned = registry.getHttpClient(
+                datasourceConfiguration("https://example.com", SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE), null);
+        HttpClient http2 =
+                registry.getHttpClient(datasourceConfiguration("https://example.com", null), HttpProtocol.H2);
+
+        assertNotSame(plain, selfSigned);
+        assertNotSame(plain, http2);
+        assertEquals(3, registry.size());
+    }
+
+    @Test
+    public void testGetHttpClient_datasourceMaxPoolSize_usesSeparateClient() {
+        HttpClientRegistry registry = new HttpClientRegistry(10, 5, Duration.ofMinutes(10));
+        DatasourceConfiguration limitedDatasourceConfiguration = datasourceConfiguration("https://example.com", null);
+        Connection connection = new Connection();
+        connection.setMaxPoolSize(20);
+        limitedDatasourceConfiguration.setConnection(connection);
+
+        HttpClient defaultLimit = registry.getHttpClient(datasourceConfiguration("https://example.com", null), null);
+        HttpClient datasourceLimit = registry.getHttpClient(limitedDatasourceConfiguration, null);
+
+        assertNotSame(defaultLimit, datasourceLimit);
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void testGetHttpClient_overCapacity_evictsLeastRecentlyUsed() {
+        HttpClientRegistry registry = new HttpClientRegistry(2, 5, Duration.ofMinutes(10));
+
+        registry.getHttpClient(datasourceConfiguration("https://one.example.com", null), null);
+        registry.getHttpClient(datasourceConfiguration("https://two.example.com", null), null);
+        registry.getHttpClient(datasourceConfiguration("https://three.example.com", null), null);
+
+        assertEquals(2, registry.size());
+    }
+}
@@ -1,20 +1,25 @@
 package com.external.plugins;
 
+import com.amazonaws.AbortedException;
 import com.amazonaws.HttpMethod;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
-import com.amazonaws.services.s3.transfer.TransferManager;
-import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -50,14 +55,17 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -89,7 +97,9 @@ import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
 import static com.external.plugins.constants.FieldName.KEY_BUCKET;
 import static com.external.plugins.constants.FieldName.KEY_DATA;
+import static com.external.plugins.constants.FieldName.LIST_CURSOR;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
@@ -98,6 +108,9 @@ import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_MAX_SIZE;
+import static com.external.plugins.constants.FieldName.READ_RANGE_END;
+import static com.external.plugins.constants.FieldName.READ_RANGE_START;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.ACCESS_DENIED_ERROR_CODE;
 import static com.external.plugins.constants.S3PluginConstants.AWS_S3_SERVICE_PROVIDER;
@@ -107,9 +120,16 @@ import static com.external.plugins.constants.S3PluginConstants.DEFAULT_BUCKET_PR
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
 import static com.external.plugins.constants.S3PluginConstants.GOOGLE_CLOUD_SERVICE_PROVIDER;
+import static com.external.plugins.constants.S3PluginConstants.KEY_DELIMITER;
+import static com.external.plugins.constants.S3PluginConstants.LIST_PREFIX_PARALLELISM;
+import static com.external.plugins.constants.S3PluginConstants.MAX_SEPARATELY_LISTED_PREFIXES;
+import static com.external.plugins.constants.S3PluginConstants.MAX_LIST_PAGE_SIZE;
+import static com.external.plugins.constants.S3PluginConstants.MULTIPART_UPLOAD_PART_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.NO;
+import static com.external.plugins.constants.S3PluginConstants.READ_BUFFER_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.S3_DRIVER;
 import static com.external.plugins.constants.S3PluginConstants.S3_SERVICE_PROVIDER_PROPERTY_INDEX;
+import static com.external.plugins.constants.S3PluginConstants.SIGNED_URL_BATCH_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.YES;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.getTemplates;
@@ -126,6 +146,12 @@ public class AmazonS3Plugin extends BasePlugin {
     @Extension
     public static class S3PluginExecutor implements PluginExecutor<AmazonS3>, SmartSubstitutionInterface {
         private final Scheduler scheduler = Schedulers.boundedElastic();
+        /*
+         * - Runs the requests that a single list action fans out into. These are waited upon from the scheduler
+         *   threads, so they need threads of their own to never wait behind the actions that are blocked on them.
+         */
+        private static final Scheduler listScheduler = Schedulers.newBoundedElastic(
+                4 * LIST_PREFIX_PARALLELISM, Integer.MAX_VALUE, "s3-plugin-list", 60, true);
         private final FilterDataService filterDataService;
         private static final AmazonS3ErrorUtils amazonS3ErrorUtils;
 
@@ -188,8 +214,68 @@ public class AmazonS3Plugin extends BasePlugin {
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, S3ErrorMessages.EMPTY_PREFIX_ERROR_MSG);
             }
 
-            ObjectListing result = connection.listObjects(bucketName, prefix);
+            /*
+             * - The first level under the prefix is listed with a delimiter, so that the common prefixes ("folders")
+             *   under it can be listed in parallel instead of walking the whole bucket one page at a time.
+             * - When there are too many common prefixes to list each of them separately, the whole bucket is walked
+             *   instead.
+             */
+            ObjectListing result =
+                    connection.listObjects(new ListObjectsRequest(bucketName, prefix, null, KEY_DELIMITER, null));
             ArrayList<String> fileList = new ArrayList<>(getFilenamesFromObjectListing(result));
+            List<String> commonPrefixes = new ArrayList<>(result.getCommonPrefixes());
+
+            while (result.isTruncated() && commonPrefixes.size() <= MAX_SEPARATELY_LISTED_PREFIXES) {
+                result = connection.listNextBatchOfObjects(result);
+                fileList.addAll(getFilenamesFromObjectListing(result));
+                commonPrefixes.addAll(result.getCommonPrefixes());
+            }
+
+            if (commonPrefixes.isEmpty()) {
+                return fileList;
+            }
+
+            if (commonPrefixes.size() > MAX_SEPARATELY_LISTED_PREFIXES) {
+                return new ArrayList<>(listFilesUnderPrefix(connection, bucketName, prefix));
+            }
+
+            Flux.fromIterable(commonPrefixes)
+                    .flatMapSequential(
+                            commonPrefix -> Mono.fromCallable(
+                                            () -> listFilesUnderPrefix(connection, bucketName, commonPrefix))
+                                    .subscribeOn(listScheduler),
+                            LIST_PREFIX_PARALLELISM)
+                    .doOnNext(fileList::addAll)
+                    .blockLast();
+
+            // Keeps the order of a listing done without a delimiter, which is the order of the UTF-8 bytes of the keys
+            fileList.sort(S3PluginExecutor::compareByUtf8Bytes);
+            return fileList;
+        }
+
+        /*
+         * - Comparing code points gives the same order as comparing UTF-8 bytes, unlike comparing the UTF-16 chars of
+         *   the strings, which puts supplementary characters before the characters from U+E000 to U+FFFF.
+         */
+        static int compareByUtf8Bytes(String first, String second) {
+            int i = 0;
+            int j = 0;
+            while (i < first.length() && j < second.length()) {
+                int firstCodePoint = first.codePointAt(i);
+                int secondCodePoint = second.codePointAt(j);
+                if (firstCodePoint != secondCodePoint) {
+                    return Integer.compare(firstCodePoint, secondCodePoint);
+                }
+                i += Character.charCount(firstCodePoint);
+                j += Character.charCount(secondCodePoint);
+            }
+            return Integer.compare(first.length() - i, second.length() - j);
+        }
+
+        private List<String> listFilesUnderPrefix(AmazonS3 connection, String bucketName, String prefix)
+                throws AppsmithPluginException {
+            ObjectListing result = connection.listObjects(bucketName, prefix);
+            List<String> fileList = new ArrayList<>(getFilenamesFromObjectListing(result));
 
             while (result.isTruncated()) {
                 result = connection.listNextBatchOfObjects(result);
@@ -199,9 +285,53 @@ public class AmazonS3Plugin extends BasePlugin {
             return fileList;
         }
 
+        /*
+         * - Lists a single page of at most pageSize files under the prefix, starting after the cursor.
+         * - The cursor is the last key of the previous page, it is empty for the first page.
+         */
+        ObjectListing listPageOfFilesInBucket(
+                AmazonS3 connection, String bucketName, String prefix, int pageSize, String cursor)
+                throws AppsmithPluginException {
+            ListObjectsRequest listObjectsRequest = new ListObjectsRequest()
+                    .withBucketName(bucketName)
+                    .withPrefix(prefix)
+                    .withMaxKeys(pageSize);
+            if (!StringUtils.isNullOrEmpty(cursor)) {
+                listObjectsRequest.setMarker(cursor);
+            }
+
+            ObjectListing result = connection.listObjects(listObjectsRequest);
+            if (result == null) {
+                throw new AppsmithPluginException(
+                        S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                        S3ErrorMessages.FILE_CONTENT_FETCHING_ERROR_MSG);
+            }
+
+            return result;
+        }
+
         ArrayList<String> getSignedUrls(
                 AmazonS3 connection, String bucketName, ArrayList<String> listOfFiles, Date expiryDateTime) {
-            ArrayList<String> urlList = new ArrayList<>();
+            if (listOfFiles.size() <= SIGNED_URL_BATCH_SIZE) {
+                return signUrls(connection, bucketName, listOfFiles, expiryDateTime);
+            }
+
+            // Signing is done locally, but takes long enough to be worth spreading over threads for large lists
+            ArrayList<String> urlList = new ArrayList<>(listOfFiles.size());
+            Flux.fromIterable(listOfFiles)
+                    .buffer(SIGNED_URL_BATCH_SIZE)
+                    .flatMapSequential(batch -> Mono.fromCallable(
+                                    () -> signUrls(connection, bucketName, batch, expiryDateTime))
+                            .subscribeOn(listScheduler))
+                    .doOnNext(urlList::addAll)
+                    .blockLast();
+
+            return urlList;
+        }
+
+        private ArrayList<String> signUrls(
+                AmazonS3 connection, String bucketName, List<String> listOfFiles, Date expiryDateTime) {
+            ArrayList<String> urlList = new ArrayList<>(listOfFiles.size());
 
             for (String filePath : listOfFiles) {
                 GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(
@@ -257,7 +387,7 @@ public class AmazonS3Plugin extends BasePlugin {
                 String body,
                 Boolean usingFilePicker,
                 Date expiryDateTime)
-                throws InterruptedException, AppsmithPluginException {
+                throws AppsmithPluginException {
 
             byte[] payload;
             MultipartFormDataDTO multipartFormDataDTO;
@@ -366,14 +496,7 @@ public class AmazonS3Plugin extends BasePlugin {
                             .getBytes();
                 }
 
-                try {
-                    uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, filePath);
-                } catch (InterruptedException e) {
-                    throw new AppsmithPluginException(
-                            S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
-                            S3ErrorMessages.FILE_UPLOAD_INTERRUPTED_ERROR_MSG,
-                            e.getMessage());
-                }
+                uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, filePath);
 
                 listOfFiles.add(filePath);
             });
@@ -383,20 +506,92 @@ public class AmazonS3Plugin extends BasePlugin {
 
         /*
          * - Exception thrown here needs to be handled by the caller.
+         * - rangeStart and rangeEnd are inclusive byte offsets, either of them may be null. When only rangeEnd is
+         *   given, the read starts at the beginning of the file.
+         * - maxSize caps the number of bytes read from S3, the read fails as soon as the content goes over it.
          */
-        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
+        String readFile(
+                AmazonS3 connection,
+                String bucketName,
+                String path,
+                Boolean encodeContent,
+                Long rangeStart,
+                Long rangeEnd,
+                Long maxSize)
+                throws IOException, AppsmithPluginException {
+            S3Object fullObject;
+            if (rangeStart == null && rangeEnd == null) {
+                fullObject = connection.getObject(bucketName, path);
             } else {
-                result = new String(bytes);
+                GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, path);
+                long start = rangeStart == null ? 0 : rangeStart;
+                if (rangeEnd == null) {
+                    getObjectRequest.setRange(start);
+                } else {
+                    getObjectRequest.setRange(start, rangeEnd);
+                }
+                fullObject = connection.getObject(getObjectRequest);
             }
 
-            return result;
+            try (fullObject) {
+                S3ObjectInputStream content = fullObject.getObjectContent();
+                ObjectMetadata objectMetadata = fullObject.getObjectMetadata();
+                long contentLength = objectMetadata == null ? -1 : objectMetadata.getContentLength();
+                if (maxSize != null && contentLength > maxSize) {
+                    // Closing the stream would otherwise read the rest of the body just to reuse the connection
+                    content.abort();
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            String.format(S3ErrorMessages.FILE_SIZE_LIMIT_EXCEEDED_ERROR_MSG, maxSize));
+                }
+
+                /*
+                 * - The content is copied in chunks straight into the result buffer, encoding it on the way when
+                 *   required, so that neither the raw nor the encoded bytes of the whole file are held twice.
+                 */
+                boolean encode = Boolean.TRUE.equals(encodeContent);
+                int initialSize = contentLength <= 0
+                        ? READ_BUFFER_SIZE
+                        : (int) Math.min(Integer.MAX_VALUE - 8, encode ? 4 * ((contentLength + 2) / 3) : contentLength);
+                ByteArrayOutputStream resultStream = new ByteArrayOutputStream(initialSize);
+                try (OutputStream outputStream = encode ? Base64.getEncoder().wrap(resultStream) : resultStream) {
+                    byte[] buffer = new byte[READ_BUFFER_SIZE];
+                    long totalBytesRead = 0;
+                    int bytesRead;
+                    while ((bytesRead = content.read(buffer)) != -1) {
+                        totalBytesRead += bytesRead;
+                        if (maxSize != null && totalBytesRead > maxSize) {
+                            content.abort();
+                            throw new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                    String.format(S3ErrorMessages.FILE_SIZE_LIMIT_EXCEEDED_ERROR_MSG, maxSize));
+                        }
+                        outputStream.write(buffer, 0, bytesRead);
+                    }
+                }
+
+                return encode ? resultStream.toString(StandardCharsets.US_ASCII) : resultStream.toString();
+            }
+        }
+
+        private Long getByteCountFromFormData(Map<String, Object> formData, String field, String label)
+                throws AppsmithPluginException {
+            String value = getDataValueSafelyFromFormData(formData, field, STRING_TYPE);
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+
+            try {
+                long byteCount = Long.parseLong(value.trim());
+                if (byteCount >= 0) {
+                    return byteCount;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below along with negative values
+            }
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    String.format(S3ErrorMessages.BYTE_COUNT_NOT_A_NUMBER_ERROR_MSG, label));
         }
 
         @Override
@@ -546,7 +741,41 @@ public class AmazonS3Plugin extends BasePlugin {
                                 String prefix = getDataValueSafelyFromFormData(formData, LIST_PREFIX, STRING_TYPE, "");
                                 requestParams.add(new RequestParamDTO(LIST_PREFIX, prefix, null, null, null));
 
-                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                String pageSizeString =
+                                        getDataValueSafelyFromFormData(formData, LIST_PAGE_SIZE, STRING_TYPE, "");
+                                boolean isPaginatedList = !pageSizeString.isBlank();
+                                ArrayList<String> listOfFiles;
+                                String nextCursor = null;
+
+                                if (isPaginatedList) {
+                                    int pageSize;
+                                    try {
+                                        pageSize = Integer.parseInt(pageSizeString.trim());
+                                    } catch (NumberFormatException e) {
+                                        pageSize = -1;
+                                    }
+                                    if (pageSize < 1 || pageSize > MAX_LIST_PAGE_SIZE) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                String.format(
+                                                        S3ErrorMessages.PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG,
+                                                        MAX_LIST_PAGE_SIZE)));
+                                    }
+
+                                    String cursor =
+                                            getDataValueSafelyFromFormData(formData, LIST_CURSOR, STRING_TYPE, "");
+                                    requestParams.add(new RequestParamDTO(LIST_PAGE_SIZE, pageSize, null, null, null));
+                                    requestParams.add(new RequestParamDTO(LIST_CURSOR, cursor, null, null, null));
+
+                                    ObjectListing page =
+                                            listPageOfFilesInBucket(connection, bucketName, prefix, pageSize, cursor);
+                                    listOfFiles = getFilenamesFromObjectListing(page);
+                                    if (page.isTruncated() && !listOfFiles.isEmpty()) {
+                                        nextCursor = listOfFiles.get(listOfFiles.size() - 1);
+                                    }
+                                } else {
+                                    listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                }
 
                                 Boolean isSignedUrl = YES.equals(
                                         getDataValueSafelyFromFormData(formData, LIST_SIGNED_URL, STRING_TYPE));
@@ -639,6 +868,17 @@ public class AmazonS3Plugin extends BasePlugin {
                                         preFilteringResponse,
                                         new UQIDataFilterParams(condition, null, sortBy, paginateBy));
 
+                                if (isPaginatedList) {
+                                    /*
+                                     * - The where, sort and pagination settings above apply to the files of this
+                                     *   page. The next page is fetched by passing nextCursor back as the cursor, it
+                                     *   is null on the last page.
+                                     */
+                                    Map<String, Object> pageResult = new HashMap<>();
+                                    pageResult.put("files", actionResult);
+                                    pageResult.put("nextCursor", nextCursor);
+                                    actionResult = pageResult;
+                                }
                                 break;
                             case UPLOAD_FILE_FROM_BODY: {
                                 log.debug(Thread.currentThread().getName()
@@ -757,13 +997,40 @@ public class AmazonS3Plugin extends BasePlugin {
 
                                 String isBase64 = getDataValueSafelyFromFormData(formData, READ_DATATYPE, STRING_TYPE);
 
+                                Long rangeStart = getByteCountFromFormData(formData, READ_RANGE_START, "Range start");
+                                Long rangeEnd = getByteCountFromFormData(formData, READ_RANGE_END, "Range end");
+                                Long maxSize = getByteCountFromFormData(formData, READ_MAX_SIZE, "Max file size");
+                                if (rangeEnd != null && rangeEnd < (rangeStart == null ? 0 : rangeStart)) {
+                                    return Mono.error(new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                            S3ErrorMessages.INVALID_READ_RANGE_ERROR_MSG));
+                                }
+
                                 if (YES.equals(isBase64)) {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE, YES, null, null, null));
-                                    result = readFile(connection, bucketName, path, true);
                                 } else {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE, NO, null, null, null));
-                                    result = readFile(connection, bucketName, path, false);
                                 }
+                                if (rangeStart != null) {
+                                    requestParams.add(new RequestParamDTO(
+                                            READ_RANGE_START, String.valueOf(rangeStart), null, null, null));
+                                }
+                                if (rangeEnd != null) {
+                                    requestParams.add(new RequestParamDTO(
+                                            READ_RANGE_END, String.valueOf(rangeEnd), null, null, null));
+                                }
+                                if (maxSize != null) {
+                                    requestParams.add(
+                                            new RequestParamDTO(READ_MAX_SIZE, String.valueOf(maxSize), null, null, null));
+                                }
+                                result = readFile(
+                                        connection,
+                                        bucketName,
+                                        path,
+                                        YES.equals(isBase64),
+                                        rangeStart,
+                                        rangeEnd,
+                                        maxSize);
                                 actionResult = Map.of("fileData", result);
                                 break;
                             case DELETE_FILE:
@@ -1121,7 +1388,8 @@ public class AmazonS3Plugin extends BasePlugin {
         private String getOneFileNameOrDefault(AmazonS3 connection, String bucketName, String defaultFileName) {
             ArrayList<String> listOfFiles;
             try {
-                listOfFiles = listAllFilesInBucket(connection, bucketName, "");
+                listOfFiles =
+                        getFilenamesFromObjectListing(listPageOfFilesInBucket(connection, bucketName, "", 1, null));
             } catch (AppsmithPluginException e) {
                 return defaultFileName;
             }
@@ -1156,24 +1424,66 @@ public class AmazonS3Plugin extends BasePlugin {
             return encodedPayload;
         }
 
+        /*
+         * - Files that fit in a single part are uploaded with one request.
+         * - Larger files are uploaded with a multipart upload in parts of MULTIPART_UPLOAD_PART_SIZE bytes, each part
+         *   read straight from the payload without copying it.
+         */
         void uploadFileInS3(
                 byte[] payload,
                 AmazonS3 connection,
                 MultipartFormDataDTO multipartFormDataDTO,
                 String bucketName,
-                String path)
-                throws InterruptedException {
-            InputStream inputStream = new ByteArrayInputStream(payload);
-            TransferManager transferManager =
-                    TransferManagerBuilder.standard().withS3Client(connection).build();
+                String path) {
             final ObjectMetadata objectMetadata = new ObjectMetadata();
             // Only add content type if the user has mentioned it in the body
             if (multipartFormDataDTO.getType() != null) {
                 objectMetadata.setContentType(multipartFormDataDTO.getType());
             }
-            transferManager
-                    .upload(bucketName, path, inputStream, objectMetadata)
-                    .waitForUploadResult();
+
+            if (payload.length <= MULTIPART_UPLOAD_PART_SIZE) {
+                // Without a content length the client buffers the whole stream in memory before sending it
+                objectMetadata.setContentLength(payload.length);
+                connection.putObject(bucketName, path, new ByteArrayInputStream(payload), objectMetadata);
+                return;
+            }
+
+            String uploadId = connection
+                    .initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, path, objectMetadata))
+                    .getUploadId();
+            try {
+                List<PartETag> partETags = new ArrayList<>();
+                for (int offset = 0, partNumber = 1;
+                        offset < payload.length;
+                        offset += MULTIPART_UPLOAD_PART_SIZE, partNumber++) {
+                    int partSize = Math.min(MULTIPART_UPLOAD_PART_SIZE, payload.length - offset);
+                    UploadPartRequest uploadPartRequest = new UploadPartRequest()
+                            .withBucketName(bucketName)
+                            .withKey(path)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partNumber)
+                            .withPartSize(partSize)
+                            .withInputStream(new ByteArrayInputStream(payload, offset, partSize));
+                    partETags.add(connection.uploadPart(uploadPartRequest).getPartETag());
+                }
+                connection.completeMultipartUpload(
+                        new CompleteMultipartUploadRequest(bucketName, path, uploadId, partETags));
+            } catch (RuntimeException e) {
+                // Parts of an upload that is neither completed nor aborted are kept, and billed, by S3
+                try {
+                    connection.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, path, uploadId));
+                } catch (RuntimeException abortError) {
+                    log.debug("Failed to abort multipart upload {} of {}", uploadId, path, abortError);
+                }
+                if (e instanceof AbortedException) {
+                    // The client gives up on requests made by a thread that has been interrupted
+                    throw new AppsmithPluginException(
+                            S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                            S3ErrorMessages.FILE_UPLOAD_INTERRUPTED_ERROR_MSG,
+                            e.getMessage());
+                }
+                throw e;
+            }
         }
 
         /**
@@ -16,4 +16,14 @@ public class S3PluginConstants {
     public static final String ACCESS_DENIED_ERROR_CODE = "AccessDenied";
     public static final String GOOGLE_CLOUD_SERVICE_PROVIDER = "google-cloud-storage";
     public static final String AUTO = "auto";
+    // Files larger than one part are uploaded with a multipart upload, S3 requires parts of at least 5 MB
+    public static final int MULTIPART_UPLOAD_PART_SIZE = 8 * 1024 * 1024;
+    public static final int READ_BUFFER_SIZE = 64 * 1024;
+    public static final String KEY_DELIMITER = "/";
+    // S3 returns at most 1000 keys per list request
+    public static final int MAX_LIST_PAGE_SIZE = 1000;
+    public static final int LIST_PREFIX_PARALLELISM = 8;
+    // Each separately listed prefix costs at least one request, beyond this many the whole listing is walked instead
+    public static final int MAX_SEPARATELY_LISTED_PREFIXES = 64;
+    public static final int SIGNED_URL_BATCH_SIZE = 1000;
 }
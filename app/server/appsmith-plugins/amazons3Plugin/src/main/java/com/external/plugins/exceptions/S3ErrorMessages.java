@@ -65,6 +65,22 @@ public class S3ErrorMessages extends BasePluginErrorMessages {
                     + "any non-negative integer. Please note that the maximum expiry "
                     + "duration supported by Amazon S3 is 7 days i.e. 10080 minutes.";
 
+    public static final String BYTE_COUNT_NOT_A_NUMBER_ERROR_MSG =
+            "Parameter '%s' is NOT a valid number of bytes. Please ensure that the input to this field is "
+                    + "any non-negative integer, or leave it empty.";
+
+    public static final String INVALID_READ_RANGE_ERROR_MSG =
+            "Parameter 'Range end' must not be smaller than 'Range start'. Both are byte offsets into the file, "
+                    + "and the range includes the byte at 'Range end'.";
+
+    public static final String FILE_SIZE_LIMIT_EXCEEDED_ERROR_MSG =
+            "The file content is larger than the allowed %d bytes. Please read a smaller part of the file by "
+                    + "setting 'Range start' and 'Range end', or increase 'Max file size'.";
+
+    public static final String PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG =
+            "Parameter 'Page size' is NOT a valid number. Please ensure that the input to 'Page size' field is a "
+                    + "number between 1 and %d, or leave it empty to list all files.";
+
     public static final String ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG =
             "Appsmith server has encountered an unexpected error when getting "
                     + "list of files from AWS S3 server. Please reach out to Appsmith customer "
@@ -1,19 +1,34 @@
 package com.external.plugins;
 
+import com.amazonaws.AbortedException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 import com.amazonaws.util.Base64;
 import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
@@ -40,6 +55,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -47,6 +63,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -61,7 +78,9 @@ import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_CURSOR;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
@@ -69,11 +88,17 @@ import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
 import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_MAX_SIZE;
+import static com.external.plugins.constants.FieldName.READ_RANGE_END;
+import static com.external.plugins.constants.FieldName.READ_RANGE_START;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
 import static com.external.plugins.constants.S3PluginConstants.GOOGLE_CLOUD_SERVICE_PROVIDER;
+import static com.external.plugins.constants.S3PluginConstants.MAX_SEPARATELY_LISTED_PREFIXES;
+import static com.external.plugins.constants.S3PluginConstants.MULTIPART_UPLOAD_PART_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.NO;
+import static com.external.plugins.constants.S3PluginConstants.READ_BUFFER_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.YES;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.CREATE_FILE_TEMPLATE_NAME;
@@ -91,13 +116,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -339,7 +369,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -370,6 +400,170 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testListAllFilesInBucket_withCommonPrefixes_listsEachPrefixAndKeepsKeyOrder() {
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenAnswer(invocation -> {
+            ListObjectsRequest request = invocation.getArgument(0);
+            assertEquals("/", request.getDelimiter());
+            return createObjectListing(List.of("dir/a.txt", "dir/z.txt"), List.of("dir/b/", "dir/c/"), false);
+        });
+        when(mockConnection.listObjects("bucket_name", "dir/b/"))
+                .thenReturn(createObjectListing(List.of("dir/b/1", "dir/b/2"), List.of(), false));
+        when(mockConnection.listObjects("bucket_name", "dir/c/"))
+                .thenReturn(createObjectListing(List.of("dir/c/1"), List.of(), false));
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        List<String> files = pluginExecutor.listAllFilesInBucket(mockConnection, "bucket_name", "dir/");
+
+        assertEquals(List.of("dir/a.txt", "dir/b/1", "dir/b/2", "dir/c/1", "dir/z.txt"), files);
+    }
+
+    @Test
+    public void testListAllFilesInBucket_withCommonPrefixes_sortsKeysByUtf8Bytes() {
+        // U+1F600 is sorted after U+FFFD by its UTF-8 bytes, but before it by its UTF-16 chars
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class)))
+                .thenReturn(createObjectListing(List.of("dir/a", "dir/\uFFFD"), List.of("dir/\uD83D\uDE00/"), false));
+        when(mockConnection.listObjects("bucket_name", "dir/\uD83D\uDE00/"))
+                .thenReturn(createObjectListing(List.of("dir/\uD83D\uDE00/1"), List.of(), false));
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        List<String> files = pluginExecutor.listAllFilesInBucket(mockConnection, "bucket_name", "dir/");
+
+        assertEquals(List.of("dir/a", "dir/\uFFFD", "dir/\uD83D\uDE00/1"), files);
+    }
+
+    @Test
+    public void testListAllFilesInBucket_withManyCommonPrefixes_walksWholeListing() {
+        List<String> commonPrefixes = new ArrayList<>();
+        for (int i = 0; i <= MAX_SEPARATELY_LISTED_PREFIXES; i++) {
+            commonPrefixes.add(String.format("dir/%03d/", i));
+        }
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class)))
+                .thenReturn(createObjectListing(List.of(), commonPrefixes, true));
+        when(mockConnection.listObjects("bucket_name", "dir/"))
+                .thenReturn(createObjectListing(List.of("dir/000/1", "dir/001/1"), List.of(), false));
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        List<String> files = pluginExecutor.listAllFilesInBucket(mockConnection, "bucket_name", "dir/");
+
+        assertEquals(List.of("dir/000/1", "dir/001/1"), files);
+        verify(mockConnection, never()).listNextBatchOfObjects(any(ObjectListing.class));
+        verify(mockConnection, never()).listObjects("bucket_name", "dir/000/");
+    }
+
+    @Test
+    public void testListFilesInBucket_withPageSize_returnsPageAndNextCursor() {
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenAnswer(invocation -> {
+            ListObjectsRequest request = invocation.getArgument(0);
+            assertEquals(2, request.getMaxKeys());
+            assertNull(request.getDelimiter());
+            return request.getMarker() == null
+                    ? createObjectListing(List.of("file_1", "file_2"), List.of(), true)
+                    : createObjectListing(List.of("file_3"), List.of(), false);
+        });
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "NO");
+        setDataValueSafelyInFormData(configMap, LIST_PAGE_SIZE, "2");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        Mono<ActionExecutionResult> firstPageMono = pluginExecutor.executeParameterized(
+                mockConnection, new ExecuteActionDTO(), createDatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(firstPageMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    ArrayNode files = (ArrayNode) body.get("files");
+                    assertEquals(2, files.size());
+                    assertEquals("file_1", files.get(0).get("fileName").asText());
+                    assertEquals("file_2", files.get(1).get("fileName").asText());
+                    assertEquals("file_2", body.get("nextCursor"));
+                })
+                .verifyComplete();
+
+        setDataValueSafelyInFormData(configMap, LIST_CURSOR, "file_2");
+        Mono<ActionExecutionResult> lastPageMono = pluginExecutor.executeParameterized(
+                mockConnection, new ExecuteActionDTO(), createDatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(lastPageMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    ArrayNode files = (ArrayNode) body.get("files");
+                    assertEquals(1, files.size());
+                    assertEquals("file_3", files.get(0).get("fileName").asText());
+                    assertTrue(body.containsKey("nextCursor"));
+                    assertNull(body.get("nextCursor"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testListFilesInBucket_withInvalidPageSize_returnsErrorMessage() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_PAGE_SIZE, "5000");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mock(AmazonS3.class), new ExecuteActionDTO(), createDatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            String.format(S3ErrorMessages.PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG, 1000), result.getBody());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGetSignedUrls_withManyFiles_signsInBatchesAndKeepsOrder() {
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.generatePresignedUrl(any())).thenAnswer(invocation -> {
+            GeneratePresignedUrlRequest request = invocation.getArgument(0);
+            return new URL("https://signed.url/" + request.getKey());
+        });
+        ArrayList<String> listOfFiles = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            listOfFiles.add("file_" + i);
+        }
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        List<String> signedUrls = pluginExecutor.getSignedUrls(mockConnection, "bucket_name", listOfFiles, new Date());
+
+        assertEquals(
+                listOfFiles.stream().map(file -> "https://signed.url/" + file).collect(Collectors.toList()),
+                signedUrls);
+    }
+
+    private static ObjectListing createObjectListing(
+            List<String> keys, List<String> commonPrefixes, boolean truncated) {
+        ObjectListing objectListing = new ObjectListing();
+        for (String key : keys) {
+            S3ObjectSummary objectSummary = new S3ObjectSummary();
+            objectSummary.setKey(key);
+            objectListing.getObjectSummaries().add(objectSummary);
+        }
+        objectListing.setCommonPrefixes(commonPrefixes);
+        objectListing.setTruncated(truncated);
+        return objectListing;
+    }
+
     /*
      * - This method tests the create file program flow till the point where an actual call is made by the AmazonS3
      *   connection to upload a file.
@@ -793,7 +987,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -845,7 +1039,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -909,7 +1103,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -973,7 +1167,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -1584,4 +1778,314 @@ public class AmazonS3PluginTest {
                 .block();
         assertEquals(userSelectedBucketName, mappedColumnsAndTableName.get("templateBucket"));
     }
+
+    @Test
+    public void testReadFile_withRange_readsOnlyTheRequestedBytes() throws Exception {
+        InMemoryS3 inMemoryS3 = new InMemoryS3();
+        inMemoryS3.objects.put("path", "0123456789".getBytes());
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        assertEquals(
+                "2345", pluginExecutor.readFile(inMemoryS3.connection, "bucket_name", "path", false, 2L, 5L, null));
+        assertEquals(
+                "789", pluginExecutor.readFile(inMemoryS3.connection, "bucket_name", "path", false, 7L, null, null));
+        assertEquals(
+                "012", pluginExecutor.readFile(inMemoryS3.connection, "bucket_name", "path", false, null, 2L, null));
+        assertEquals(
+                new String(Base64.encode("2345".getBytes())),
+                pluginExecutor.readFile(inMemoryS3.connection, "bucket_name", "path", true, 2L, 5L, 4L));
+    }
+
+    @Test
+    public void testReadFile_withBase64Encoding_encodesLargeFileInChunks() throws Exception {
+        InMemoryS3 inMemoryS3 = new InMemoryS3();
+        byte[] content = new byte[3 * READ_BUFFER_SIZE + 7];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        inMemoryS3.objects.put("path", content);
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        String result = pluginExecutor.readFile(inMemoryS3.connection, "bucket_name", "path", true, null, null, null);
+
+        assertEquals(new String(Base64.encode(content)), result);
+    }
+
+    @Test
+    public void testReadFile_whenContentLengthIsOverMaxSize_failsWithoutReadingTheFile() {
+        InMemoryS3 inMemoryS3 = new InMemoryS3();
+        inMemoryS3.generatedObjectSize = 64L * 1024 * 1024;
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        AppsmithPluginException exception = assertThrows(
+                AppsmithPluginException.class,
+                () -> pluginExecutor.readFile(
+                        inMemoryS3.connection, "bucket_name", "generated", false, null, null, 1024L));
+
+        assertEquals(String.format(S3ErrorMessages.FILE_SIZE_LIMIT_EXCEEDED_ERROR_MSG, 1024L), exception.getMessage());
+        assertEquals(0, inMemoryS3.bytesServed);
+        assertTrue(inMemoryS3.aborted);
+    }
+
+    @Test
+    public void testReadFile_whenContentLengthIsUnknown_stopsReadingAtMaxSize() {
+        InMemoryS3 inMemoryS3 = new InMemoryS3();
+        inMemoryS3.generatedObjectSize = 64L * 1024 * 1024;
+        inMemoryS3.sendContentLength = false;
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        long maxSize = 1024L * 1024;
+        assertThrows(
+                AppsmithPluginException.class,
+                () -> pluginExecutor.readFile(
+                        inMemoryS3.connection, "bucket_name", "generated", true, null, null, maxSize));
+
+        assertTrue(inMemoryS3.bytesServed <= maxSize + READ_BUFFER_SIZE);
+        assertTrue(inMemoryS3.aborted);
+    }
+
+    @Test
+    public void testReadFile_withRangeFieldsInForm_addsThemToRequestParams() {
+        InMemoryS3 inMemoryS3 = new InMemoryS3();
+        inMemoryS3.objects.put("path", "Hello World !!!\n".getBytes());
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+        setDataValueSafelyInFormData(configMap, READ_RANGE_START, "6");
+        setDataValueSafelyInFormData(configMap, READ_RANGE_END, "10");
+        setDataValueSafelyInFormData(configMap, READ_MAX_SIZE, "100");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                inMemoryS3.connection,
+                new ExecuteActionDTO(),
+                createDatasourceConfiguration(),
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals("World", ((Map<String, Object>) result.getBody()).get("fileData"));
+
+                    List<RequestParamDTO> expectedRequestParams = new ArrayList<>();
+                    expectedRequestParams.add(new RequestParamDTO(COMMAND, "READ_FILE", null, null, null));
+                    expectedRequestParams.add(new RequestParamDTO(BUCKET, "bucket_name", null, null, null));
+                    expectedRequestParams.add(
+                            new RequestParamDTO(ACTION_CONFIGURATION_PATH, "path", null, null, null));
+                    expectedRequestParams.add(new RequestParamDTO(READ_DATATYPE, "NO", null, null, null));
+                    expectedRequestParams.add(new RequestParamDTO(READ_RANGE_START, "6", null, null, null));
+                    expectedRequestParams.add(new RequestParamDTO(READ_RANGE_END, "10", null, null, null));
+                    expectedRequestParams.add(new RequestParamDTO(READ_MAX_SIZE, "100", null, null, null));
+                    assertEquals(
+                            expectedRequestParams.toString(),
+                            result.getRequest().getRequestParams().toString());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFile_withInvalidRange_returnsErrorMessage() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_RANGE_START, "10");
+        setDataValueSafelyInFormData(configMap, READ_RANGE_END, "5");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new InMemoryS3().connection,
+                new ExecuteActionDTO(),
+                createDatasourceConfiguration(),
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(S3ErrorMessages.INVALID_READ_RANGE_ERROR_MSG, result.getBody());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testUploadFileInS3_withSmallPayload_putsObjectWithContentLength() {
+        InMemoryS3 inMemoryS3 = new InMemoryS3();
+        MultipartFormDataDTO multipartFormDataDTO = new MultipartFormDataDTO();
+        multipartFormDataDTO.setType("text/plain");
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        pluginExecutor.uploadFileInS3(
+                "Hello World".getBytes(), inMemoryS3.connection, multipartFormDataDTO, "bucket_name", "path");
+
+        assertArrayEquals("Hello World".getBytes(), inMemoryS3.objects.get("path"));
+        assertEquals(11L, inMemoryS3.lastMetadata.getContentLength());
+        assertEquals("text/plain", inMemoryS3.lastMetadata.getContentType());
+        assertTrue(inMemoryS3.partSizes.isEmpty());
+    }
+
+    @Test
+    public void testUploadFileInS3_withLargePayload_uploadsFixedSizeParts() {
+        InMemoryS3 inMemoryS3 = new InMemoryS3();
+        byte[] payload = new byte[2 * MULTIPART_UPLOAD_PART_SIZE + MULTIPART_UPLOAD_PART_SIZE / 2];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) (i % 251);
+        }
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        pluginExecutor.uploadFileInS3(
+                payload, inMemoryS3.connection, new MultipartFormDataDTO(), "bucket_name", "path");
+
+        long partSize = MULTIPART_UPLOAD_PART_SIZE;
+        assertEquals(List.of(partSize, partSize, partSize / 2), inMemoryS3.partSizes);
+        assertArrayEquals(payload, inMemoryS3.objects.get("path"));
+        verify(inMemoryS3.connection, never()).putObject(anyString(), anyString(), any(InputStream.class), any());
+    }
+
+    @Test
+    public void testUploadFileInS3_whenPartUploadFails_abortsMultipartUpload() {
+        InMemoryS3 inMemoryS3 = new InMemoryS3();
+        inMemoryS3.failingPartNumber = 2;
+        byte[] payload = new byte[2 * MULTIPART_UPLOAD_PART_SIZE];
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        assertThrows(
+                AmazonS3Exception.class,
+                () -> pluginExecutor.uploadFileInS3(
+                        payload, inMemoryS3.connection, new MultipartFormDataDTO(), "bucket_name", "path"));
+
+        assertTrue(inMemoryS3.aborted);
+        assertFalse(inMemoryS3.objects.containsKey("path"));
+    }
+
+    @Test
+    public void testUploadFileInS3_whenInterrupted_abortsMultipartUploadAndReportsInterruption() {
+        InMemoryS3 inMemoryS3 = new InMemoryS3();
+        inMemoryS3.failingPartNumber = 2;
+        inMemoryS3.partFailure = new AbortedException();
+        byte[] payload = new byte[2 * MULTIPART_UPLOAD_PART_SIZE];
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        AppsmithPluginException exception = assertThrows(
+                AppsmithPluginException.class,
+                () -> pluginExecutor.uploadFileInS3(
+                        payload, inMemoryS3.connection, new MultipartFormDataDTO(), "bucket_name", "path"));
+
+        assertEquals(S3ErrorMessages.FILE_UPLOAD_INTERRUPTED_ERROR_MSG, exception.getMessage());
+        assertTrue(inMemoryS3.aborted);
+        assertFalse(inMemoryS3.objects.containsKey("path"));
+    }
+
+    /**
+     * A single bucket S3 stand-in that keeps objects in memory. Besides the stored objects, it can serve a generated
+     * object of any size under the "generated" key, which is never held in memory, and counts the bytes it served.
+     */
+    private static class InMemoryS3 {
+        private final Map<String, byte[]> objects = new HashMap<>();
+        private final Map<String, ByteArrayOutputStream> multipartUploads = new HashMap<>();
+        private final List<Long> partSizes = new ArrayList<>();
+        private final AmazonS3 connection = mock(AmazonS3.class);
+        private long generatedObjectSize;
+        private boolean sendContentLength = true;
+        private int failingPartNumber = -1;
+        private RuntimeException partFailure = new AmazonS3Exception("part upload failed");
+        private long bytesServed;
+        private boolean aborted;
+        private ObjectMetadata lastMetadata;
+
+        InMemoryS3() {
+            when(connection.getObject(anyString(), anyString()))
+                    .thenAnswer(invocation -> getObject(invocation.getArgument(1), 0, Long.MAX_VALUE));
+            when(connection.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+                GetObjectRequest request = invocation.getArgument(0);
+                long[] range = request.getRange();
+                return getObject(request.getKey(), range[0], range[1]);
+            });
+            when(connection.putObject(anyString(), anyString(), any(InputStream.class), any()))
+                    .thenAnswer(invocation -> {
+                        lastMetadata = invocation.getArgument(3);
+                        InputStream inputStream = invocation.getArgument(2);
+                        objects.put(invocation.getArgument(1), inputStream.readAllBytes());
+                        return new PutObjectResult();
+                    });
+            when(connection.initiateMultipartUpload(any())).thenAnswer(invocation -> {
+                InitiateMultipartUploadRequest request = invocation.getArgument(0);
+                lastMetadata = request.getObjectMetadata();
+                multipartUploads.put(request.getKey(), new ByteArrayOutputStream());
+                InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+                result.setUploadId(request.getKey());
+                return result;
+            });
+            when(connection.uploadPart(any())).thenAnswer(invocation -> {
+                UploadPartRequest request = invocation.getArgument(0);
+                if (request.getPartNumber() == failingPartNumber) {
+                    throw partFailure;
+                }
+                byte[] part = request.getInputStream().readAllBytes();
+                assertEquals(request.getPartSize(), part.length);
+                partSizes.add(request.getPartSize());
+                multipartUploads.get(request.getUploadId()).write(part);
+                UploadPartResult result = new UploadPartResult();
+                result.setPartNumber(request.getPartNumber());
+                result.setETag("etag" + request.getPartNumber());
+                return result;
+            });
+            when(connection.completeMultipartUpload(any())).thenAnswer(invocation -> {
+                CompleteMultipartUploadRequest request = invocation.getArgument(0);
+                objects.put(request.getKey(), multipartUploads.remove(request.getUploadId()).toByteArray());
+                return new CompleteMultipartUploadResult();
+            });
+            doAnswer(invocation -> {
+                        AbortMultipartUploadRequest request = invocation.getArgument(0);
+                        aborted = true;
+                        multipartUploads.remove(request.getUploadId());
+                        return null;
+                    })
+                    .when(connection)
+                    .abortMultipartUpload(any());
+        }
+
+        private S3Object getObject(String key, long start, long end) {
+            long size = "generated".equals(key) ? generatedObjectSize : objects.get(key).length;
+            long rangeEnd = Math.min(end, size - 1);
+            InputStream content = new InputStream() {
+                private long position = start;
+
+                @Override
+                public int read() {
+                    if (position > rangeEnd) {
+                        return -1;
+                    }
+                    bytesServed++;
+                    long index = position++;
+                    return "generated".equals(key) ? (int) (index % 251) : objects.get(key)[(int) index] & 0xFF;
+                }
+            };
+
+            ObjectMetadata objectMetadata = new ObjectMetadata();
+            if (sendContentLength) {
+                objectMetadata.setContentLength(rangeEnd - start + 1);
+            }
+            S3Object s3Object = new S3Object();
+            s3Object.setObjectMetadata(objectMetadata);
+            s3Object.setObjectContent(new S3ObjectInputStream(content, null) {
+                @Override
+                public void abort() {
+                    aborted = true;
+                }
+
+                @Override
+                public void close() {}
+            });
+            return s3Object;
+        }
+    }
 }
@@ -35,6 +35,8 @@ import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.external.plugins.utils.MongoCursorPaginator;
+import com.external.plugins.utils.MongoCursorPaginator.PageLimits;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -62,7 +64,6 @@ import org.bson.codecs.MapCodecProvider;
 import org.bson.codecs.ValueCodecProvider;
 import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.codecs.configuration.CodecRegistry;
-import org.bson.conversions.Bson;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.pf4j.Extension;
@@ -106,6 +107,7 @@ import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresen
 import static com.external.plugins.constants.FieldName.AGGREGATE_PIPELINES;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.COUNT_QUERY;
+import static com.external.plugins.constants.FieldName.CURSOR_TOKEN;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
@@ -322,10 +324,22 @@ public class MongoPlugin extends BasePlugin {
                 final Map<String, Object> formData = actionConfiguration.getFormData();
 
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
-                Bson command = Document.parse(query);
-
-                mongoOutputMono = Mono.from(database.runCommand(command));
+                Document command = Document.parse(query);
+
+                if (MongoCursorPaginator.isEnabled(formData)) {
+                    DocumentCodec documentCodec = new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
+                    PageLimits pageLimits = MongoCursorPaginator.getPageLimits(formData);
+                    String cursorToken = MongoCursorPaginator.getCursorToken(formData);
+                    // With a cursor token, the page is read from the cursor the command left open, without rerunning it
+                    mongoOutputMono = cursorToken == null
+                            ? MongoCursorPaginator.firstPage(mongoClient, database, command, pageLimits, documentCodec)
+                            : MongoCursorPaginator.nextPage(mongoClient, cursorToken, pageLimits, documentCodec);
+                } else {
+                    mongoOutputMono = Mono.from(database.runCommand(command));
+                }
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
+            } catch (AppsmithPluginException error) {
+                return Mono.error(error);
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
                         MongoPluginError.QUERY_EXECUTION_FAILED,
@@ -402,10 +416,16 @@ public class MongoPlugin extends BasePlugin {
                                             + ": objectMapper.readTree.CURSOR from Mongo plugin.");
                                     Stopwatch processStopwatch =
                                             new Stopwatch("Mongo Plugin objectMapper readTree.CURSOR");
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
+                                    JSONObject cursorJson = outputJson.getJSONObject("cursor");
+                                    JSONArray outputResult = (JSONArray) cleanUp(cursorJson.getJSONArray("firstBatch"));
                                     result.setBody(objectMapper.readTree(outputResult.toString()));
                                     processStopwatch.stopAndLogTimeInMillis();
+
+                                    // Set when the cursor is paginated and there are more results to fetch
+                                    if (cursorJson.has(CURSOR_TOKEN)) {
+                                        headerArray.put(
+                                                new JSONObject().put(CURSOR_TOKEN, cursorJson.getString(CURSOR_TOKEN)));
+                                    }
                                 }
 
                                 /*
@@ -787,6 +807,7 @@ public class MongoPlugin extends BasePlugin {
         @Override
         public void datasourceDestroy(MongoClient mongoClient) {
             if (mongoClient != null) {
+                MongoCursorPaginator.closeCursors(mongoClient);
                 mongoClient.close();
             }
         }
@@ -8,6 +8,12 @@ public class FieldName {
     public static final String COMMAND = "command";
     public static final String COLLECTION = "collection";
 
+    // Cursor pagination settings
+    public static final String FOLLOW_CURSOR = "followCursor";
+    public static final String CURSOR_BATCH_SIZE = "cursorBatchSize";
+    public static final String CURSOR_MAX_ROWS = "cursorMaxRows";
+    public static final String CURSOR_TOKEN = "cursorToken";
+
     // Command paths
     public static final String FIND = "find";
     public static final String UPDATE_MANY = "updateMany";
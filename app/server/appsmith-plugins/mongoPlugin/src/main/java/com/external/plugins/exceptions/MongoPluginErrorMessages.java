@@ -27,6 +27,12 @@ public class MongoPluginErrorMessages {
 
     public static final String PIPELINE_STAGE_NOT_VALID_ERROR_MSG = "Pipeline stage is not a valid JSON object.";
 
+    public static final String CURSOR_SETTING_NOT_A_POSITIVE_NUMBER_ERROR_MSG = "%s must be a positive number.";
+
+    public static final String CURSOR_TOKEN_EXPIRED_ERROR_MSG =
+            "The cursor token has expired or has already been used. Please run the query again to fetch results from "
+                    + "the first page.";
+
     public static final String DOCUMENTS_NOT_PARSABLE_INTO_JSON_ARRAY_ERROR_MSG =
             "Documents could not be parsed into expected JSON Array format.";
 
@@ -0,0 +1,396 @@
+package com.external.plugins.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.Codec;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.appsmith.external.helpers.PluginUtils.OBJECT_TYPE;
+import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFormData;
+import static com.appsmith.external.helpers.PluginUtils.getTrimmedStringDataValueSafelyFromFormData;
+import static com.external.plugins.constants.FieldName.AGGREGATE;
+import static com.external.plugins.constants.FieldName.CURSOR_BATCH_SIZE;
+import static com.external.plugins.constants.FieldName.CURSOR_MAX_ROWS;
+import static com.external.plugins.constants.FieldName.CURSOR_TOKEN;
+import static com.external.plugins.constants.FieldName.FIND;
+import static com.external.plugins.constants.FieldName.FOLLOW_CURSOR;
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Reads the results of cursor commands, like {@code find} and {@code aggregate}, beyond their first batch. Batches are
+ * fetched with {@code getMore} until the cursor is exhausted, or until the page holds as many rows or bytes as it is
+ * allowed to. When results remain, the cursor is kept open and a token is returned with the page, which fetches the
+ * next page from where this one ends, without running the command again.
+ * <p>
+ * A cursor can only be continued in the session that created it, so each paginated command runs in a session of its
+ * own, which is closed once the cursor is exhausted or abandoned. Open cursors are held in the memory of this server,
+ * so a token only works on the server that returned it.
+ */
+@Slf4j
+public class MongoCursorPaginator {
+
+    public static final String CURSOR = "cursor";
+
+    public static final String FIRST_BATCH = "firstBatch";
+
+    private static final String NEXT_BATCH = "nextBatch";
+
+    private static final String BATCH_SIZE = "batchSize";
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    public static final int DEFAULT_MAX_ROWS = 10_000;
+
+    /**
+     * Upper bound on the BSON size of the documents in a page, in line with the default limit on the size of plugin
+     * responses on the server.
+     */
+    public static final long MAX_PAGE_BYTES = 5L * 1024 * 1024;
+
+    /**
+     * Open cursors not continued within this time are abandoned. It is kept under the ten minutes after which Mongo
+     * closes idle cursors by default.
+     */
+    static final Duration CURSOR_IDLE_TIMEOUT = Duration.ofMinutes(9);
+
+    /**
+     * How often abandoned cursors are looked for, so that they are closed within a minute of expiring.
+     */
+    private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(1);
+
+    private static final AtomicReference<Disposable> sweeper = new AtomicReference<>();
+
+    private static final int MAX_OPEN_CURSORS = 1000;
+
+    private static final Map<String, OpenCursor> openCursors = new ConcurrentHashMap<>();
+
+    private static final Codec<BsonDocument> BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    private MongoCursorPaginator() {
+        // Prevents instantiation
+    }
+
+    public record PageLimits(int batchSize, int maxRows, long maxBytes) {}
+
+    private static final class OpenCursor {
+        private final MongoClient mongoClient;
+        private final ClientSession session;
+        private final MongoDatabase database;
+        private final String collectionName;
+        private final Deque<RawBsonDocument> pendingDocuments = new ArrayDeque<>();
+        private long cursorId;
+        private Instant lastUsedAt = Instant.now();
+
+        private OpenCursor(
+                MongoClient mongoClient,
+                ClientSession session,
+                MongoDatabase database,
+                String collectionName,
+                long cursorId) {
+            this.mongoClient = mongoClient;
+            this.session = session;
+            this.database = database;
+            this.collectionName = collectionName;
+            this.cursorId = cursorId;
+        }
+
+        private boolean hasMore() {
+            return cursorId != 0 || !pendingDocuments.isEmpty();
+        }
+
+        private boolean isExpired() {
+            return lastUsedAt.plus(CURSOR_IDLE_TIMEOUT).isBefore(Instant.now());
+        }
+    }
+
+    private static final class Page {
+        private final OpenCursor cursor;
+        private final PageLimits limits;
+        private final List<Document> documents = new ArrayList<>();
+        private long bytes;
+
+        private Page(OpenCursor cursor, PageLimits limits) {
+            this.cursor = cursor;
+            this.limits = limits;
+        }
+
+        private boolean isFull() {
+            return documents.size() >= limits.maxRows() || bytes >= limits.maxBytes();
+        }
+
+        private void takePendingDocuments(Codec<Document> documentCodec) {
+            while (!isFull() && !cursor.pendingDocuments.isEmpty()) {
+                final RawBsonDocument document = cursor.pendingDocuments.poll();
+                bytes += document.getByteBuffer().remaining();
+                documents.add(document.decode(documentCodec));
+            }
+        }
+    }
+
+    public static boolean isEnabled(Map<String, Object> formData) {
+        final Object followCursor = getDataValueSafelyFromFormData(formData, FOLLOW_CURSOR, OBJECT_TYPE);
+        return TRUE.equals(followCursor)
+                || (followCursor instanceof String && Boolean.parseBoolean((String) followCursor));
+    }
+
+    public static String getCursorToken(Map<String, Object> formData) {
+        final String cursorToken = getTrimmedStringDataValueSafelyFromFormData(formData, CURSOR_TOKEN);
+        return StringUtils.hasText(cursorToken) ? cursorToken : null;
+    }
+
+    public static PageLimits getPageLimits(Map<String, Object> formData) {
+        return new PageLimits(
+                getPositiveNumber(formData, CURSOR_BATCH_SIZE, "Batch size", DEFAULT_BATCH_SIZE),
+                getPositiveNumber(formData, CURSOR_MAX_ROWS, "Maximum rows per page", DEFAULT_MAX_ROWS),
+                MAX_PAGE_BYTES);
+    }
+
+    private static int getPositiveNumber(Map<String, Object> formData, String field, String label, int defaultValue) {
+        final String value = getTrimmedStringDataValueSafelyFromFormData(formData, field);
+        if (!StringUtils.hasText(value)) {
+            return defaultValue;
+        }
+
+        try {
+            final int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+
+        throw new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                String.format(MongoPluginErrorMessages.CURSOR_SETTING_NOT_A_POSITIVE_NUMBER_ERROR_MSG, label));
+    }
+
+    /**
+     * Runs the command in a session of its own, and returns its reply. For cursor commands, the first batch of the
+     * reply holds the first page of results instead, with a token for the next page in {@code cursor.cursorToken} when
+     * results remain.
+     */
+    public static Mono<Document> firstPage(
+            MongoClient mongoClient,
+            MongoDatabase database,
+            Document command,
+            PageLimits limits,
+            Codec<Document> documentCodec) {
+        applyBatchSize(command, limits.batchSize());
+
+        return Mono.from(mongoClient.startSession()).flatMap(session -> Mono.from(database.runCommand(
+                        session, command, RawBsonDocument.class))
+                .flatMap(reply -> {
+                    if (!reply.containsKey(CURSOR)) {
+                        session.close();
+                        return Mono.just(reply.decode(documentCodec));
+                    }
+
+                    final BsonDocument cursorReply = reply.getDocument(CURSOR);
+                    final String namespace = cursorReply.getString("ns").getValue();
+                    final OpenCursor cursor = new OpenCursor(
+                            mongoClient,
+                            session,
+                            database,
+                            namespace.substring(namespace.indexOf('.') + 1),
+                            cursorReply.getNumber("id").longValue());
+                    addBatch(cursor, cursorReply.getArray(FIRST_BATCH));
+
+                    return fill(new Page(cursor, limits), documentCodec).doOnError(error -> close(cursor));
+                })
+                .doOnError(error -> session.close()));
+    }
+
+    /**
+     * Returns the page of results that follows the one the given token was returned with, in the same form as
+     * {@link #firstPage}. Each token can be used once.
+     */
+    public static Mono<Document> nextPage(
+            MongoClient mongoClient, String cursorToken, PageLimits limits, Codec<Document> documentCodec) {
+        final OpenCursor cursor = openCursors.remove(cursorToken);
+        if (cursor == null || cursor.mongoClient != mongoClient || cursor.isExpired()) {
+            if (cursor != null) {
+                close(cursor);
+            }
+            return Mono.error(new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    MongoPluginErrorMessages.CURSOR_TOKEN_EXPIRED_ERROR_MSG));
+        }
+
+        return fill(new Page(cursor, limits), documentCodec).doOnError(error -> close(cursor));
+    }
+
+    /**
+     * Abandons the open cursors of a client that is being closed.
+     */
+    public static void closeCursors(MongoClient mongoClient) {
+        openCursors.entrySet().removeIf(entry -> {
+            if (entry.getValue().mongoClient != mongoClient) {
+                return false;
+            }
+            entry.getValue().session.close();
+            return true;
+        });
+    }
+
+    private static void applyBatchSize(Document command, int batchSize) {
+        if (command.isEmpty()) {
+            return;
+        }
+
+        final String commandName = command.keySet().iterator().next();
+        if (FIND.equals(commandName) && !command.containsKey(BATCH_SIZE)) {
+            command.put(BATCH_SIZE, batchSize);
+        } else if (AGGREGATE.equals(commandName) && !command.containsKey("explain")) {
+            if (command.get(CURSOR) instanceof Document cursorOptions) {
+                cursorOptions.putIfAbsent(BATCH_SIZE, batchSize);
+            } else if (!command.containsKey(CURSOR)) {
+                command.put(CURSOR, new Document(BATCH_SIZE, batchSize));
+            }
+        }
+    }
+
+    private static void addBatch(OpenCursor cursor, BsonArray batch) {
+        for (BsonValue document : batch) {
+            cursor.pendingDocuments.add(
+                    document instanceof RawBsonDocument rawDocument
+                            ? rawDocument
+                            : new RawBsonDocument(document.asDocument(), BSON_DOCUMENT_CODEC));
+        }
+    }
+
+    private static Mono<Document> fill(Page page, Codec<Document> documentCodec) {
+        page.takePendingDocuments(documentCodec);
+
+        final OpenCursor cursor = page.cursor;
+        if (page.isFull() || cursor.cursorId == 0) {
+            return Mono.just(finish(page));
+        }
+
+        // Don't ask for more rows than the page can take, so that they need not be held until the next page
+        final int batchSize = Math.min(page.limits.batchSize(), page.limits.maxRows() - page.documents.size());
+        final Document getMore = new Document("getMore", cursor.cursorId)
+                .append("collection", cursor.collectionName)
+                .append(BATCH_SIZE, batchSize);
+
+        return Mono.from(cursor.database.runCommand(cursor.session, getMore, RawBsonDocument.class))
+                .flatMap(reply -> {
+                    final BsonDocument cursorReply = reply.getDocument(CURSOR);
+                    cursor.cursorId = cursorReply.getNumber("id").longValue();
+                    addBatch(cursor, cursorReply.getArray(NEXT_BATCH));
+                    return fill(page, documentCodec);
+                });
+    }
+
+    private static Document finish(Page page) {
+        final OpenCursor cursor = page.cursor;
+        final Document cursorDocument = new Document(FIRST_BATCH, page.documents).append("id", cursor.cursorId);
+
+        if (cursor.hasMore()) {
+            final String cursorToken = register(cursor);
+            if (cursorToken != null) {
+                cursorDocument.append(CURSOR_TOKEN, cursorToken);
+            }
+        } else {
+            cursor.session.close();
+        }
+
+        return new Document(CURSOR, cursorDocument).append("ok", 1.0);
+    }
+
+    private static String register(OpenCursor cursor) {
+        closeExpiredCursors();
+        startSweeper();
+
+        if (openCursors.size() >= MAX_OPEN_CURSORS) {
+            log.warn("Too many open Mongo cursors, results beyond the current page will not be available");
+            close(cursor);
+            return null;
+        }
+
+        cursor.lastUsedAt = Instant.now();
+        final String cursorToken = UUID.randomUUID().toString();
+        openCursors.put(cursorToken, cursor);
+        return cursorToken;
+    }
+
+    /**
+     * Starts closing expired cursors periodically, the first time a cursor is kept open. Without it, an expired cursor
+     * would only be closed once another one is kept open.
+     */
+    private static void startSweeper() {
+        if (sweeper.get() != null) {
+            return;
+        }
+
+        final Disposable sweep = Schedulers.parallel()
+                .schedulePeriodically(
+                        () -> {
+                            try {
+                                closeExpiredCursors();
+                            } catch (RuntimeException e) {
+                                // Keeps the sweeper running, as a task that throws is not scheduled again
+                                log.warn("Unable to close expired Mongo cursors", e);
+                            }
+                        },
+                        SWEEP_INTERVAL.toMillis(),
+                        SWEEP_INTERVAL.toMillis(),
+                        TimeUnit.MILLISECONDS);
+        if (!sweeper.compareAndSet(null, sweep)) {
+            sweep.dispose();
+        }
+    }
+
+    private static void closeExpiredCursors() {
+        openCursors.entrySet().removeIf(entry -> {
+            if (!entry.getValue().isExpired()) {
+                return false;
+            }
+            close(entry.getValue());
+            return true;
+        });
+    }
+
+    private static void close(OpenCursor cursor) {
+        if (cursor.cursorId == 0) {
+            cursor.session.close();
+            return;
+        }
+
+        final Document killCursors = new Document("killCursors", cursor.collectionName)
+                .append("cursors", List.of(cursor.cursorId));
+        Mono.from(cursor.database.runCommand(cursor.session, killCursors))
+                .onErrorResume(error -> {
+                    log.debug("Unable to close Mongo cursor {}", cursor.cursorId, error);
+                    return Mono.empty();
+                })
+                .doFinally(signal -> cursor.session.close())
+                .subscribe();
+    }
+}
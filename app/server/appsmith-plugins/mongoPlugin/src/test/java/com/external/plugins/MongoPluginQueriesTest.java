@@ -43,6 +43,9 @@ import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.COLLECTION;
 import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.COUNT_QUERY;
+import static com.external.plugins.constants.FieldName.CURSOR_BATCH_SIZE;
+import static com.external.plugins.constants.FieldName.CURSOR_MAX_ROWS;
+import static com.external.plugins.constants.FieldName.CURSOR_TOKEN;
 import static com.external.plugins.constants.FieldName.DELETE_LIMIT;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_KEY;
@@ -50,6 +53,7 @@ import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
+import static com.external.plugins.constants.FieldName.FOLLOW_CURSOR;
 import static com.external.plugins.constants.FieldName.INSERT_DOCUMENT;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
@@ -766,6 +770,49 @@ public class MongoPluginQueriesTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testPaginatedFind_followsCursorWithToken() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, "{ find: \"address\", sort: { _id: 1 } }");
+        setDataValueSafelyInFormData(configMap, FOLLOW_CURSOR, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, CURSOR_BATCH_SIZE, "1");
+        setDataValueSafelyInFormData(configMap, CURSOR_MAX_ROWS, "1");
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn -> {
+            ActionConfiguration firstPageConfiguration = new ActionConfiguration();
+            firstPageConfiguration.setFormData(configMap);
+            return pluginExecutor
+                    .executeParameterized(conn, new ExecuteActionDTO(), dsConfig, firstPageConfiguration)
+                    .flatMap(firstPage -> {
+                        assertTrue(firstPage.getIsExecutionSuccess());
+                        assertEquals(1, ((ArrayNode) firstPage.getBody()).size());
+
+                        String cursorToken = firstPage.getHeaders().get(0).get(CURSOR_TOKEN).asText();
+                        Map<String, Object> nextPageConfigMap = new HashMap<>(configMap);
+                        setDataValueSafelyInFormData(nextPageConfigMap, CURSOR_TOKEN, cursorToken);
+                        setDataValueSafelyInFormData(nextPageConfigMap, CURSOR_MAX_ROWS, "10");
+                        ActionConfiguration nextPageConfiguration = new ActionConfiguration();
+                        nextPageConfiguration.setFormData(nextPageConfigMap);
+                        return pluginExecutor.executeParameterized(
+                                conn, new ExecuteActionDTO(), dsConfig, nextPageConfiguration);
+                    });
+        });
+
+        StepVerifier.create(executeMono)
+                .assertNext(nextPage -> {
+                    assertTrue(nextPage.getIsExecutionSuccess());
+                    // The address collection holds two documents, so the second page is the last one
+                    assertEquals(1, ((ArrayNode) nextPage.getBody()).size());
+                    assertFalse(nextPage.getHeaders().toString().contains(CURSOR_TOKEN));
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testFindCommandProjection() {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
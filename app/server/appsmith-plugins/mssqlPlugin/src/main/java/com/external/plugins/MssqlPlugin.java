@@ -1,5 +1,8 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolMonitor;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSize;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.constants.DataType;
 import com.appsmith.external.datatypes.AppsmithType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
@@ -8,7 +11,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
-import com.appsmith.external.helpers.Stopwatch;
+import com.appsmith.external.helpers.QueryResultCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -25,12 +28,15 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.MssqlErrorMessages;
 import com.external.plugins.exceptions.MssqlPluginError;
 import com.external.plugins.utils.MssqlDatasourceUtils;
 import com.external.plugins.utils.MssqlExecuteUtils;
 import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariConfigMXBean;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -71,6 +77,7 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.constants.PluginConstants.PluginName.MSSQL_PLUGIN_NAME;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
+import static com.appsmith.external.helpers.QueryResultCollector.DEFAULT_FETCH_SIZE;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.constants.MssqlPluginConstants.GENERATE_CRUD_PAGE_SELECT_QUERY;
 import static com.external.plugins.exceptions.MssqlErrorMessages.CONNECTION_CLOSED_ERROR_MSG;
@@ -114,6 +121,12 @@ public class MssqlPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private final int maxResponseSize;
+
+        public MssqlPluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -201,7 +214,8 @@ public class MssqlPlugin extends BasePlugin {
                         Statement statement = null;
                         PreparedStatement preparedQuery = null;
                         ResultSet resultSet = null;
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        QueryResultCollector resultCollector =
+                                new QueryResultCollector(objectMapper, maxResponseSize);
                         final List<String> columnsList = new ArrayList<>();
 
                         try {
@@ -254,6 +268,7 @@ public class MssqlPlugin extends BasePlugin {
                         try {
                             if (FALSE.equals(preparedStatement)) {
                                 statement = sqlConnectionFromPool.createStatement();
+                                statement.setFetchSize(DEFAULT_FETCH_SIZE);
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
@@ -272,18 +287,24 @@ public class MssqlPlugin extends BasePlugin {
                                                         parameters.get(i).getKey(),
                                                         parameters.get(i).getValue())));
 
+                                preparedQuery.setFetchSize(DEFAULT_FETCH_SIZE);
                                 isResultSet = preparedQuery.execute();
                                 resultSet = preparedQuery.getResultSet();
                             }
 
-                            MssqlExecuteUtils.populateRowsAndColumns(
-                                    rowsList,
+                            boolean isWithinSizeLimit = MssqlExecuteUtils.populateRowsAndColumns(
+                                    resultCollector,
                                     columnsList,
                                     resultSet,
                                     isResultSet,
                                     preparedStatement,
                                     statement,
                                     preparedQuery);
+                            if (!isWithinSizeLimit) {
+                                return Mono.error(new AppsmithPluginException(
+                                        MssqlPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                        (float) (maxResponseSize / (1024 * 1024))));
+                            }
 
                         } catch (SQLException e) {
                             return Mono.error(new AppsmithPluginException(
@@ -292,6 +313,12 @@ public class MssqlPlugin extends BasePlugin {
                                     e.getMessage(),
                                     "SQLSTATE: " + e.getSQLState()));
 
+                        } catch (IOException e) {
+                            return Mono.error(new AppsmithPluginException(
+                                    MssqlPluginError.QUERY_EXECUTION_FAILED,
+                                    MssqlErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    e.getMessage()));
+
                         } finally {
                             // Log HikariCP status
                             logHikariCPStatus(
@@ -302,11 +329,7 @@ public class MssqlPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        log.debug(Thread.currentThread().getName()
-                                + ": objectMapper.valueToTree invoked from MSSQL plugin.");
-                        Stopwatch processStopwatch = new Stopwatch("MSSQL Plugin objectMapper valueToTree");
-                        result.setBody(objectMapper.valueToTree(rowsList));
-                        processStopwatch.stopAndLogTimeInMillis();
+                        result.setBody(resultCollector.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         return Mono.just(result);
@@ -366,6 +389,7 @@ public class MssqlPlugin extends BasePlugin {
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
+                ConnectionPoolMonitor.unregister(connection);
                 connection.close();
             }
         }
@@ -571,8 +595,9 @@ public class MssqlPlugin extends BasePlugin {
 
         hikariConfig = new HikariConfig();
         hikariConfig.setDriverClassName(JDBC_DRIVER);
-        hikariConfig.setMinimumIdle(MINIMUM_POOL_SIZE);
-        hikariConfig.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        ConnectionPoolSize poolSize = ConnectionPoolSize.of(datasourceConfiguration, MAXIMUM_POOL_SIZE, null);
+        hikariConfig.setMinimumIdle(Math.min(MINIMUM_POOL_SIZE, poolSize.initialSize()));
+        hikariConfig.setMaximumPoolSize(poolSize.initialSize());
         // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
         // should get tracked (may be falsely for long running queries) as leaked connection
         hikariConfig.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
@@ -614,6 +639,20 @@ public class MssqlPlugin extends BasePlugin {
                     e.getMessage());
         }
 
+        HikariPoolMXBean poolProxy = hikariDatasource.getHikariPoolMXBean();
+        HikariConfigMXBean poolConfig = hikariDatasource.getHikariConfigMXBean();
+        ConnectionPoolMonitor.register(
+                hikariDatasource,
+                MSSQL_PLUGIN_NAME,
+                new ConnectionPoolStats(
+                        poolProxy::getActiveConnections,
+                        poolProxy::getIdleConnections,
+                        poolProxy::getTotalConnections,
+                        poolProxy::getThreadsAwaitingConnection,
+                        poolConfig::getMaximumPoolSize,
+                        poolConfig::setMaximumPoolSize),
+                poolSize);
+
         return hikariDatasource;
     }
 
@@ -1,5 +1,6 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolMonitor;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
@@ -336,6 +337,9 @@ public class MssqlDatasourceUtils {
     public Connection getConnectionFromHikariConnectionPool(HikariDataSource connectionPool, String pluginName)
             throws SQLException {
         checkHikariCPConnectionPoolValidity(connectionPool, pluginName);
-        return connectionPool.getConnection();
+        long acquireStartTime = System.nanoTime();
+        Connection connection = connectionPool.getConnection();
+        ConnectionPoolMonitor.recordAcquire(connectionPool, System.nanoTime() - acquireStartTime);
+        return connection;
     }
 }
@@ -1,7 +1,9 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.helpers.QueryResultCollector;
 import org.apache.commons.lang.ObjectUtils;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -65,22 +67,28 @@ public class MssqlExecuteUtils {
                         Thread.currentThread().getName()));
     }
 
-    public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+    /**
+     * Reads the rows of the result into the given collector.
+     *
+     * @return false if the result does not fit into the size budget of the collector, in which case reading stops at
+     * the first row that went over it
+     */
+    public static boolean populateRowsAndColumns(
+            QueryResultCollector resultCollector,
             List<String> columnsList,
             ResultSet resultSet,
             boolean isResultSet,
             Boolean preparedStatement,
             Statement statement,
             PreparedStatement preparedQuery)
-            throws SQLException {
+            throws SQLException, IOException {
 
         if (!isResultSet) {
             Object updateCount = FALSE.equals(preparedStatement)
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of("affectedRows", updateCount));
+            return resultCollector.add(Map.of("affectedRows", updateCount));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
             int colCount = metaData.getColumnCount();
@@ -124,8 +132,12 @@ public class MssqlExecuteUtils {
                     row.put(metaData.getColumnName(i), value);
                 }
 
-                rowsList.add(row);
+                if (!resultCollector.add(row)) {
+                    return false;
+                }
             }
         }
+
+        return true;
     }
 }
@@ -7,9 +7,9 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.QueryResultCollector;
 import com.appsmith.external.helpers.SSHTunnelContext;
 import com.appsmith.external.helpers.SSHUtils;
-import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -28,6 +28,7 @@ import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.datatypes.MySQLSpecificDataTypes;
 import com.external.plugins.exceptions.MySQLErrorMessages;
 import com.external.plugins.exceptions.MySQLPluginError;
@@ -161,6 +162,11 @@ public class MySqlPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
         private final Scheduler scheduler = Schedulers.boundedElastic();
+        private final int maxResponseSize;
+
+        public MySqlPluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+        }
 
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
@@ -312,7 +318,7 @@ public class MySqlPlugin extends BasePlugin {
 
             boolean isSelectOrShowOrDescQuery = getIsSelectOrShowOrDescQuery(finalQuery);
 
-            final List<Map<String, Object>> rowsList = new ArrayList<>(50);
+            final QueryResultCollector resultCollector = new QueryResultCollector(objectMapper, maxResponseSize);
             final List<String> columnsList = new ArrayList<>();
             Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(finalQuery) : finalQuery;
@@ -347,11 +353,11 @@ public class MySqlPlugin extends BasePlugin {
                                                     CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG));
                                         });
 
-                                Mono<List<Map<String, Object>>> resultMono;
+                                Mono<QueryResultCollector> resultMono;
                                 if (isSelectOrShowOrDescQuery) {
                                     resultMono = resultFlux
                                             .flatMap(result -> result.map((row, meta) -> {
-                                                rowsList.add(getRow(row, meta));
+                                                addRow(resultCollector, getRow(row, meta));
 
                                                 if (columnsList.isEmpty()) {
                                                     meta.getColumnMetadatas().stream()
@@ -361,17 +367,19 @@ public class MySqlPlugin extends BasePlugin {
 
                                                 return result;
                                             }))
-                                            .collectList()
-                                            .thenReturn(rowsList);
+                                            .then(Mono.just(resultCollector));
                                 } else {
                                     resultMono = resultFlux
                                             .flatMap(Result::getRowsUpdated)
                                             .collectList()
                                             .map(list -> list.get(list.size() - 1))
                                             .map(rowsUpdated -> {
-                                                rowsList.add(Map.of(
-                                                        "affectedRows", ObjectUtils.defaultIfNull(rowsUpdated, 0)));
-                                                return rowsList;
+                                                addRow(
+                                                        resultCollector,
+                                                        Map.of(
+                                                                "affectedRows",
+                                                                ObjectUtils.defaultIfNull(rowsUpdated, 0)));
+                                                return resultCollector;
                                             });
                                 }
 
@@ -391,12 +399,7 @@ public class MySqlPlugin extends BasePlugin {
                                 return resultMono
                                         .map(res -> {
                                             ActionExecutionResult result = new ActionExecutionResult();
-                                            log.debug(Thread.currentThread().getName()
-                                                    + ": objectMapper.valueToTree from MySQL plugin.");
-                                            Stopwatch processStopwatch =
-                                                    new Stopwatch("MySQL Plugin objectMapper valueToTree");
-                                            result.setBody(objectMapper.valueToTree(rowsList));
-                                            processStopwatch.stopAndLogTimeInMillis();
+                                            result.setBody(res.getRows());
                                             result.setMessages(populateHintMessages(columnsList));
                                             result.setIsExecutionSuccess(true);
                                             log.debug("In the MySqlPlugin, got action execution result");
@@ -578,6 +581,27 @@ public class MySqlPlugin extends BasePlugin {
             return messages;
         }
 
+        /**
+         * Adds a row to the result as soon as the driver hands it over, failing the execution once the result no
+         * longer fits into the size budget instead of reading the rest of it.
+         */
+        private void addRow(QueryResultCollector resultCollector, Map<String, Object> row) {
+            boolean isWithinSizeLimit;
+            try {
+                isWithinSizeLimit = resultCollector.add(row);
+            } catch (IOException e) {
+                throw new AppsmithPluginException(
+                        MySQLPluginError.QUERY_EXECUTION_FAILED,
+                        MySQLErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                        e.getMessage());
+            }
+
+            if (!isWithinSizeLimit) {
+                throw new AppsmithPluginException(
+                        MySQLPluginError.RESPONSE_SIZE_TOO_LARGE, (float) (maxResponseSize / (1024 * 1024)));
+            }
+        }
+
         /**
          * 1. Parse the actual row objects returned by r2dbc driver for mysql statements.
          * 2. Return the row as a map {column_name -> column_value}.
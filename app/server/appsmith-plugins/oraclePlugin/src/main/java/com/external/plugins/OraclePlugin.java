@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.QueryResultCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -20,6 +21,7 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.external.plugins.utils.OracleDatasourceUtils;
@@ -67,6 +69,7 @@ import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFo
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.appsmith.external.helpers.QueryResultCollector.DEFAULT_FETCH_SIZE;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.OracleDatasourceUtils.JDBC_DRIVER;
 import static com.external.plugins.utils.OracleDatasourceUtils.createConnectionPool;
@@ -92,6 +95,12 @@ public class OraclePlugin extends BasePlugin {
     public static class OraclePluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
         public static final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final int maxResponseSize;
+
+        public OraclePluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+        }
+
         @Override
         public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             log.debug(Thread.currentThread().getName() + ": datasourceCreate() called for Oracle plugin.");
@@ -234,7 +243,8 @@ public class OraclePlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        QueryResultCollector resultCollector =
+                                new QueryResultCollector(objectMapper, maxResponseSize);
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -249,6 +259,7 @@ public class OraclePlugin extends BasePlugin {
                         try {
                             if (FALSE.equals(preparedStatement)) {
                                 statement = connectionFromPool.createStatement();
+                                statement.setFetchSize(DEFAULT_FETCH_SIZE);
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
@@ -266,18 +277,24 @@ public class OraclePlugin extends BasePlugin {
                                                         parameters.get(i).getValue())));
 
                                 requestData.put("ps-parameters", parameters);
+                                preparedQuery.setFetchSize(DEFAULT_FETCH_SIZE);
                                 isResultSet = preparedQuery.execute();
                                 resultSet = preparedQuery.getResultSet();
                             }
 
-                            populateRowsAndColumns(
-                                    rowsList,
+                            boolean isWithinSizeLimit = populateRowsAndColumns(
+                                    resultCollector,
                                     columnsList,
                                     resultSet,
                                     isResultSet,
                                     preparedStatement,
                                     statement,
                                     preparedQuery);
+                            if (!isWithinSizeLimit) {
+                                return Mono.error(new AppsmithPluginException(
+                                        OraclePluginError.RESPONSE_SIZE_TOO_LARGE,
+                                        (float) (maxResponseSize / (1024 * 1024))));
+                            }
                         } catch (SQLException e) {
                             log.error(Thread.currentThread().getName()
                                     + ": In the OraclePlugin, got action execution error");
@@ -287,6 +304,11 @@ public class OraclePlugin extends BasePlugin {
                                     OracleErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
                                     e.getMessage(),
                                     "SQLSTATE: " + e.getSQLState()));
+                        } catch (IOException e) {
+                            return Mono.error(new AppsmithPluginException(
+                                    OraclePluginError.QUERY_EXECUTION_FAILED,
+                                    OracleErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    e.getMessage()));
                         } finally {
                             // Log HikariCP status
                             logHikariCPStatus(
@@ -296,7 +318,7 @@ public class OraclePlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(resultCollector.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug(Thread.currentThread().getName()
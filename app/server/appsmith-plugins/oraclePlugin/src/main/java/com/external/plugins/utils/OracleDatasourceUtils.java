@@ -1,5 +1,8 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolMonitor;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSize;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
@@ -11,6 +14,7 @@ import com.appsmith.external.models.SSLDetails;
 import com.external.plugins.exceptions.OracleErrorMessages;
 import com.external.plugins.exceptions.OraclePluginError;
 import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariConfigMXBean;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool;
@@ -100,6 +104,7 @@ public class OracleDatasourceUtils {
     public static void datasourceDestroy(HikariDataSource connectionPool) {
         if (connectionPool != null) {
             log.debug(Thread.currentThread().getName() + ": Closing Oracle DB Connection Pool");
+            ConnectionPoolMonitor.unregister(connectionPool);
             connectionPool.close();
         }
     }
@@ -384,8 +389,9 @@ public class OracleDatasourceUtils {
 
         config.setDriverClassName(JDBC_DRIVER);
 
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        ConnectionPoolSize poolSize = ConnectionPoolSize.of(datasourceConfiguration, MAXIMUM_POOL_SIZE, null);
+        config.setMinimumIdle(Math.min(MINIMUM_POOL_SIZE, poolSize.initialSize()));
+        config.setMaximumPoolSize(poolSize.initialSize());
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -455,6 +461,20 @@ public class OracleDatasourceUtils {
                     e.getMessage());
         }
 
+        HikariPoolMXBean poolProxy = datasource.getHikariPoolMXBean();
+        HikariConfigMXBean poolConfig = datasource.getHikariConfigMXBean();
+        ConnectionPoolMonitor.register(
+                datasource,
+                ORACLE_PLUGIN_NAME,
+                new ConnectionPoolStats(
+                        poolProxy::getActiveConnections,
+                        poolProxy::getIdleConnections,
+                        poolProxy::getTotalConnections,
+                        poolProxy::getThreadsAwaitingConnection,
+                        poolConfig::getMaximumPoolSize,
+                        poolConfig::setMaximumPoolSize),
+                poolSize);
+
         return datasource;
     }
 
@@ -498,6 +518,9 @@ public class OracleDatasourceUtils {
     public Connection getConnectionFromHikariConnectionPool(HikariDataSource connectionPool, String pluginName)
             throws SQLException {
         checkHikariCPConnectionPoolValidity(connectionPool, pluginName);
-        return connectionPool.getConnection();
+        long acquireStartTime = System.nanoTime();
+        Connection connection = connectionPool.getConnection();
+        ConnectionPoolMonitor.recordAcquire(connectionPool, System.nanoTime() - acquireStartTime);
+        return connection;
     }
 }
@@ -1,11 +1,13 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.helpers.QueryResultCollector;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import oracle.jdbc.OracleArray;
 import oracle.jdbc.OracleBlob;
 import oracle.sql.CLOB;
 import org.apache.commons.lang.ObjectUtils;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -115,21 +117,27 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
         return PL_SQL_MATCH_PATTERN.matcher(query.toLowerCase()).find();
     }
 
-    public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+    /**
+     * Reads the rows of the result into the given collector.
+     *
+     * @return false if the result does not fit into the size budget of the collector, in which case reading stops at
+     * the first row that went over it
+     */
+    public static boolean populateRowsAndColumns(
+            QueryResultCollector resultCollector,
             List<String> columnsList,
             ResultSet resultSet,
             Boolean isResultSet,
             Boolean preparedStatement,
             Statement statement,
             PreparedStatement preparedQuery)
-            throws SQLException {
+            throws SQLException, IOException {
         if (!isResultSet) {
             Object updateCount = FALSE.equals(preparedStatement)
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
+            return resultCollector.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
         } else {
             ResultSetMetaData metaData = resultSet.getMetaData();
             int colCount = metaData.getColumnCount();
@@ -187,8 +195,12 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
                     row.put(metaData.getColumnName(i), value);
                 }
 
-                rowsList.add(row);
+                if (!resultCollector.add(row)) {
+                    return false;
+                }
             }
         }
+
+        return true;
     }
 }
@@ -1,6 +1,9 @@
 package com.external.plugins;
 
 import com.appsmith.external.configurations.connectionpool.ConnectionPoolConfig;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolMonitor;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSize;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.constants.DataType;
 import com.appsmith.external.datatypes.AppsmithType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
@@ -9,6 +12,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.QueryResultCollector;
 import com.appsmith.external.helpers.SSHUtils;
 import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.ActionConfiguration;
@@ -38,6 +42,7 @@ import com.external.plugins.utils.MutualTLSCertValidatingFactory;
 import com.external.plugins.utils.PostgresDatasourceUtils;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariConfigMXBean;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import com.zaxxer.hikari.pool.HikariProxyConnection;
@@ -98,9 +103,10 @@ import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorM
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
+import static com.appsmith.external.helpers.PluginUtils.isSingleSelectQuery;
+import static com.appsmith.external.helpers.QueryResultCollector.DEFAULT_FETCH_SIZE;
 import static com.appsmith.external.helpers.SSHUtils.getConnectionContext;
 import static com.appsmith.external.helpers.SSHUtils.isSSHEnabled;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -142,8 +148,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     public static final Long DEFAULT_POSTGRES_PORT = 5432L;
 
     private static int MAX_SIZE_SUPPORTED;
@@ -379,34 +383,34 @@ public class PostgresPlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        QueryResultCollector resultCollector =
+                                new QueryResultCollector(objectMapper, MAX_SIZE_SUPPORTED);
                         final List<String> columnsList = new ArrayList<>();
+                        // The driver only reads rows in batches of the fetch size inside a transaction, otherwise it
+                        // loads the complete result into memory before returning the first row
+                        final boolean isCursorFetch = isSingleSelectQuery(query);
+                        // Whether the transaction of a cursor fetch holds the effects of a statement that ran
+                        boolean isCommitPending = false;
 
                         Statement statement = null;
                         ResultSet resultSet = null;
                         PreparedStatement preparedQuery = null;
                         boolean isResultSet;
 
-                        HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                        int idleConnections = poolProxy.getIdleConnections();
-                        int activeConnections = poolProxy.getActiveConnections();
-                        int totalConnections = poolProxy.getTotalConnections();
-                        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                        log.debug(String.format(
-                                "Before executing postgres query [%s] Hikari Pool stats: active - %d, idle - %d, awaiting - %d, total - %d",
-                                query,
-                                activeConnections,
-                                idleConnections,
-                                threadsAwaitingConnection,
-                                totalConnections));
                         try {
+                            if (isCursorFetch) {
+                                connectionFromPool.setAutoCommit(false);
+                            }
+
                             if (FALSE.equals(preparedStatement)) {
                                 statement = connectionFromPool.createStatement();
+                                statement.setFetchSize(DEFAULT_FETCH_SIZE);
                                 isResultSet = statement.execute(query);
+                                isCommitPending = isCursorFetch;
                                 resultSet = statement.getResultSet();
                             } else {
                                 preparedQuery = connectionFromPool.prepareStatement(query);
+                                preparedQuery.setFetchSize(DEFAULT_FETCH_SIZE);
 
                                 List<Map.Entry<String, String>> parameters = new ArrayList<>();
                                 preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(
@@ -426,6 +430,7 @@ public class PostgresPlugin extends BasePlugin {
 
                                 requestData.put("ps-parameters", parameters);
                                 isResultSet = preparedQuery.execute();
+                                isCommitPending = isCursorFetch;
                                 resultSet = preparedQuery.getResultSet();
                             }
 
@@ -435,7 +440,7 @@ public class PostgresPlugin extends BasePlugin {
                                         ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                                         : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-                                rowsList.add(Map.of("affectedRows", updateCount));
+                                resultCollector.add(Map.of("affectedRows", updateCount));
 
                             } else {
 
@@ -443,24 +448,7 @@ public class PostgresPlugin extends BasePlugin {
                                 int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                                int iterator = 0;
                                 while (resultSet.next()) {
-
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(String.format(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of %d bytes. Current size: %d",
-                                                    MAX_SIZE_SUPPORTED, objectSize));
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
                                     // Use `LinkedHashMap` here so that the column ordering is preserved in the
                                     // response.
                                     Map<String, Object> row = new LinkedHashMap<>(colCount);
@@ -525,13 +513,28 @@ public class PostgresPlugin extends BasePlugin {
                                         row.put(metaData.getColumnName(i), value);
                                     }
 
-                                    rowsList.add(row);
-
-                                    iterator++;
+                                    // The size is checked on every row, so that reading stops as soon as the
+                                    // result goes over the limit
+                                    if (!resultCollector.add(row)) {
+                                        log.debug(String.format(
+                                                "[PostgresPlugin] Result size greater than maximum supported size of %d bytes. Current size: %d",
+                                                MAX_SIZE_SUPPORTED, resultCollector.getSizeInBytes()));
+                                        return Mono.error(new AppsmithPluginException(
+                                                PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
+                                    }
                                 }
                             }
 
+                            if (isCommitPending) {
+                                connectionFromPool.commit();
+                                isCommitPending = false;
+                            }
+
                         } catch (SQLException e) {
+                            // The transaction is aborted, the failed statement would not have had any effect with
+                            // autocommit either
+                            isCommitPending = false;
                             log.debug("In the PostgresPlugin, got action execution error");
                             return Mono.error(new AppsmithPluginException(
                                     PostgresPluginError.QUERY_EXECUTION_FAILED,
@@ -548,13 +551,6 @@ public class PostgresPlugin extends BasePlugin {
                                     PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
                                     e.getMessage()));
                         } finally {
-                            idleConnections = poolProxy.getIdleConnections();
-                            activeConnections = poolProxy.getActiveConnections();
-                            totalConnections = poolProxy.getTotalConnections();
-                            threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                            log.debug(String.format(
-                                    "After executing postgres query, Hikari Pool stats active - %d, idle - %d, awaiting - %d, total - %d",
-                                    activeConnections, idleConnections, threadsAwaitingConnection, totalConnections));
                             if (resultSet != null) {
                                 try {
                                     resultSet.close();
@@ -582,6 +578,22 @@ public class PostgresPlugin extends BasePlugin {
                                 }
                             }
 
+                            if (isCursorFetch && connectionFromPool != null) {
+                                try {
+                                    // Like autocommit, keep whatever the statement wrote once it has run, even when
+                                    // reading its rows stopped early because the result was too large
+                                    if (isCommitPending) {
+                                        connectionFromPool.commit();
+                                    } else {
+                                        connectionFromPool.rollback();
+                                    }
+                                    connectionFromPool.setAutoCommit(true);
+                                } catch (SQLException e) {
+                                    log.error("Execute Error restoring auto commit on Postgres connection");
+                                    e.printStackTrace();
+                                }
+                            }
+
                             if (connectionFromPool != null) {
                                 try {
                                     // Return the connection back to the pool
@@ -594,10 +606,7 @@ public class PostgresPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        log.debug(Thread.currentThread().getName() + ": objectMapper valueToTree for Postgres plugin.");
-                        Stopwatch processStopwatch = new Stopwatch("Postgres Plugin objectMapper valueToTree");
-                        result.setBody(objectMapper.valueToTree(rowsList));
-                        processStopwatch.stopAndLogTimeInMillis();
+                        result.setBody(resultCollector.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug(Thread.currentThread().getName()
@@ -684,6 +693,7 @@ public class PostgresPlugin extends BasePlugin {
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
+                ConnectionPoolMonitor.unregister(connection);
                 connection.close();
             }
         }
@@ -796,16 +806,6 @@ public class PostgresPlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                        int idleConnections = poolProxy.getIdleConnections();
-                        int activeConnections = poolProxy.getActiveConnections();
-                        int totalConnections = poolProxy.getTotalConnections();
-                        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                        log.debug(String.format(
-                                "Before getting postgres db structure Hikari Pool stats active - %d, idle - %d, awaiting - %d, total - %d",
-                                activeConnections, idleConnections, threadsAwaitingConnection, totalConnections));
-
                         // Ref:
                         // <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
                         try (Statement statement = connectionFromPool.createStatement()) {
@@ -982,14 +982,6 @@ public class PostgresPlugin extends BasePlugin {
                                     throwable.getMessage(),
                                     "SQLSTATE: " + throwable.getSQLState()));
                         } finally {
-                            idleConnections = poolProxy.getIdleConnections();
-                            activeConnections = poolProxy.getActiveConnections();
-                            totalConnections = poolProxy.getTotalConnections();
-                            threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                            log.debug(String.format(
-                                    "After postgres db structure, Hikari Pool stats active - %d, idle - %d, awaiting - %d, total - %d",
-                                    activeConnections, idleConnections, threadsAwaitingConnection, totalConnections));
-
                             if (connectionFromPool != null) {
                                 try {
                                     // Return the connection back to the pool
@@ -1176,14 +1168,10 @@ public class PostgresPlugin extends BasePlugin {
 
         // Set SSL property
         com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-
-        int maxPoolSize = MAXIMUM_POOL_SIZE;
-        if (maximumConfigurablePoolSize != null && maximumConfigurablePoolSize >= maxPoolSize) {
-            maxPoolSize = maximumConfigurablePoolSize;
-        }
-
-        config.setMaximumPoolSize(maxPoolSize);
+        ConnectionPoolSize poolSize =
+                ConnectionPoolSize.of(datasourceConfiguration, MAXIMUM_POOL_SIZE, maximumConfigurablePoolSize);
+        config.setMinimumIdle(Math.min(MINIMUM_POOL_SIZE, poolSize.initialSize()));
+        config.setMaximumPoolSize(poolSize.initialSize());
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -1355,6 +1343,20 @@ public class PostgresPlugin extends BasePlugin {
                     cause != null ? cause.getMessage() : e.getMessage());
         }
 
+        HikariPoolMXBean poolProxy = datasource.getHikariPoolMXBean();
+        HikariConfigMXBean poolConfig = datasource.getHikariConfigMXBean();
+        ConnectionPoolMonitor.register(
+                datasource,
+                POSTGRES_PLUGIN_NAME,
+                new ConnectionPoolStats(
+                        poolProxy::getActiveConnections,
+                        poolProxy::getIdleConnections,
+                        poolProxy::getTotalConnections,
+                        poolProxy::getThreadsAwaitingConnection,
+                        poolConfig::getMaximumPoolSize,
+                        poolConfig::setMaximumPoolSize),
+                poolSize);
+
         return datasource;
     }
 }
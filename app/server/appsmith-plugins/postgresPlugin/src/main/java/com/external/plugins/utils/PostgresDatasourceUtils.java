@@ -1,5 +1,6 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolMonitor;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -42,6 +43,9 @@ public class PostgresDatasourceUtils {
     public Connection getConnectionFromHikariConnectionPool(HikariDataSource connectionPool, String pluginName)
             throws SQLException {
         checkHikariCPConnectionPoolValidity(connectionPool, pluginName);
-        return connectionPool.getConnection();
+        long acquireStartTime = System.nanoTime();
+        Connection connection = connectionPool.getConnection();
+        ConnectionPoolMonitor.recordAcquire(connectionPool, System.nanoTime() - acquireStartTime);
+        return connection;
     }
 }
@@ -56,6 +56,7 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -734,6 +735,44 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    private Mono<ActionExecutionResult> executeQuery(
+            HikariDataSource connection, DatasourceConfiguration dsConfig, String query) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+        return pluginExecutor.executeParameterized(connection, new ExecuteActionDTO(), dsConfig, actionConfiguration);
+    }
+
+    @Test
+    public void testExecute_selectWithSideEffectsOverSizeLimit_writesKept() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        // Each row returned by the function is 500 bytes, so reading 100 of them goes over the 10000 bytes limit
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn -> executeQuery(
+                        conn, dsConfig, "CREATE TABLE visits (id int)")
+                .then(executeQuery(
+                        conn,
+                        dsConfig,
+                        "CREATE FUNCTION log_visit(visit_id int) RETURNS text AS $$ "
+                                + "BEGIN INSERT INTO visits VALUES (visit_id); RETURN repeat('a', 500); END; "
+                                + "$$ LANGUAGE plpgsql"))
+                .then(executeQuery(conn, dsConfig, "SELECT log_visit(i) FROM generate_series(1, 100) AS i"))
+                .flatMap(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(PostgresPluginError.RESPONSE_SIZE_TOO_LARGE.getTitle(), result.getTitle());
+                    return executeQuery(conn, dsConfig, "SELECT count(*) FROM visits");
+                }));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    assertEquals(100, node.get("count").asInt());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testStructure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
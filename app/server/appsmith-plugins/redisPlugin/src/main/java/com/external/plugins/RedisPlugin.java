@@ -1,5 +1,8 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolMonitor;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSize;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ActionConfiguration;
@@ -45,11 +48,13 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.constants.PluginConstants.PluginName.REDIS_PLUGIN_NAME;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @Slf4j
 public class RedisPlugin extends BasePlugin {
     private static final int CONNECTION_TIMEOUT = 60;
+    private static final int MAXIMUM_POOL_SIZE = 5;
     private static final String CMD_KEY = "cmd";
     private static final String ARGS_KEY = "args";
 
@@ -75,7 +80,9 @@ public class RedisPlugin extends BasePlugin {
 
             Jedis jedis;
             try {
+                long acquireStartTime = System.nanoTime();
                 jedis = jedisPool.getResource();
+                ConnectionPoolMonitor.recordAcquire(jedisPool, System.nanoTime() - acquireStartTime);
             } catch (Exception e) {
                 return Mono.error(new AppsmithPluginException(
                         RedisPluginError.QUERY_EXECUTION_FAILED,
@@ -238,10 +245,10 @@ public class RedisPlugin extends BasePlugin {
          * - To understand what these config mean:
          * https://www.infoworld.com/article/2071834/pool-resources-using-apache-s-commons-pool-framework.html
          */
-        private JedisPoolConfig buildPoolConfig() {
+        private JedisPoolConfig buildPoolConfig(ConnectionPoolSize poolSize) {
             final JedisPoolConfig poolConfig = new JedisPoolConfig();
-            poolConfig.setMaxTotal(5);
-            poolConfig.setMaxIdle(5);
+            poolConfig.setMaxTotal(poolSize.initialSize());
+            poolConfig.setMaxIdle(poolSize.maximumSize());
             poolConfig.setMinIdle(0);
             poolConfig.setTestOnBorrow(true);
             poolConfig.setTestOnReturn(true);
@@ -257,11 +264,24 @@ public class RedisPlugin extends BasePlugin {
         public Mono<JedisPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             log.debug(Thread.currentThread().getName() + ": datasourceCreate() called for Redis plugin.");
             return Mono.fromCallable(() -> {
-                        final JedisPoolConfig poolConfig = buildPoolConfig();
+                        final ConnectionPoolSize poolSize =
+                                ConnectionPoolSize.of(datasourceConfiguration, MAXIMUM_POOL_SIZE, null);
+                        final JedisPoolConfig poolConfig = buildPoolConfig(poolSize);
                         int timeout =
                                 (int) Duration.ofSeconds(CONNECTION_TIMEOUT).toMillis();
                         URI uri = RedisURIUtils.getURI(datasourceConfiguration);
-                        JedisPool jedisPool = new JedisPool(poolConfig, uri, timeout);
+                        ResizableJedisPool jedisPool = new ResizableJedisPool(poolConfig, uri, timeout);
+                        ConnectionPoolMonitor.register(
+                                jedisPool,
+                                REDIS_PLUGIN_NAME,
+                                new ConnectionPoolStats(
+                                        jedisPool::getNumActive,
+                                        jedisPool::getNumIdle,
+                                        () -> jedisPool.getNumActive() + jedisPool.getNumIdle(),
+                                        jedisPool::getNumWaiters,
+                                        jedisPool::getMaxTotal,
+                                        jedisPool::setMaxTotal),
+                                poolSize);
                         log.debug(Thread.currentThread().getName() + ": Created Jedis pool.");
                         return jedisPool;
                     })
@@ -275,6 +295,7 @@ public class RedisPlugin extends BasePlugin {
             Mono.fromSupplier(() -> {
                         try {
                             if (jedisPool != null) {
+                                ConnectionPoolMonitor.unregister(jedisPool);
                                 jedisPool.destroy();
                             }
                         } catch (JedisException e) {
@@ -382,4 +403,23 @@ public class RedisPlugin extends BasePlugin {
                             Mono.just(new DatasourceTestResult(error.getCause().getMessage())));
         }
     }
+
+    /**
+     * Jedis 3 does not expose the maximum size of its underlying commons pool, which adaptive pool sizing needs to
+     * move at runtime.
+     */
+    private static class ResizableJedisPool extends JedisPool {
+
+        ResizableJedisPool(JedisPoolConfig poolConfig, URI uri, int timeout) {
+            super(poolConfig, uri, timeout);
+        }
+
+        int getMaxTotal() {
+            return internalPool.getMaxTotal();
+        }
+
+        void setMaxTotal(int maxTotal) {
+            internalPool.setMaxTotal(maxTotal);
+        }
+    }
 }
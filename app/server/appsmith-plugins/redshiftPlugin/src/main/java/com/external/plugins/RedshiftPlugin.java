@@ -1,8 +1,10 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolMonitor;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.QueryResultCollector;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -13,6 +15,7 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.external.plugins.exceptions.RedshiftPluginError;
 import com.external.utils.RedshiftDatasourceUtils;
@@ -29,6 +32,7 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -52,6 +56,8 @@ import static com.appsmith.external.constants.PluginConstants.PluginName.REDSHIF
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.JDBC_DRIVER_LOADING_ERROR_MSG;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
+import static com.appsmith.external.helpers.PluginUtils.isSingleSelectQuery;
+import static com.appsmith.external.helpers.QueryResultCollector.DEFAULT_FETCH_SIZE;
 import static com.external.utils.RedshiftDatasourceUtils.createConnectionPool;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -71,6 +77,12 @@ public class RedshiftPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final int maxResponseSize;
+
+        public RedshiftPluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+        }
+
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n"
                         + "       t1.typname                                                     as column_type,\n"
@@ -238,14 +250,26 @@ public class RedshiftPlugin extends BasePlugin {
                          */
                         printConnectionPoolStatus(connectionPool, false);
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        QueryResultCollector resultCollector =
+                                new QueryResultCollector(objectMapper, maxResponseSize);
                         final List<String> columnsList = new ArrayList<>();
+                        // Like the Postgres driver, the Redshift driver only reads rows in batches of the fetch size
+                        // inside a transaction, otherwise it loads the complete result into memory up front
+                        final boolean isCursorFetch = isSingleSelectQuery(query);
+                        // Whether the transaction of a cursor fetch holds the effects of a statement that ran
+                        boolean isCommitPending = false;
                         Statement statement = null;
                         ResultSet resultSet = null;
 
                         try {
+                            if (isCursorFetch) {
+                                connection.setAutoCommit(false);
+                            }
+
                             statement = connection.createStatement();
+                            statement.setFetchSize(DEFAULT_FETCH_SIZE);
                             boolean isResultSet = statement.execute(query);
+                            isCommitPending = isCursorFetch;
 
                             if (isResultSet) {
                                 resultSet = statement.getResultSet();
@@ -254,19 +278,36 @@ public class RedshiftPlugin extends BasePlugin {
 
                                 while (resultSet.next()) {
                                     Map<String, Object> row = getRow(resultSet);
-                                    rowsList.add(row);
+                                    if (!resultCollector.add(row)) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                RedshiftPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                (float) (maxResponseSize / (1024 * 1024))));
+                                    }
                                 }
                             } else {
-                                rowsList.add(Map.of(
+                                resultCollector.add(Map.of(
                                         "affectedRows", ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)));
                             }
+
+                            if (isCommitPending) {
+                                connection.commit();
+                                isCommitPending = false;
+                            }
                         } catch (SQLException e) {
+                            // The transaction is aborted, the failed statement would not have had any effect with
+                            // autocommit either
+                            isCommitPending = false;
                             e.printStackTrace();
                             return Mono.error(new AppsmithPluginException(
                                     RedshiftPluginError.QUERY_EXECUTION_FAILED,
                                     RedshiftErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
                                     e.getMessage(),
                                     "SQLSTATE: " + e.getSQLState()));
+                        } catch (IOException e) {
+                            return Mono.error(new AppsmithPluginException(
+                                    RedshiftPluginError.QUERY_EXECUTION_FAILED,
+                                    RedshiftErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    e.getMessage()));
                         } finally {
                             if (resultSet != null) {
                                 try {
@@ -286,6 +327,22 @@ public class RedshiftPlugin extends BasePlugin {
                                 }
                             }
 
+                            if (isCursorFetch) {
+                                try {
+                                    // Like autocommit, keep whatever the statement wrote once it has run, even when
+                                    // reading its rows stopped early because the result was too large
+                                    if (isCommitPending) {
+                                        connection.commit();
+                                    } else {
+                                        connection.rollback();
+                                    }
+                                    connection.setAutoCommit(true);
+                                } catch (SQLException e) {
+                                    log.error("Error restoring auto commit on Redshift Connection");
+                                    e.printStackTrace();
+                                }
+                            }
+
                             try {
                                 connection.close();
                             } catch (SQLException e) {
@@ -295,7 +352,7 @@ public class RedshiftPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(resultCollector.getRows());
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug(Thread.currentThread().getName()
@@ -390,6 +447,7 @@ public class RedshiftPlugin extends BasePlugin {
         public void datasourceDestroy(HikariDataSource connectionPool) {
             log.debug(Thread.currentThread().getName() + ": datasourceDestroy() called for Redshift plugin.");
             if (connectionPool != null) {
+                ConnectionPoolMonitor.unregister(connectionPool);
                 connectionPool.close();
             }
         }
@@ -1,5 +1,8 @@
 package com.external.utils;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolMonitor;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSize;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
@@ -7,7 +10,9 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariConfigMXBean;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool;
 import org.apache.commons.lang.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -18,6 +23,7 @@ import java.text.MessageFormat;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.appsmith.external.constants.PluginConstants.PluginName.REDSHIFT_PLUGIN_NAME;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_POOL_CLOSED_ERROR_MSG;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_POOL_NOT_RUNNING_ERROR_MSG;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_POOL_NULL_ERROR_MSG;
@@ -36,8 +42,9 @@ public class RedshiftDatasourceUtils {
         HikariConfig config = new HikariConfig();
 
         config.setDriverClassName(JDBC_DRIVER);
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+        ConnectionPoolSize poolSize = ConnectionPoolSize.of(datasourceConfiguration, MAXIMUM_POOL_SIZE, null);
+        config.setMinimumIdle(Math.min(MINIMUM_POOL_SIZE, poolSize.initialSize()));
+        config.setMaximumPoolSize(poolSize.initialSize());
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -94,6 +101,20 @@ public class RedshiftDatasourceUtils {
                     e.getMessage());
         }
 
+        HikariPoolMXBean poolProxy = datasource.getHikariPoolMXBean();
+        HikariConfigMXBean poolConfig = datasource.getHikariConfigMXBean();
+        ConnectionPoolMonitor.register(
+                datasource,
+                REDSHIFT_PLUGIN_NAME,
+                new ConnectionPoolStats(
+                        poolProxy::getActiveConnections,
+                        poolProxy::getIdleConnections,
+                        poolProxy::getTotalConnections,
+                        poolProxy::getThreadsAwaitingConnection,
+                        poolConfig::getMaximumPoolSize,
+                        poolConfig::setMaximumPoolSize),
+                poolSize);
+
         return datasource;
     }
 
@@ -126,6 +147,9 @@ public class RedshiftDatasourceUtils {
     public Connection getConnectionFromHikariConnectionPool(HikariDataSource connectionPool, String pluginName)
             throws SQLException {
         checkHikariCPConnectionPoolValidity(connectionPool, pluginName);
-        return connectionPool.getConnection();
+        long acquireStartTime = System.nanoTime();
+        Connection connection = connectionPool.getConnection();
+        ConnectionPoolMonitor.recordAcquire(connectionPool, System.nanoTime() - acquireStartTime);
+        return connection;
     }
 }
@@ -1,5 +1,8 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolMonitor;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolSize;
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolStats;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
@@ -18,6 +21,7 @@ import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.utils.SnowflakeKeyUtils;
 import com.external.utils.SqlUtils;
 import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariConfigMXBean;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariPool;
@@ -100,35 +104,12 @@ public class SnowflakePlugin extends BasePlugin {
                             }
                         }
 
-                        HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                        int idleConnections = poolProxy.getIdleConnections();
-                        int activeConnections = poolProxy.getActiveConnections();
-                        int totalConnections = poolProxy.getTotalConnections();
-                        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                        log.debug(String.format(
-                                "Before executing snowflake query [%s] Hikari Pool stats: active - %d, idle - %d, awaiting - %d, total - %d",
-                                query,
-                                activeConnections,
-                                idleConnections,
-                                threadsAwaitingConnection,
-                                totalConnections));
-
                         try {
                             // Connection staleness is checked as part of this method call.
                             return getRowsFromQueryResult(connectionFromPool, query);
                         } catch (AppsmithPluginException | StaleConnectionException e) {
                             throw e;
                         } finally {
-
-                            idleConnections = poolProxy.getIdleConnections();
-                            activeConnections = poolProxy.getActiveConnections();
-                            totalConnections = poolProxy.getTotalConnections();
-                            threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                            log.debug(String.format(
-                                    "After executing snowflake query, Hikari Pool stats active - %d, idle - %d, awaiting - %d, total - %d",
-                                    activeConnections, idleConnections, threadsAwaitingConnection, totalConnections));
-
                             if (connectionFromPool != null) {
                                 try {
                                     // Return the connection back to the pool
@@ -174,6 +155,20 @@ public class SnowflakePlugin extends BasePlugin {
                                             AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
                                 }
 
+                                HikariPoolMXBean poolProxy = datasource.getHikariPoolMXBean();
+                                HikariConfigMXBean poolConfig = datasource.getHikariConfigMXBean();
+                                ConnectionPoolMonitor.register(
+                                        datasource,
+                                        SNOWFLAKE_PLUGIN_NAME,
+                                        new ConnectionPoolStats(
+                                                poolProxy::getActiveConnections,
+                                                poolProxy::getIdleConnections,
+                                                poolProxy::getTotalConnections,
+                                                poolProxy::getThreadsAwaitingConnection,
+                                                poolConfig::getMaximumPoolSize,
+                                                poolConfig::setMaximumPoolSize),
+                                        ConnectionPoolSize.of(datasourceConfiguration, MAXIMUM_POOL_SIZE, null));
+
                                 return datasource;
                             })
                             .subscribeOn(scheduler))
@@ -187,8 +182,9 @@ public class SnowflakePlugin extends BasePlugin {
         public Properties addPluginSpecificProperties(
                 DatasourceConfiguration datasourceConfiguration, Properties properties) {
             properties.setProperty("driver_name", JDBC_DRIVER);
-            properties.setProperty("minimumIdle", String.valueOf(MINIMUM_POOL_SIZE));
-            properties.setProperty("maximunPoolSize", String.valueOf(MAXIMUM_POOL_SIZE));
+            ConnectionPoolSize poolSize = ConnectionPoolSize.of(datasourceConfiguration, MAXIMUM_POOL_SIZE, null);
+            properties.setProperty("minimumIdle", String.valueOf(Math.min(MINIMUM_POOL_SIZE, poolSize.initialSize())));
+            properties.setProperty("maximunPoolSize", String.valueOf(poolSize.initialSize()));
             properties.setProperty(
                     SNOWFLAKE_DB_LOGIN_TIMEOUT_PROPERTY_KEY, String.valueOf(SNOWFLAKE_DB_LOGIN_TIMEOUT_VALUE_SEC));
             properties.setProperty("connectionTimeoutMillis", String.valueOf(CONNECTION_TIMEOUT_MILLISECONDS));
@@ -233,6 +229,7 @@ public class SnowflakePlugin extends BasePlugin {
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
+                ConnectionPoolMonitor.unregister(connection);
                 connection.close();
             }
         }
@@ -375,16 +372,6 @@ public class SnowflakePlugin extends BasePlugin {
                             throw new StaleConnectionException(e.getMessage());
                         }
 
-                        HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                        int idleConnections = poolProxy.getIdleConnections();
-                        int activeConnections = poolProxy.getActiveConnections();
-                        int totalConnections = poolProxy.getTotalConnections();
-                        int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                        log.debug(String.format(
-                                "Before getting snowflake structure Hikari Pool stats active - %d, idle - %d, awaiting - %d, total - %d",
-                                activeConnections, idleConnections, threadsAwaitingConnection, totalConnections));
-
                         try {
                             // Connection staleness is checked as part of this method call.
                             Set<String> invalids = validateWarehouseDatabaseSchema(connectionFromPool);
@@ -430,13 +417,6 @@ public class SnowflakePlugin extends BasePlugin {
                                     "SQLSTATE: " + throwable.getSQLState());
                         } finally {
                             log.debug(Thread.currentThread().getName() + ": Get Structure Snowflake");
-                            idleConnections = poolProxy.getIdleConnections();
-                            activeConnections = poolProxy.getActiveConnections();
-                            totalConnections = poolProxy.getTotalConnections();
-                            threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                            log.debug(String.format(
-                                    "After snowflake structure, Hikari Pool stats active - %d, idle - %d, awaiting - %d, total - %d",
-                                    activeConnections, idleConnections, threadsAwaitingConnection, totalConnections));
 
                             if (connectionFromPool != null) {
                                 try {
@@ -14,6 +14,9 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.Workspace;
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Getter
 public enum AclPermission {
     /**
@@ -132,18 +135,26 @@ public enum AclPermission {
     private final String value;
     private final Class<? extends BaseDomain> entity;
 
+    // Permissions of each entity by their value, for looking up the permissions in policies
+    private static final Map<Class<? extends BaseDomain>, Map<String, AclPermission>> PERMISSIONS_BY_VALUE =
+            new HashMap<>();
+
+    static {
+        for (AclPermission permission : values()) {
+            PERMISSIONS_BY_VALUE
+                    .computeIfAbsent(permission.getEntity(), entity -> new HashMap<>())
+                    .putIfAbsent(permission.getValue(), permission);
+        }
+    }
+
     AclPermission(String value, Class<? extends BaseDomain> entity) {
         this.value = value;
         this.entity = entity;
     }
 
     public static AclPermission getPermissionByValue(String value, Class<? extends BaseDomain> entity) {
-        for (AclPermission permission : values()) {
-            if (permission.getValue().equals(value) && permission.getEntity().equals(entity)) {
-                return permission;
-            }
-        }
-        return null;
+        Map<String, AclPermission> permissionsByValue = PERMISSIONS_BY_VALUE.get(entity);
+        return permissionsByValue == null || value == null ? null : permissionsByValue.get(value);
     }
 
     public static boolean isPermissionForEntity(AclPermission aclPermission, Class<?> clazz) {
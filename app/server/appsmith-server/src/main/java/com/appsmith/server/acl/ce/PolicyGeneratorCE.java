@@ -3,8 +3,8 @@ package com.appsmith.server.acl.ce;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
-import com.google.common.collect.Sets;
 import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -13,12 +13,17 @@ import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.DirectedAcyclicGraph;
 import org.jgrapht.traverse.DepthFirstIterator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -85,6 +90,16 @@ public class PolicyGeneratorCE {
      */
     protected Graph<AclPermission, DefaultEdge> lateralGraph = new DirectedAcyclicGraph<>(DefaultEdge.class);
 
+    /**
+     * Values of the child permissions that a permission gives on documents of each destination entity, as derived by
+     * {@link #getChildPolicies}. These are computed from the graphs once they are complete, so that creating policies
+     * for a document does not walk the graphs again.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<Class<? extends BaseDomain>, Map<AclPermission, List<String>>> childPermissionValues =
+            Collections.emptyMap();
+
     @PostConstruct
     public void createPolicyGraph() {
 
@@ -94,6 +109,8 @@ public class PolicyGeneratorCE {
         createPolicyGraphForEachType();
 
         addLateralEdgesForAllIndirectRelationships();
+
+        computeChildPermissionValues();
     }
 
     protected void addVertices() {
@@ -141,6 +158,54 @@ public class PolicyGeneratorCE {
         return descendants;
     }
 
+    private void computeChildPermissionValues() {
+        // A null destination entity takes in the lateral permissions of all the entities
+        Set<Class<? extends BaseDomain>> destinationEntities = new HashSet<>();
+        destinationEntities.add(null);
+        for (AclPermission permission : AclPermission.values()) {
+            destinationEntities.add(permission.getEntity());
+        }
+
+        Map<Class<? extends BaseDomain>, Map<AclPermission, List<String>>> valuesByEntity = new HashMap<>();
+        for (Class<? extends BaseDomain> destinationEntity : destinationEntities) {
+            Map<AclPermission, List<String>> valuesByPermission = new EnumMap<>(AclPermission.class);
+            for (AclPermission permission : AclPermission.values()) {
+                Set<AclPermission> childPermissions = new LinkedHashSet<>();
+                for (DefaultEdge edge : hierarchyGraph.outgoingEdgesOf(permission)) {
+                    AclPermission childPermission = hierarchyGraph.getEdgeTarget(edge);
+                    if (childPermission.getEntity().equals(destinationEntity)) {
+                        childPermissions.add(childPermission);
+                    }
+                    // The lateral graph is transitively closed by now, so its direct edges are all that is needed
+                    for (DefaultEdge lateralEdge : lateralGraph.outgoingEdgesOf(childPermission)) {
+                        AclPermission lateralPermission = lateralGraph.getEdgeTarget(lateralEdge);
+                        if (destinationEntity == null
+                                || lateralPermission.getEntity().equals(destinationEntity)) {
+                            childPermissions.add(lateralPermission);
+                        }
+                    }
+                }
+                if (!childPermissions.isEmpty()) {
+                    List<String> values = new ArrayList<>(childPermissions.size());
+                    childPermissions.forEach(childPermission -> values.add(childPermission.getValue()));
+                    valuesByPermission.put(permission, List.copyOf(values));
+                }
+            }
+            valuesByEntity.put(destinationEntity, valuesByPermission);
+        }
+
+        childPermissionValues = valuesByEntity;
+    }
+
+    private List<String> getChildPermissionValues(
+            AclPermission aclPermission, Class<? extends BaseDomain> destinationEntity) {
+        Map<AclPermission, List<String>> valuesByPermission = childPermissionValues.get(destinationEntity);
+        if (valuesByPermission == null) {
+            return List.of();
+        }
+        return valuesByPermission.getOrDefault(aclPermission, List.of());
+    }
+
     protected void createInstancePolicyGraph() {
         lateralGraph.addEdge(MANAGE_INSTANCE_CONFIGURATION, READ_INSTANCE_CONFIGURATION);
     }
@@ -292,22 +357,13 @@ public class PolicyGeneratorCE {
         if (policy.getPermissionGroups() == null) {
             policy.setPermissionGroups(new HashSet<>());
         }
-        // Check the hierarchy graph to derive child permissions that must be given to this
-        // document
+        // The child permissions derived from the hierarchy and lateral graphs are looked up from the precomputed table
         Set<Policy> childPolicySet = new HashSet<>();
-        Set<DefaultEdge> edges = hierarchyGraph.outgoingEdgesOf(aclPermission);
-        for (DefaultEdge edge : edges) {
-            AclPermission childPermission = hierarchyGraph.getEdgeTarget(edge);
-
-            if (childPermission.getEntity().equals(destinationEntity)) {
-                childPolicySet.add(Policy.builder()
-                        .permission(childPermission.getValue())
-                        .permissionGroups(policy.getPermissionGroups())
-                        .build());
-            }
-
-            // Check the lateral graph to derive the child permissions that must be given to this document
-            childPolicySet.addAll(getLateralPolicies(childPermission, policy.getPermissionGroups(), destinationEntity));
+        for (String childPermission : getChildPermissionValues(aclPermission, destinationEntity)) {
+            childPolicySet.add(Policy.builder()
+                    .permission(childPermission)
+                    .permissionGroups(policy.getPermissionGroups())
+                    .build());
         }
 
         return childPolicySet;
@@ -320,32 +376,29 @@ public class PolicyGeneratorCE {
         if (policySet == null) {
             return new HashSet<>();
         }
-        Set<Policy> policies = policySet.stream()
-                .map(policy -> {
-                    AclPermission aclPermission =
-                            AclPermission.getPermissionByValue(policy.getPermission(), sourceEntity);
-                    // Get all the child policies for the given policy and aclPermission
-                    return getChildPolicies(policy, aclPermission, destinationEntity);
-                })
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
-
-        Map<String, Policy> policyMap = new LinkedHashMap<>();
-
-        for (Policy policy : policies) {
-            if (policyMap.containsKey(policy.getPermission())) {
-                Policy mergedPolicy = policyMap.get(policy.getPermission());
-
-                mergedPolicy.setPermissionGroups(
-                        Sets.union(mergedPolicy.getPermissionGroups(), policy.getPermissionGroups()));
-
-                policyMap.put(policy.getPermission(), mergedPolicy);
-            } else {
-                policyMap.put(policy.getPermission(), policy);
+        // Permission groups of each child permission, merged across all the policies that give it
+        Map<String, Set<String>> permissionGroupsMap = new LinkedHashMap<>();
+        for (Policy policy : policySet) {
+            AclPermission aclPermission = AclPermission.getPermissionByValue(policy.getPermission(), sourceEntity);
+            if (aclPermission == null) {
+                continue;
+            }
+            Set<String> permissionGroups = policy.getPermissionGroups();
+            for (String childPermission : getChildPermissionValues(aclPermission, destinationEntity)) {
+                Set<String> childPermissionGroups =
+                        permissionGroupsMap.computeIfAbsent(childPermission, key -> new HashSet<>());
+                if (permissionGroups != null) {
+                    childPermissionGroups.addAll(permissionGroups);
+                }
             }
         }
 
-        return new HashSet<>(policyMap.values());
+        Set<Policy> policies = new HashSet<>();
+        permissionGroupsMap.forEach((permission, permissionGroups) -> policies.add(Policy.builder()
+                .permission(permission)
+                .permissionGroups(permissionGroups)
+                .build()));
+        return policies;
     }
 
     public Set<AclPermission> getChildPermissions(
@@ -50,6 +50,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static com.appsmith.server.helpers.ImportExportUtils.setPropertiesToExistingApplication;
@@ -486,6 +487,9 @@ public class ApplicationImportServiceCEImpl
                     Application updateApplication = new Application();
                     updateApplication.setPages(application.getPages());
                     updateApplication.setPublishedPages(application.getPublishedPages());
+                    // The published pages and actions have been rewritten, e.g. by an import into this application or
+                    // a snapshot restore, so view mode snapshots of the previous publish must not be served any more
+                    updateApplication.setPublishedResourcesVersion(UUID.randomUUID().toString());
 
                     return applicationService.update(application.getId(), updateApplication);
                 })
@@ -19,7 +19,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.beans.Introspector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RequiredArgsConstructor
 @Aspect
@@ -31,6 +36,13 @@ public class FeatureFlaggedMethodInvokerAspect {
 
     private final ApplicationContext applicationContext;
 
+    /**
+     * Super class implementations to fall back to when the flag of a {@link FeatureFlagged} method is disabled, bound
+     * to their beans. Resolved on the first call of each method, so that later calls skip the bean lookup and
+     * reflection.
+     */
+    private final Map<Method, MethodHandle> superMethodHandles = new ConcurrentHashMap<>();
+
     /**
      * Intercepts method calls that are annotated with {@link FeatureFlagged}.
      * This advice method wraps the intercepted method call, allowing conditional execution based on the state
@@ -74,12 +86,12 @@ public class FeatureFlaggedMethodInvokerAspect {
             if (Boolean.TRUE.equals(isFeatureSupported)) {
                 return joinPoint.proceed(joinPoint.getArgs());
             }
-            Class<?> targetSuperClass = joinPoint.getTarget().getClass().getSuperclass();
-            Object service = applicationContext
-                    .getBeansOfType(targetSuperClass)
-                    .get(getSpringDefaultBeanName(targetSuperClass.getSimpleName()));
-            Method superMethod = targetSuperClass.getMethod(method.getName(), method.getParameterTypes());
-            return superMethod.invoke(service, joinPoint.getArgs());
+            MethodHandle superMethodHandle = superMethodHandles.get(method);
+            if (superMethodHandle == null) {
+                superMethodHandle = superMethodHandles.computeIfAbsent(
+                        method, key -> getSuperMethodHandle(joinPoint.getTarget(), key));
+            }
+            return (Object) superMethodHandle.invokeExact(joinPoint.getArgs());
         } catch (Throwable e) {
             if (e instanceof AppsmithException) {
                 throw (AppsmithException) e;
@@ -91,6 +103,26 @@ public class FeatureFlaggedMethodInvokerAspect {
         }
     }
 
+    /**
+     * Returns a handle that calls the method of the super class bean of the target with an array of arguments.
+     */
+    private MethodHandle getSuperMethodHandle(Object target, Method method) {
+        Class<?> targetSuperClass = target.getClass().getSuperclass();
+        Object service = applicationContext
+                .getBeansOfType(targetSuperClass)
+                .get(getSpringDefaultBeanName(targetSuperClass.getSimpleName()));
+        try {
+            Method superMethod = targetSuperClass.getMethod(method.getName(), method.getParameterTypes());
+            return MethodHandles.publicLookup()
+                    .unreflect(superMethod)
+                    .bindTo(service)
+                    .asSpreader(Object[].class, superMethod.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Method to get default bean name from java classes as per <a href="https://docs.spring.io/spring-framework/docs/5.2.3.RELEASE/spring-framework-reference/core.html#beans-beanname">Spring naming convention</a>
      */
@@ -0,0 +1,33 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the response cache of actions that opt in to it. Memory usage is bounded by the number of entries times
+ * the maximum size of an entry, larger responses are never cached.
+ */
+@Getter
+@Configuration
+public class ActionExecutionResultCacheConfig {
+
+    @Value("${appsmith.action.result-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${appsmith.action.result-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${appsmith.action.result-cache.max-entry-size:100KB}")
+    private DataSize maxEntrySize;
+
+    /**
+     * Also stores cached responses in Redis, so that they are shared between the nodes of a multi node deployment.
+     */
+    @Value("${appsmith.action.result-cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${appsmith.action.result-cache.invalidation-channel:appsmith.action-result-cache.invalidation}")
+    private String invalidationChannel;
+}
@@ -3,6 +3,7 @@ package com.appsmith.server.configurations;
 import com.appsmith.server.domains.LoginSource;
 import com.appsmith.server.dtos.OAuth2AuthorizedClientDTO;
 import com.appsmith.server.dtos.UserSessionDTO;
+import com.appsmith.server.helpers.UserSessionIndex;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import io.lettuce.core.AbstractRedisClient;
@@ -42,6 +43,9 @@ import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.redis.ReactiveRedisSessionRepository;
 import org.springframework.session.data.redis.config.annotation.web.server.EnableRedisWebSession;
 
 import java.net.URI;
@@ -53,9 +57,11 @@ import java.util.Map;
 @Configuration
 @Slf4j
 // Setting the maxInactiveInterval to 30 days
-@EnableRedisWebSession(maxInactiveIntervalInSeconds = 2592000)
+@EnableRedisWebSession(maxInactiveIntervalInSeconds = RedisConfig.SESSION_MAX_INACTIVE_INTERVAL_SECONDS)
 public class RedisConfig {
 
+    public static final int SESSION_MAX_INACTIVE_INTERVAL_SECONDS = 2592000;
+
     @Value("${appsmith.redis.url:}")
     private String redisURL;
 
@@ -157,6 +163,20 @@ public class RedisConfig {
         return new JSONSessionRedisSerializer();
     }
 
+    /**
+     * Wraps the Redis session repository, so that the sessions of each user are indexed as they are saved. Marked as
+     * primary so that it is the one used by the web session manager.
+     */
+    @Primary
+    @Bean
+    @SuppressWarnings("unchecked")
+    public ReactiveSessionRepository<Session> userSessionIndexingRepository(
+            ReactiveRedisSessionRepository sessionRepository, UserSessionIndex userSessionIndex) {
+        return new UserSessionIndexingRepository(
+                (ReactiveSessionRepository<Session>) (ReactiveSessionRepository<?>) sessionRepository,
+                userSessionIndex);
+    }
+
     @Bean
     public ClientResources clientResources(ObservationRegistry observationRegistry) {
         return ClientResources.builder()
@@ -0,0 +1,110 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.helpers.UserSessionIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.Session;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+/**
+ * Session repository that keeps the {@link UserSessionIndex} up to date, adding sessions to the index of their user
+ * when they are saved, and removing them when they are deleted.
+ * <p>
+ * Sessions are saved on every request, so a session is only indexed again once
+ * {@link UserSessionIndex#REINDEX_INTERVAL} has passed, which keeps the index from expiring while the session is in
+ * use.
+ */
+@Slf4j
+public class UserSessionIndexingRepository implements ReactiveSessionRepository<Session> {
+
+    private static final int MAX_TRACKED_SESSIONS = 100_000;
+
+    private final ReactiveSessionRepository<Session> delegate;
+
+    private final UserSessionIndex userSessionIndex;
+
+    /**
+     * Time at which each session was last indexed by this server, keyed by session id and user email.
+     */
+    private final Map<String, Instant> indexedAt = new ConcurrentHashMap<>();
+
+    public UserSessionIndexingRepository(
+            ReactiveSessionRepository<Session> delegate, UserSessionIndex userSessionIndex) {
+        this.delegate = delegate;
+        this.userSessionIndex = userSessionIndex;
+    }
+
+    @Override
+    public Mono<Session> createSession() {
+        return delegate.createSession();
+    }
+
+    @Override
+    public Mono<Void> save(Session session) {
+        return delegate.save(session).then(Mono.defer(() -> index(session)));
+    }
+
+    @Override
+    public Mono<Session> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return delegate.findById(id)
+                .flatMap(session -> {
+                    final String email = getEmail(session);
+                    if (email == null) {
+                        return Mono.empty();
+                    }
+                    indexedAt.remove(id + ":" + email);
+                    return userSessionIndex.remove(email, id);
+                })
+                .onErrorResume(error -> {
+                    log.warn("Unable to remove session from the user session index", error);
+                    return Mono.empty();
+                })
+                .then(delegate.deleteById(id));
+    }
+
+    private Mono<Void> index(Session session) {
+        final String email = getEmail(session);
+        if (email == null) {
+            return Mono.empty();
+        }
+
+        final Instant now = Instant.now();
+        final String trackingKey = session.getId() + ":" + email;
+        final Instant lastIndexedAt = indexedAt.get(trackingKey);
+        if (lastIndexedAt != null && lastIndexedAt.plus(UserSessionIndex.REINDEX_INTERVAL).isAfter(now)) {
+            return Mono.empty();
+        }
+
+        if (indexedAt.size() >= MAX_TRACKED_SESSIONS) {
+            indexedAt.values().removeIf(time -> time.plus(UserSessionIndex.REINDEX_INTERVAL).isBefore(now));
+            if (indexedAt.size() >= MAX_TRACKED_SESSIONS) {
+                indexedAt.clear();
+            }
+        }
+
+        return userSessionIndex
+                .add(email, session.getId())
+                .doOnSuccess(ignored -> indexedAt.put(trackingKey, now))
+                .onErrorResume(error -> {
+                    log.warn("Unable to add session to the user session index", error);
+                    return Mono.empty();
+                });
+    }
+
+    private static String getEmail(Session session) {
+        final Object securityContext = session.getAttribute(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME);
+        return securityContext instanceof SecurityContext context ? UserSessionIndex.getEmail(context) : null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the snapshots of the view mode page load response. A snapshot belongs to a single publish of an
+ * application, so the TTL only bounds how long a permission change that comes without a publish can go unnoticed.
+ */
+@Getter
+@Configuration
+public class ViewModeSnapshotConfig {
+
+    /**
+     * Off by default, since the in-memory cache can take up to max-entries times max-entry-size of heap. Size both of
+     * them to the memory of the node before turning this on.
+     */
+    @Value("${appsmith.consolidated-api.view-mode-snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${appsmith.consolidated-api.view-mode-snapshot.max-entries:500}")
+    private int maxEntries;
+
+    @Value("${appsmith.consolidated-api.view-mode-snapshot.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    /**
+     * Applies to the compressed snapshot, larger snapshots are never stored.
+     */
+    @Value("${appsmith.consolidated-api.view-mode-snapshot.max-entry-size:2MB}")
+    private DataSize maxEntrySize;
+
+    /**
+     * Also stores snapshots in Redis, so that they are shared between the nodes of a multi node deployment.
+     */
+    @Value("${appsmith.consolidated-api.view-mode-snapshot.redis.enabled:false}")
+    private boolean redisEnabled;
+}
@@ -0,0 +1,277 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.ActionCollection;
+import com.appsmith.server.domains.Datasource;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.helpers.LoadShifter;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static com.appsmith.server.migrations.DatabaseChangelog1.makeIndex;
+import static com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl.notDeleted;
+import static com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl.userAcl;
+
+/**
+ * Looks for queries that no index serves. On startup, it checks the shapes of the queries that load the pages of an
+ * application, as the repositories build them with {@code QueryAllParams}, against the indexes in the database. Later
+ * on, it does the same for the shapes of the queries that turned out to be slow, which the repositories report to
+ * {@link #observe}, logging each with a summary of its query plan.
+ * <p>
+ * The indexes that are missing are only logged, unless {@code appsmith.mongo.index-advisor.auto-create} is set, in
+ * which case they are created in the background.
+ */
+@Slf4j
+@Component
+public class QueryIndexAdvisor implements ApplicationListener<ApplicationReadyEvent> {
+
+    /**
+     * Upper bound on the slow query shapes kept, in case the slow queries are built from user input.
+     */
+    private static final int MAX_SLOW_QUERY_SHAPES = 500;
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    private final boolean autoCreateIndexes;
+
+    private final Duration slowQueryThreshold;
+
+    /**
+     * Slow query shapes, mapped to whether they have been checked against the indexes yet.
+     */
+    private final Map<QueryShape, Boolean> slowQueryShapes = new ConcurrentHashMap<>();
+
+    public QueryIndexAdvisor(
+            ReactiveMongoOperations mongoOperations,
+            @Value("${appsmith.mongo.index-advisor.auto-create:false}") boolean autoCreateIndexes,
+            @Value("${appsmith.mongo.slow-query.threshold.millis:500}") long slowQueryThresholdMillis) {
+        this.mongoOperations = mongoOperations;
+        this.autoCreateIndexes = autoCreateIndexes;
+        this.slowQueryThreshold = Duration.ofMillis(slowQueryThresholdMillis);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent applicationReadyEvent) {
+        adviseIndexes(declaredQueryShapes())
+                .subscribeOn(LoadShifter.elasticScheduler)
+                .subscribe();
+    }
+
+    @Scheduled(initialDelay = 10 * 60 * 1000 /* ten minutes */, fixedRate = 60 * 60 * 1000 /* an hour */)
+    public void adviseSlowQueryIndexes() {
+        final List<QueryShape> uncheckedShapes = slowQueryShapes.entrySet().stream()
+                .filter(entry -> !entry.getValue())
+                .map(Map.Entry::getKey)
+                .toList();
+        if (uncheckedShapes.isEmpty()) {
+            return;
+        }
+        uncheckedShapes.forEach(shape -> slowQueryShapes.put(shape, true));
+
+        adviseIndexes(uncheckedShapes).subscribeOn(LoadShifter.elasticScheduler).subscribe();
+    }
+
+    /**
+     * Shapes of the queries made for every page load, from {@code findByApplicationId}, {@code findByPageId} and
+     * {@code findAllByWorkspaceId} in the respective repositories.
+     */
+    private List<QueryShape> declaredQueryShapes() {
+        return List.of(
+                declaredQueryShape(NewPage.class, NewPage.Fields.applicationId, AclPermission.READ_PAGES),
+                declaredQueryShape(NewAction.class, NewAction.Fields.applicationId, AclPermission.READ_ACTIONS),
+                declaredQueryShape(
+                        NewAction.class, NewAction.Fields.unpublishedAction_pageId, AclPermission.READ_ACTIONS),
+                declaredQueryShape(
+                        ActionCollection.class, ActionCollection.Fields.applicationId, AclPermission.READ_ACTIONS),
+                declaredQueryShape(
+                        ActionCollection.class,
+                        ActionCollection.Fields.unpublishedCollection_pageId,
+                        AclPermission.READ_ACTIONS),
+                declaredQueryShape(Datasource.class, Datasource.Fields.workspaceId, AclPermission.READ_DATASOURCES));
+    }
+
+    private QueryShape declaredQueryShape(Class<?> domainClass, String field, AclPermission permission) {
+        final Query query = new Query(
+                new Criteria().andOperator(Criteria.where(field).is(""), notDeleted(), userAcl(Set.of(), permission)));
+        return QueryShape.of(mongoOperations.getCollectionName(domainClass), query.getQueryObject());
+    }
+
+    private Mono<Void> adviseIndexes(Collection<QueryShape> shapes) {
+        final Map<String, List<QueryShape>> shapesByCollection =
+                shapes.stream().collect(Collectors.groupingBy(QueryShape::collectionName));
+
+        return Flux.fromIterable(shapesByCollection.entrySet())
+                .concatMap(entry -> adviseIndexes(entry.getKey(), entry.getValue()))
+                .then();
+    }
+
+    private Mono<Void> adviseIndexes(String collectionName, List<QueryShape> shapes) {
+        return mongoOperations
+                .indexOps(collectionName)
+                .getIndexInfo()
+                .map(indexInfo -> indexInfo.getIndexFields().stream()
+                        .map(IndexField::getKey)
+                        .toList())
+                .collect(Collectors.toCollection(ArrayList::new))
+                .flatMapMany(indexes -> Flux.fromIterable(shapes).filter(shape -> {
+                    if (shape.isCoveredBy(indexes)) {
+                        return false;
+                    }
+                    // Two uncovered shapes may share an index
+                    indexes.add(shape.indexKeys());
+                    return true;
+                }))
+                .concatMap(this::createIndex)
+                .onErrorResume(error -> {
+                    log.warn("Unable to check the indexes on collection {}", collectionName, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<String> createIndex(QueryShape shape) {
+        final List<String> keys = shape.indexKeys();
+        if (!autoCreateIndexes) {
+            log.warn(
+                    "No index serves queries on {} with fields {}. Consider adding an index on {}.",
+                    shape.collectionName(),
+                    shape.fields(),
+                    keys);
+            return Mono.empty();
+        }
+
+        log.info("Creating index {} on {} with keys {}", shape.indexName(), shape.collectionName(), keys);
+        return mongoOperations
+                .indexOps(shape.collectionName())
+                .ensureIndex(makeIndex(keys.toArray(new String[0])).named(shape.indexName()))
+                .onErrorResume(error -> {
+                    log.warn("Unable to create index {} on {}", shape.indexName(), shape.collectionName(), error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Times the query until its first result arrives, or until it completes if it finds nothing. The time taken to
+     * consume the remaining results depends on the subscriber as much as on the query, so it is left out.
+     */
+    public <R> Flux<R> observe(Class<?> domainClass, Query query, Flux<R> results) {
+        return Flux.defer(() -> {
+            final long startTime = System.nanoTime();
+            final AtomicBoolean isAnswered = new AtomicBoolean(false);
+            final Runnable onAnswered = () -> {
+                if (isAnswered.compareAndSet(false, true)) {
+                    onQueryAnswered(domainClass, query, System.nanoTime() - startTime);
+                }
+            };
+            return results.doOnNext(ignored -> onAnswered.run()).doOnComplete(onAnswered);
+        });
+    }
+
+    public <R> Mono<R> observe(Class<?> domainClass, Query query, Mono<R> result) {
+        return Mono.defer(() -> {
+            final long startTime = System.nanoTime();
+            return result.doOnSuccess(
+                    ignored -> onQueryAnswered(domainClass, query, System.nanoTime() - startTime));
+        });
+    }
+
+    private void onQueryAnswered(Class<?> domainClass, Query query, long elapsedNanos) {
+        if (elapsedNanos < slowQueryThreshold.toNanos()) {
+            return;
+        }
+
+        final String collectionName = mongoOperations.getCollectionName(domainClass);
+        final QueryShape shape = QueryShape.of(collectionName, query.getQueryObject());
+        final long elapsedMillis = Duration.ofNanos(elapsedNanos).toMillis();
+
+        if (slowQueryShapes.containsKey(shape) || slowQueryShapes.size() >= MAX_SLOW_QUERY_SHAPES) {
+            log.debug("Slow query on {} took {} ms, with fields {}", collectionName, elapsedMillis, shape.fields());
+            return;
+        }
+
+        if (slowQueryShapes.putIfAbsent(shape, false) == null) {
+            // Explain the query only the first time its shape is slow
+            explain(collectionName, query)
+                    .doOnNext(plan -> log.warn(
+                            "Slow query on {} took {} ms, with fields {} and plan {}",
+                            collectionName,
+                            elapsedMillis,
+                            shape.fields(),
+                            plan))
+                    .onErrorResume(error -> {
+                        log.debug("Unable to explain slow query on {}", collectionName, error);
+                        return Mono.empty();
+                    })
+                    .subscribeOn(LoadShifter.elasticScheduler)
+                    .subscribe();
+        }
+    }
+
+    private Mono<String> explain(String collectionName, Query query) {
+        return mongoOperations
+                .getCollection(collectionName)
+                .flatMap(collection -> Mono.from(collection
+                        .find(query.getQueryObject())
+                        .sort(query.getSortObject())
+                        .explain(Document.class)))
+                .map(QueryIndexAdvisor::summarizePlan);
+    }
+
+    /**
+     * Summarises the winning plan of an explain result, from the last stage to the first. For example,
+     * {@code FETCH <- IXSCAN applicationId_1} when an index serves the query, or {@code COLLSCAN} when none does.
+     */
+    static String summarizePlan(Document explainResult) {
+        final Document queryPlanner = explainResult.get("queryPlanner", Document.class);
+        if (queryPlanner == null) {
+            return "unknown";
+        }
+
+        Document winningPlan = queryPlanner.get("winningPlan", Document.class);
+        if (winningPlan != null && winningPlan.containsKey("queryPlan")) {
+            // Plans from the slot based execution engine nest the stages under `queryPlan`
+            winningPlan = winningPlan.get("queryPlan", Document.class);
+        }
+
+        final List<String> stages = new ArrayList<>();
+        collectStages(winningPlan, stages);
+        return stages.isEmpty() ? "unknown" : String.join(" <- ", stages);
+    }
+
+    private static void collectStages(Document stage, List<String> stages) {
+        if (stage == null) {
+            return;
+        }
+
+        final String indexName = stage.getString("indexName");
+        stages.add(indexName == null ? stage.getString("stage") : stage.getString("stage") + " " + indexName);
+
+        collectStages(stage.get("inputStage", Document.class), stages);
+        final List<Document> inputStages = stage.getList("inputStages", Document.class);
+        if (inputStages != null) {
+            inputStages.forEach(inputStage -> collectStages(inputStage, stages));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.server.constants.FieldName;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields a Mongo query filters on, without the values it compares them against. Queries that only differ in their
+ * values share a shape, and so are served by the same indexes.
+ */
+public record QueryShape(String collectionName, List<String> fields) {
+
+    private static final String POLICY_MAP_PREFIX = BaseDomain.Fields.policyMap + ".";
+
+    /**
+     * Leading fields of a suggested index, apart from the permission and soft-delete fields that end it. Keeps the
+     * suggested indexes small for queries that filter on many fields.
+     */
+    private static final int MAX_LEADING_INDEX_FIELDS = 3;
+
+    public static QueryShape of(String collectionName, Map<String, Object> queryObject) {
+        final Set<String> fields = new LinkedHashSet<>();
+        collectFields(queryObject, fields);
+        return new QueryShape(collectionName, List.copyOf(fields));
+    }
+
+    private static void collectFields(Object node, Set<String> fields) {
+        if (node instanceof Map<?, ?> document) {
+            document.forEach((key, value) -> {
+                if (String.valueOf(key).startsWith("$")) {
+                    // Logical operators, like `$and` and `$or`, hold the conditions on the fields
+                    collectFields(value, fields);
+                } else {
+                    fields.add(String.valueOf(key));
+                }
+            });
+        } else if (node instanceof Collection<?> conditions) {
+            conditions.forEach(condition -> collectFields(condition, fields));
+        }
+    }
+
+    /**
+     * Fields that narrow down the results of the query. The soft-delete fields match nearly every document, and the
+     * permission fields only narrow it down when nothing else does.
+     */
+    private List<String> selectiveFields() {
+        final List<String> selectiveFields = fields.stream()
+                .filter(field -> !isSoftDeleteField(field) && !isPermissionField(field))
+                .toList();
+        return selectiveFields.isEmpty()
+                ? fields.stream().filter(QueryShape::isPermissionField).toList()
+                : selectiveFields;
+    }
+
+    /**
+     * Whether any of the given indexes, each given as its list of keys, can serve this query. An index serves the query
+     * when it leads with one of the fields that narrow down its results.
+     */
+    public boolean isCoveredBy(Collection<List<String>> indexes) {
+        final List<String> selectiveFields = selectiveFields();
+        return selectiveFields.isEmpty()
+                || indexes.stream().anyMatch(keys -> !keys.isEmpty() && selectiveFields.contains(keys.get(0)));
+    }
+
+    /**
+     * Keys of an index that serves this query: the fields that narrow it down, followed by the permission fields, and
+     * then by {@code deletedAt}, which every query made through the repositories checks.
+     */
+    public List<String> indexKeys() {
+        final List<String> keys = new ArrayList<>(selectiveFields().stream()
+                .filter(field -> !isPermissionField(field))
+                .limit(MAX_LEADING_INDEX_FIELDS)
+                .toList());
+        fields.stream().filter(QueryShape::isPermissionField).forEach(keys::add);
+        if (fields.contains(FieldName.DELETED_AT)) {
+            keys.add(FieldName.DELETED_AT);
+        }
+        return keys;
+    }
+
+    /**
+     * A short name for the index from {@link #indexKeys()}, within the index name length limits on DocumentDB.
+     */
+    public String indexName() {
+        return "qs_" + Integer.toHexString(String.join(",", indexKeys()).hashCode());
+    }
+
+    private static boolean isSoftDeleteField(String field) {
+        return FieldName.DELETED.equals(field) || FieldName.DELETED_AT.equals(field);
+    }
+
+    private static boolean isPermissionField(String field) {
+        return field.startsWith(POLICY_MAP_PREFIX);
+    }
+}
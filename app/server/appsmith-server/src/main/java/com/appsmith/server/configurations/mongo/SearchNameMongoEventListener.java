@@ -0,0 +1,27 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.server.domains.Workspace;
+import com.appsmith.server.domains.ce.ApplicationCE;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sets the normalised name and name n-grams of applications and workspaces before they are saved. These are set along
+ * with the name, but objects that are read with Gson, like imported applications, get their name set without them.
+ */
+@Component
+public class SearchNameMongoEventListener extends AbstractMongoEventListener<BaseDomain> {
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<BaseDomain> event) {
+        BaseDomain source = event.getSource();
+
+        if (source instanceof ApplicationCE application) {
+            application.setName(application.getName());
+        } else if (source instanceof Workspace workspace) {
+            workspace.setName(workspace.getName());
+        }
+    }
+}
@@ -34,6 +34,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -51,6 +52,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -180,12 +182,12 @@ public class ApplicationControllerCE {
 
     @JsonView(Views.Public.class)
     @GetMapping("/export/{branchedApplicationId}")
-    public Mono<ResponseEntity<Object>> getApplicationFile(@PathVariable String branchedApplicationId) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getApplicationFile(@PathVariable String branchedApplicationId) {
         log.debug("Going to export application with branchedApplicationId: {}", branchedApplicationId);
 
         return exportService.getArtifactFile(branchedApplicationId, APPLICATION).map(fetchedResource -> {
             HttpHeaders responseHeaders = fetchedResource.getHttpHeaders();
-            Object applicationResource = fetchedResource.getArtifactResource();
+            Flux<DataBuffer> applicationResource = fetchedResource.getArtifactResource();
             return new ResponseEntity<>(applicationResource, responseHeaders, HttpStatus.OK);
         });
     }
@@ -9,10 +9,15 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactExchangeJson> {
     private static final String FIELD_NAME = "artifactJsonType";
@@ -36,9 +41,41 @@ public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactE
         JsonElement artifactJsonTypeElement = jsonObject.get(FIELD_NAME);
         Class<? extends ArtifactExchangeJson> instanceClass = ApplicationJson.class;
         if (artifactJsonTypeElement != null) {
-            ArtifactType artifactType = ArtifactType.valueOf(artifactJsonTypeElement.getAsString());
-            instanceClass = artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
+            instanceClass = getInstanceClass(artifactJsonTypeElement.getAsString());
         }
         return gson.fromJson(json, instanceClass);
     }
+
+    /**
+     * Same as deserialising with this adapter, but without building a tree of the whole json first. The json is read
+     * twice, first up to the artifact type field and then into the class of that type, so the supplier is called twice
+     * and must return a reader from the start of the json each time.
+     */
+    public ArtifactExchangeJson fromJson(Supplier<Reader> readerSupplier) throws IOException {
+        Class<? extends ArtifactExchangeJson> instanceClass = ApplicationJson.class;
+        try (JsonReader jsonReader = new JsonReader(readerSupplier.get())) {
+            jsonReader.setLenient(true);
+            if (jsonReader.peek() == JsonToken.BEGIN_OBJECT) {
+                jsonReader.beginObject();
+                while (jsonReader.hasNext()) {
+                    if (FIELD_NAME.equals(jsonReader.nextName()) && jsonReader.peek() == JsonToken.STRING) {
+                        instanceClass = getInstanceClass(jsonReader.nextString());
+                        break;
+                    }
+                    jsonReader.skipValue();
+                }
+            }
+        } catch (IOException e) {
+            // Malformed json is reported by the second read, with the same error as any other invalid file
+        }
+
+        try (Reader reader = readerSupplier.get()) {
+            return gson.fromJson(reader, instanceClass);
+        }
+    }
+
+    private Class<? extends ArtifactExchangeJson> getInstanceClass(String artifactJsonType) {
+        ArtifactType artifactType = ArtifactType.valueOf(artifactJsonType);
+        return artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
+    }
 }
@@ -32,6 +32,18 @@ public class ApplicationSnapshot extends BaseDomain {
      */
     private int chunkOrder;
 
+    /**
+     * Codec the data of all the chunks was compressed with, as one stream. Snapshots taken before compression was
+     * added don't have it, and their data is the plain JSON of the application.
+     */
+    private String compression;
+
+    /**
+     * Hash of the JSON of the application, present only in the first chunk. Used to find out whether an application
+     * has changed since its snapshot was taken.
+     */
+    private String contentHash;
+
     /**
      * Adding this method as updatedAt field in BaseDomain is annotated with @JsonIgnore
      *
@@ -3,6 +3,7 @@ package com.appsmith.server.domains;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.views.Views;
 import com.appsmith.server.constants.Url;
+import com.appsmith.server.searchentities.helpers.SearchEntityHelper;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
@@ -29,6 +30,13 @@ public class Workspace extends BaseDomain {
     @JsonView(Views.Public.class)
     private String name;
 
+    // Normalised name and its n-grams, used to search workspaces by name. These are set along with the name.
+    @JsonView(Views.Internal.class)
+    private String searchName;
+
+    @JsonView(Views.Internal.class)
+    private Set<String> searchNameGrams;
+
     @JsonView(Views.Public.class)
     private String website;
 
@@ -56,6 +64,12 @@ public class Workspace extends BaseDomain {
     @JsonView(Views.Internal.class)
     private Set<String> defaultPermissionGroups;
 
+    public void setName(String name) {
+        this.name = name;
+        this.searchName = SearchEntityHelper.normaliseSearchName(name);
+        this.searchNameGrams = SearchEntityHelper.getSearchNameGrams(this.searchName);
+    }
+
     public String makeSlug() {
         return toSlug(name);
     }
@@ -9,6 +9,7 @@ import com.appsmith.server.domains.ApplicationDetail;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.GitArtifactMetadata;
 import com.appsmith.server.dtos.CustomJSLibContextDTO;
+import com.appsmith.server.searchentities.helpers.SearchEntityHelper;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.constraints.NotNull;
@@ -47,6 +48,13 @@ public class ApplicationCE extends BaseDomain implements ArtifactCE {
     @NotNull @JsonView(Views.Public.class)
     String name;
 
+    // Normalised name and its n-grams, used to search applications by name. These are set along with the name.
+    @JsonView(Views.Internal.class)
+    String searchName;
+
+    @JsonView(Views.Internal.class)
+    Set<String> searchNameGrams;
+
     @JsonView(Views.Public.class)
     String workspaceId;
 
@@ -111,6 +119,13 @@ public class ApplicationCE extends BaseDomain implements ArtifactCE {
     @JsonView(Views.Public.class)
     Instant lastDeployedAt; // when this application was last deployed
 
+    /**
+     * Changes whenever the published pages and actions are rewritten without publishing, e.g. by importing into the
+     * application or restoring a snapshot. Along with lastDeployedAt, it versions the view mode snapshots.
+     */
+    @JsonView(Views.Internal.class)
+    String publishedResourcesVersion;
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     @JsonView({Views.Public.class, Git.class})
     Integer evaluationVersion;
@@ -319,13 +334,22 @@ public class ApplicationCE extends BaseDomain implements ArtifactCE {
         this.setPublishedModeThemeId(themeId);
     }
 
+    public void setName(String name) {
+        this.name = name;
+        this.searchName = SearchEntityHelper.normaliseSearchName(name);
+        this.searchNameGrams = SearchEntityHelper.getSearchNameGrams(this.searchName);
+    }
+
     @Override
     public void sanitiseToExportDBObject() {
         this.setWorkspaceId(null);
+        this.setSearchName(null);
+        this.setSearchNameGrams(null);
         this.setModifiedBy(null);
         this.setCreatedBy(null);
         this.setLastDeployedAt(null);
         this.setLastEditedAt(null);
+        this.setPublishedResourcesVersion(null);
         this.setGitApplicationMetadata(null);
         this.setEditModeThemeId(null);
         this.setPublishedModeThemeId(null);
@@ -517,6 +541,10 @@ public class ApplicationCE extends BaseDomain implements ArtifactCE {
                 dotted(gitApplicationMetadata, GitArtifactMetadata.Fields.defaultArtifactId);
         public static final String gitApplicationMetadata_branchName =
                 dotted(gitApplicationMetadata, GitArtifactMetadata.Fields.branchName);
+        public static final String gitApplicationMetadata_defaultBranchName =
+                dotted(gitApplicationMetadata, GitArtifactMetadata.Fields.defaultBranchName);
+        public static final String gitApplicationMetadata_remoteUrl =
+                dotted(gitApplicationMetadata, GitArtifactMetadata.Fields.remoteUrl);
         public static final String gitApplicationMetadata_isRepoPrivate =
                 dotted(gitApplicationMetadata, GitArtifactMetadata.Fields.isRepoPrivate);
         public static final String gitApplicationMetadata_isProtectedBranch =
@@ -0,0 +1,33 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.domains.CustomJSLib;
+import com.appsmith.server.domains.Theme;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * The parts of the view mode consolidated API response that only change when the application is published. The
+ * application itself is not part of it, since it carries the permissions of the user and is fetched on every load.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ViewModePageLoadSnapshotDTO {
+
+    List<PageNameIdDTO> pages;
+
+    Theme currentTheme;
+
+    List<Theme> themes;
+
+    List<CustomJSLib> customJSLibraries;
+
+    PageDTO pageWithMigratedDsl;
+
+    List<ActionViewDTO> publishedActions;
+
+    List<ActionCollectionViewDTO> publishedActionCollections;
+}
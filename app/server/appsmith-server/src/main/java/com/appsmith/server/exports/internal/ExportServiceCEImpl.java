@@ -27,13 +27,22 @@ import com.appsmith.server.services.WorkspaceService;
 import com.google.gson.Gson;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
@@ -288,9 +297,13 @@ public class ExportServiceCEImpl implements ExportServiceCE {
         return exportByArtifactId(branchedArtifactId, SerialiseArtifactObjective.SHARE, artifactType)
                 .doOnNext(artifactExchangeJson -> artifactExchangeJson.setModifiedResources(null))
                 .map(artifactExchangeJson -> {
-                    String stringifiedFile = gson.toJson(artifactExchangeJson);
                     String artifactName = artifactExchangeJson.getArtifact().getName();
-                    Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
+                    // The json is written straight to the response as it is serialised, instead of being built as a
+                    // string and then as a tree of objects for the response to serialise once more
+                    Flux<DataBuffer> artifactResource = DataBufferUtils.outputStreamPublisher(
+                            outputStream -> writeArtifactJson(artifactExchangeJson, outputStream),
+                            DefaultDataBufferFactory.sharedInstance,
+                            runnable -> Schedulers.boundedElastic().schedule(runnable));
                     HttpHeaders responseHeaders = new HttpHeaders();
                     ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
                             .filename(artifactName + ".json", StandardCharsets.UTF_8)
@@ -299,12 +312,20 @@ public class ExportServiceCEImpl implements ExportServiceCE {
                     responseHeaders.setContentType(MediaType.APPLICATION_JSON);
 
                     ExportFileDTO exportFileDTO = new ExportFileDTO();
-                    exportFileDTO.setArtifactResource(jsonObject);
+                    exportFileDTO.setArtifactResource(artifactResource);
                     exportFileDTO.setHttpHeaders(responseHeaders);
                     return exportFileDTO;
                 });
     }
 
+    private void writeArtifactJson(ArtifactExchangeJson artifactExchangeJson, OutputStream outputStream) {
+        try (Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
+            gson.toJson(artifactExchangeJson, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * To send analytics event for import and export of application
      *
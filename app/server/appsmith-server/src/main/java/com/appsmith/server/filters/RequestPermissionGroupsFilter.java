@@ -0,0 +1,21 @@
+package com.appsmith.server.filters;
+
+import com.appsmith.server.helpers.RequestPermissionGroups;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gives every request its own {@link RequestPermissionGroups}, so that the permission groups of the current user are
+ * resolved once per request, rather than by every repository call the request makes.
+ */
+@Component
+public class RequestPermissionGroupsFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return chain.filter(exchange).contextWrite(RequestPermissionGroups::init);
+    }
+}
@@ -2,8 +2,6 @@ package com.appsmith.server.fork.internal;
 
 import com.appsmith.external.constants.ActionCreationSourceTypeEnum;
 import com.appsmith.external.constants.AnalyticsEvents;
-import com.appsmith.external.helpers.AppsmithEventContext;
-import com.appsmith.external.helpers.AppsmithEventContextType;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Datasource;
@@ -21,7 +19,6 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.Workspace;
-import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.dtos.ApplicationImportDTO;
 import com.appsmith.server.dtos.ForkingMetaDTO;
 import com.appsmith.server.dtos.PageDTO;
@@ -38,7 +35,6 @@ import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.WorkspaceRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationPageService;
-import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
@@ -52,7 +48,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple2;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -61,6 +56,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.appsmith.server.helpers.ce.PolicyUtil.policyMapToSet;
@@ -79,7 +75,6 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
     private final ApplicationPageService applicationPageService;
     protected final NewPageRepository newPageRepository;
     private final NewActionService newActionService;
-    private final LayoutActionService layoutActionService;
     private final ActionCollectionService actionCollectionService;
     private final ThemeService themeService;
     protected final PagePermission pagePermission;
@@ -102,7 +97,6 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
     public Mono<List<String>> forkApplications(
             String toWorkspaceId, Application application, String sourceEnvironmentId) {
 
-        final List<NewPage> clonedPages = new ArrayList<>();
         final List<String> newApplicationIds = new ArrayList<>();
 
         // A map of datasourceId => { a cached Mono that clones this datasource and yields the cloned datasource }
@@ -185,7 +179,6 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
                             .flatMap(savedPage -> newPageRepository.findById(savedPage.getId()));
 
                     return createForkedPageMono.flatMap(savedPage -> {
-                        clonedPages.add(savedPage);
                         Flux<NewAction> sourceActionFlux = newActionService
                                 .findByPageIdsForExport(List.of(templatePageId), Optional.empty())
                                 .cache();
@@ -214,125 +207,43 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
                                     return forkableDatasource;
                                 });
 
-                        Mono<HashMap<String, String>> forkedCollectionsMono = actionCollectionService
+                        // Ids of the forked collections and actions are generated up front, so that references
+                        // between them are remapped in memory, and each of them is written with a single bulk insert.
+                        Mono<Map<String, String>> forkedCollectionIdsMono = actionCollectionService
                                 .findByPageId(templatePageId)
-                                .flatMap(actionCollection -> {
-                                    // Keep a record of the original collection id
-                                    final String originalCollectionId = actionCollection.getId();
-                                    log.info("Creating clone of action collection {}", originalCollectionId);
-                                    // Sanitize them
-                                    actionCollection.makePristine();
-                                    actionCollection.setGitSyncId(null);
-                                    actionCollection.setPublishedCollection(null);
-                                    final ActionCollectionDTO unpublishedCollection =
-                                            actionCollection.getUnpublishedCollection();
-                                    unpublishedCollection.setPageId(savedPage.getId());
-
-                                    actionCollection.setWorkspaceId(toWorkspaceId);
-                                    actionCollection.setApplicationId(savedPage.getApplicationId());
-
-                                    actionCollectionService.generateAndSetPolicies(savedPage, actionCollection);
-
+                                .collectList()
+                                .flatMap(actionCollections -> {
+                                    final Map<String, String> collectionIdMap = new HashMap<>();
+                                    for (ActionCollection actionCollection : actionCollections) {
+                                        // Keep a record of the original collection id
+                                        final String originalCollectionId = actionCollection.getId();
+                                        log.info("Preparing action collection for cloning {}", originalCollectionId);
+                                        prepareForkedActionCollection(actionCollection, savedPage, toWorkspaceId);
+                                        collectionIdMap.put(originalCollectionId, actionCollection.getId());
+                                    }
                                     return actionCollectionService
-                                            .create(actionCollection)
-                                            .flatMap(clonedActionCollection -> {
-                                                Mono<Tuple2<String, String>> tuple2Mono = Mono.zip(
-                                                        Mono.just(clonedActionCollection.getId()),
-                                                        Mono.just(originalCollectionId));
-
-                                                if (org.springframework.util.StringUtils.isEmpty(
-                                                        clonedActionCollection.getBaseId())) {
-                                                    ActionCollection updates = new ActionCollection();
-                                                    updates.setBaseId(clonedActionCollection.getId());
-                                                    return actionCollectionService
-                                                            .update(clonedActionCollection.getId(), updates)
-                                                            .then(tuple2Mono);
-                                                }
-                                                return tuple2Mono;
-                                            });
-                                })
-                                .collect(
-                                        HashMap<String, String>::new,
-                                        (map, tuple2) -> map.put(tuple2.getT2(), tuple2.getT1()))
-                                .cache();
-
-                        Mono<HashMap<String, String>> forkedActionsMono =
-                                forkedCollectionsMono.flatMap(collectionIdMap -> {
-                                    return sourceActionFlux
-                                            .map(newAction -> {
-                                                ActionDTO action = newAction.getUnpublishedAction();
-                                                log.info(
-                                                        "Preparing action for cloning {} {}.",
-                                                        action.getName(),
-                                                        newAction.getId());
-                                                action.setPageId(savedPage.getId());
-                                                action.setBaseId(null);
-                                                action.setBranchName(null);
-                                                return newAction;
-                                            })
-                                            .flatMap(newAction -> {
-                                                final String originalActionId = newAction.getId();
-                                                String originalCollectionId = newAction
-                                                        .getUnpublishedAction()
-                                                        .getCollectionId();
-                                                String forkedCollectionId = collectionIdMap.get(originalCollectionId);
-                                                log.info("Creating clone of action {}", originalActionId);
-                                                newAction.makePristine();
-                                                newAction.setGitSyncId(null);
-                                                newAction.setWorkspaceId(toWorkspaceId);
-                                                ActionDTO action = newAction.getUnpublishedAction();
-                                                action.setCollectionId(forkedCollectionId);
-
-                                                Mono<ActionDTO> actionMono = Mono.just(action);
-                                                final Datasource datasourceInsideAction = action.getDatasource();
-                                                if (datasourceInsideAction != null) {
-                                                    if (datasourceInsideAction.getId() != null) {
-                                                        final String datasourceId = datasourceInsideAction.getId();
-                                                        actionMono = clonedDatasourceMonos
-                                                                .get(datasourceId)
-                                                                .map(newDatasource -> {
-                                                                    action.setDatasource(newDatasource);
-                                                                    return action;
-                                                                });
-                                                    } else {
-                                                        // If this is an embedded datasource, the config will get forked
-                                                        // along with the action
-                                                        datasourceInsideAction.setWorkspaceId(toWorkspaceId);
-                                                    }
-                                                }
-                                                return Mono.zip(
-                                                        actionMono
-                                                                .flatMap(actionDTO -> {
-                                                                    actionDTO.setId(null);
-                                                                    // Indicates that source of action creation is fork
-                                                                    // application
-                                                                    actionDTO.setSource(
-                                                                            ActionCreationSourceTypeEnum
-                                                                                    .FORK_APPLICATION);
-                                                                    return layoutActionService.createAction(
-                                                                            actionDTO,
-                                                                            new AppsmithEventContext(
-                                                                                    AppsmithEventContextType
-                                                                                            .CLONE_PAGE),
-                                                                            Boolean.FALSE);
-                                                                })
-                                                                .map(ActionDTO::getId),
-                                                        Mono.justOrEmpty(originalActionId));
-                                            })
-                                            // This call to `collectMap` will wait for all actions in all pages to have
-                                            // been processed,
-                                            // and so the `clonedPages` list will also contain all pages cloned.
-                                            .collect(
-                                                    HashMap::new,
-                                                    (map, tuple2) -> map.put(tuple2.getT2(), tuple2.getT1()));
+                                            .bulkValidateAndInsertActionCollectionInRepository(actionCollections)
+                                            .thenReturn(collectionIdMap);
                                 });
 
-                        return forkableDatasourceFlux
-                                .then(forkedCollectionsMono)
-                                .zipWhen(forkedCollectionsMap -> forkedActionsMono);
+                        Mono<Void> forkedActionsMono =
+                                forkedCollectionIdsMono.flatMap(collectionIdMap -> sourceActionFlux
+                                        .concatMap(newAction -> prepareForkedAction(
+                                                newAction,
+                                                savedPage,
+                                                collectionIdMap,
+                                                clonedDatasourceMonos,
+                                                toWorkspaceId))
+                                        .collectList()
+                                        .flatMap(newActionService::bulkValidateAndInsertActionInRepository));
+
+                        return forkableDatasourceFlux.then(forkedActionsMono).thenReturn(savedPage);
                     });
                 })
-                .flatMapIterable(tuple2 -> clonedPages)
+                // All the pages are forked along with their actions by now, so the on-load actions of each page are
+                // computed once, with all the actions they can refer to in place.
+                .collectList()
+                .flatMapIterable(clonedPages -> clonedPages)
                 .flatMap(clonedPage -> updateLayoutService.updatePageLayoutsByPageId(clonedPage.getId()))
                 .onErrorResume(throwable -> {
                     if (throwable instanceof AppsmithException e
@@ -350,6 +261,82 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
                 .collectList();
     }
 
+    /**
+     * Sanitises the action collection and points it to the forked page, giving it an id, so that it can be inserted
+     * in bulk along with the other collections of the page.
+     */
+    private void prepareForkedActionCollection(
+            ActionCollection actionCollection, NewPage forkedPage, String toWorkspaceId) {
+        actionCollection.makePristine();
+        actionCollection.setCreatedAt(null);
+        actionCollection.setGitSyncId(null);
+        actionCollection.setPublishedCollection(null);
+        actionCollection.getUnpublishedCollection().setPageId(forkedPage.getId());
+
+        actionCollection.setWorkspaceId(toWorkspaceId);
+        actionCollection.setApplicationId(forkedPage.getApplicationId());
+
+        actionCollectionService.generateAndSetPolicies(forkedPage, actionCollection);
+
+        // this will generate the id and other auto generated fields e.g. createdAt
+        actionCollection.updateForBulkWriteOperation();
+        actionCollection.setBaseId(actionCollection.getId());
+        actionCollection.setGitSyncId(actionCollection.getApplicationId() + "_" + UUID.randomUUID());
+    }
+
+    /**
+     * Builds the forked copy of an action of the source page, the way it would be created on the forked page, pointing
+     * it to the forked collection and datasource, and giving it an id, so that it can be inserted in bulk along with
+     * the other actions of the page.
+     */
+    private Mono<NewAction> prepareForkedAction(
+            NewAction sourceAction,
+            NewPage forkedPage,
+            Map<String, String> collectionIdMap,
+            Map<String, Mono<Datasource>> clonedDatasourceMonos,
+            String toWorkspaceId) {
+        final ActionDTO action = sourceAction.getUnpublishedAction();
+        log.info("Preparing action for cloning {} {}.", action.getName(), sourceAction.getId());
+        action.setId(null);
+        action.setPageId(forkedPage.getId());
+        action.setBaseId(null);
+        action.setBranchName(null);
+        action.setCollectionId(collectionIdMap.get(action.getCollectionId()));
+        // Indicates that source of action creation is fork application
+        action.setSource(ActionCreationSourceTypeEnum.FORK_APPLICATION);
+
+        Mono<ActionDTO> actionMono = Mono.just(action);
+        final Datasource datasourceInsideAction = action.getDatasource();
+        if (datasourceInsideAction != null) {
+            if (datasourceInsideAction.getId() != null) {
+                actionMono = clonedDatasourceMonos
+                        .get(datasourceInsideAction.getId())
+                        .map(newDatasource -> {
+                            action.setDatasource(newDatasource);
+                            return action;
+                        });
+            } else {
+                // If this is an embedded datasource, the config will get forked along with the action
+                datasourceInsideAction.setWorkspaceId(toWorkspaceId);
+            }
+        }
+
+        return actionMono.map(actionDTO -> {
+            final NewAction forkedAction = newActionService.generateActionDomain(actionDTO);
+            // Inherit the action policies from the page.
+            newActionService.generateAndSetActionPolicies(forkedPage, forkedAction);
+            newActionService.setCommonFieldsFromActionDTOIntoNewAction(actionDTO, forkedAction);
+            forkedAction.setApplicationId(forkedPage.getApplicationId());
+            forkedAction.setWorkspaceId(toWorkspaceId);
+            forkedAction.setUnpublishedAction(actionDTO);
+
+            // this will generate the id and other auto generated fields e.g. createdAt
+            forkedAction.updateForBulkWriteOperation();
+            forkedAction.setBaseId(forkedAction.getId());
+            return forkedAction;
+        });
+    }
+
     /**
      * This function simply creates a clone of the Application object without cloning its children (page and actions)
      * Once the new application object is created, it adds the new application's id into the list applicationIds
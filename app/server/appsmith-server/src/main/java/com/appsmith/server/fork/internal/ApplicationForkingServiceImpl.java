@@ -13,7 +13,6 @@ import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.WorkspaceRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.ApplicationPageService;
-import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
@@ -41,7 +40,6 @@ public class ApplicationForkingServiceImpl extends ApplicationForkingServiceCEIm
             ApplicationPageService applicationPageService,
             NewPageRepository newPageRepository,
             NewActionService newActionService,
-            LayoutActionService layoutActionService,
             ActionCollectionService actionCollectionService,
             ThemeService themeService,
             PagePermission pagePermission,
@@ -63,7 +61,6 @@ public class ApplicationForkingServiceImpl extends ApplicationForkingServiceCEIm
                 applicationPageService,
                 newPageRepository,
                 newActionService,
-                layoutActionService,
                 actionCollectionService,
                 themeService,
                 pagePermission,
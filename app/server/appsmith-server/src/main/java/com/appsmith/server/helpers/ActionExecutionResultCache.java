@@ -0,0 +1,5 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.helpers.ce.ActionExecutionResultCacheCE;
+
+public interface ActionExecutionResultCache extends ActionExecutionResultCacheCE {}
@@ -0,0 +1,19 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.configurations.ActionExecutionResultCacheConfig;
+import com.appsmith.server.helpers.ce.ActionExecutionResultCacheCEImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ActionExecutionResultCacheImpl extends ActionExecutionResultCacheCEImpl
+        implements ActionExecutionResultCache {
+
+    public ActionExecutionResultCacheImpl(
+            ActionExecutionResultCacheConfig actionExecutionResultCacheConfig,
+            ObjectMapper objectMapper,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+        super(actionExecutionResultCacheConfig, objectMapper, reactiveRedisOperations);
+    }
+}
@@ -2,19 +2,58 @@ package com.appsmith.server.helpers;
 
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.ce.DslVersionDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import net.minidev.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class DSLMigrationUtils {
 
+    private static final int MIGRATION_BATCH_CONCURRENCY = 4;
+
     private final RTSCaller rtsCaller;
 
+    /**
+     * The latest DSL version only changes when RTS is upgraded, so it is fetched again at most once per interval
+     * instead of on every page load.
+     */
+    @Value("${appsmith.dsl.version.refresh-interval-seconds:60}")
+    private long dslVersionRefreshIntervalSeconds;
+
+    /**
+     * Number of page DSLs sent to RTS in a single migration request, to stay well below its request size limit.
+     */
+    @Value("${appsmith.dsl.migration.batch-size:10}")
+    private int migrationBatchSize;
+
+    private Mono<Integer> latestDslVersionMono;
+
+    @PostConstruct
+    private void makeLatestDslVersionMono() {
+        // Errors and empty responses are not cached, so that the next call asks RTS again
+        latestDslVersionMono = Mono.defer(this::fetchLatestDslVersion)
+                .cache(
+                        version -> Duration.ofSeconds(dslVersionRefreshIntervalSeconds),
+                        throwable -> Duration.ZERO,
+                        () -> Duration.ZERO);
+    }
+
     public Mono<Integer> getLatestDslVersion() {
+        return latestDslVersionMono;
+    }
+
+    private Mono<Integer> fetchLatestDslVersion() {
         ParameterizedTypeReference<ResponseDTO<DslVersionDTO>> parameterizedTypeReference =
                 new ParameterizedTypeReference<>() {};
         return rtsCaller
@@ -37,4 +76,38 @@ public class DSLMigrationUtils {
                 .flatMap(spec -> spec.retrieve().bodyToMono(parameterizedTypeReference))
                 .map(responseDTO -> responseDTO.getData());
     }
+
+    /**
+     * Migrates several page dsls to the latest version with as few calls to RTS as possible
+     * @param pageDsls List of page dsl to be migrated
+     * @return List of page dsl after migration, in the same order as the given list
+     */
+    public Mono<List<JSONObject>> migratePageDsls(List<JSONObject> pageDsls) {
+        if (pageDsls.size() == 1) {
+            return migratePageDsl(pageDsls.get(0)).map(List::of);
+        }
+
+        ParameterizedTypeReference<ResponseDTO<List<JSONObject>>> parameterizedTypeReference =
+                new ParameterizedTypeReference<>() {};
+
+        return Flux.fromIterable(pageDsls)
+                .buffer(Math.max(migrationBatchSize, 1))
+                .flatMapSequential(
+                        batch -> rtsCaller
+                                .post("/rts-api/v1/dsl/migrate/batch", batch)
+                                .flatMap(spec -> spec.retrieve().bodyToMono(parameterizedTypeReference))
+                                .flatMapIterable(responseDTO -> {
+                                    // Migrated DSLs are matched to their pages by position, so a short batch would
+                                    // give pages the DSL of another page
+                                    List<JSONObject> migratedDsls = responseDTO.getData();
+                                    if (migratedDsls == null || migratedDsls.size() != batch.size()) {
+                                        throw new AppsmithException(
+                                                AppsmithError.RTS_SERVER_ERROR,
+                                                "Error while migrating to latest DSL version");
+                                    }
+                                    return migratedDsls;
+                                }),
+                        MIGRATION_BATCH_CONCURRENCY)
+                .collectList();
+    }
 }
@@ -0,0 +1,55 @@
+package com.appsmith.server.helpers;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the permission groups of the current user for the duration of a single request, so that the repositories
+ * resolve them once per request instead of once per query. An instance is put in the Reactor context by
+ * {@link com.appsmith.server.filters.RequestPermissionGroupsFilter}; outside of requests there is none, and the
+ * permission groups are resolved on every call as before.
+ * <p>
+ * Entries are dropped whenever the cached permission groups of a user are evicted, so that a request that changes the
+ * roles of its user sees the new permission groups in the queries it makes afterwards.
+ */
+public class RequestPermissionGroups {
+
+    private static final String CONTEXT_KEY = RequestPermissionGroups.class.getName();
+
+    private final Map<String, Mono<Set<String>>> permissionGroups = new ConcurrentHashMap<>();
+
+    public static Context init(Context context) {
+        return context.put(CONTEXT_KEY, new RequestPermissionGroups());
+    }
+
+    /**
+     * Returns the permission groups cached in the request for the given key, resolving them with the given supplier
+     * the first time they are asked for. Without a request in the context, this is the same as calling the supplier.
+     */
+    public static Mono<Set<String>> get(ContextView context, String key, Supplier<Mono<Set<String>>> resolver) {
+        return context.<RequestPermissionGroups>getOrEmpty(CONTEXT_KEY)
+                .map(requestPermissionGroups ->
+                        requestPermissionGroups.permissionGroups.computeIfAbsent(key, k -> cached(resolver.get())))
+                .orElseGet(resolver);
+    }
+
+    private static Mono<Set<String>> cached(Mono<Set<String>> permissionGroupsMono) {
+        // Failures and empty results are not kept, so that a later query in the request tries again
+        return permissionGroupsMono
+                .map(Collections::unmodifiableSet)
+                .cache(value -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    public static void evict(ContextView context) {
+        context.<RequestPermissionGroups>getOrEmpty(CONTEXT_KEY)
+                .ifPresent(requestPermissionGroups -> requestPermissionGroups.permissionGroups.clear());
+    }
+}
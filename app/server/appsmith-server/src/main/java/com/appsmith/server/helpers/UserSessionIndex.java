@@ -0,0 +1,102 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.configurations.RedisConfig;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.User;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Index of the sessions of each user, kept in Redis as a sorted set of session ids per user email, scored by the time
+ * until which each session may live. It lets us find the sessions of a user without going through every session in
+ * Redis.
+ * <p>
+ * Ids past their time are trimmed whenever the index of a user is added to or read, so the index only holds sessions
+ * used within the session timeout, and the whole index expires along with the last of them. Ids of sessions that were
+ * deleted without going through the index, or that were given a new id, may linger until their time has passed, so
+ * the ids need not all have a session.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSessionIndex {
+
+    // This prefix comes from calling `ReactiveRedisSessionRepository.getSessionKey("")` private method.
+    public static final String SESSION_KEY_PREFIX = "spring:session:sessions:";
+
+    private static final String INDEX_KEY_PREFIX = "appsmith:session-index:";
+
+    /**
+     * A session that is in use is only added to the index again once this much time has passed since it was last added.
+     */
+    public static final Duration REINDEX_INTERVAL = Duration.ofHours(1);
+
+    // A session may have been used for up to a reindex interval since it was last added, and outlives that use by the
+    // session timeout
+    private static final Duration SESSION_TTL =
+            Duration.ofSeconds(RedisConfig.SESSION_MAX_INACTIVE_INTERVAL_SECONDS).plus(REINDEX_INTERVAL);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    public static String getSessionKey(String sessionId) {
+        return SESSION_KEY_PREFIX + sessionId;
+    }
+
+    private static String getIndexKey(String email) {
+        return INDEX_KEY_PREFIX + email.toLowerCase();
+    }
+
+    /**
+     * Returns the email of the user signed in with the given security context, or null for anonymous users.
+     */
+    public static String getEmail(SecurityContext securityContext) {
+        final Authentication authentication = securityContext == null ? null : securityContext.getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            return null;
+        }
+        final String email = user.getEmail();
+        return StringUtils.isBlank(email) || FieldName.ANONYMOUS_USER.equals(email) ? null : email;
+    }
+
+    public Mono<Void> add(String email, String sessionId) {
+        final String indexKey = getIndexKey(email);
+        final Instant now = Instant.now();
+        return redisTemplate
+                .opsForZSet()
+                .add(indexKey, sessionId, now.plus(SESSION_TTL).toEpochMilli())
+                .then(trimExpired(indexKey, now))
+                .then(redisTemplate.expire(indexKey, SESSION_TTL))
+                .then();
+    }
+
+    public Mono<Void> remove(String email, String sessionId) {
+        return redisTemplate.opsForZSet().remove(getIndexKey(email), sessionId).then();
+    }
+
+    public Mono<List<String>> getSessionKeys(String email) {
+        final String indexKey = getIndexKey(email);
+        return trimExpired(indexKey, Instant.now())
+                .thenMany(redisTemplate.opsForZSet().range(indexKey, Range.unbounded()))
+                .map(UserSessionIndex::getSessionKey)
+                .collectList();
+    }
+
+    public Mono<Boolean> delete(String email) {
+        return redisTemplate.delete(getIndexKey(email)).map(count -> count > 0);
+    }
+
+    private Mono<Long> trimExpired(String indexKey, Instant now) {
+        return redisTemplate
+                .opsForZSet()
+                .removeRangeByScore(indexKey, Range.leftUnbounded(Range.Bound.exclusive((double) now.toEpochMilli())));
+    }
+}
@@ -0,0 +1,5 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.helpers.ce.ViewModeSnapshotCacheCE;
+
+public interface ViewModeSnapshotCache extends ViewModeSnapshotCacheCE {}
@@ -0,0 +1,26 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.configurations.ViewModeSnapshotConfig;
+import com.appsmith.server.helpers.ce.ViewModeSnapshotCacheCEImpl;
+import com.appsmith.server.services.PermissionGroupService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ViewModeSnapshotCacheImpl extends ViewModeSnapshotCacheCEImpl implements ViewModeSnapshotCache {
+
+    public ViewModeSnapshotCacheImpl(
+            ViewModeSnapshotConfig viewModeSnapshotConfig,
+            ObjectMapper objectMapper,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            PermissionGroupService permissionGroupService,
+            DSLMigrationUtils dslMigrationUtils) {
+        super(
+                viewModeSnapshotConfig,
+                objectMapper,
+                reactiveRedisOperations,
+                permissionGroupService,
+                dslMigrationUtils);
+    }
+}
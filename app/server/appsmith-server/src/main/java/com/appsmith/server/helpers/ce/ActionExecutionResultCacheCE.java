@@ -0,0 +1,38 @@
+package com.appsmith.server.helpers.ce;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceStorage;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public interface ActionExecutionResultCacheCE {
+
+    /**
+     * Builds the cache key of an execution from the action, its evaluated params, the environment and the datasource
+     * storage it runs against, and the user it runs for. Results are never shared between users.
+     */
+    String getKey(
+            ActionDTO actionDTO,
+            ExecuteActionDTO executeActionDTO,
+            DatasourceStorage datasourceStorage,
+            String userKey);
+
+    /**
+     * Returns a copy of the cached result for the key, or an empty Mono if there is none.
+     */
+    Mono<ActionExecutionResult> get(String key);
+
+    /**
+     * Runs the execution and caches a copy of its result for the given time if it was successful. Results larger than
+     * the configured entry size, and results of executions that raced with an invalidation, are not cached.
+     */
+    Mono<ActionExecutionResult> executeAndCache(String key, Duration ttl, Mono<ActionExecutionResult> execution);
+
+    /**
+     * Drops every cached result for the datasource and environment of the given storage, on all nodes.
+     */
+    Mono<Void> invalidate(DatasourceStorage datasourceStorage);
+}
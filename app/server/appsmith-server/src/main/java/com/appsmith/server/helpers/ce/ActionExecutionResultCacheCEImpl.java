@@ -0,0 +1,282 @@
+package com.appsmith.server.helpers.ce;
+
+import com.appsmith.caching.components.NearCache;
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.Param;
+import com.appsmith.server.configurations.ActionExecutionResultCacheConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static java.lang.Boolean.TRUE;
+
+@Slf4j
+public class ActionExecutionResultCacheCEImpl implements ActionExecutionResultCacheCE {
+
+    private static final String KEY_PREFIX = "actionResult:";
+    private static final String REQUEST_FIELD = "request";
+    private static final String MESSAGE_SEPARATOR = "\n";
+    private static final String METRIC_PREFIX = "appsmith.action.result.cache";
+    private static final int INVALIDATION_SCAN_COUNT = 1000;
+    private static final int INVALIDATION_BATCH_SIZE = 500;
+
+    private final ActionExecutionResultCacheConfig config;
+    private final ObjectMapper objectMapper;
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    /**
+     * Holds serialized results, so that every hit hands out its own copy which callers are free to modify.
+     */
+    private final NearCache memoryCache;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private Disposable invalidationSubscription;
+
+    public ActionExecutionResultCacheCEImpl(
+            ActionExecutionResultCacheConfig config,
+            ObjectMapper objectMapper,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        // Every entry is stored with the TTL of its action, the cache wide TTL is never used
+        this.memoryCache = new NearCache(config.getMaxEntries(), 0);
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".hits").register(Metrics.globalRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".misses").register(Metrics.globalRegistry);
+        Metrics.globalRegistry.gauge(METRIC_PREFIX + ".size", memoryCache, NearCache::size);
+    }
+
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        invalidationSubscription = reactiveRedisOperations
+                .listenToChannel(config.getInvalidationChannel())
+                .subscribe(
+                        message -> handleInvalidation(message.getMessage()),
+                        error -> log.error("Action result cache invalidation listener stopped", error));
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * Invalidation messages are of the form {@code nodeId\nkeyPrefix}.
+     */
+    private void handleInvalidation(String message) {
+        String[] parts = message.split(MESSAGE_SEPARATOR, 2);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        memoryCache.invalidateByPrefix(parts[1]);
+    }
+
+    /**
+     * All keys of a datasource and environment share a prefix, so that they can be invalidated together.
+     */
+    private String getKeyPrefix(DatasourceStorage datasourceStorage) {
+        String datasourceKey = datasourceStorage.getDatasourceId();
+        if (datasourceKey == null) {
+            // Embedded datasources have no id, their url is what identifies the system they talk to
+            String url = datasourceStorage.getDatasourceConfiguration() == null
+                    ? null
+                    : datasourceStorage.getDatasourceConfiguration().getUrl();
+            datasourceKey = "embedded-" + DigestUtils.sha256Hex(String.valueOf(url));
+        }
+        return KEY_PREFIX + datasourceKey + ":" + datasourceStorage.getEnvironmentId() + ":";
+    }
+
+    @Override
+    public String getKey(
+            ActionDTO actionDTO,
+            ExecuteActionDTO executeActionDTO,
+            DatasourceStorage datasourceStorage,
+            String userKey) {
+        List<Param> params = new ArrayList<>();
+        if (executeActionDTO.getParams() != null) {
+            params.addAll(executeActionDTO.getParams());
+        }
+        params.sort(Comparator.comparing(Param::getKey, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        List<Object> keyParts = new ArrayList<>();
+        keyParts.add(userKey);
+        keyParts.add(actionDTO.getId());
+        // Editing and publishing an action changes its configuration, which makes older entries unreachable
+        keyParts.add(actionDTO.getActionConfiguration());
+        keyParts.add(executeActionDTO.getPaginationField());
+        keyParts.add(datasourceStorage.getId());
+        keyParts.add(datasourceStorage.getUpdatedAt());
+        params.forEach(param -> {
+            keyParts.add(param.getKey());
+            keyParts.add(param.getValue());
+            keyParts.add(param.getClientDataType());
+        });
+
+        String serializedKeyParts;
+        try {
+            serializedKeyParts = objectMapper.writeValueAsString(keyParts);
+        } catch (JsonProcessingException e) {
+            // Not cacheable, fall back to a key that nothing else will ever produce
+            log.debug("Failed to serialize action result cache key for action {}", actionDTO.getId(), e);
+            serializedKeyParts = UUID.randomUUID().toString();
+        }
+
+        return getKeyPrefix(datasourceStorage) + DigestUtils.sha256Hex(serializedKeyParts);
+    }
+
+    @Override
+    public Mono<ActionExecutionResult> get(String key) {
+        if (!config.isEnabled()) {
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+                    Object cached = memoryCache.get(key);
+                    return cached != null ? Mono.just((String) cached) : getFromRedis(key);
+                })
+                .flatMap(this::deserialize)
+                .doOnNext(result -> hitCounter.increment())
+                .switchIfEmpty(Mono.<ActionExecutionResult>fromRunnable(missCounter::increment));
+    }
+
+    private Mono<String> getFromRedis(String key) {
+        if (!config.isRedisEnabled()) {
+            return Mono.empty();
+        }
+
+        long generation = memoryCache.getGeneration();
+        return Mono.zip(
+                        reactiveRedisOperations.opsForValue().get(key),
+                        reactiveRedisOperations.getExpire(key))
+                .doOnNext(tuple -> {
+                    if (!tuple.getT2().isNegative() && !tuple.getT2().isZero()) {
+                        memoryCache.put(key, tuple.getT1(), generation, tuple.getT2().toMillis());
+                    }
+                })
+                .map(tuple -> tuple.getT1())
+                .onErrorResume(error -> {
+                    log.warn("Failed to read action result cache entry from Redis", error);
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<ActionExecutionResult> executeAndCache(
+            String key, Duration ttl, Mono<ActionExecutionResult> execution) {
+        if (!config.isEnabled()) {
+            return execution;
+        }
+
+        return Mono.defer(() -> {
+            // Anything invalidated while the action runs may be older than the result we get, so it is not kept
+            long generation = memoryCache.getGeneration();
+            return execution.flatMap(result -> {
+                if (!TRUE.equals(result.getIsExecutionSuccess())) {
+                    return Mono.just(result);
+                }
+
+                String serialized = serialize(result);
+                if (serialized == null
+                        || serialized.getBytes(StandardCharsets.UTF_8).length
+                                > config.getMaxEntrySize().toBytes()) {
+                    return Mono.just(result);
+                }
+
+                memoryCache.put(key, serialized, generation, ttl.toMillis());
+                if (!config.isRedisEnabled() || memoryCache.getGeneration() != generation) {
+                    return Mono.just(result);
+                }
+
+                return reactiveRedisOperations
+                        .opsForValue()
+                        .set(key, serialized, ttl)
+                        .onErrorResume(error -> {
+                            log.warn("Failed to write action result cache entry to Redis", error);
+                            return Mono.empty();
+                        })
+                        .thenReturn(result);
+            });
+        });
+    }
+
+    @Override
+    public Mono<Void> invalidate(DatasourceStorage datasourceStorage) {
+        if (!config.isEnabled()) {
+            return Mono.empty();
+        }
+
+        String keyPrefix = getKeyPrefix(datasourceStorage);
+        memoryCache.invalidateByPrefix(keyPrefix);
+
+        Mono<Void> redisEvictionMono = Mono.empty();
+        if (config.isRedisEnabled()) {
+            ScanOptions scanOptions = ScanOptions.scanOptions()
+                    .match(keyPrefix + "*")
+                    .count(INVALIDATION_SCAN_COUNT)
+                    .build();
+            redisEvictionMono = reactiveRedisOperations
+                    .scan(scanOptions)
+                    .buffer(INVALIDATION_BATCH_SIZE)
+                    .concatMap(keys -> reactiveRedisOperations.unlink(keys.toArray(String[]::new)))
+                    .then();
+        }
+
+        return redisEvictionMono
+                .then(reactiveRedisOperations.convertAndSend(
+                        config.getInvalidationChannel(), nodeId + MESSAGE_SEPARATOR + keyPrefix))
+                .onErrorResume(error -> {
+                    log.error("Failed to invalidate action result cache for {}", keyPrefix, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private String serialize(ActionExecutionResult result) {
+        try {
+            // The request holds the evaluated configuration and headers of this execution, which is not handed out
+            ObjectNode serializedResult = objectMapper.valueToTree(result);
+            serializedResult.remove(REQUEST_FIELD);
+            return objectMapper.writeValueAsString(serializedResult);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.debug("Failed to serialize action execution result for caching", e);
+            return null;
+        }
+    }
+
+    private Mono<ActionExecutionResult> deserialize(String serialized) {
+        try {
+            return Mono.just(objectMapper.readValue(serialized, ActionExecutionResult.class));
+        } catch (JsonProcessingException e) {
+            log.debug("Failed to deserialize cached action execution result", e);
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.appsmith.server.helpers.ce;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.dtos.ViewModePageLoadSnapshotDTO;
+import reactor.core.publisher.Mono;
+
+public interface ViewModeSnapshotCacheCE {
+
+    /**
+     * Builds the snapshot key of a page load from the publish of the application, the page, the latest DSL version and
+     * the permission groups of the current user. Returns an empty Mono if the load can not be served from a snapshot.
+     */
+    Mono<String> getKey(Application branchedApplication, String basePageId);
+
+    /**
+     * Returns a copy of the snapshot for the key, or an empty Mono if there is none.
+     */
+    Mono<ViewModePageLoadSnapshotDTO> get(String key);
+
+    /**
+     * Stores the snapshot under the key, unless it is larger than the configured entry size.
+     */
+    Mono<Void> put(String key, ViewModePageLoadSnapshotDTO snapshot);
+}
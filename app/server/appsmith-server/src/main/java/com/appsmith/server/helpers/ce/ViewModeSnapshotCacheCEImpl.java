@@ -0,0 +1,183 @@
+package com.appsmith.server.helpers.ce;
+
+import com.appsmith.caching.components.NearCache;
+import com.appsmith.server.configurations.ViewModeSnapshotConfig;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.dtos.ViewModePageLoadSnapshotDTO;
+import com.appsmith.server.helpers.DSLMigrationUtils;
+import com.appsmith.server.services.PermissionGroupService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+public class ViewModeSnapshotCacheCEImpl implements ViewModeSnapshotCacheCE {
+
+    private static final String KEY_PREFIX = "viewModeSnapshot:";
+    private static final String METRIC_PREFIX = "appsmith.consolidated.view.snapshot";
+
+    private final ViewModeSnapshotConfig config;
+    private final ObjectMapper objectMapper;
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final PermissionGroupService permissionGroupService;
+    private final DSLMigrationUtils dslMigrationUtils;
+
+    /**
+     * Holds gzipped JSON, so that every hit hands out its own copy and large page DSLs take little memory.
+     */
+    private final NearCache memoryCache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ViewModeSnapshotCacheCEImpl(
+            ViewModeSnapshotConfig config,
+            ObjectMapper objectMapper,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            PermissionGroupService permissionGroupService,
+            DSLMigrationUtils dslMigrationUtils) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.permissionGroupService = permissionGroupService;
+        this.dslMigrationUtils = dslMigrationUtils;
+        this.memoryCache = new NearCache(
+                config.getMaxEntries(), Duration.ofSeconds(config.getTtlSeconds()).toMillis());
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".hits").register(Metrics.globalRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".misses").register(Metrics.globalRegistry);
+        Metrics.globalRegistry.gauge(METRIC_PREFIX + ".size", memoryCache, NearCache::size);
+    }
+
+    @Override
+    public Mono<String> getKey(Application branchedApplication, String basePageId) {
+        // An application that has never been published has nothing to snapshot. Publishing bumps the last deployed
+        // time, and importing into the application or restoring a snapshot changes the published resources version,
+        // so together they version the snapshots.
+        if (!config.isEnabled()
+                || branchedApplication.getId() == null
+                || branchedApplication.getLastDeployedAt() == null) {
+            return Mono.empty();
+        }
+
+        // Users with the same permission groups see the same pages, actions and permissions on them
+        return Mono.zip(
+                        permissionGroupService.getSessionUserPermissionGroupIds(),
+                        dslMigrationUtils.getLatestDslVersion())
+                .map(tuple -> {
+                    String permissionGroupsHash =
+                            DigestUtils.sha256Hex(String.join(",", new TreeSet<>(tuple.getT1())));
+                    return KEY_PREFIX
+                            + branchedApplication.getId() + ":"
+                            + branchedApplication.getLastDeployedAt() + ":"
+                            + branchedApplication.getPublishedResourcesVersion() + ":"
+                            + basePageId + ":"
+                            + tuple.getT2() + ":"
+                            + permissionGroupsHash;
+                })
+                .onErrorResume(error -> {
+                    log.debug("Not using a view mode snapshot for application {}", branchedApplication.getId(), error);
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<ViewModePageLoadSnapshotDTO> get(String key) {
+        if (!config.isEnabled()) {
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+                    Object cached = memoryCache.get(key);
+                    return cached != null ? Mono.just((byte[]) cached) : getFromRedis(key);
+                })
+                .flatMap(this::decompress)
+                .doOnNext(snapshot -> hitCounter.increment())
+                .switchIfEmpty(Mono.<ViewModePageLoadSnapshotDTO>fromRunnable(missCounter::increment));
+    }
+
+    private Mono<byte[]> getFromRedis(String key) {
+        if (!config.isRedisEnabled()) {
+            return Mono.empty();
+        }
+
+        long generation = memoryCache.getGeneration();
+        return Mono.zip(
+                        reactiveRedisOperations.opsForValue().get(key),
+                        reactiveRedisOperations.getExpire(key))
+                .map(tuple -> {
+                    byte[] compressed = Base64.getDecoder().decode(tuple.getT1());
+                    if (!tuple.getT2().isNegative() && !tuple.getT2().isZero()) {
+                        memoryCache.put(key, compressed, generation, tuple.getT2().toMillis());
+                    }
+                    return compressed;
+                })
+                .onErrorResume(error -> {
+                    log.warn("Failed to read view mode snapshot from Redis", error);
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Void> put(String key, ViewModePageLoadSnapshotDTO snapshot) {
+        if (!config.isEnabled()) {
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+            byte[] compressed = compress(snapshot);
+            if (compressed == null || compressed.length > config.getMaxEntrySize().toBytes()) {
+                return Mono.empty();
+            }
+
+            Duration ttl = Duration.ofSeconds(config.getTtlSeconds());
+            memoryCache.put(key, compressed, memoryCache.getGeneration(), ttl.toMillis());
+            if (!config.isRedisEnabled()) {
+                return Mono.empty();
+            }
+
+            return reactiveRedisOperations
+                    .opsForValue()
+                    .set(key, Base64.getEncoder().encodeToString(compressed), ttl)
+                    .onErrorResume(error -> {
+                        log.warn("Failed to write view mode snapshot to Redis", error);
+                        return Mono.empty();
+                    })
+                    .then();
+        });
+    }
+
+    private byte[] compress(ViewModePageLoadSnapshotDTO snapshot) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            objectMapper.writeValue(outputStream, snapshot);
+        } catch (IOException e) {
+            log.debug("Failed to serialize view mode snapshot", e);
+            return null;
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private Mono<ViewModePageLoadSnapshotDTO> decompress(byte[] compressed) {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return Mono.just(objectMapper.readValue(inputStream, ViewModePageLoadSnapshotDTO.class));
+        } catch (IOException e) {
+            log.debug("Failed to deserialize view mode snapshot", e);
+            return Mono.empty();
+        }
+    }
+}
@@ -87,6 +87,15 @@ public final class Bridge {
         return Bridge.<T>query().in(key, value);
     }
 
+    public static <T extends BaseDomain> BridgeQuery<T> containsAll(
+            @NonNull String key, @NonNull Collection<String> values) {
+        return Bridge.<T>query().containsAll(key, values);
+    }
+
+    public static <T extends BaseDomain> BridgeQuery<T> equalField(@NonNull String key, @NonNull String otherKey) {
+        return Bridge.<T>query().equalField(key, otherKey);
+    }
+
     public static <T extends BaseDomain> BridgeQuery<T> notIn(
             @NonNull String needle, @NonNull Collection<String> haystack) {
         return Bridge.<T>query().notIn(needle, haystack);
@@ -4,6 +4,7 @@ import com.appsmith.external.models.BaseDomain;
 import lombok.NonNull;
 import org.bson.Document;
 import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
 import org.springframework.data.mongodb.core.query.Criteria;
 
 import java.util.ArrayList;
@@ -72,6 +73,23 @@ public final class BridgeQuery<T extends BaseDomain> extends Criteria {
         return this;
     }
 
+    /**
+     * Matches when the array at `key` has every one of the given values.
+     */
+    public BridgeQuery<T> containsAll(@NonNull String key, @NonNull Collection<String> values) {
+        checks.add(Criteria.where(key).all(values));
+        return this;
+    }
+
+    /**
+     * Matches when the values of the two fields are equal. This can't be served from an index, so it should be used
+     * alongside criteria that can.
+     */
+    public BridgeQuery<T> equalField(@NonNull String key, @NonNull String otherKey) {
+        checks.add(Criteria.expr(ComparisonOperators.valueOf(key).equalTo(otherKey)));
+        return this;
+    }
+
     public BridgeQuery<T> notIn(@NonNull String needle, @NonNull Collection<String> haystack) {
         checks.add(Criteria.where(needle).not().in(haystack));
         return this;
@@ -0,0 +1,61 @@
+package com.appsmith.server.migrations.db.ce;
+
+import com.appsmith.server.helpers.UserSessionIndex;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+/**
+ * Builds the {@link UserSessionIndex} from the sessions that exist in Redis. Sessions saved from here on are indexed
+ * as they are saved.
+ */
+@Slf4j
+@ChangeUnit(order = "064", id = "build-user-session-index")
+public class Migration064BuildUserSessionIndex {
+
+    private static final String SECURITY_CONTEXT_FIELD = "sessionAttr:" + DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+    @RollbackExecution
+    public void rollbackExecution() {}
+
+    @Execution
+    public void execute(
+            @Qualifier("reactiveRedisTemplate") ReactiveRedisOperations<String, Object> sessionRedisOperations,
+            ReactiveStringRedisTemplate stringRedisTemplate) {
+        final UserSessionIndex userSessionIndex = new UserSessionIndex(stringRedisTemplate);
+
+        final Long indexedSessions = sessionRedisOperations
+                .scan(ScanOptions.scanOptions()
+                        .match(UserSessionIndex.SESSION_KEY_PREFIX + "*")
+                        .count(1000)
+                        .build())
+                .flatMap(
+                        sessionKey -> sessionRedisOperations
+                                .opsForHash()
+                                .get(sessionKey, SECURITY_CONTEXT_FIELD)
+                                .mapNotNull(context -> UserSessionIndex.getEmail((SecurityContext) context))
+                                .flatMap(email -> userSessionIndex
+                                        .add(email, sessionKey.substring(UserSessionIndex.SESSION_KEY_PREFIX.length()))
+                                        .thenReturn(1L))
+                                .defaultIfEmpty(0L)
+                                .onErrorResume(error -> {
+                                    // Sessions written by older versions may not be readable, and are left out
+                                    log.debug("Unable to index session {}", sessionKey, error);
+                                    return Mono.just(0L);
+                                }),
+                        32)
+                .reduce(0L, Long::sum)
+                .block();
+
+        log.info("Indexed {} user sessions", indexedSessions);
+    }
+}
@@ -0,0 +1,93 @@
+package com.appsmith.server.migrations.db.ce;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Workspace;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.stream.Stream;
+
+import static com.appsmith.server.migrations.DatabaseChangelog1.ensureIndexes;
+import static com.appsmith.server.migrations.DatabaseChangelog1.makeIndex;
+import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.SEARCH_NAME;
+import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.SEARCH_NAME_GRAMS;
+import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.getSearchNameGrams;
+import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.normaliseSearchName;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Sets the normalised name and name n-grams of the existing applications and workspaces, and indexes the n-grams, so
+ * that entity search can look them up instead of scanning names with a regex.
+ */
+@Slf4j
+@ChangeUnit(order = "065", id = "add-search-name-to-applications-and-workspaces", author = " ")
+public class Migration065AddSearchNameToApplicationsAndWorkspaces {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public Migration065AddSearchNameToApplicationsAndWorkspaces(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @RollbackExecution
+    public void rollbackExecution() {}
+
+    @Execution
+    public void execute() {
+        addSearchName(Application.class, Application.Fields.name);
+        addSearchName(Workspace.class, Workspace.Fields.name);
+    }
+
+    private void addSearchName(Class<? extends BaseDomain> domainClass, String nameField) {
+        ensureIndexes(mongoTemplate, domainClass, makeIndex(SEARCH_NAME_GRAMS));
+
+        Query query = new Query(where(SEARCH_NAME_GRAMS).exists(false).and(nameField).exists(true));
+        query.fields().include(nameField);
+        query.cursorBatchSize(BATCH_SIZE);
+
+        String collectionName = mongoTemplate.getCollectionName(domainClass);
+        BulkOperations bulkOperations = null;
+        int pending = 0;
+        int updated = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collectionName)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                if (!(document.get(nameField) instanceof String name)) {
+                    continue;
+                }
+                if (bulkOperations == null) {
+                    bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+                }
+
+                String searchName = normaliseSearchName(name);
+                Update update =
+                        new Update().set(SEARCH_NAME, searchName).set(SEARCH_NAME_GRAMS, getSearchNameGrams(searchName));
+                bulkOperations.updateOne(new Query(where("_id").is(document.get("_id"))), update);
+                pending++;
+
+                if (pending == BATCH_SIZE) {
+                    bulkOperations.execute();
+                    updated += pending;
+                    bulkOperations = null;
+                    pending = 0;
+                }
+            }
+        }
+
+        if (bulkOperations != null) {
+            bulkOperations.execute();
+            updated += pending;
+        }
+
+        log.info("Added search name to {} documents of {}", updated, collectionName);
+    }
+}
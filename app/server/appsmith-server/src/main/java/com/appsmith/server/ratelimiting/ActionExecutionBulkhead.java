@@ -0,0 +1,5 @@
+package com.appsmith.server.ratelimiting;
+
+import com.appsmith.server.ratelimiting.ce.ActionExecutionBulkheadCE;
+
+public interface ActionExecutionBulkhead extends ActionExecutionBulkheadCE {}
@@ -0,0 +1,37 @@
+package com.appsmith.server.ratelimiting;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Limits on concurrent action executions, so that one busy application cannot take every execution thread of the
+ * instance. Each limit is applied separately per workspace, per datasource and per plugin.
+ * <p>
+ * Limits are off by default, as the per plugin limit applies to the whole instance. Size them for the instance before
+ * turning them on.
+ */
+@Getter
+@Configuration
+public class ActionExecutionBulkheadConfig {
+
+    @Value("${appsmith.action.execution.bulkhead.enabled:false}")
+    private boolean enabled;
+
+    @Value("${appsmith.action.execution.bulkhead.workspace.max-concurrent:100}")
+    private int maxConcurrentPerWorkspace;
+
+    @Value("${appsmith.action.execution.bulkhead.datasource.max-concurrent:50}")
+    private int maxConcurrentPerDatasource;
+
+    @Value("${appsmith.action.execution.bulkhead.plugin.max-concurrent:200}")
+    private int maxConcurrentPerPlugin;
+
+    @Value("${appsmith.action.execution.bulkhead.max-queued:200}")
+    private int maxQueued;
+
+    @Value("${appsmith.action.execution.bulkhead.max-wait:30s}")
+    private Duration maxWait;
+}
@@ -0,0 +1,12 @@
+package com.appsmith.server.ratelimiting;
+
+import com.appsmith.server.ratelimiting.ce.ActionExecutionBulkheadCEImpl;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ActionExecutionBulkheadImpl extends ActionExecutionBulkheadCEImpl implements ActionExecutionBulkhead {
+
+    public ActionExecutionBulkheadImpl(ActionExecutionBulkheadConfig actionExecutionBulkheadConfig) {
+        super(actionExecutionBulkheadConfig);
+    }
+}
@@ -0,0 +1,147 @@
+package com.appsmith.server.ratelimiting;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A non-blocking concurrency limiter. At most {@code maxConcurrent} permits are handed out at a time, up to
+ * {@code maxQueued} subscribers wait in FIFO order for a permit, and any further subscriber is rejected right away.
+ * <p>
+ * Waiting never blocks a thread: a waiting subscriber is only completed once another permit is released.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private int activeCount = 0;
+
+    public Bulkhead(int maxConcurrent, int maxQueued) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Emits a permit once one is available, or errors with {@link BulkheadFullException} if the wait queue is already
+     * full. Cancelling the subscription while waiting gives up the place in the queue, and cancelling it after the
+     * permit was granted releases the permit.
+     */
+    public Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink, new Permit(this));
+            boolean granted;
+            synchronized (this) {
+                if (activeCount < maxConcurrent) {
+                    activeCount++;
+                    granted = true;
+                } else if (waiters.size() < maxQueued) {
+                    waiters.addLast(waiter);
+                    granted = false;
+                } else {
+                    sink.error(new BulkheadFullException());
+                    return;
+                }
+            }
+
+            if (granted) {
+                waiter.done.set(true);
+                sink.onCancel(waiter.permit::release);
+                sink.success(waiter.permit);
+                return;
+            }
+
+            sink.onCancel(() -> {
+                if (waiter.done.compareAndSet(false, true)) {
+                    // Still in the queue, just give up our place
+                    synchronized (this) {
+                        waiters.remove(waiter);
+                    }
+                } else {
+                    // The permit was handed over concurrently with the cancellation
+                    waiter.permit.release();
+                }
+            });
+        });
+    }
+
+    /**
+     * Returns a permit if one is available right away and nobody is waiting for one, or null otherwise. Never queues.
+     */
+    public synchronized Permit tryAcquire() {
+        if (activeCount >= maxConcurrent || !waiters.isEmpty()) {
+            return null;
+        }
+        activeCount++;
+        return new Permit(this);
+    }
+
+    public synchronized int getActiveCount() {
+        return activeCount;
+    }
+
+    public synchronized int getQueuedCount() {
+        return waiters.size();
+    }
+
+    /**
+     * Hands the permit over to the next live waiter, or returns it to the pool if nobody is waiting.
+     */
+    private void release() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                next = waiters.pollFirst();
+                if (next == null) {
+                    activeCount--;
+                    return;
+                }
+            }
+
+            if (next.done.compareAndSet(false, true)) {
+                next.sink.success(next.permit);
+                return;
+            }
+            // That waiter was cancelled in the meantime, try the next one
+        }
+    }
+
+    public static class Permit {
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        /**
+         * Returns the permit. Calling this more than once has no further effect.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    public static class BulkheadFullException extends RuntimeException {
+        public BulkheadFullException() {
+            super("Bulkhead wait queue is full", null, false, false);
+        }
+    }
+
+    private static class Waiter {
+        private final MonoSink<Permit> sink;
+        private final Permit permit;
+        private final AtomicBoolean done = new AtomicBoolean(false);
+
+        private Waiter(MonoSink<Permit> sink, Permit permit) {
+            this.sink = sink;
+            this.permit = permit;
+        }
+    }
+}
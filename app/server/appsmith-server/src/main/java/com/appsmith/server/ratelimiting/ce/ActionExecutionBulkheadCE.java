@@ -0,0 +1,18 @@
+package com.appsmith.server.ratelimiting.ce;
+
+import reactor.core.publisher.Mono;
+
+public interface ActionExecutionBulkheadCE {
+
+    /**
+     * Runs the action execution once a slot is free for its workspace, datasource and plugin, waiting in a bounded
+     * queue otherwise. Fails with a too many requests error when any of the queues is full or the wait takes too long.
+     *
+     * @param workspaceId   Workspace the action belongs to
+     * @param datasourceKey Datasource id, or any stable identifier for embedded datasources
+     * @param pluginId      Plugin the action is executed with
+     * @param execution     The execution to run
+     * @return The result of the execution
+     */
+    <T> Mono<T> execute(String workspaceId, String datasourceKey, String pluginId, Mono<T> execution);
+}
@@ -0,0 +1,204 @@
+package com.appsmith.server.ratelimiting.ce;
+
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.ratelimiting.ActionExecutionBulkheadConfig;
+import com.appsmith.server.ratelimiting.Bulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+public class ActionExecutionBulkheadCEImpl implements ActionExecutionBulkheadCE {
+
+    private static final String METRIC_PREFIX = "appsmith.action.execution.bulkhead";
+    private static final String DIMENSION_TAG = "dimension";
+
+    private final ActionExecutionBulkheadConfig config;
+
+    private final Dimension workspaces;
+    private final Dimension datasources;
+    private final Dimension plugins;
+
+    public ActionExecutionBulkheadCEImpl(ActionExecutionBulkheadConfig config) {
+        this.config = config;
+        this.workspaces = new Dimension("workspace", config.getMaxConcurrentPerWorkspace(), config.getMaxQueued());
+        this.datasources = new Dimension("datasource", config.getMaxConcurrentPerDatasource(), config.getMaxQueued());
+        this.plugins = new Dimension("plugin", config.getMaxConcurrentPerPlugin(), config.getMaxQueued());
+    }
+
+    @Override
+    public <T> Mono<T> execute(String workspaceId, String datasourceKey, String pluginId, Mono<T> execution) {
+        if (!config.isEnabled()) {
+            return execution;
+        }
+
+        return Mono.defer(() -> {
+            List<Slot> slots = new ArrayList<>(3);
+            addSlot(slots, workspaces, workspaceId);
+            addSlot(slots, datasources, datasourceKey);
+            addSlot(slots, plugins, pluginId);
+            if (slots.isEmpty()) {
+                return execution;
+            }
+
+            AtomicReference<Slot> waitingSlot = new AtomicReference<>();
+            Mono<List<Bulkhead.Permit>> permitsMono = acquireAll(slots, null, null, waitingSlot)
+                    .timeout(config.getMaxWait())
+                    .onErrorMap(
+                            error -> error instanceof Bulkhead.BulkheadFullException
+                                    || error instanceof TimeoutException,
+                            error -> {
+                                Slot slot = waitingSlot.get();
+                                slot.dimension.rejectionCounter.increment();
+                                log.warn(
+                                        "Rejecting action execution, too many concurrent executions for {} {}",
+                                        slot.dimension.name,
+                                        slot.key);
+                                return new AppsmithException(AppsmithError.TOO_MANY_REQUESTS);
+                            });
+
+            return Mono.usingWhen(
+                            permitsMono,
+                            permits -> execution,
+                            permits -> Mono.fromRunnable(() -> permits.forEach(Bulkhead.Permit::release)),
+                            (permits, error) -> Mono.fromRunnable(() -> permits.forEach(Bulkhead.Permit::release)),
+                            permits -> Mono.fromRunnable(() -> permits.forEach(Bulkhead.Permit::release)))
+                    .doFinally(signalType -> slots.forEach(slot -> slot.dimension.release(slot.key)));
+        });
+    }
+
+    private static void addSlot(List<Slot> slots, Dimension dimension, String key) {
+        if (key != null) {
+            slots.add(new Slot(dimension, key, dimension.retain(key)));
+        }
+    }
+
+    /**
+     * Takes a permit of every slot. Permits that are free are taken right away, and when one is not, every permit taken
+     * so far is given back before queueing for it. An execution thus never holds the permit of one workspace,
+     * datasource or plugin while it waits for another, which would hold up other executions for the first one behind a
+     * busy second one.
+     *
+     * @param grantedSlot    the slot whose permit has just been handed over after queueing, null on the first attempt
+     * @param grantedPermit  the permit of the granted slot
+     * @param waitingSlot    set to the slot being waited for, to tell which one a rejection comes from
+     */
+    private static Mono<List<Bulkhead.Permit>> acquireAll(
+            List<Slot> slots, Slot grantedSlot, Bulkhead.Permit grantedPermit, AtomicReference<Slot> waitingSlot) {
+        List<Bulkhead.Permit> permits = new ArrayList<>(slots.size());
+        for (Slot slot : slots) {
+            Bulkhead.Permit permit = slot == grantedSlot ? grantedPermit : slot.bulkhead.tryAcquire();
+            if (permit != null) {
+                permits.add(permit);
+                continue;
+            }
+
+            // Releasing is idempotent, so the granted permit is given back whether it has been added yet or not
+            permits.forEach(Bulkhead.Permit::release);
+            if (grantedPermit != null) {
+                grantedPermit.release();
+            }
+
+            waitingSlot.set(slot);
+            long waitStart = System.nanoTime();
+            return slot.bulkhead
+                    .acquire()
+                    .doOnNext(ignored ->
+                            slot.dimension.waitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS))
+                    .flatMap(permit -> acquireAll(slots, slot, permit, waitingSlot));
+        }
+        return Mono.just(permits);
+    }
+
+    /**
+     * The bulkhead of one key of a dimension that an execution takes a permit of.
+     */
+    private record Slot(Dimension dimension, String key, Bulkhead bulkhead) {}
+
+    /**
+     * One bulkhead per key for a single dimension (workspace, datasource or plugin), along with its metrics. Metrics
+     * are tagged by dimension only, to keep the number of series independent of the number of workspaces.
+     * <p>
+     * A bulkhead is only kept while executions hold or wait for its permits, so that keys which are no longer used do
+     * not pile up.
+     */
+    private static class Dimension {
+        private final String name;
+        private final int maxConcurrent;
+        private final int maxQueued;
+        private final Map<String, Entry> bulkheads = new ConcurrentHashMap<>();
+        private final Timer waitTimer;
+        private final Counter rejectionCounter;
+
+        Dimension(String name, int maxConcurrent, int maxQueued) {
+            this.name = name;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                    .tag(DIMENSION_TAG, name)
+                    .register(Metrics.globalRegistry);
+            this.rejectionCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                    .tag(DIMENSION_TAG, name)
+                    .register(Metrics.globalRegistry);
+            Metrics.globalRegistry.gauge(
+                    METRIC_PREFIX + ".queued",
+                    List.of(Tag.of(DIMENSION_TAG, name)),
+                    bulkheads,
+                    map -> map.values().stream()
+                            .mapToInt(entry -> entry.bulkhead.getQueuedCount())
+                            .sum());
+            Metrics.globalRegistry.gauge(
+                    METRIC_PREFIX + ".active",
+                    List.of(Tag.of(DIMENSION_TAG, name)),
+                    bulkheads,
+                    map -> map.values().stream()
+                            .mapToInt(entry -> entry.bulkhead.getActiveCount())
+                            .sum());
+        }
+
+        /**
+         * Returns the bulkhead of the key, counting the caller as one of its users until {@link #release} is called.
+         */
+        private Bulkhead retain(String key) {
+            return bulkheads.compute(key, (k, entry) -> {
+                        Entry retained = entry == null ? new Entry(new Bulkhead(maxConcurrent, maxQueued)) : entry;
+                        retained.users++;
+                        return retained;
+                    })
+                    .bulkhead;
+        }
+
+        /**
+         * Drops the bulkhead of the key once its last user is done with it. The next execution for the key starts
+         * with a fresh bulkhead, which is equivalent as no permits are held at that point.
+         */
+        private void release(String key) {
+            bulkheads.computeIfPresent(key, (k, entry) -> --entry.users == 0 ? null : entry);
+        }
+    }
+
+    /**
+     * A bulkhead along with the number of executions holding or waiting for its permits. The count is only ever read
+     * and written inside the atomic map operations of the dimension.
+     */
+    private static class Entry {
+        private final Bulkhead bulkhead;
+        private int users;
+
+        Entry(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+    }
+}
@@ -3,10 +3,12 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.configurations.mongo.QueryIndexAdvisor;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.RequestPermissionGroups;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
@@ -35,6 +37,7 @@ import reactor.core.publisher.Mono;
 import java.lang.reflect.Modifier;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -83,6 +86,9 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
     @Autowired
     private CacheableRepositoryHelper cacheableRepositoryHelper;
 
+    @Autowired
+    private QueryIndexAdvisor queryIndexAdvisor;
+
     public static final int NO_RECORD_LIMIT = -1;
 
     public static final int NO_SKIP = 0;
@@ -175,12 +181,19 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         return getCurrentUserPermissionGroups(true);
     }
 
+    /**
+     * Resolves the permission groups of the current user once per request. Every later call in the same request is
+     * served from {@link RequestPermissionGroups} in the Reactor context.
+     */
     protected Mono<Set<String>> getCurrentUserPermissionGroups(boolean includeAnonymousUserPermissions) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> (User) ctx.getAuthentication().getPrincipal())
-                .flatMap(user -> includeAnonymousUserPermissions
-                        ? getAllPermissionGroupsForUser(user)
-                        : getStrictPermissionGroupsForUser(user));
+                .flatMap(user -> Mono.deferContextual(context -> RequestPermissionGroups.get(
+                        context,
+                        user.getEmail() + (includeAnonymousUserPermissions ? "" : ":strict"),
+                        () -> includeAnonymousUserPermissions
+                                ? getAllPermissionGroupsForUser(user)
+                                : getStrictPermissionGroupsForUser(user))));
     }
 
     protected Query createQueryWithPermission(
@@ -245,11 +258,14 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 query.with(params.getSort());
             }
 
-            return mongoOperations
-                    .query(this.genericDomain)
-                    .as(projectionClass)
-                    .matching(query.cursorBatchSize(10_000))
-                    .all();
+            return queryIndexAdvisor.observe(
+                    genericDomain,
+                    query,
+                    mongoOperations
+                            .query(this.genericDomain)
+                            .as(projectionClass)
+                            .matching(query.cursorBatchSize(10_000))
+                            .all());
         }));
     }
 
@@ -272,11 +288,14 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             final Query query =
                     createQueryWithPermission(params.getCriteria(), params.getFields(), permissionGroups, permission);
 
-            return mongoOperations
-                    .query(genericDomain)
-                    .as(projectionClass)
-                    .matching(query.cursorBatchSize(10_000))
-                    .one();
+            return queryIndexAdvisor.observe(
+                    genericDomain,
+                    query,
+                    mongoOperations
+                            .query(genericDomain)
+                            .as(projectionClass)
+                            .matching(query.cursorBatchSize(10_000))
+                            .one());
         }));
     }
 
@@ -315,7 +334,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
             final Query query = createQueryWithPermission(params.getCriteria(), permissionGroups, permission);
 
-            return mongoOperations.count(query, this.genericDomain);
+            return queryIndexAdvisor.observe(genericDomain, query, mongoOperations.count(query, this.genericDomain));
         }));
     }
 
@@ -416,28 +435,38 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         Set<String> permissions = new HashSet<>();
         obj.setUserPermissions(permissions);
 
-        Set<Policy> existingPolicies = obj.getPolicies();
-        final Set<Policy> policies = new HashSet<>(existingPolicies == null ? Set.of() : existingPolicies);
+        // Read the policies straight from the policy map, rather than from a copy of them for every document
+        final Map<String, Policy> policyMap = obj.getPolicyMap();
+        final Collection<Policy> policies = CollectionUtils.isEmpty(policyMap) ? obj.getPolicies() : policyMap.values();
         if (CollectionUtils.isEmpty(policies) || permissionGroups.isEmpty()) {
             return Mono.just(obj);
         }
 
         for (Policy policy : policies) {
-            Set<String> policyPermissionGroups = policy.getPermissionGroups();
-            if (CollectionUtils.isEmpty(policyPermissionGroups)) {
-                continue;
-            }
-            for (String permissionGroup : permissionGroups) {
-                if (policyPermissionGroups.contains(permissionGroup)) {
-                    permissions.add(policy.getPermission());
-                    break;
-                }
+            if (isGrantedToAny(policy.getPermissionGroups(), permissionGroups)) {
+                permissions.add(policy.getPermission());
             }
         }
-        obj.setPolicies(policies);
         return Mono.just(obj);
     }
 
+    private static boolean isGrantedToAny(Set<String> policyPermissionGroups, Set<String> permissionGroups) {
+        if (CollectionUtils.isEmpty(policyPermissionGroups)) {
+            return false;
+        }
+
+        // Walk the smaller of the two sets, and look each of its groups up in the other one
+        final Set<String> smaller =
+                policyPermissionGroups.size() <= permissionGroups.size() ? policyPermissionGroups : permissionGroups;
+        final Set<String> larger = smaller == policyPermissionGroups ? permissionGroups : policyPermissionGroups;
+        for (String permissionGroup : smaller) {
+            if (larger.contains(permissionGroup)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 1. Get all the user groups associated with the user
      * 2. Get all the permission groups associated with anonymous user
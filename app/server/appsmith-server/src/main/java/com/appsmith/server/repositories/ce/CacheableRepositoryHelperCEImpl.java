@@ -12,6 +12,7 @@ import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.InMemoryCacheableRepositoryHelper;
+import com.appsmith.server.helpers.RequestPermissionGroups;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import io.micrometer.observation.ObservationRegistry;
@@ -130,7 +131,11 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
     @CacheEvict(cacheName = "permissionGroupsForUser", key = "{#email + #tenantId}")
     @Override
     public Mono<Void> evictPermissionGroupsUser(String email, String tenantId) {
-        return Mono.empty();
+        // Also drop what the current request has resolved, so its later queries see the user's new permission groups
+        return Mono.deferContextual(context -> {
+            RequestPermissionGroups.evict(context);
+            return Mono.empty();
+        });
     }
 
     @Override
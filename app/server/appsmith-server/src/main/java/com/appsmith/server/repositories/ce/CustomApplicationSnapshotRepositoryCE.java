@@ -2,5 +2,11 @@ package com.appsmith.server.repositories.ce;
 
 import com.appsmith.server.domains.ApplicationSnapshot;
 import com.appsmith.server.repositories.AppsmithRepository;
+import reactor.core.publisher.Mono;
 
-public interface CustomApplicationSnapshotRepositoryCE extends AppsmithRepository<ApplicationSnapshot> {}
+public interface CustomApplicationSnapshotRepositoryCE extends AppsmithRepository<ApplicationSnapshot> {
+
+    Mono<String> findContentHashByApplicationId(String applicationId);
+
+    Mono<Integer> updateUpdatedAtByApplicationId(String applicationId);
+}
@@ -1,7 +1,31 @@
 package com.appsmith.server.repositories.ce;
 
+import com.appsmith.external.models.BaseDomain;
 import com.appsmith.server.domains.ApplicationSnapshot;
+import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
 
 public class CustomApplicationSnapshotRepositoryCEImpl extends BaseAppsmithRepositoryImpl<ApplicationSnapshot>
-        implements CustomApplicationSnapshotRepositoryCE {}
+        implements CustomApplicationSnapshotRepositoryCE {
+
+    @Override
+    public Mono<String> findContentHashByApplicationId(String applicationId) {
+        return queryBuilder()
+                .criteria(Bridge.equal(ApplicationSnapshot.Fields.applicationId, applicationId)
+                        .equal(ApplicationSnapshot.Fields.chunkOrder, 1))
+                .fields(ApplicationSnapshot.Fields.contentHash)
+                .one()
+                .mapNotNull(ApplicationSnapshot::getContentHash);
+    }
+
+    @Override
+    public Mono<Integer> updateUpdatedAtByApplicationId(String applicationId) {
+        return queryBuilder()
+                .criteria(Bridge.equal(ApplicationSnapshot.Fields.applicationId, applicationId)
+                        .equal(ApplicationSnapshot.Fields.chunkOrder, 1))
+                .updateFirst(Bridge.update().set(BaseDomain.Fields.updatedAt, Instant.now()));
+    }
+}
@@ -13,6 +13,7 @@ import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.minidev.json.JSONObject;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
@@ -261,4 +262,27 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
         update.set(NewPage.Fields.unpublishedPage_dependencyMap, dependencyMap);
         return queryBuilder().criteria(q).updateFirst(update);
     }
+
+    /**
+     * Sets the DSL of the first layout of the page, only if the DSL is still at the version it was migrated from. A
+     * page that has been edited since it was read is left untouched, so that the edit is not overwritten.
+     */
+    @Override
+    public Mono<Integer> updateMigratedDsl(
+            String pageId, boolean viewMode, Integer fromDslVersion, JSONObject migratedDsl) {
+        final String dslPath =
+                (viewMode ? NewPage.Fields.publishedPage_layouts : NewPage.Fields.unpublishedPage_layouts) + ".0.dsl";
+        final String dslVersionPath = dslPath + ".version";
+
+        final BridgeQuery<NewPage> q = Bridge.equal(NewPage.Fields.id, pageId);
+        if (fromDslVersion == null) {
+            q.notExists(dslVersionPath);
+        } else {
+            q.equal(dslVersionPath, fromDslVersion);
+        }
+
+        BridgeUpdate update = Bridge.update();
+        update.set(dslPath, migratedDsl);
+        return queryBuilder().criteria(q).updateFirst(update);
+    }
 }
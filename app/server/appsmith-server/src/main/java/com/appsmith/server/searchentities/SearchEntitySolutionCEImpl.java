@@ -4,7 +4,8 @@ import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.dtos.SearchEntityDTO;
-import com.appsmith.server.helpers.GitUtils;
+import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
+import com.appsmith.server.searchentities.helpers.SearchEntityHelper;
 import com.appsmith.server.services.WorkspaceService;
 import com.appsmith.server.solutions.ApplicationPermission;
 import com.appsmith.server.solutions.WorkspacePermission;
@@ -17,6 +18,7 @@ import reactor.core.publisher.Mono;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.getHomepageApplicationCriteria;
 import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.getPageable;
 import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.getSort;
 import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.shouldSearchEntity;
@@ -35,6 +37,7 @@ public class SearchEntitySolutionCEImpl implements SearchEntitySolutionCE {
     /**
      * This method searches for workspaces and applications based on the searchString provided.
      * The search is performed with contains operator on the name field of the entities and is case-insensitive.
+     * It looks up the indexed n-grams of the names, see {@link SearchEntityHelper#getNameSearchCriteria}.
      * The search results are sorted by the updated_at field in descending order.
      * searchString = "test" will return all entities with name containing "test".
      * e.g. "test_app", "test_workspace", "appTest", "wsTest_random" etc.
@@ -60,38 +63,29 @@ public class SearchEntitySolutionCEImpl implements SearchEntitySolutionCE {
         Mono<List<Workspace>> workspacesMono = Mono.just(new ArrayList<>());
         if (shouldSearchEntity(Workspace.class, entities)) {
             workspacesMono = workspaceService
-                    .filterByEntityFieldsWithoutPublicAccess(
-                            List.of(Workspace.Fields.name),
-                            searchString,
-                            pageable,
-                            sort,
-                            workspacePermission.getReadPermission())
+                    .searchByNameWithoutPublicAccess(
+                            searchString, null, pageable, sort, workspacePermission.getReadPermission())
                     .collectList();
         }
 
         Mono<List<Application>> applicationsMono = Mono.just(new ArrayList<>());
         if (shouldSearchEntity(Application.class, entities)) {
+            /*
+             * As the applications are requested on homepage filter applications based on the following criteria:
+             * - Applications that are not connected to Git.
+             * OR
+             * - Applications that, when connected, revert with default branch only.
+             * This is done in the query, so that the pages are made of such applications only.
+             */
+            BridgeQuery<Application> applicationCriteria =
+                    Boolean.FALSE.equals(isRequestedForHomepage) ? null : getHomepageApplicationCriteria();
             applicationsMono = applicationService
-                    .filterByEntityFieldsWithoutPublicAccess(
-                            List.of(Application.Fields.name),
+                    .searchByNameWithoutPublicAccess(
                             searchString,
+                            applicationCriteria,
                             pageable,
                             sort,
                             applicationPermission.getReadPermission())
-                    .filter(application -> {
-                        if (Boolean.FALSE.equals(isRequestedForHomepage)) {
-                            return true;
-                        }
-                        /*
-                         * As the applications are requested on homepage filter applications based on the following
-                         * criteria:
-                         * - Applications that are not connected to Git.
-                         * OR
-                         * - Applications that, when connected, revert with default branch only.
-                         */
-                        return !GitUtils.isApplicationConnectedToGit(application)
-                                || GitUtils.isDefaultBranchedApplication(application);
-                    })
                     .collectList();
         }
 
@@ -1,10 +1,36 @@
 package com.appsmith.server.searchentities.helpers;
 
+import com.appsmith.external.models.BaseDomain;
 import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.helpers.ce.bridge.Bridge;
+import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
 
 public class SearchEntityHelper {
+
+    /**
+     * Name of the field that holds the normalised name of searchable entities.
+     */
+    public static final String SEARCH_NAME = "searchName";
+
+    /**
+     * Name of the field that holds the n-grams of the normalised name of searchable entities.
+     */
+    public static final String SEARCH_NAME_GRAMS = "searchNameGrams";
+
+    /**
+     * Longest n-gram stored for names. Search strings up to this long are matched against the n-grams directly, and
+     * longer ones are matched against all of their n-grams of this length.
+     */
+    private static final int MAX_GRAM_LENGTH = 3;
+
     /**
      * This method checks if the entity should be searched based on the entities list provided. If the entities list is null or empty, then all entities are searched.
      *
@@ -31,4 +57,80 @@ public class SearchEntityHelper {
     public static Pageable getPageable(int page, int size) {
         return Pageable.ofSize(size).withPage(page);
     }
+
+    /**
+     * Normalises a name, or a string to search names with, so that names can be searched case-insensitively.
+     */
+    public static String normaliseSearchName(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns every substring of the normalised name that is 1 to {@link #MAX_GRAM_LENGTH} characters long. A name
+     * contains a search string exactly when its n-grams contain the search string, if it is short enough to be an
+     * n-gram itself, or all the n-grams of the search string that are {@link #MAX_GRAM_LENGTH} characters long.
+     *
+     * @param searchName    The normalised name.
+     * @return              The n-grams of the name, empty for names that are null or empty.
+     */
+    public static Set<String> getSearchNameGrams(String searchName) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (searchName == null) {
+            return grams;
+        }
+        int[] codePoints = searchName.codePoints().toArray();
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int start = 0; start + length <= codePoints.length; start++) {
+                grams.add(new String(codePoints, start, length));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Builds the criteria for entities with a name that contains the search string, case-insensitively. The criteria
+     * look up the n-grams of the names, which are indexed, instead of scanning the names with a regex.
+     *
+     * @param searchString  The string to search for in the names.
+     * @return              The criteria, empty when there is nothing to search for.
+     */
+    public static <T extends BaseDomain> BridgeQuery<T> getNameSearchCriteria(String searchString) {
+        String needle = normaliseSearchName(searchString);
+        if (!StringUtils.hasLength(needle)) {
+            return Bridge.query();
+        }
+
+        int[] codePoints = needle.codePoints().toArray();
+        if (codePoints.length <= MAX_GRAM_LENGTH) {
+            return Bridge.equal(SEARCH_NAME_GRAMS, needle);
+        }
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int start = 0; start + MAX_GRAM_LENGTH <= codePoints.length; start++) {
+            grams.add(new String(codePoints, start, MAX_GRAM_LENGTH));
+        }
+        // The n-grams narrow the names down, but they can be in a different order in the name than in the needle
+        return Bridge.<T>containsAll(SEARCH_NAME_GRAMS, grams).searchIgnoreCase(SEARCH_NAME, needle);
+    }
+
+    /**
+     * Builds the criteria for applications that are listed on the homepage, which are the applications that are not
+     * connected to Git, and the default branch of the ones that are.
+     */
+    public static BridgeQuery<Application> getHomepageApplicationCriteria() {
+        String remoteUrl = Application.Fields.gitApplicationMetadata_remoteUrl;
+        String defaultArtifactId = Application.Fields.gitApplicationMetadata_defaultArtifactId;
+        String defaultApplicationId = Application.Fields.gitApplicationMetadata_defaultApplicationId;
+        String branchName = Application.Fields.gitApplicationMetadata_branchName;
+
+        return Bridge.or(
+                Bridge.isNull(remoteUrl),
+                Bridge.equal(remoteUrl, ""),
+                Bridge.and(
+                        Bridge.or(Bridge.isNull(defaultArtifactId), Bridge.equal(defaultArtifactId, "")),
+                        Bridge.or(Bridge.isNull(defaultApplicationId), Bridge.equal(defaultApplicationId, ""))),
+                Bridge.<Application>isNotNull(branchName)
+                        .notEqual(branchName, "")
+                        .equalField(branchName, Application.Fields.gitApplicationMetadata_defaultBranchName));
+    }
 }
@@ -9,6 +9,8 @@ import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.repositories.AppsmithRepository;
 import com.appsmith.server.repositories.BaseRepository;
+import com.appsmith.server.repositories.ce.params.QueryAllParams;
+import com.appsmith.server.searchentities.helpers.SearchEntityHelper;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -136,4 +138,30 @@ public abstract class BaseService<
         }
         return result;
     }
+
+    /**
+     * This function is used to search the entities by name. The search is performed with contains operator on the
+     * name and is case-insensitive, like {@link #filterByEntityFieldsWithoutPublicAccess}, but it looks up the indexed
+     * n-grams of the names, and the given criteria and pagination are applied by the database.
+     * @param searchString  The string to search for in the names.
+     * @param criteria      Further criteria the entities have to match, if any.
+     * @param pageable      The page number of the results to return.
+     * @param sort          The sort order of the results to return.
+     * @param permission    The permission to check for the entity.
+     * @return  A Flux of entities.
+     */
+    public Flux<T> searchByNameWithoutPublicAccess(
+            String searchString, BridgeQuery<T> criteria, Pageable pageable, Sort sort, AclPermission permission) {
+        QueryAllParams<T> query = repository
+                .queryBuilder()
+                .criteria(SearchEntityHelper.<T>getNameSearchCriteria(searchString))
+                .criteria(criteria)
+                .permission(permission)
+                .sort(sort)
+                .includeAnonymousUserPermissions(false);
+        if (pageable != null) {
+            query.skip(Math.toIntExact(pageable.getOffset())).limit(pageable.getPageSize());
+        }
+        return query.all();
+    }
 }
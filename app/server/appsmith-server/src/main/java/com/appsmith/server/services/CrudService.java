@@ -2,6 +2,7 @@ package com.appsmith.server.services;
 
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
@@ -26,4 +27,7 @@ public interface CrudService<T extends BaseDomain, ID> {
             Pageable pageable,
             Sort sort,
             AclPermission permission);
+
+    Flux<T> searchByNameWithoutPublicAccess(
+            String searchString, BridgeQuery<T> criteria, Pageable pageable, Sort sort, AclPermission permission);
 }
@@ -30,6 +30,8 @@ public interface ApplicationPageServiceCE {
 
     Mono<PageDTO> getPageAndMigrateDslByBranchedPageId(String branchedPageId, boolean viewMode, boolean migrateDsl);
 
+    Mono<Void> sendPageViewAnalyticsEvent(PageDTO page, boolean viewMode);
+
     Mono<Application> makePageDefault(PageDTO page);
 
     Mono<Application> makePageDefault(String applicationId, String pageId);
@@ -69,4 +71,6 @@ public interface ApplicationPageServiceCE {
             Application branchedApplication, ApplicationMode applicationMode);
 
     Mono<PageDTO> getPageDTOAfterMigratingDSL(NewPage newPage, boolean viewMode, boolean migrateDsl);
+
+    Mono<List<PageDTO>> getPagesDTOAfterMigratingDSL(List<NewPage> newPages, boolean viewMode);
 }
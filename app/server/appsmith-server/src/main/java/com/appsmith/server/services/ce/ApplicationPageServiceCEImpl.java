@@ -67,10 +67,12 @@ import net.minidev.json.JSONObject;
 import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
@@ -83,6 +85,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.spans.ce.PageSpanCE.FETCH_PAGES_BY_APP_ID_DB;
@@ -131,6 +134,9 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final ObservationRegistry observationRegistry;
     private final CacheableRepositoryHelper cacheableRepositoryHelper;
 
+    // Ids of the pages whose migrated DSL is being saved in the background
+    private final Set<String> pagesWithMigratedDslBeingSaved = ConcurrentHashMap.newKeySet();
+
     @Override
     public Mono<PageDTO> createPage(PageDTO page) {
         if (page.getId() != null) {
@@ -328,6 +334,23 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .flatMap(newPage -> getPageDTOAfterMigratingDSL(newPage, viewMode, migrateDsl));
     }
 
+    /**
+     * Sends the page view event for a page that was served without being fetched from the database, e.g. from a view
+     * mode snapshot.
+     */
+    @Override
+    public Mono<Void> sendPageViewAnalyticsEvent(PageDTO page, boolean viewMode) {
+        NewPage newPage = new NewPage();
+        newPage.setId(page.getId());
+        newPage.setApplicationId(page.getApplicationId());
+        if (viewMode) {
+            newPage.setPublishedPage(page);
+        } else {
+            newPage.setUnpublishedPage(page);
+        }
+        return sendPageViewAnalyticsEvent(newPage, viewMode).then();
+    }
+
     private Mono<PageDTO> migrateAndUpdatePageDsl(NewPage newPage, PageDTO page, boolean viewMode) {
         return dslMigrationUtils
                 .getLatestDslVersion()
@@ -371,6 +394,118 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 });
     }
 
+    /**
+     * Fetches the given pages and migrates the DSL of all the outdated ones to the latest version in as few calls to
+     * RTS as possible. The response does not wait for the migrated pages to be saved, they are persisted in the
+     * background so that later loads of these pages do not need to migrate them again.
+     *
+     * @param newPages pages to be fetched, usually all the pages of an application
+     * @param viewMode whether the published or the unpublished version of the pages is fetched
+     * @return the pages with their DSL migrated, in the same order as the given pages
+     */
+    @Override
+    public Mono<List<PageDTO>> getPagesDTOAfterMigratingDSL(List<NewPage> newPages, boolean viewMode) {
+        return Flux.fromIterable(newPages)
+                .flatMapSequential(newPage -> sendPageViewAnalyticsEvent(newPage, viewMode)
+                        .then(getPage(newPage, viewMode))
+                        .map(pageDTO -> Tuples.of(newPage, pageDTO)))
+                .collectList()
+                .flatMap(pages -> migrateAndUpdatePagesDsl(pages, viewMode));
+    }
+
+    private Mono<List<PageDTO>> migrateAndUpdatePagesDsl(List<Tuple2<NewPage, PageDTO>> pages, boolean viewMode) {
+        List<PageDTO> pageDTOs = pages.stream().map(Tuple2::getT2).toList();
+        return dslMigrationUtils
+                .getLatestDslVersion()
+                .onErrorMap(throwable -> {
+                    log.error("Error fetching latest DSL version", throwable);
+                    return new AppsmithException(AppsmithError.RTS_SERVER_ERROR, "Error fetching latest DSL version");
+                })
+                .flatMap(latestDslVersion -> {
+                    // ensuring that the page has only one layout, as we don't support multiple layouts yet
+                    // when multiple layouts are supported, this code will have to be updated
+                    List<Tuple2<NewPage, PageDTO>> outdatedPages = pages.stream()
+                            .filter(tuple -> !CollectionUtils.isEmpty(tuple.getT2().getLayouts())
+                                    && GitUtils.isMigrationRequired(
+                                            tuple.getT2().getLayouts().get(0).getDsl(), latestDslVersion))
+                            .toList();
+                    if (outdatedPages.isEmpty()) {
+                        return Mono.just(pageDTOs);
+                    }
+
+                    List<JSONObject> outdatedDsls = outdatedPages.stream()
+                            .map(tuple -> tuple.getT2().getLayouts().get(0).getDsl())
+                            .toList();
+                    return dslMigrationUtils
+                            .migratePageDsls(outdatedDsls)
+                            .onErrorMap(throwable -> {
+                                log.error("Error while migrating DSL ", throwable);
+                                return new AppsmithException(
+                                        AppsmithError.RTS_SERVER_ERROR, "Error while migrating to latest DSL version");
+                            })
+                            .flatMap(migratedDsls -> {
+                                if (migratedDsls.size() != outdatedPages.size()) {
+                                    log.error(
+                                            "Expected {} migrated DSLs, received {}",
+                                            outdatedPages.size(),
+                                            migratedDsls.size());
+                                    return Mono.error(new AppsmithException(
+                                            AppsmithError.RTS_SERVER_ERROR,
+                                            "Error while migrating to latest DSL version"));
+                                }
+
+                                List<MigratedPageDsl> migratedPageDsls = new ArrayList<>();
+                                for (int i = 0; i < outdatedPages.size(); i++) {
+                                    Layout layout =
+                                            outdatedPages.get(i).getT2().getLayouts().get(0);
+                                    Number fromDslVersion = layout.getDsl().getAsNumber("version");
+                                    JSONObject migratedDsl = migratedDsls.get(i);
+                                    // update the current page DTO with migrated dsl
+                                    layout.setDsl(migratedDsl);
+                                    migratedPageDsls.add(new MigratedPageDsl(
+                                            outdatedPages.get(i).getT1().getId(),
+                                            fromDslVersion == null ? null : fromDslVersion.intValue(),
+                                            migratedDsl));
+                                }
+                                return saveMigratedDslsInBackground(migratedPageDsls, viewMode)
+                                        .thenReturn(pageDTOs);
+                            });
+                });
+    }
+
+    private record MigratedPageDsl(String pageId, Integer fromDslVersion, JSONObject dsl) {}
+
+    /**
+     * Saves the migrated DSLs without making the caller wait for it. Only the DSL is written, and only if it is still
+     * at the version it was migrated from, so that an edit made to the page in the meantime is never overwritten. A
+     * page that is already being saved by an earlier load is skipped, since it has been migrated to the same DSL.
+     */
+    private Mono<Void> saveMigratedDslsInBackground(List<MigratedPageDsl> migratedPageDsls, boolean viewMode) {
+        List<MigratedPageDsl> dslsToSave = migratedPageDsls.stream()
+                .filter(migratedPageDsl -> pagesWithMigratedDslBeingSaved.add(migratedPageDsl.pageId()))
+                .toList();
+        if (dslsToSave.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Mono.deferContextual(contextView -> {
+            Flux.fromIterable(dslsToSave)
+                    .flatMap(migratedPageDsl -> newPageRepository
+                            .updateMigratedDsl(
+                                    migratedPageDsl.pageId(),
+                                    viewMode,
+                                    migratedPageDsl.fromDslVersion(),
+                                    migratedPageDsl.dsl())
+                            .doFinally(signalType -> pagesWithMigratedDslBeingSaved.remove(migratedPageDsl.pageId())))
+                    .contextWrite(contextView)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe(
+                            updatedCount -> {},
+                            throwable -> log.error("Error while saving pages with migrated DSL", throwable));
+            return Mono.empty();
+        });
+    }
+
     @Override
     public Mono<Application> makePageDefault(PageDTO page) {
         return makePageDefault(page.getApplicationId(), page.getId());
@@ -16,15 +16,34 @@ import com.appsmith.server.repositories.ApplicationSnapshotRepository;
 import com.appsmith.server.solutions.ApplicationPermission;
 import com.google.gson.Gson;
 import lombok.RequiredArgsConstructor;
-import reactor.core.publisher.Flux;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+@Slf4j
 @RequiredArgsConstructor
 public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServiceCE {
     private final ApplicationSnapshotRepository applicationSnapshotRepository;
@@ -36,26 +55,47 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
 
     private static final int MAX_SNAPSHOT_SIZE = 15 * 1024 * 1024; // 15 MB
 
+    private static final String GZIP_COMPRESSION = "gzip";
+
+    /**
+     * When enabled, a snapshot whose content hasn't changed since the previous one keeps the chunks that are already
+     * stored, and only gets its time updated.
+     */
+    @Value("${appsmith.application.snapshot.delta:false}")
+    private boolean deltaSnapshots;
+
     @Override
     public Mono<Boolean> createApplicationSnapshot(String branchedApplicationId) {
         return exportService
                 .exportByArtifactId(
                         branchedApplicationId, SerialiseArtifactObjective.VERSION_CONTROL, ArtifactType.APPLICATION)
-                .flatMapMany(artifactExchangeJson -> {
-                    ApplicationJson applicationJson = (ApplicationJson) artifactExchangeJson;
+                .flatMap(artifactExchangeJson -> {
+                    List<ApplicationSnapshot> applicationSnapshots =
+                            createSnapshotsObjects((ApplicationJson) artifactExchangeJson, branchedApplicationId);
+                    if (!deltaSnapshots) {
+                        return saveSnapshots(branchedApplicationId, applicationSnapshots);
+                    }
+
+                    String contentHash = applicationSnapshots.get(0).getContentHash();
                     return applicationSnapshotRepository
-                            .deleteAllByApplicationId(branchedApplicationId)
-                            .thenMany(createSnapshots(branchedApplicationId, applicationJson));
+                            .findContentHashByApplicationId(branchedApplicationId)
+                            .filter(contentHash::equals)
+                            .flatMap(unchangedHash -> {
+                                log.debug("Application {} unchanged since its last snapshot", branchedApplicationId);
+                                return applicationSnapshotRepository.updateUpdatedAtByApplicationId(
+                                        branchedApplicationId);
+                            })
+                            .switchIfEmpty(saveSnapshots(branchedApplicationId, applicationSnapshots));
                 })
                 .then(Mono.just(Boolean.TRUE));
     }
 
-    private Flux<ApplicationSnapshot> createSnapshots(String applicationId, ApplicationJson applicationJson) {
-        String json = gson.toJson(applicationJson);
-        // check the size of the exported json before storing to avoid mongodb document size limit
-        byte[] utf8JsonString = json.getBytes(StandardCharsets.UTF_8);
-        List<ApplicationSnapshot> applicationSnapshots = createSnapshotsObjects(utf8JsonString, applicationId);
-        return applicationSnapshotRepository.saveAll(applicationSnapshots);
+    private Mono<Integer> saveSnapshots(String applicationId, List<ApplicationSnapshot> applicationSnapshots) {
+        return Mono.defer(() -> applicationSnapshotRepository
+                .deleteAllByApplicationId(applicationId)
+                .thenMany(applicationSnapshotRepository.saveAll(applicationSnapshots))
+                .count()
+                .map(Math::toIntExact));
     }
 
     @Override
@@ -72,12 +112,11 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                 .findById(branchedApplicationId, applicationPermission.getEditPermission())
                 .switchIfEmpty(Mono.error(new AppsmithException(
                         AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, branchedApplicationId)))
-                .flatMap(application -> getApplicationJsonStringFromSnapShot(application.getId())
+                .flatMap(application -> getApplicationJsonFromSnapShot(application.getId())
                         .zipWith(Mono.just(application)))
                 .flatMap(objects -> {
-                    String applicationJsonString = objects.getT1();
+                    ApplicationJson applicationJson = objects.getT1();
                     Application application = objects.getT2();
-                    ApplicationJson applicationJson = gson.fromJson(applicationJsonString, ApplicationJson.class);
                     return importService.restoreSnapshot(
                             application.getWorkspaceId(), application.getId(), applicationJson);
                 })
@@ -87,46 +126,116 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                         .thenReturn(application));
     }
 
-    private Mono<String> getApplicationJsonStringFromSnapShot(String applicationId) {
+    private Mono<ApplicationJson> getApplicationJsonFromSnapShot(String applicationId) {
         return applicationSnapshotRepository
                 .findByApplicationId(applicationId)
                 .sort(Comparator.comparingInt(ApplicationSnapshot::getChunkOrder))
-                .map(ApplicationSnapshot::getData)
                 .collectList()
-                .map(bytes -> {
-                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                    for (byte[] b : bytes) {
-                        outputStream.writeBytes(b);
-                    }
-                    return outputStream.toString(StandardCharsets.UTF_8);
-                });
+                .filter(applicationSnapshots -> !applicationSnapshots.isEmpty())
+                .switchIfEmpty(Mono.error(
+                        new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "snapshot", applicationId)))
+                .map(this::readApplicationJson);
+    }
+
+    private ApplicationJson readApplicationJson(List<ApplicationSnapshot> applicationSnapshots) {
+        List<InputStream> chunks = new ArrayList<>(applicationSnapshots.size());
+        for (ApplicationSnapshot applicationSnapshot : applicationSnapshots) {
+            chunks.add(new ByteArrayInputStream(applicationSnapshot.getData()));
+        }
+
+        InputStream inputStream = new SequenceInputStream(Collections.enumeration(chunks));
+        try (Reader reader = new InputStreamReader(
+                GZIP_COMPRESSION.equals(applicationSnapshots.get(0).getCompression())
+                        ? new GZIPInputStream(inputStream)
+                        : inputStream,
+                StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, ApplicationJson.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the application JSON through a gzip stream straight into chunks of at most {@link #MAX_SNAPSHOT_SIZE}
+     * bytes each, to stay under the mongodb document size limit without holding the whole JSON in memory.
+     */
+    private List<ApplicationSnapshot> createSnapshotsObjects(ApplicationJson applicationJson, String applicationId) {
+        SnapshotChunkOutputStream chunkOutputStream = new SnapshotChunkOutputStream(applicationId);
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (Writer writer = new OutputStreamWriter(
+                new DigestOutputStream(new GZIPOutputStream(chunkOutputStream), messageDigest),
+                StandardCharsets.UTF_8)) {
+            gson.toJson(applicationJson, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<ApplicationSnapshot> applicationSnapshots = chunkOutputStream.getApplicationSnapshots();
+        applicationSnapshots.get(0).setContentHash(HexFormat.of().formatHex(messageDigest.digest()));
+        return applicationSnapshots;
     }
 
-    private List<ApplicationSnapshot> createSnapshotsObjects(byte[] bytes, String applicationId) {
-        List<ApplicationSnapshot> applicationSnapshots = new ArrayList<>();
-        int total = bytes.length;
-        int copiedCount = 0;
-        int chunkOrder = 1;
+    /**
+     * Output stream that puts the bytes written to it in snapshot chunks, starting a new chunk whenever the current one
+     * is full.
+     */
+    private static class SnapshotChunkOutputStream extends OutputStream {
+        private final String applicationId;
+        private final List<ApplicationSnapshot> applicationSnapshots = new ArrayList<>();
+        private ByteArrayOutputStream currentChunk = new ByteArrayOutputStream();
+
+        SnapshotChunkOutputStream(String applicationId) {
+            this.applicationId = applicationId;
+        }
+
+        @Override
+        public void write(int b) {
+            if (currentChunk.size() >= MAX_SNAPSHOT_SIZE) {
+                addChunk();
+            }
+            currentChunk.write(b);
+        }
 
-        while (copiedCount < total) {
-            int currentChunkSize = MAX_SNAPSHOT_SIZE;
-            if (copiedCount + currentChunkSize > total) {
-                currentChunkSize = total - copiedCount;
+        @Override
+        public void write(byte[] b, int off, int len) {
+            while (len > 0) {
+                if (currentChunk.size() >= MAX_SNAPSHOT_SIZE) {
+                    addChunk();
+                }
+                int count = Math.min(len, MAX_SNAPSHOT_SIZE - currentChunk.size());
+                currentChunk.write(b, off, count);
+                off += count;
+                len -= count;
             }
-            byte[] sub = new byte[currentChunkSize];
-            System.arraycopy(bytes, copiedCount, sub, 0, currentChunkSize);
-            copiedCount += currentChunkSize;
+        }
 
+        @Override
+        public void close() {
+            if (currentChunk.size() > 0 || applicationSnapshots.isEmpty()) {
+                addChunk();
+            }
+        }
+
+        List<ApplicationSnapshot> getApplicationSnapshots() {
+            return applicationSnapshots;
+        }
+
+        private void addChunk() {
             // create snapshot that'll contain the chunk of data
             ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
-            applicationSnapshot.setData(sub);
+            applicationSnapshot.setData(currentChunk.toByteArray());
             applicationSnapshot.setApplicationId(applicationId);
-            applicationSnapshot.setChunkOrder(chunkOrder);
+            applicationSnapshot.setChunkOrder(applicationSnapshots.size() + 1);
+            applicationSnapshot.setCompression(GZIP_COMPRESSION);
             applicationSnapshots.add(applicationSnapshot);
-
-            chunkOrder++;
+            currentChunk = new ByteArrayOutputStream();
         }
-        return applicationSnapshots;
     }
 
     @Override
@@ -15,8 +15,10 @@ import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
 import com.appsmith.server.dtos.MockDataDTO;
 import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.dtos.ViewModePageLoadSnapshotDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ViewModeSnapshotCache;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -49,7 +51,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.PluginConstants.PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE;
 import static com.appsmith.external.constants.spans.ApplicationSpan.APPLICATION_ID_FETCH_REDIS_SPAN;
@@ -103,6 +104,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
     private final MockDataService mockDataService;
     private final ObservationRegistry observationRegistry;
     private final CacheableRepositoryHelper cacheableRepositoryHelper;
+    private final ViewModeSnapshotCache viewModeSnapshotCache;
 
     <T> ResponseDTO<T> getSuccessResponse(T data) {
         return new ResponseDTO<>(HttpStatus.OK.value(), data, null);
@@ -204,6 +206,10 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         if (isBlank(basePageId)) {
             return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
         }
+
+        /* Fetches added from here on depend on the page being loaded, in view mode they may come from a snapshot */
+        final int pageFetchesStart = fetches.size();
+
         Mono<Application> branchedApplicationMonoCached;
         Mono<String> baseApplicationIdMono = Mono.just("");
         if (isViewMode) {
@@ -376,11 +382,9 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                     .name(getQualifiedSpanName(ACTION_COLLECTIONS_SPAN, mode))
                     .tap(Micrometer.observation(observationRegistry)));
 
-            /* Get all pages in edit mode post apply migrate DSL changes */
+            /* Get all pages in edit mode post apply migrate DSL changes, outdated pages are migrated in one batch */
             fetches.add(pagesFromCurrentApplicationMonoCached
-                    .flatMapMany(Flux::fromIterable)
-                    .flatMap(page -> applicationPageService.getPageDTOAfterMigratingDSL(page, false, true))
-                    .collect(Collectors.toList())
+                    .flatMap(pages -> applicationPageService.getPagesDTOAfterMigratingDSL(pages, false))
                     .as(this::toResponseDTO)
                     .doOnError(e -> log.error("Error fetching pages with migrated DSL", e))
                     .doOnSuccess(consolidatedAPIResponseDTO::setPagesWithMigratedDsl)
@@ -486,9 +490,133 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                     .tap(Micrometer.observation(observationRegistry)));
         }
 
+        if (isViewMode) {
+            List<Mono<?>> userFetches = new ArrayList<>(fetches.subList(0, pageFetchesStart));
+            userFetches.add(getViewModePageInfo(
+                    basePageId,
+                    mode,
+                    branchedApplicationMonoCached,
+                    fetches.subList(pageFetchesStart, fetches.size()),
+                    consolidatedAPIResponseDTO));
+            return Mono.when(userFetches).thenReturn(consolidatedAPIResponseDTO);
+        }
+
         return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
     }
 
+    /**
+     * Serves the page specific part of a view mode page load from the snapshot of the published application if there
+     * is one. Otherwise, the given page fetches are run and their result is stored as the snapshot for later loads of
+     * the same page by users with the same permission groups.
+     */
+    private Mono<Void> getViewModePageInfo(
+            String basePageId,
+            ApplicationMode mode,
+            Mono<Application> branchedApplicationMonoCached,
+            List<Mono<?>> pageFetches,
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO) {
+
+        // Errors are left to the page fetches, which turn them into error responses
+        Mono<String> snapshotKeyMonoCached = branchedApplicationMonoCached
+                .flatMap(branchedApplication -> viewModeSnapshotCache.getKey(branchedApplication, basePageId))
+                .onErrorResume(error -> Mono.empty())
+                .cache();
+
+        Mono<Void> fetchAndSaveSnapshotMono = Mono.when(pageFetches)
+                .then(snapshotKeyMonoCached)
+                .flatMap(snapshotKey -> {
+                    ViewModePageLoadSnapshotDTO snapshot = getViewModeSnapshot(consolidatedAPIResponseDTO);
+                    return snapshot == null ? Mono.empty() : viewModeSnapshotCache.put(snapshotKey, snapshot);
+                })
+                .onErrorResume(error -> {
+                    log.error("Error saving view mode page load snapshot", error);
+                    return Mono.empty();
+                })
+                .then();
+
+        return snapshotKeyMonoCached
+                .flatMap(viewModeSnapshotCache::get)
+                .flatMap(snapshot -> {
+                    consolidatedAPIResponseDTO.setCurrentTheme(getSuccessResponse(snapshot.getCurrentTheme()));
+                    consolidatedAPIResponseDTO.setThemes(getSuccessResponse(snapshot.getThemes()));
+                    consolidatedAPIResponseDTO.setCustomJSLibraries(
+                            getSuccessResponse(snapshot.getCustomJSLibraries()));
+                    consolidatedAPIResponseDTO.setPageWithMigratedDsl(
+                            getSuccessResponse(snapshot.getPageWithMigratedDsl()));
+                    consolidatedAPIResponseDTO.setPublishedActions(getSuccessResponse(snapshot.getPublishedActions()));
+                    consolidatedAPIResponseDTO.setPublishedActionCollections(
+                            getSuccessResponse(snapshot.getPublishedActionCollections()));
+
+                    Mono<ResponseDTO<ApplicationPagesDTO>> applicationPagesMono = branchedApplicationMonoCached
+                            .map(branchedApplication -> getApplicationPagesDTO(branchedApplication, snapshot))
+                            .as(this::toResponseDTO)
+                            .doOnSuccess(consolidatedAPIResponseDTO::setPages)
+                            .name(getQualifiedSpanName(PAGES_SPAN, mode))
+                            .tap(Micrometer.observation(observationRegistry));
+
+                    Mono<Void> pageViewEventMono = applicationPageService
+                            .sendPageViewAnalyticsEvent(snapshot.getPageWithMigratedDsl(), true)
+                            .onErrorResume(error -> {
+                                log.error("Error sending page view event", error);
+                                return Mono.empty();
+                            });
+
+                    return Mono.when(applicationPagesMono, pageViewEventMono).thenReturn(Boolean.TRUE);
+                })
+                .switchIfEmpty(fetchAndSaveSnapshotMono.thenReturn(Boolean.TRUE))
+                .then();
+    }
+
+    /**
+     * Returns the snapshot of a view mode page load, or null if any part of it could not be fetched.
+     */
+    private ViewModePageLoadSnapshotDTO getViewModeSnapshot(ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO) {
+        if (!isSuccessResponse(consolidatedAPIResponseDTO.getPages())
+                || !isSuccessResponse(consolidatedAPIResponseDTO.getCurrentTheme())
+                || !isSuccessResponse(consolidatedAPIResponseDTO.getThemes())
+                || !isSuccessResponse(consolidatedAPIResponseDTO.getCustomJSLibraries())
+                || !isSuccessResponse(consolidatedAPIResponseDTO.getPageWithMigratedDsl())
+                || !isSuccessResponse(consolidatedAPIResponseDTO.getPublishedActions())
+                || !isSuccessResponse(consolidatedAPIResponseDTO.getPublishedActionCollections())) {
+            return null;
+        }
+
+        ViewModePageLoadSnapshotDTO snapshot = new ViewModePageLoadSnapshotDTO();
+        snapshot.setPages(consolidatedAPIResponseDTO.getPages().getData().getPages());
+        snapshot.setCurrentTheme(consolidatedAPIResponseDTO.getCurrentTheme().getData());
+        snapshot.setThemes(consolidatedAPIResponseDTO.getThemes().getData());
+        snapshot.setCustomJSLibraries(consolidatedAPIResponseDTO.getCustomJSLibraries().getData());
+        snapshot.setPageWithMigratedDsl(consolidatedAPIResponseDTO.getPageWithMigratedDsl().getData());
+        snapshot.setPublishedActions(consolidatedAPIResponseDTO.getPublishedActions().getData());
+        snapshot.setPublishedActionCollections(
+                consolidatedAPIResponseDTO.getPublishedActionCollections().getData());
+        return snapshot;
+    }
+
+    private static boolean isSuccessResponse(ResponseDTO<?> responseDTO) {
+        return responseDTO != null
+                && responseDTO.getResponseMeta() != null
+                && responseDTO.getResponseMeta().getStatus() == HttpStatus.OK.value()
+                && responseDTO.getData() != null;
+    }
+
+    /**
+     * Same as the pages of a view mode page load built by {@link NewPageService#getApplicationPagesDTO}, but with the
+     * pages of the snapshot.
+     */
+    private static ApplicationPagesDTO getApplicationPagesDTO(
+            Application branchedApplication, ViewModePageLoadSnapshotDTO snapshot) {
+        branchedApplication.setPages(null);
+        branchedApplication.setPublishedPages(null);
+        branchedApplication.setViewMode(true);
+
+        ApplicationPagesDTO applicationPagesDTO = new ApplicationPagesDTO();
+        applicationPagesDTO.setWorkspaceId(branchedApplication.getWorkspaceId());
+        applicationPagesDTO.setPages(snapshot.getPages());
+        applicationPagesDTO.setApplication(branchedApplication);
+        return applicationPagesDTO;
+    }
+
     private boolean isPossibleToCreateQueryWithoutDatasource(Plugin plugin) {
         return PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE.contains(plugin.getPackageName());
     }
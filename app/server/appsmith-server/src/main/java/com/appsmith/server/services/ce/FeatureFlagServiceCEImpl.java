@@ -38,7 +38,7 @@ public class FeatureFlagServiceCEImpl implements FeatureFlagServiceCE {
     private final FeatureFlagMigrationHelper featureFlagMigrationHelper;
     private static final long FEATURE_FLAG_CACHE_TIME_MIN = 120;
 
-    private CachedFeatures cachedTenantFeatureFlags;
+    private volatile CachedFeatures cachedTenantFeatureFlags;
 
     /**
      * This function checks if the feature is enabled for the current user. In case the user object is not present,
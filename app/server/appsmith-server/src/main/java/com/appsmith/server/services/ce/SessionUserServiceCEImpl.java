@@ -4,11 +4,12 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.CollectionUtils;
+import com.appsmith.server.helpers.UserSessionIndex;
 import com.appsmith.server.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
@@ -30,6 +31,7 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
 
     private final UserRepository userRepository;
     private final ReactiveRedisOperations<String, Object> redisOperations;
+    private final UserSessionIndex userSessionIndex;
 
     public static final String SPRING_SESSION_PATTERN = "spring:session:sessions:*";
     private static final String SESSION_ATTRIBUTE = "sessionAttr:";
@@ -77,47 +79,42 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
     public Mono<Void> logoutAllSessions(String email) {
         return getSessionKeysByUserEmail(email)
                 .flatMap(this::deleteSessionsByKeys)
+                .then(userSessionIndex.delete(email))
                 .then();
     }
 
     /**
-     * This method returns a list of session keys, for the given user email.
+     * This method returns a list of session keys, for the given user email. The keys come from the index of the
+     * user's sessions, and may include keys of sessions that have since expired.
      * @param email The email of the user whose sessions keys should be fetched.
      * @return      A Mono of list of session keys.
      */
     @Override
     public Mono<List<String>> getSessionKeysByUserEmail(String email) {
-        // This pattern string comes from calling `ReactiveRedisSessionRepository.getSessionKey("*")` private method.
-        return getSessionKeysWithUserSessions()
-                // Now we have tuples of session keys, and the corresponding user objects.
-                // Filter the ones we need to clear out.
-                .filter(tuple ->
-                        StringUtils.equalsIgnoreCase(email, tuple.getT2().getEmail()))
-                .map(Tuple2::getT1)
-                .collectList();
+        return userSessionIndex.getSessionKeys(email);
     }
 
     /**
      * This method returns a Flux of tuples, where the first element is the session key, and the second element is the
-     * corresponding User object.
+     * corresponding User object. It goes through every session in Redis, so it is meant for maintenance tasks only,
+     * like rebuilding the {@link UserSessionIndex}.
      */
     public Flux<Tuple2<String, User>> getSessionKeysWithUserSessions() {
         return redisOperations
-                .keys(SPRING_SESSION_PATTERN)
+                .scan(ScanOptions.scanOptions()
+                        .match(SPRING_SESSION_PATTERN)
+                        .count(1000)
+                        .build())
                 .flatMap(key -> Mono.zip(
                         Mono.just(key),
                         // The values are maps, containing various pieces of session related information.
                         // One of them, holds the serialized User object. We want just that.
                         redisOperations
                                 .opsForHash()
-                                .entries(key)
-                                .filter(e -> e.getValue() != null
-                                        && (SESSION_ATTRIBUTE + DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME)
-                                                .equals(e.getKey()))
-                                .map(e -> (User) ((SecurityContext) e.getValue())
+                                .get(key, SESSION_ATTRIBUTE + DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME)
+                                .map(securityContext -> (User) ((SecurityContext) securityContext)
                                         .getAuthentication()
-                                        .getPrincipal())
-                                .next()));
+                                        .getPrincipal())));
     }
 
     @Override
@@ -4,10 +4,12 @@ import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.helpers.ActionExecutionResultCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.ratelimiting.ActionExecutionBulkhead;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.AuthenticationValidator;
 import com.appsmith.server.services.ConfigService;
@@ -40,7 +42,9 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
             EnvironmentPermission environmentPermission,
             ConfigService configService,
             TenantService tenantService,
-            CommonConfig commonConfig) {
+            CommonConfig commonConfig,
+            ActionExecutionBulkhead actionExecutionBulkhead,
+            ActionExecutionResultCache actionExecutionResultCache) {
         super(
                 newActionService,
                 actionPermission,
@@ -60,6 +64,8 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
                 environmentPermission,
                 configService,
                 tenantService,
-                commonConfig);
+                commonConfig,
+                actionExecutionBulkhead,
+                actionExecutionResultCache);
     }
 }
@@ -34,12 +34,14 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ExecuteActionMetaDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionResultCache;
 import com.appsmith.server.helpers.DatasourceAnalyticsUtils;
 import com.appsmith.server.helpers.DateUtils;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.ratelimiting.ActionExecutionBulkhead;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.AuthenticationValidator;
 import com.appsmith.server.services.ConfigService;
@@ -80,6 +82,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -120,6 +123,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final ConfigService configService;
     private final TenantService tenantService;
     private final CommonConfig commonConfig;
+    private final ActionExecutionBulkhead actionExecutionBulkhead;
+    private final ActionExecutionResultCache actionExecutionResultCache;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX =
@@ -147,7 +152,9 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             EnvironmentPermission environmentPermission,
             ConfigService configService,
             TenantService tenantService,
-            CommonConfig commonConfig) {
+            CommonConfig commonConfig,
+            ActionExecutionBulkhead actionExecutionBulkhead,
+            ActionExecutionResultCache actionExecutionResultCache) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -167,6 +174,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.configService = configService;
         this.tenantService = tenantService;
         this.commonConfig = commonConfig;
+        this.actionExecutionBulkhead = actionExecutionBulkhead;
+        this.actionExecutionResultCache = actionExecutionResultCache;
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
         this.patternList.add(Pattern.compile(BLOB_KEY_REGEX));
@@ -832,15 +841,72 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     Mono<ActionDTO> actionDTOWithAutoGeneratedHeadersMono =
                             setAutoGeneratedHeaders(plugin, actionDTO, httpHeaders);
 
+                    // The execution waits for a free slot for its workspace, datasource and plugin before it
+                    // starts, and the action timeout only applies once it is running.
                     Mono<ActionExecutionResult> actionExecutionResultMono =
-                            actionDTOWithAutoGeneratedHeadersMono.flatMap(actionDTO1 -> verifyDatasourceAndMakeRequest(
-                                            executeActionDTO, actionDTO, datasourceStorage, plugin, pluginExecutor)
-                                    .timeout(Duration.ofMillis(timeoutDuration)));
+                            actionDTOWithAutoGeneratedHeadersMono.flatMap(
+                                    actionDTO1 -> actionExecutionBulkhead.execute(
+                                            actionDTO.getWorkspaceId(),
+                                            datasourceStorage.getDatasourceId(),
+                                            plugin.getId(),
+                                            verifyDatasourceAndMakeRequest(
+                                                            executeActionDTO,
+                                                            actionDTO,
+                                                            datasourceStorage,
+                                                            plugin,
+                                                            pluginExecutor)
+                                                    .timeout(Duration.ofMillis(timeoutDuration))));
+
+                    Mono<ActionExecutionResult> handledActionExecutionResultMono = actionExecutionResultMono
+                            .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration))
+                            .onErrorResume(executionExceptionHandler(actionDTO));
+
+                    if (TRUE.equals(actionDTO.getActionConfiguration().getInvalidatesCachedResponses())) {
+                        handledActionExecutionResultMono = handledActionExecutionResultMono.flatMap(result ->
+                                TRUE.equals(result.getIsExecutionSuccess())
+                                        ? actionExecutionResultCache
+                                                .invalidate(datasourceStorage)
+                                                .thenReturn(result)
+                                        : Mono.just(result));
+                    }
+
+                    // Responses are only cached for deployed apps, while editing the latest data is always fetched
+                    Integer cacheResponseTtl = actionDTO.getActionConfiguration().getCacheResponseTtlInSeconds();
+                    AtomicBoolean isCachedResult = new AtomicBoolean(false);
+                    if (TRUE.equals(executeActionDTO.getViewMode())
+                            && cacheResponseTtl != null
+                            && cacheResponseTtl > 0) {
+                        final Mono<ActionExecutionResult> uncachedActionExecutionResultMono =
+                                handledActionExecutionResultMono;
+                        // Bindings like appsmith.user and user scoped authentication can make results differ
+                        // between users, so each user only ever gets their own cached results
+                        handledActionExecutionResultMono = sessionUserService
+                                .getCurrentUser()
+                                .map(User::getEmail)
+                                .defaultIfEmpty(FieldName.ANONYMOUS_USER)
+                                .flatMap(userKey -> {
+                                    String cacheKey = actionExecutionResultCache.getKey(
+                                            actionDTO, executeActionDTO, datasourceStorage, userKey);
+                                    return actionExecutionResultCache
+                                            .get(cacheKey)
+                                            .doOnNext(result -> {
+                                                isCachedResult.set(true);
+                                                // The request of the original execution is never cached
+                                                ActionExecutionRequest actionExecutionRequest =
+                                                        new ActionExecutionRequest();
+                                                actionExecutionRequest.setActionId(actionDTO.getId());
+                                                actionExecutionRequest.setRequestedAt(Instant.now());
+                                                result.setRequest(actionExecutionRequest);
+                                            })
+                                            .switchIfEmpty(actionExecutionResultCache.executeAndCache(
+                                                    cacheKey,
+                                                    Duration.ofSeconds(cacheResponseTtl),
+                                                    uncachedActionExecutionResultMono));
+                                });
+                    }
 
                     ActionConfiguration finalRawActionConfiguration = rawActionConfiguration;
-                    return actionExecutionResultMono
-                            .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration))
-                            .onErrorResume(executionExceptionHandler(actionDTO))
+                    return handledActionExecutionResultMono
                             .elapsed()
                             // Now send the analytics event for this execution
                             .flatMap(tuple1 -> {
@@ -860,7 +926,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                                                 executeActionDTO,
                                                 result,
                                                 timeElapsed,
-                                                finalRawActionConfiguration)
+                                                finalRawActionConfiguration,
+                                                isCachedResult.get())
                                         .thenReturn(result);
                             });
                 });
@@ -962,7 +1029,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             ExecuteActionDTO executeActionDto,
             ActionExecutionResult actionExecutionResult,
             Long timeElapsed,
-            ActionConfiguration rawActionConfiguration) {
+            ActionConfiguration rawActionConfiguration,
+            boolean isCachedResult) {
 
         if (!isSendExecuteAnalyticsEvent()) {
             return Mono.empty();
@@ -1092,7 +1160,9 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                             FieldName.ACTION_EXECUTION_REQUEST_PARAMS_SIZE,
                             executeActionDto.getTotalReadableByteCount(),
                             FieldName.ACTION_EXECUTION_REQUEST_PARAMS_COUNT,
-                            executionParams.size()));
+                            executionParams.size(),
+                            "isCachedResult",
+                            isCachedResult));
 
                     setContextSpecificProperties(data, actionDTO, pageName);
 
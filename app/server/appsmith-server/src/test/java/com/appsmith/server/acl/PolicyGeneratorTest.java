@@ -0,0 +1,77 @@
+package com.appsmith.server.acl;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Workspace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PolicyGeneratorTest {
+
+    private PolicyGenerator policyGenerator;
+
+    @BeforeEach
+    void setUp() {
+        policyGenerator = new PolicyGenerator();
+        policyGenerator.createPolicyGraph();
+    }
+
+    private static Policy policy(AclPermission permission, String... permissionGroups) {
+        return Policy.builder()
+                .permission(permission.getValue())
+                .permissionGroups(Set.of(permissionGroups))
+                .build();
+    }
+
+    @Test
+    void getAllChildPolicies_WhenPoliciesGiveSamePermission_PermissionGroupsMerged() {
+        Set<Policy> workspacePolicies = Set.of(
+                policy(AclPermission.WORKSPACE_MANAGE_APPLICATIONS, "developer"),
+                policy(AclPermission.WORKSPACE_READ_APPLICATIONS, "developer", "viewer"));
+
+        Set<Policy> applicationPolicies =
+                policyGenerator.getAllChildPolicies(workspacePolicies, Workspace.class, Application.class);
+
+        assertThat(applicationPolicies)
+                .containsExactlyInAnyOrder(
+                        policy(AclPermission.MANAGE_APPLICATIONS, "developer"),
+                        policy(AclPermission.READ_APPLICATIONS, "developer", "viewer"),
+                        policy(AclPermission.COMMENT_ON_APPLICATIONS, "developer", "viewer"));
+    }
+
+    @Test
+    void getAllChildPolicies_WhenPermissionNotOfSourceEntity_PolicyIgnored() {
+        Set<Policy> pagePolicies = Set.of(
+                policy(AclPermission.MANAGE_PAGES, "developer"),
+                policy(AclPermission.MANAGE_APPLICATIONS, "developer"),
+                Policy.builder().permission("unknown:permission").build());
+
+        Set<Policy> actionPolicies = policyGenerator.getAllChildPolicies(pagePolicies, NewPage.class, NewAction.class);
+
+        assertThat(actionPolicies)
+                .containsExactlyInAnyOrder(
+                        policy(AclPermission.MANAGE_ACTIONS, "developer"),
+                        policy(AclPermission.READ_ACTIONS, "developer"),
+                        policy(AclPermission.EXECUTE_ACTIONS, "developer"));
+        assertThat(policyGenerator.getAllChildPolicies(null, NewPage.class, NewAction.class))
+                .isEmpty();
+    }
+
+    @Test
+    void getChildPolicies_WhenNoDestinationEntity_OnlyLateralPoliciesOfChildren() {
+        Policy pagePolicy = policy(AclPermission.MANAGE_PAGES, "developer");
+
+        Set<Policy> childPolicies = policyGenerator.getChildPolicies(pagePolicy, AclPermission.MANAGE_PAGES, null);
+
+        assertThat(childPolicies)
+                .containsExactlyInAnyOrder(
+                        policy(AclPermission.READ_ACTIONS, "developer"),
+                        policy(AclPermission.EXECUTE_ACTIONS, "developer"));
+    }
+}
@@ -121,6 +121,17 @@ class FeatureFlaggedMethodInvokerAspectTest {
         assertEquals("arg_ce_impl_method", result);
     }
 
+    @Test
+    void ceEeSyncMethod_calledRepeatedly_followsFlagChanges() {
+        assertEquals("first_ce_impl_method", testComponent.ceEeSyncMethod("first_"));
+        assertEquals("second_ce_impl_method", testComponent.ceEeSyncMethod("second_"));
+
+        CachedFeatures cachedFeatures = new CachedFeatures();
+        cachedFeatures.setFeatures(Map.of(FeatureFlagEnum.TENANT_TEST_FEATURE.name(), Boolean.TRUE));
+        Mockito.when(featureFlagService.getCachedTenantFeatureFlags()).thenReturn(cachedFeatures);
+        assertEquals("third_ee_impl_method", testComponent.ceEeSyncMethod("third_"));
+    }
+
     @Test
     void ceEeThrowAppsmithException_eeImplTest() {
         CachedFeatures cachedFeatures = new CachedFeatures();
@@ -0,0 +1,206 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.server.converters.ArtifactExchangeJsonAdapter;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares exporting and importing a synthetic application json the way it used to be done, through a string and a
+ * tree of the whole json, with reading and writing it as a stream. Run through {@link #main} to also get the bytes
+ * allocated per operation from the GC profiler, which is where the two differ the most.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ArtifactJsonBenchmark {
+
+    private static final int WIDGETS_PER_PAGE = 200;
+    private static final int ACTIONS_PER_PAGE = 10;
+
+    @Param({"10", "150"})
+    public int pages;
+
+    private Gson gson;
+
+    private Gson gsonWithArtifactAdapter;
+
+    private ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
+
+    private ObjectMapper objectMapper;
+
+    private ApplicationJson applicationJson;
+
+    private byte[] applicationJsonBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
+        gson = gsonBuilder.create();
+        artifactExchangeJsonAdapter = new ArtifactExchangeJsonAdapter(gson);
+        gsonWithArtifactAdapter = gsonBuilder
+                .registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter)
+                .create();
+        objectMapper = SerializationUtils.getDefaultObjectMapper(null);
+
+        applicationJson = createApplicationJson(pages);
+        applicationJsonBytes = gson.toJson(applicationJson).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] exportThroughStringAndTree() throws IOException {
+        String stringifiedFile = gson.toJson(applicationJson);
+        Object jsonObject = gson.fromJson(stringifiedFile, Object.class);
+        return objectMapper.writeValueAsBytes(jsonObject);
+    }
+
+    @Benchmark
+    public long exportAsStream() throws IOException {
+        CountingOutputStream outputStream = new CountingOutputStream();
+        try (Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
+            gson.toJson(applicationJson, writer);
+        }
+        return outputStream.count;
+    }
+
+    @Benchmark
+    public ArtifactExchangeJson importThroughStringAndTree() {
+        String jsonString = new String(applicationJsonBytes);
+        return gsonWithArtifactAdapter.fromJson(jsonString, ArtifactExchangeJson.class);
+    }
+
+    @Benchmark
+    public ArtifactExchangeJson importAsStream() throws IOException {
+        return artifactExchangeJsonAdapter.fromJson(() ->
+                new InputStreamReader(new ByteArrayInputStream(applicationJsonBytes), StandardCharsets.UTF_8));
+    }
+
+    private static ApplicationJson createApplicationJson(int pageCount) {
+        Application application = new Application();
+        application.setName("Large application");
+
+        List<NewPage> pageList = new ArrayList<>();
+        List<NewAction> actionList = new ArrayList<>();
+        for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+            String pageName = "Page" + pageIndex;
+
+            Layout layout = new Layout();
+            layout.setDsl(createDsl(pageName));
+            PageDTO page = new PageDTO();
+            page.setName(pageName);
+            page.setLayouts(List.of(layout));
+            NewPage newPage = new NewPage();
+            newPage.setUnpublishedPage(page);
+            newPage.setPublishedPage(page);
+            pageList.add(newPage);
+
+            for (int actionIndex = 0; actionIndex < ACTIONS_PER_PAGE; actionIndex++) {
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setBody("SELECT * FROM users WHERE page = '" + pageName + "' AND id > "
+                        + actionIndex + " ORDER BY created_at DESC LIMIT 100;");
+                ActionDTO action = new ActionDTO();
+                action.setName(pageName + "_Query" + actionIndex);
+                action.setPageId(pageName);
+                action.setActionConfiguration(actionConfiguration);
+                NewAction newAction = new NewAction();
+                newAction.setUnpublishedAction(action);
+                newAction.setPublishedAction(action);
+                actionList.add(newAction);
+            }
+        }
+
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setExportedApplication(application);
+        applicationJson.setPageList(pageList);
+        applicationJson.setActionList(actionList);
+        return applicationJson;
+    }
+
+    private static JSONObject createDsl(String pageName) {
+        JSONArray children = new JSONArray();
+        for (int widgetIndex = 0; widgetIndex < WIDGETS_PER_PAGE; widgetIndex++) {
+            JSONObject widget = new JSONObject();
+            widget.put("widgetName", "Text" + widgetIndex);
+            widget.put("widgetId", pageName + "_" + widgetIndex);
+            widget.put("type", "TEXT_WIDGET");
+            widget.put("text", "{{" + pageName + "_Query" + (widgetIndex % ACTIONS_PER_PAGE) + ".data[0].name}}");
+            widget.put("topRow", widgetIndex * 4);
+            widget.put("bottomRow", widgetIndex * 4 + 4);
+            widget.put("leftColumn", 0);
+            widget.put("rightColumn", 64);
+            children.add(widget);
+        }
+
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("type", "CANVAS_WIDGET");
+        dsl.put("version", 89);
+        dsl.put("children", children);
+        return dsl;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(ArtifactJsonBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
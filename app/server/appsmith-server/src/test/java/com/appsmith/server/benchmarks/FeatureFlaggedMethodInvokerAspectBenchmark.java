@@ -0,0 +1,97 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.external.enums.FeatureFlagEnum;
+import com.appsmith.server.aspect.FeatureFlaggedMethodInvokerAspect;
+import com.appsmith.server.aspect.component.TestComponent;
+import com.appsmith.server.aspect.component.TestComponentImpl;
+import com.appsmith.server.aspect.component.ce_compatible.TestComponentCECompatibleImpl;
+import com.appsmith.server.featureflags.CachedFeatures;
+import com.appsmith.server.services.FeatureFlagService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead that {@link FeatureFlaggedMethodInvokerAspect} adds to a call of a feature flagged method, with
+ * the flag enabled and disabled, against a direct call of the same method. Run the same class on an older revision to
+ * compare against it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FeatureFlaggedMethodInvokerAspectBenchmark {
+
+    @Param({"true", "false"})
+    public boolean flagEnabled;
+
+    private TestComponent directComponent;
+
+    private TestComponent advisedComponent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CachedFeatures cachedFeatures = new CachedFeatures();
+        cachedFeatures.setFeatures(Map.of(FeatureFlagEnum.TENANT_TEST_FEATURE.name(), flagEnabled));
+        FeatureFlagService featureFlagService = Mockito.mock(FeatureFlagService.class);
+        Mockito.when(featureFlagService.getCachedTenantFeatureFlags()).thenReturn(cachedFeatures);
+        Mockito.when(featureFlagService.check(FeatureFlagEnum.TENANT_TEST_FEATURE))
+                .thenReturn(Mono.just(flagEnabled));
+
+        // The aspect falls back to the bean of the super class when the flag is disabled
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean("testComponentCECompatibleImpl", TestComponentCECompatibleImpl.class);
+        applicationContext.refresh();
+
+        directComponent = new TestComponentImpl();
+
+        // Class based proxy like the ones of the application, so that the advice sees the annotated method
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TestComponentImpl());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new FeatureFlaggedMethodInvokerAspect(featureFlagService, applicationContext));
+        advisedComponent = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public String syncDirect() {
+        return directComponent.ceEeSyncMethod("arg_");
+    }
+
+    @Benchmark
+    public String syncFeatureFlagged() {
+        return advisedComponent.ceEeSyncMethod("arg_");
+    }
+
+    @Benchmark
+    public String reactiveFeatureFlagged() {
+        return advisedComponent.ceEeDiffMethod().block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(FeatureFlaggedMethodInvokerAspectBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
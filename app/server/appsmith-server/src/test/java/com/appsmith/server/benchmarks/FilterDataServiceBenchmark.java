@@ -0,0 +1,95 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.FilterDataService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures in memory filtering of Google Sheets / S3 style rows through {@link FilterDataService}, both from a single
+ * thread and from several threads at once, the latter being where the connection pool matters. Run the same class on
+ * an older revision to compare against it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FilterDataServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private final FilterDataService filterDataService = FilterDataService.getInstance();
+
+    private ArrayNode items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        items = objectMapper.createArrayNode();
+        for (int i = 0; i < rows; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", String.valueOf(i));
+            item.put("name", "User " + i);
+            item.put("email", "user" + i + "@example.com");
+            item.put("orderAmount", String.valueOf((i % 1000) / 10.0));
+            item.put("active", String.valueOf(i % 2 == 0));
+        }
+    }
+
+    private UQIDataFilterParams filterParams() {
+        Condition condition = new Condition(
+                null,
+                ConditionalOperator.AND,
+                List.of(new Condition("orderAmount", "GT", "50"), new Condition("active", "EQ", "true")),
+                null);
+        return new UQIDataFilterParams(
+                condition,
+                List.of("id", "name", "orderAmount"),
+                List.of(Map.of("column", "orderAmount", "order", "DESCENDING")),
+                Map.of("limit", "100", "offset", "0"));
+    }
+
+    @Benchmark
+    public ArrayNode filterSingleThread() {
+        return filterDataService.filterDataNew(items, filterParams());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ArrayNode filterFourThreads() {
+        return filterDataService.filterDataNew(items, filterParams());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(FilterDataServiceBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,94 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.domains.Workspace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures deriving the policies of the documents of an imported application from the policies of its workspace,
+ * the way the import flow does it for each datasource, page, action and collection. Run the same class on an older
+ * revision to compare against it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PolicyGeneratorBenchmark {
+
+    // Number of pages, actions and collections in the imported application
+    @Param({"1000"})
+    public int entities;
+
+    private final PolicyGenerator policyGenerator = new PolicyGenerator();
+
+    private Set<Policy> workspacePolicies;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        policyGenerator.createPolicyGraph();
+
+        // The workspace policies of the default administrator, developer and viewer roles
+        workspacePolicies = new HashSet<>();
+        for (AclPermission permission : EnumSet.allOf(AclPermission.class)) {
+            if (Workspace.class.equals(permission.getEntity())) {
+                workspacePolicies.add(Policy.builder()
+                        .permission(permission.getValue())
+                        .permissionGroups(Set.of("administrator", "developer", "viewer"))
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public void importApplication(Blackhole blackhole) {
+        Set<Policy> applicationPolicies =
+                policyGenerator.getAllChildPolicies(workspacePolicies, Workspace.class, Application.class);
+        blackhole.consume(policyGenerator.getAllChildPolicies(applicationPolicies, Application.class, Theme.class));
+
+        for (int i = 0; i < entities; i++) {
+            blackhole.consume(
+                    policyGenerator.getAllChildPolicies(workspacePolicies, Workspace.class, Datasource.class));
+            Set<Policy> pagePolicies =
+                    policyGenerator.getAllChildPolicies(applicationPolicies, Application.class, NewPage.class);
+            // Actions and action collections both derive their policies from the page
+            blackhole.consume(policyGenerator.getAllChildPolicies(pagePolicies, NewPage.class, NewAction.class));
+            blackhole.consume(policyGenerator.getAllChildPolicies(pagePolicies, NewPage.class, NewAction.class));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(PolicyGeneratorBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,184 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.external.dtos.ModifiedResources;
+import com.appsmith.external.git.operations.FileOperations;
+import com.appsmith.external.helpers.ObservationHelper;
+import com.appsmith.external.models.ApplicationGitReference;
+import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.constants.CommonConstants;
+import com.appsmith.git.files.FileUtilsImpl;
+import com.appsmith.git.files.operations.FileOperationsImpl;
+import com.appsmith.git.helpers.GitRepositoryCache;
+import com.appsmith.git.service.GitExecutorImpl;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.FileSystemUtils;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.git.constants.ce.GitConstantsCE.NAME_SEPARATOR;
+
+/**
+ * Measures saving a synthetic application to a repo that already has it, the way git status and commit do, either
+ * without any change or with a single edited page. Only the files of the edited page should be written, everything
+ * else is skipped through the resource manifest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SaveApplicationToGitRepoBenchmark {
+
+    private static final int WIDGETS_PER_PAGE = 30;
+    private static final int ACTIONS_PER_PAGE = 10;
+    private static final int JS_OBJECTS_PER_PAGE = 2;
+
+    @Param({"150", "500"})
+    public int pages;
+
+    private final Path baseRepoSuffix = Path.of("workspaceId", "applicationId", "repoName");
+
+    private Path gitRootPath;
+
+    private FileUtilsImpl fileUtils;
+
+    private int edits = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GitAPIException, IOException {
+        gitRootPath = Files.createTempDirectory("save-application-benchmark");
+        Files.createDirectories(gitRootPath.resolve(baseRepoSuffix).resolve(".git"));
+
+        GitExecutorImpl gitExecutor = Mockito.mock(GitExecutorImpl.class);
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(gitRootPath.toString());
+        FileOperations fileOperations = new FileOperationsImpl(null, ObservationHelper.NOOP);
+        fileUtils = new FileUtilsImpl(
+                gitServiceConfig,
+                gitExecutor,
+                fileOperations,
+                ObservationHelper.NOOP,
+                Mockito.mock(GitRepositoryCache.class));
+
+        save(createApplication("v0"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(gitRootPath);
+    }
+
+    @Benchmark
+    public void saveUnchanged() throws GitAPIException, IOException {
+        save(createApplication("v0"));
+    }
+
+    @Benchmark
+    public void saveWithOneEditedPage() throws GitAPIException, IOException {
+        ApplicationGitReference editedApplication = createApplication("v0");
+        editedApplication.getPageDsl().put("Page0", createPageDsl("Page0", "v" + ++edits));
+        save(editedApplication);
+    }
+
+    private void save(ApplicationGitReference applicationGitReference) throws GitAPIException, IOException {
+        fileUtils
+                .saveApplicationToGitRepo(baseRepoSuffix, applicationGitReference, "branch")
+                .block();
+    }
+
+    private ApplicationGitReference createApplication(String version) {
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "Large application"));
+        applicationGitReference.setTheme(Map.of("name", "Default"));
+        applicationGitReference.setMetadata(Map.of("artifactJsonType", "APPLICATION"));
+
+        Map<String, Object> pageMap = new HashMap<>();
+        Map<String, String> pageDsl = new HashMap<>();
+        Map<String, Object> actions = new HashMap<>();
+        Map<String, String> actionBody = new HashMap<>();
+        Map<String, Object> actionCollections = new HashMap<>();
+        Map<String, String> actionCollectionBody = new HashMap<>();
+        for (int page = 0; page < pages; page++) {
+            String pageName = "Page" + page;
+            pageMap.put(pageName, Map.of("name", pageName, "slug", pageName.toLowerCase()));
+            pageDsl.put(pageName, createPageDsl(pageName, version));
+            for (int action = 0; action < ACTIONS_PER_PAGE; action++) {
+                String key = "Query" + action + NAME_SEPARATOR + pageName;
+                actions.put(key, Map.of("name", "Query" + action, "pageId", pageName));
+                actionBody.put(key, "SELECT * FROM users WHERE id = " + action + " LIMIT 10;");
+            }
+            for (int jsObject = 0; jsObject < JS_OBJECTS_PER_PAGE; jsObject++) {
+                String key = "JSObject" + jsObject + NAME_SEPARATOR + pageName;
+                actionCollections.put(key, Map.of("name", "JSObject" + jsObject, "pageId", pageName));
+                actionCollectionBody.put(key, "export default {\n\tmyFun1 () {\n\t\treturn " + jsObject + ";\n\t}\n}");
+            }
+        }
+        applicationGitReference.setPages(pageMap);
+        applicationGitReference.setPageDsl(pageDsl);
+        applicationGitReference.setActions(actions);
+        applicationGitReference.setActionBody(actionBody);
+        applicationGitReference.setActionCollections(actionCollections);
+        applicationGitReference.setActionCollectionBody(actionCollectionBody);
+        applicationGitReference.setDatasources(Map.of("Users", Map.of("name", "Users", "pluginId", "postgres-plugin")));
+        applicationGitReference.setJsLibraries(new HashMap<>());
+
+        ModifiedResources modifiedResources = new ModifiedResources();
+        modifiedResources.setAllModified(true);
+        applicationGitReference.setModifiedResources(modifiedResources);
+        return applicationGitReference;
+    }
+
+    private static String createPageDsl(String pageName, String version) {
+        JSONArray children = new JSONArray();
+        for (int widget = 0; widget < WIDGETS_PER_PAGE; widget++) {
+            JSONObject child = new JSONObject();
+            child.put(CommonConstants.WIDGET_NAME, "Text" + widget);
+            child.put(CommonConstants.WIDGET_TYPE, "TEXT_WIDGET");
+            child.put(CommonConstants.WIDGET_ID, pageName + "_text" + widget);
+            child.put(CommonConstants.PARENT_ID, "0");
+            child.put("text", "Label " + widget + " " + version);
+            children.put(child);
+        }
+        JSONObject mainContainer = new JSONObject();
+        mainContainer.put(CommonConstants.WIDGET_NAME, CommonConstants.MAIN_CONTAINER);
+        mainContainer.put(CommonConstants.WIDGET_TYPE, "CANVAS_WIDGET");
+        mainContainer.put(CommonConstants.WIDGET_ID, "0");
+        mainContainer.put(CommonConstants.CHILDREN, children);
+        return mainContainer.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(SaveApplicationToGitRepoBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,78 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.domains.User;
+import com.appsmith.server.helpers.UserSessionIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.MapSession;
+import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.Session;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+public class UserSessionIndexingRepositoryTest {
+
+    @SuppressWarnings("unchecked")
+    private final ReactiveSessionRepository<Session> delegate = mock(ReactiveSessionRepository.class);
+
+    private final UserSessionIndex userSessionIndex = mock(UserSessionIndex.class);
+
+    private final UserSessionIndexingRepository repository =
+            new UserSessionIndexingRepository(delegate, userSessionIndex);
+
+    @BeforeEach
+    public void setUp() {
+        when(delegate.save(any())).thenReturn(Mono.empty());
+        when(delegate.deleteById(anyString())).thenReturn(Mono.empty());
+        when(userSessionIndex.add(anyString(), anyString())).thenReturn(Mono.empty());
+        when(userSessionIndex.remove(anyString(), anyString())).thenReturn(Mono.empty());
+    }
+
+    private Session userSession(String email) {
+        User user = new User();
+        user.setEmail(email);
+        Session session = new MapSession("session1");
+        session.setAttribute(
+                DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME,
+                new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null)));
+        return session;
+    }
+
+    @Test
+    public void save_signedInSession_indexesSessionOnce() {
+        Session session = userSession("user@example.com");
+
+        StepVerifier.create(repository.save(session).then(repository.save(session))).verifyComplete();
+
+        verify(delegate, times(2)).save(session);
+        verify(userSessionIndex, times(1)).add("user@example.com", "session1");
+    }
+
+    @Test
+    public void save_anonymousSession_isNotIndexed() {
+        StepVerifier.create(repository.save(new MapSession("session1"))).verifyComplete();
+
+        verify(userSessionIndex, never()).add(anyString(), anyString());
+    }
+
+    @Test
+    public void deleteById_signedInSession_removesSessionFromIndex() {
+        when(delegate.findById("session1")).thenReturn(Mono.just(userSession("user@example.com")));
+
+        StepVerifier.create(repository.deleteById("session1")).verifyComplete();
+
+        verify(userSessionIndex).remove("user@example.com", "session1");
+        verify(delegate).deleteById("session1");
+    }
+}
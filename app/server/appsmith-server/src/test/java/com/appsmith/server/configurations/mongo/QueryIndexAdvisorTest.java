@@ -0,0 +1,63 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.NewAction;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl.notDeleted;
+import static com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl.userAcl;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryIndexAdvisorTest {
+
+    private static final String READ_ACTIONS_FIELD = "policyMap.read:actions.permissionGroups";
+
+    private QueryShape shapeOf(Criteria criteria) {
+        final Query query = new Query(new Criteria()
+                .andOperator(criteria, notDeleted(), userAcl(Set.of("group"), AclPermission.READ_ACTIONS)));
+        return QueryShape.of("newAction", query.getQueryObject());
+    }
+
+    @Test
+    public void queryShape_permissionQuery_collectsFieldsWithoutValues() {
+        QueryShape shape = shapeOf(Criteria.where(NewAction.Fields.applicationId).is("app1"));
+
+        assertThat(shape).isEqualTo(shapeOf(Criteria.where(NewAction.Fields.applicationId).is("app2")));
+        assertThat(shape.fields())
+                .containsExactly(NewAction.Fields.applicationId, "deleted", "deletedAt", READ_ACTIONS_FIELD);
+        assertThat(shape.indexKeys()).containsExactly(NewAction.Fields.applicationId, READ_ACTIONS_FIELD, "deletedAt");
+    }
+
+    @Test
+    public void queryShape_isCoveredBy_indexLeadingWithSelectiveField() {
+        QueryShape shape = shapeOf(Criteria.where(NewAction.Fields.applicationId).is("app1"));
+
+        assertThat(shape.isCoveredBy(List.of(List.of("_id"), List.of(NewAction.Fields.applicationId, "deletedAt"))))
+                .isTrue();
+        assertThat(shape.isCoveredBy(List.of(List.of("_id"), List.of("deletedAt"), List.of(READ_ACTIONS_FIELD))))
+                .isFalse();
+    }
+
+    @Test
+    public void summarizePlan_nestedStages_listsStagesWithIndexNames() {
+        Document explainResult = new Document(
+                "queryPlanner",
+                new Document(
+                        "winningPlan",
+                        new Document("stage", "FETCH")
+                                .append(
+                                        "inputStage",
+                                        new Document("stage", "IXSCAN").append("indexName", "applicationId"))));
+
+        assertThat(QueryIndexAdvisor.summarizePlan(explainResult)).isEqualTo("FETCH <- IXSCAN applicationId");
+        assertThat(QueryIndexAdvisor.summarizePlan(
+                        new Document("queryPlanner", new Document("winningPlan", new Document("stage", "COLLSCAN")))))
+                .isEqualTo("COLLSCAN");
+    }
+}
@@ -0,0 +1,63 @@
+package com.appsmith.server.converters;
+
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
+import com.appsmith.util.SerializationUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ArtifactExchangeJsonAdapterTest {
+    private Gson gsonWithAdapter;
+    private ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
+
+    @BeforeEach
+    public void setUp() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
+        artifactExchangeJsonAdapter = new ArtifactExchangeJsonAdapter(gsonBuilder.create());
+        gsonWithAdapter = gsonBuilder
+                .registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter)
+                .create();
+    }
+
+    @Test
+    public void fromJson_WhenTypeIsAfterOtherFields_ReadsSameAsTree() throws Exception {
+        String data = "{\"clientSchemaVersion\": 1,"
+                + " \"exportedApplication\": {\"name\": \"app\", \"color\": \"#FFF\"},"
+                + " \"pageList\": [{\"unpublishedPage\": {\"name\": \"Page1\"}}],"
+                + " \"artifactJsonType\": \"APPLICATION\"}";
+
+        ArtifactExchangeJson fromTree = gsonWithAdapter.fromJson(data, ArtifactExchangeJson.class);
+        ArtifactExchangeJson fromStream = artifactExchangeJsonAdapter.fromJson(() -> new StringReader(data));
+
+        assertThat(fromStream).isInstanceOf(ApplicationJson.class);
+        ApplicationJson applicationJson = (ApplicationJson) fromStream;
+        assertThat(applicationJson.getClientSchemaVersion()).isEqualTo(1);
+        assertThat(applicationJson.getExportedApplication().getName()).isEqualTo("app");
+        assertThat(applicationJson.getPageList().get(0).getUnpublishedPage().getName())
+                .isEqualTo("Page1");
+        assertThat(gsonWithAdapter.toJson(fromStream)).isEqualTo(gsonWithAdapter.toJson(fromTree));
+    }
+
+    @Test
+    public void fromJson_WhenTypeIsMissing_ReadsApplicationJson() throws Exception {
+        ArtifactExchangeJson fromStream =
+                artifactExchangeJsonAdapter.fromJson(() -> new StringReader("{\"exportedApplication\": {}}"));
+
+        assertThat(fromStream).isInstanceOf(ApplicationJson.class);
+    }
+
+    @Test
+    public void fromJson_WhenJsonIsMalformed_ThrowsSyntaxException() {
+        assertThatThrownBy(() -> artifactExchangeJsonAdapter.fromJson(() -> new StringReader("{\"pageList\": [}")))
+                .isInstanceOf(JsonSyntaxException.class);
+    }
+}
@@ -1097,6 +1097,118 @@ public class ApplicationForkingServiceTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void forkApplication_WhenLargeApplication_AllPagesActionsAndCollectionsForked() {
+        final int pageCount = 20;
+        final int actionsPerPage = 20;
+
+        Tuple2<Application, String> setup = forkApplicationSetup(true, true).block();
+        assert setup != null;
+        final Application srcApp = setup.getT1();
+        final String targetWorkspaceId = setup.getT2();
+
+        final Datasource datasource = newActionService
+                .findAllByApplicationIdAndViewMode(srcApp.getId(), false, READ_ACTIONS, null)
+                .blockFirst()
+                .getUnpublishedAction()
+                .getDatasource();
+
+        for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+            PageDTO pageDTO = new PageDTO();
+            pageDTO.setName("large-app-page" + pageIndex);
+            pageDTO.setApplicationId(srcApp.getId());
+            final String pageId =
+                    applicationPageService.createPage(pageDTO).block().getId();
+
+            for (int actionIndex = 0; actionIndex < actionsPerPage; actionIndex++) {
+                ActionDTO action = new ActionDTO();
+                action.setName("query" + pageIndex + "_" + actionIndex);
+                action.setPageId(pageId);
+                action.setExecuteOnLoad(true);
+                ActionConfiguration actionConfiguration = new ActionConfiguration();
+                actionConfiguration.setHttpMethod(HttpMethod.GET);
+                action.setActionConfiguration(actionConfiguration);
+                action.setDatasource(datasource);
+                layoutActionService.createSingleAction(action, Boolean.FALSE).block();
+            }
+
+            ActionCollectionDTO actionCollectionDTO = new ActionCollectionDTO();
+            actionCollectionDTO.setName("collection" + pageIndex);
+            actionCollectionDTO.setPageId(pageId);
+            actionCollectionDTO.setApplicationId(srcApp.getId());
+            actionCollectionDTO.setWorkspaceId(srcApp.getWorkspaceId());
+            actionCollectionDTO.setPluginId(datasource.getPluginId());
+            actionCollectionDTO.setBody("export default {\n\trun: () => query" + pageIndex + "_0.run()\n}");
+            ActionDTO jsAction = new ActionDTO();
+            jsAction.setName("run");
+            jsAction.setActionConfiguration(new ActionConfiguration());
+            jsAction.getActionConfiguration().setBody("() => query" + pageIndex + "_0.run()");
+            actionCollectionDTO.setActions(List.of(jsAction));
+            actionCollectionDTO.setPluginType(PluginType.JS);
+            layoutCollectionService.createCollection(actionCollectionDTO).block();
+        }
+
+        final long startTime = System.currentTimeMillis();
+        final Application forkedApplication = applicationForkingService
+                .forkApplicationToWorkspace(srcApp.getId(), targetWorkspaceId)
+                .block();
+        log.debug(
+                "Forked application with {} pages and {} actions per page in {} ms",
+                pageCount,
+                actionsPerPage,
+                System.currentTimeMillis() - startTime);
+        assert forkedApplication != null;
+
+        final Mono<List<NewPage>> forkedPagesMono = newPageService
+                .findNewPagesByApplicationId(forkedApplication.getId(), READ_PAGES)
+                .collectList();
+        final Mono<List<NewAction>> forkedActionsMono = newActionService
+                .findAllByApplicationIdAndViewMode(forkedApplication.getId(), false, READ_ACTIONS, null)
+                .collectList();
+        final Mono<List<ActionCollection>> forkedCollectionsMono = actionCollectionService
+                .findAllByApplicationIdAndViewMode(forkedApplication.getId(), false, READ_ACTIONS, null)
+                .collectList();
+
+        StepVerifier.create(Mono.zip(forkedPagesMono, forkedActionsMono, forkedCollectionsMono))
+                .assertNext(tuple -> {
+                    final List<NewPage> forkedPages = tuple.getT1();
+                    final List<NewAction> forkedActions = tuple.getT2();
+                    final List<ActionCollection> forkedCollections = tuple.getT3();
+                    final Set<String> forkedPageIds =
+                            forkedPages.stream().map(NewPage::getId).collect(Collectors.toSet());
+                    final Set<String> forkedCollectionIds =
+                            forkedCollections.stream().map(ActionCollection::getId).collect(Collectors.toSet());
+
+                    // The default page and the action created by the setup are forked along with the synthetic ones
+                    assertThat(forkedPages).hasSize(pageCount + 1);
+                    assertThat(forkedCollections).hasSize(pageCount);
+                    assertThat(forkedActions.stream()
+                                    .filter(action ->
+                                            action.getUnpublishedAction().getCollectionId() == null))
+                            .hasSize(pageCount * actionsPerPage + 1);
+
+                    forkedActions.forEach(action -> {
+                        assertThat(action.getId()).isNotNull();
+                        assertThat(action.getBaseId()).isEqualTo(action.getId());
+                        assertThat(action.getWorkspaceId()).isEqualTo(targetWorkspaceId);
+                        assertThat(forkedPageIds)
+                                .contains(action.getUnpublishedAction().getPageId());
+                        final String collectionId =
+                                action.getUnpublishedAction().getCollectionId();
+                        if (collectionId != null) {
+                            assertThat(forkedCollectionIds).contains(collectionId);
+                        }
+                    });
+                    forkedCollections.forEach(collection -> {
+                        assertThat(collection.getBaseId()).isEqualTo(collection.getId());
+                        assertThat(forkedPageIds)
+                                .contains(collection.getUnpublishedCollection().getPageId());
+                    });
+                })
+                .verifyComplete();
+    }
+
     private Mono<Tuple2<Application, String>> forkApplicationSetup(
             Boolean forkWithConfiguration, Boolean connectDatasourceToAction) {
         Workspace targetWorkspace = new Workspace();
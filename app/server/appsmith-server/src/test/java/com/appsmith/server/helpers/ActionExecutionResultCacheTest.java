@@ -0,0 +1,145 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.Param;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ActionExecutionResultCacheTest {
+
+    private static final String USER = "user@example.com";
+
+    @Autowired
+    ActionExecutionResultCache actionExecutionResultCache;
+
+    private ActionDTO actionDTO;
+    private DatasourceStorage datasourceStorage;
+
+    @BeforeEach
+    void setUp() {
+        actionDTO = new ActionDTO();
+        actionDTO.setId(UUID.randomUUID().toString());
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("select * from users where id = {{Input1.text}}");
+        actionDTO.setActionConfiguration(actionConfiguration);
+
+        datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId(UUID.randomUUID().toString());
+        datasourceStorage.setEnvironmentId(UUID.randomUUID().toString());
+    }
+
+    private ExecuteActionDTO executeActionDTO(String value) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setViewMode(true);
+        executeActionDTO.setParams(List.of(new Param("Input1.text", value)));
+        return executeActionDTO;
+    }
+
+    private Mono<ActionExecutionResult> execution(AtomicInteger executionCount, boolean isSuccess) {
+        return Mono.fromSupplier(() -> {
+            executionCount.incrementAndGet();
+            ActionExecutionResult result = new ActionExecutionResult();
+            result.setIsExecutionSuccess(isSuccess);
+            result.setBody("result");
+            ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setHeaders(Map.of("Authorization", "Bearer token"));
+            result.setRequest(request);
+            return result;
+        });
+    }
+
+    private Mono<ActionExecutionResult> getOrExecute(String key, Mono<ActionExecutionResult> execution) {
+        return actionExecutionResultCache
+                .get(key)
+                .switchIfEmpty(actionExecutionResultCache.executeAndCache(key, Duration.ofMinutes(1), execution));
+    }
+
+    @Test
+    void executeAndCache_successfulResult_servedFromCacheAfterwards() {
+        AtomicInteger executionCount = new AtomicInteger();
+        String key = actionExecutionResultCache.getKey(actionDTO, executeActionDTO("1"), datasourceStorage, USER);
+
+        StepVerifier.create(getOrExecute(key, execution(executionCount, true))
+                        .then(getOrExecute(key, execution(executionCount, true))))
+                .assertNext(result -> assertThat(result.getBody()).isEqualTo("result"))
+                .verifyComplete();
+        assertThat(executionCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void executeAndCache_successfulResult_cachedWithoutRequest() {
+        AtomicInteger executionCount = new AtomicInteger();
+        String key = actionExecutionResultCache.getKey(actionDTO, executeActionDTO("1"), datasourceStorage, USER);
+
+        StepVerifier.create(getOrExecute(key, execution(executionCount, true))
+                        .then(actionExecutionResultCache.get(key)))
+                .assertNext(result -> {
+                    assertThat(result.getBody()).isEqualTo("result");
+                    assertThat(result.getRequest()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getKey_differentUsers_differentKeys() {
+        String key1 = actionExecutionResultCache.getKey(actionDTO, executeActionDTO("1"), datasourceStorage, USER);
+        String key2 = actionExecutionResultCache.getKey(
+                actionDTO, executeActionDTO("1"), datasourceStorage, "another-user@example.com");
+
+        assertThat(key1).isNotEqualTo(key2);
+    }
+
+    @Test
+    void executeAndCache_failedResult_notCached() {
+        AtomicInteger executionCount = new AtomicInteger();
+        String key = actionExecutionResultCache.getKey(actionDTO, executeActionDTO("1"), datasourceStorage, USER);
+
+        StepVerifier.create(getOrExecute(key, execution(executionCount, false))
+                        .then(getOrExecute(key, execution(executionCount, false))))
+                .assertNext(result -> assertThat(result.getIsExecutionSuccess()).isFalse())
+                .verifyComplete();
+        assertThat(executionCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void getKey_differentParams_differentKeys() {
+        String key1 = actionExecutionResultCache.getKey(actionDTO, executeActionDTO("1"), datasourceStorage, USER);
+        String key2 = actionExecutionResultCache.getKey(actionDTO, executeActionDTO("2"), datasourceStorage, USER);
+
+        assertThat(key1).isNotEqualTo(key2);
+        assertThat(key1)
+                .isEqualTo(
+                        actionExecutionResultCache.getKey(actionDTO, executeActionDTO("1"), datasourceStorage, USER));
+    }
+
+    @Test
+    void invalidate_cachedResultsOfDatasource_executedAgain() {
+        AtomicInteger executionCount = new AtomicInteger();
+        String key = actionExecutionResultCache.getKey(actionDTO, executeActionDTO("1"), datasourceStorage, USER);
+
+        StepVerifier.create(getOrExecute(key, execution(executionCount, true))
+                        .then(actionExecutionResultCache.invalidate(datasourceStorage))
+                        .then(getOrExecute(key, execution(executionCount, true))))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(executionCount.get()).isEqualTo(2);
+    }
+}
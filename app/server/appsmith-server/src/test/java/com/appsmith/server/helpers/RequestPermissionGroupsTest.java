@@ -0,0 +1,54 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestPermissionGroupsTest {
+
+    private final AtomicInteger resolutions = new AtomicInteger();
+
+    private Mono<Set<String>> resolve() {
+        return Mono.fromSupplier(() -> Set.of("group" + resolutions.incrementAndGet()));
+    }
+
+    private Mono<Set<String>> get(String key) {
+        return Mono.deferContextual(context -> RequestPermissionGroups.get(context, key, this::resolve));
+    }
+
+    @Test
+    public void get_WithinRequest_ResolvesOncePerKey() {
+        Mono<Set<Set<String>>> permissionGroups = Mono.zip(get("user"), get("user"), get("user:strict"))
+                .map(tuple -> Set.of(tuple.getT1(), tuple.getT2(), tuple.getT3()))
+                .contextWrite(RequestPermissionGroups::init);
+
+        StepVerifier.create(permissionGroups)
+                .assertNext(groups -> assertThat(groups).containsExactlyInAnyOrder(Set.of("group1"), Set.of("group2")))
+                .verifyComplete();
+        assertThat(resolutions).hasValue(2);
+    }
+
+    @Test
+    public void get_WithoutRequest_ResolvesEveryTime() {
+        StepVerifier.create(get("user").then(get("user"))).expectNextCount(1).verifyComplete();
+
+        assertThat(resolutions).hasValue(2);
+    }
+
+    @Test
+    public void evict_WithinRequest_ResolvesAgain() {
+        Mono<Set<String>> permissionGroups = get("user")
+                .then(Mono.deferContextual(context -> {
+                    RequestPermissionGroups.evict(context);
+                    return get("user");
+                }))
+                .contextWrite(RequestPermissionGroups::init);
+
+        StepVerifier.create(permissionGroups).expectNext(Set.of("group2")).verifyComplete();
+    }
+}
@@ -0,0 +1,84 @@
+package com.appsmith.server.ratelimiting;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BulkheadTest {
+
+    @Test
+    public void testPermitIsHandedToNextWaiterOnRelease() {
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        Bulkhead.Permit first = bulkhead.acquire().block();
+
+        AtomicReference<Bulkhead.Permit> second = new AtomicReference<>();
+        bulkhead.acquire().subscribe(second::set);
+        assertNull(second.get());
+        assertEquals(1, bulkhead.getQueuedCount());
+
+        first.release();
+        assertEquals(1, bulkhead.getActiveCount());
+        assertEquals(0, bulkhead.getQueuedCount());
+
+        second.get().release();
+        assertEquals(0, bulkhead.getActiveCount());
+    }
+
+    @Test
+    public void testAcquireIsRejectedWhenQueueIsFull() {
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        bulkhead.acquire().block();
+        bulkhead.acquire().subscribe();
+
+        StepVerifier.create(bulkhead.acquire())
+                .expectError(Bulkhead.BulkheadFullException.class)
+                .verify();
+    }
+
+    @Test
+    public void testCancelledWaiterGivesUpItsPlace() {
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        Bulkhead.Permit first = bulkhead.acquire().block();
+
+        Disposable waiting = bulkhead.acquire().subscribe();
+        waiting.dispose();
+        assertEquals(0, bulkhead.getQueuedCount());
+
+        first.release();
+        assertEquals(0, bulkhead.getActiveCount());
+    }
+
+    @Test
+    public void testReleasingTwiceHasNoEffect() {
+        Bulkhead bulkhead = new Bulkhead(2, 0);
+        Bulkhead.Permit permit = bulkhead.acquire().block();
+        bulkhead.acquire().block();
+
+        permit.release();
+        permit.release();
+        assertEquals(1, bulkhead.getActiveCount());
+    }
+
+    @Test
+    public void testTryAcquireDoesNotPassWaiters() {
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        Bulkhead.Permit first = bulkhead.tryAcquire();
+        assertNotNull(first);
+        assertNull(bulkhead.tryAcquire());
+
+        AtomicReference<Bulkhead.Permit> second = new AtomicReference<>();
+        bulkhead.acquire().subscribe(second::set);
+        first.release();
+
+        // The released permit went to the waiter
+        assertNotNull(second.get());
+        assertNull(bulkhead.tryAcquire());
+        assertEquals(0, bulkhead.getQueuedCount());
+    }
+}
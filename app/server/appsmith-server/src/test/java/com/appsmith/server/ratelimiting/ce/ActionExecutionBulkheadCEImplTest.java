@@ -0,0 +1,70 @@
+package com.appsmith.server.ratelimiting.ce;
+
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.ratelimiting.ActionExecutionBulkheadConfig;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ActionExecutionBulkheadCEImplTest {
+
+    private ActionExecutionBulkheadCEImpl createBulkhead(int maxConcurrentPerWorkspace, int maxQueued) {
+        ActionExecutionBulkheadConfig config = mock(ActionExecutionBulkheadConfig.class);
+        when(config.isEnabled()).thenReturn(true);
+        when(config.getMaxConcurrentPerWorkspace()).thenReturn(maxConcurrentPerWorkspace);
+        when(config.getMaxConcurrentPerDatasource()).thenReturn(1);
+        when(config.getMaxConcurrentPerPlugin()).thenReturn(10);
+        when(config.getMaxQueued()).thenReturn(maxQueued);
+        when(config.getMaxWait()).thenReturn(Duration.ofMinutes(1));
+        return new ActionExecutionBulkheadCEImpl(config);
+    }
+
+    @Test
+    public void testExecutionWaitingForDatasource_doesNotHoldWorkspacePermit() {
+        ActionExecutionBulkheadCEImpl bulkhead = createBulkhead(2, 10);
+
+        Sinks.One<String> first = Sinks.one();
+        bulkhead.execute("workspace", "datasource1", "plugin", first.asMono()).subscribe();
+
+        AtomicReference<String> second = new AtomicReference<>();
+        bulkhead.execute("workspace", "datasource1", "plugin", Mono.just("second"))
+                .subscribe(second::set);
+        assertNull(second.get());
+
+        // The second execution waits for the first datasource without taking the second workspace permit
+        StepVerifier.create(bulkhead.execute("workspace", "datasource2", "plugin", Mono.just("third")))
+                .expectNext("third")
+                .verifyComplete();
+
+        first.tryEmitValue("first");
+        assertEquals("second", second.get());
+    }
+
+    @Test
+    public void testExecutionWithFullQueue_isRejected() {
+        ActionExecutionBulkheadCEImpl bulkhead = createBulkhead(1, 0);
+
+        Sinks.One<String> first = Sinks.one();
+        bulkhead.execute("workspace", "datasource1", "plugin", first.asMono()).subscribe();
+
+        StepVerifier.create(bulkhead.execute("workspace", "datasource1", "plugin", Mono.just("second")))
+                .expectErrorMatches(error -> error instanceof AppsmithException appsmithException
+                        && appsmithException.getError() == AppsmithError.TOO_MANY_REQUESTS)
+                .verify();
+
+        first.tryEmitValue("first");
+        StepVerifier.create(bulkhead.execute("workspace", "datasource1", "plugin", Mono.just("third")))
+                .expectNext("third")
+                .verifyComplete();
+    }
+}
@@ -1,6 +1,7 @@
 package com.appsmith.server.repositories.ce;
 
 import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -49,4 +50,27 @@ class BaseAppsmithRepositoryImplTest {
         assertNotNull(obj);
         Assertions.assertNull(obj.getPolicies());
     }
+
+    @Test
+    void testSetUserPermissionsInObject_whenPoliciesShareAPermissionGroup_permissionsAreSet() {
+        TestClass obj = new TestClass();
+        obj.setPolicies(Set.of(
+                Policy.builder()
+                        .permission("read")
+                        .permissionGroups(Set.of("viewer", "developer"))
+                        .build(),
+                Policy.builder()
+                        .permission("manage")
+                        .permissionGroups(Set.of("developer"))
+                        .build(),
+                Policy.builder().permission("delete").permissionGroups(null).build()));
+
+        obj = baseAppsmithRepositoryImpl
+                .setUserPermissionsInObject(obj, Set.of("viewer", "anonymous", "public"))
+                .block();
+
+        assertNotNull(obj);
+        Assertions.assertEquals(Set.of("read"), obj.getUserPermissions());
+        Assertions.assertEquals(3, obj.getPolicies().size());
+    }
 }
@@ -2,7 +2,13 @@ package com.appsmith.server.searchentities.helpers;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
+import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.getNameSearchCriteria;
+import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.getSearchNameGrams;
+import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.normaliseSearchName;
 import static com.appsmith.server.searchentities.helpers.SearchEntityHelper.shouldSearchEntity;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -45,4 +51,34 @@ class SearchEntityHelperTest {
     public void testShouldSearchEntity_MultipleEntitiesNoMatch() {
         assertFalse(shouldSearchEntity(TestEntity.class, new String[] {"Entity1", "Entity2", "Entity3"}));
     }
+
+    @Test
+    public void testGetSearchNameGrams_ContainsAllSubstringsUpToThreeCharacters() {
+        assertEquals(
+                Set.of("a", "p", "ap", "pp", "pa", "app", "ppa"), getSearchNameGrams(normaliseSearchName("AppA")));
+    }
+
+    @Test
+    public void testGetSearchNameGrams_NullName() {
+        assertTrue(getSearchNameGrams(null).isEmpty());
+    }
+
+    @Test
+    public void testGetNameSearchCriteria_EmptySearchString() {
+        assertTrue(getNameSearchCriteria("").isEmpty());
+    }
+
+    @Test
+    public void testGetNameSearchCriteria_ShortSearchString_MatchesGram() {
+        String criteria = getNameSearchCriteria("Ap").getCriteriaObject().toJson();
+        assertTrue(criteria.contains("{\"searchNameGrams\": \"ap\"}"));
+        assertFalse(criteria.contains("\"searchName\""));
+    }
+
+    @Test
+    public void testGetNameSearchCriteria_LongSearchString_MatchesAllTrigramsAndName() {
+        String criteria = getNameSearchCriteria("Apps").getCriteriaObject().toJson();
+        assertTrue(criteria.contains("\"$all\": [\"app\", \"pps\"]"));
+        assertTrue(criteria.contains("\"searchName\""));
+    }
 }
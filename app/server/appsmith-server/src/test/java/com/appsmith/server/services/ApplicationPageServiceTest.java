@@ -37,6 +37,7 @@ import reactor.test.StepVerifier;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -239,7 +240,6 @@ public class ApplicationPageServiceTest {
         dslAfterMigration.put("version", olderDslVersion + 1);
         dslAfterMigration.put("testKey", "testValue");
 
-        Mockito.when(dslMigrationUtils.migratePageDsl(any(JSONObject.class))).thenReturn(Mono.just(dslAfterMigration));
 
         Mono<NewPage> newPageMono = applicationPageService
                 .getPageAndMigrateDslByBranchAndBasePageId(newPage.getId(), null, false, true)
@@ -268,6 +268,145 @@ public class ApplicationPageServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails("api_user")
+    public void getPagesDTOAfterMigratingDSL_WhenDslsAreNotLatest_MigratedInOneBatchAndSaved() {
+        String uuid = UUID.randomUUID().toString();
+        Application application = createApplication("App_" + uuid).block();
+        PageDTO secondPage = new PageDTO();
+        secondPage.setName("Second page");
+        secondPage.setApplicationId(application.getId());
+        applicationPageService.createPage(secondPage).block();
+
+        List<NewPage> newPages = newPageService
+                .findNewPagesByApplicationId(application.getId(), null)
+                .collectList()
+                .block();
+        int olderDslVersion = 0;
+        newPages.forEach(newPage -> newPage.getUnpublishedPage()
+                .getLayouts()
+                .get(0)
+                .getDsl()
+                .put("version", olderDslVersion));
+        newPages = newPageService.saveAll(newPages).collectList().block();
+
+        JSONObject dslAfterMigration = new JSONObject();
+        dslAfterMigration.put("version", olderDslVersion + 1);
+        dslAfterMigration.put("testKey", "testValue");
+
+        Mockito.when(dslMigrationUtils.getLatestDslVersion()).thenReturn(Mono.just(olderDslVersion + 1));
+        Mockito.when(dslMigrationUtils.migratePageDsls(Mockito.anyList()))
+                .thenReturn(Mono.just(List.of(dslAfterMigration, dslAfterMigration)));
+
+        StepVerifier.create(applicationPageService.getPagesDTOAfterMigratingDSL(newPages, false))
+                .assertNext(pageDTOs -> {
+                    assertThat(pageDTOs).hasSize(2);
+                    pageDTOs.forEach(pageDTO -> assertThat(pageDTO.getLayouts()
+                                    .get(0)
+                                    .getDsl()
+                                    .getAsString("testKey"))
+                            .isEqualTo("testValue"));
+                })
+                .verifyComplete();
+        Mockito.verify(dslMigrationUtils, Mockito.times(1)).migratePageDsls(Mockito.anyList());
+        Mockito.verify(dslMigrationUtils, Mockito.never()).migratePageDsl(any(JSONObject.class));
+
+        // The migrated pages are saved in the background
+        Mono<List<NewPage>> savedPagesMono = newPageService
+                .findNewPagesByApplicationId(application.getId(), null)
+                .filter(newPage -> "testValue"
+                        .equals(newPage.getUnpublishedPage()
+                                .getLayouts()
+                                .get(0)
+                                .getDsl()
+                                .getAsString("testKey")))
+                .collectList()
+                .filter(savedPages -> savedPages.size() == 2)
+                .repeatWhenEmpty(10, repeat -> repeat.delayElements(Duration.ofMillis(100)));
+
+        StepVerifier.create(savedPagesMono)
+                .assertNext(savedPages -> assertThat(savedPages).hasSize(2))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    public void getPagesDTOAfterMigratingDSL_WhenPageEditedBeforeMigratedDslSaved_EditNotOverwritten() {
+        String uuid = UUID.randomUUID().toString();
+        Application application = createApplication("App_" + uuid).block();
+
+        NewPage newPage = newPageService
+                .findNewPagesByApplicationId(application.getId(), null)
+                .blockFirst();
+        int olderDslVersion = 0;
+        newPage.getUnpublishedPage().getLayouts().get(0).getDsl().put("version", olderDslVersion);
+        newPage = newPageService.save(newPage).block();
+
+        // The page is edited, and saved with the latest DSL, after it was read for the page load
+        NewPage editedPage = newPageService.getByIdWithoutPermissionCheck(newPage.getId()).block();
+        JSONObject editedDsl = editedPage.getUnpublishedPage().getLayouts().get(0).getDsl();
+        editedDsl.put("version", olderDslVersion + 1);
+        editedDsl.put("editedKey", "editedValue");
+        newPageService.save(editedPage).block();
+
+        JSONObject dslAfterMigration = new JSONObject();
+        dslAfterMigration.put("version", olderDslVersion + 1);
+        dslAfterMigration.put("testKey", "testValue");
+
+        Mockito.when(dslMigrationUtils.getLatestDslVersion()).thenReturn(Mono.just(olderDslVersion + 1));
+        Mockito.when(dslMigrationUtils.migratePageDsls(Mockito.anyList()))
+                .thenReturn(Mono.just(List.of(dslAfterMigration)));
+
+        StepVerifier.create(applicationPageService.getPagesDTOAfterMigratingDSL(List.of(newPage), false))
+                .assertNext(pageDTOs -> assertThat(
+                                pageDTOs.get(0).getLayouts().get(0).getDsl().getAsString("testKey"))
+                        .isEqualTo("testValue"))
+                .verifyComplete();
+
+        // Give the background save the time to run, it must not match the edited page
+        Mono<NewPage> savedPageMono = Mono.delay(Duration.ofMillis(500))
+                .then(newPageService.getByIdWithoutPermissionCheck(newPage.getId()));
+
+        StepVerifier.create(savedPageMono)
+                .assertNext(savedPage -> {
+                    JSONObject savedDsl =
+                            savedPage.getUnpublishedPage().getLayouts().get(0).getDsl();
+                    assertThat(savedDsl.getAsString("editedKey")).isEqualTo("editedValue");
+                    assertThat(savedDsl.getAsString("testKey")).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    public void getPagesDTOAfterMigratingDSL_WhenFewerDslsMigrated_ThrowsRtsError() {
+        String uuid = UUID.randomUUID().toString();
+        Application application = createApplication("App_" + uuid).block();
+        PageDTO secondPage = new PageDTO();
+        secondPage.setName("Second page");
+        secondPage.setApplicationId(application.getId());
+        applicationPageService.createPage(secondPage).block();
+
+        List<NewPage> newPages = newPageService
+                .findNewPagesByApplicationId(application.getId(), null)
+                .collectList()
+                .block();
+        newPages.forEach(newPage ->
+                newPage.getUnpublishedPage().getLayouts().get(0).getDsl().put("version", 0));
+
+        JSONObject dslAfterMigration = new JSONObject();
+        dslAfterMigration.put("version", 1);
+
+        Mockito.when(dslMigrationUtils.getLatestDslVersion()).thenReturn(Mono.just(1));
+        Mockito.when(dslMigrationUtils.migratePageDsls(Mockito.anyList()))
+                .thenReturn(Mono.just(List.of(dslAfterMigration)));
+
+        StepVerifier.create(applicationPageService.getPagesDTOAfterMigratingDSL(newPages, false))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && ((AppsmithException) throwable).getError() == AppsmithError.RTS_SERVER_ERROR)
+                .verify();
+    }
+
     /**
      * This test is to ensure that the DSL migration is triggered when DSL does not have version
      */
@@ -299,7 +438,6 @@ public class ApplicationPageServiceTest {
         dslAfterMigration.put("version", latestDslVersion);
         dslAfterMigration.put("testKey", "testValue");
 
-        Mockito.when(dslMigrationUtils.migratePageDsl(any(JSONObject.class))).thenReturn(Mono.just(dslAfterMigration));
 
         Mono<NewPage> newPageMono = applicationPageService
                 .getPageAndMigrateDslByBranchAndBasePageId(newPage.getId(), null, false, true)
@@ -347,7 +485,6 @@ public class ApplicationPageServiceTest {
         dslAfterMigration.put("version", olderDslVersion + 1);
         dslAfterMigration.put("testKey", "testValue");
 
-        Mockito.when(dslMigrationUtils.migratePageDsl(any(JSONObject.class))).thenReturn(Mono.just(dslAfterMigration));
 
         Mono<NewPage> newPageMono = applicationPageService
                 .getPageAndMigrateDslByBranchAndBasePageId(newPage.getId(), null, true, true)
@@ -199,6 +199,30 @@ public class ApplicationSnapshotServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails("api_user")
+    public void createApplicationSnapshot_WhenSnapshotCreated_DataStoredCompressedWithContentHash() {
+        Application testApplication = new Application();
+        testApplication.setName("Test app for compressed snapshot");
+        testApplication.setWorkspaceId(workspace.getId());
+        Flux<ApplicationSnapshot> applicationSnapshotFlux = applicationPageService
+                .createApplication(testApplication)
+                .flatMapMany(application -> applicationSnapshotService
+                        .createApplicationSnapshot(application.getId())
+                        .thenMany(applicationSnapshotRepository.findByApplicationId(application.getId())));
+
+        StepVerifier.create(applicationSnapshotFlux)
+                .assertNext(applicationSnapshot -> {
+                    assertThat(applicationSnapshot.getChunkOrder()).isEqualTo(1);
+                    assertThat(applicationSnapshot.getCompression()).isEqualTo("gzip");
+                    assertThat(applicationSnapshot.getContentHash()).isNotBlank();
+                    // gzip magic number
+                    assertThat(applicationSnapshot.getData()[0]).isEqualTo((byte) 0x1f);
+                    assertThat(applicationSnapshot.getData()[1]).isEqualTo((byte) 0x8b);
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails("api_user")
     public void restoreSnapshot_WhenNewPagesAddedAfterSnapshotTaken_NewPagesRemovedAfterSnapshotIsRestored() {
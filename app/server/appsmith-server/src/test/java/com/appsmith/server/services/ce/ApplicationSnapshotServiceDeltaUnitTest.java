@@ -0,0 +1,102 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.constants.ArtifactType;
+import com.appsmith.server.constants.SerialiseArtifactObjective;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationSnapshot;
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.exports.internal.ExportService;
+import com.appsmith.server.repositories.ApplicationSnapshotRepository;
+import com.appsmith.server.services.ApplicationSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@SpringBootTest(properties = "appsmith.application.snapshot.delta=true")
+public class ApplicationSnapshotServiceDeltaUnitTest {
+
+    private static final String BRANCHED_APP_ID = "branched-app-id";
+
+    @MockBean
+    ExportService exportService;
+
+    @MockBean
+    ApplicationSnapshotRepository applicationSnapshotRepository;
+
+    @Autowired
+    ApplicationSnapshotService applicationSnapshotService;
+
+    private final List<ApplicationSnapshot> savedSnapshots = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        Application application = new Application();
+        application.setName("Snapshot test");
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setExportedApplication(application);
+
+        Mockito.when(exportService.exportByArtifactId(
+                        BRANCHED_APP_ID, SerialiseArtifactObjective.VERSION_CONTROL, ArtifactType.APPLICATION))
+                .thenAnswer(invocationOnMock -> Mono.just(applicationJson));
+        Mockito.when(applicationSnapshotRepository.deleteAllByApplicationId(BRANCHED_APP_ID))
+                .thenReturn(Mono.empty());
+        Mockito.when(applicationSnapshotRepository.saveAll(anyList())).thenAnswer(invocationOnMock -> {
+            List<ApplicationSnapshot> snapshots = invocationOnMock.getArgument(0);
+            savedSnapshots.addAll(snapshots);
+            return Flux.fromIterable(snapshots);
+        });
+        Mockito.when(applicationSnapshotRepository.updateUpdatedAtByApplicationId(BRANCHED_APP_ID))
+                .thenReturn(Mono.just(1));
+    }
+
+    private void createSnapshot() {
+        StepVerifier.create(applicationSnapshotService.createApplicationSnapshot(BRANCHED_APP_ID))
+                .assertNext(aBoolean -> assertThat(aBoolean).isTrue())
+                .verifyComplete();
+    }
+
+    @Test
+    public void createApplicationSnapshot_WhenContentUnchanged_OnlyUpdatesSnapshotTime() {
+        Mockito.when(applicationSnapshotRepository.findContentHashByApplicationId(BRANCHED_APP_ID))
+                .thenReturn(Mono.empty());
+        createSnapshot();
+        assertThat(savedSnapshots).isNotEmpty();
+        String contentHash = savedSnapshots.get(0).getContentHash();
+        assertThat(contentHash).isNotBlank();
+
+        Mockito.when(applicationSnapshotRepository.findContentHashByApplicationId(BRANCHED_APP_ID))
+                .thenReturn(Mono.just(contentHash));
+        createSnapshot();
+
+        Mockito.verify(applicationSnapshotRepository).updateUpdatedAtByApplicationId(BRANCHED_APP_ID);
+        Mockito.verify(applicationSnapshotRepository, Mockito.times(1)).deleteAllByApplicationId(BRANCHED_APP_ID);
+        Mockito.verify(applicationSnapshotRepository, Mockito.times(1)).saveAll(anyList());
+    }
+
+    @Test
+    public void createApplicationSnapshot_WhenContentChanged_SavesSnapshotAgain() {
+        Mockito.when(applicationSnapshotRepository.findContentHashByApplicationId(BRANCHED_APP_ID))
+                .thenReturn(Mono.just("hash-of-previous-content"));
+
+        createSnapshot();
+
+        Mockito.verify(applicationSnapshotRepository, Mockito.never()).updateUpdatedAtByApplicationId(anyString());
+        Mockito.verify(applicationSnapshotRepository).deleteAllByApplicationId(BRANCHED_APP_ID);
+        Mockito.verify(applicationSnapshotRepository).saveAll(anyList());
+        assertThat(savedSnapshots).isNotEmpty();
+        assertThat(savedSnapshots.get(0).getContentHash()).isNotEqualTo("hash-of-previous-content");
+    }
+}
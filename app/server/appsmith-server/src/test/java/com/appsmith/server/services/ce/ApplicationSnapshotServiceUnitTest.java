@@ -30,11 +30,13 @@ import reactor.test.StepVerifier;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
 import static java.util.Arrays.copyOfRange;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -62,13 +64,9 @@ public class ApplicationSnapshotServiceUnitTest {
     @Autowired
     Gson gson;
 
-    @Test
-    public void createApplicationSnapshot_WhenApplicationTooLarge_SnapshotCreatedSuccessfully() {
-        String defaultAppId = "default-app-id", branchName = "develop", branchedAppId = "branched-app-id";
-
-        // Create a large ApplicationJson object that exceeds the 15 MB size
+    private ApplicationJson createLargeApplicationJson(String dslValue) {
         JSONObject jsonObject = new JSONObject();
-        jsonObject.put("key", generateRandomString(16));
+        jsonObject.put("key", dslValue);
 
         Layout layout = new Layout();
         layout.setDsl(jsonObject);
@@ -81,11 +79,14 @@ public class ApplicationSnapshotServiceUnitTest {
 
         ApplicationJson applicationJson = new ApplicationJson();
         applicationJson.setPageList(List.of(newPage));
+        return applicationJson;
+    }
 
-        Mockito.when(applicationService.findBranchedApplicationId(
-                        branchName, defaultAppId, AclPermission.MANAGE_APPLICATIONS))
-                .thenReturn(Mono.just(branchedAppId));
-
+    /**
+     * Mocks the export of the application and the saving of its snapshot, and returns the snapshot chunks that get
+     * saved.
+     */
+    private List<ApplicationSnapshot> createSnapshotChunks(String branchedAppId, ApplicationJson applicationJson) {
         Mockito.when(exportService.exportByArtifactId(
                         branchedAppId, SerialiseArtifactObjective.VERSION_CONTROL, ArtifactType.APPLICATION))
                 .thenAnswer(getTypeSafeMockAnswer(applicationJson));
@@ -93,18 +94,81 @@ public class ApplicationSnapshotServiceUnitTest {
         Mockito.when(applicationSnapshotRepository.deleteAllByApplicationId(branchedAppId))
                 .thenReturn(Mono.just("").then());
 
-        // we're expecting to receive two application snapshots, create a matcher to check the size
-        ArgumentMatcher<List<ApplicationSnapshot>> snapshotListHasTwoSnapshot =
-                snapshotList -> snapshotList.size() == 2;
-
-        Mockito.when(applicationSnapshotRepository.saveAll(argThat(snapshotListHasTwoSnapshot)))
-                .thenReturn(Flux.just(new ApplicationSnapshot(), new ApplicationSnapshot()));
+        List<ApplicationSnapshot> savedSnapshots = new ArrayList<>();
+        Mockito.when(applicationSnapshotRepository.saveAll(anyList())).thenAnswer(invocationOnMock -> {
+            List<ApplicationSnapshot> snapshots = invocationOnMock.getArgument(0);
+            savedSnapshots.addAll(snapshots);
+            return Flux.fromIterable(snapshots);
+        });
 
         StepVerifier.create(applicationSnapshotService.createApplicationSnapshot(branchedAppId))
                 .assertNext(aBoolean -> {
                     assertThat(aBoolean).isTrue();
                 })
                 .verifyComplete();
+
+        return savedSnapshots;
+    }
+
+    @Test
+    public void createApplicationSnapshot_WhenApplicationTooLarge_SnapshotCreatedSuccessfully() {
+        String branchedAppId = "branched-app-id";
+
+        // Random text compresses to about three quarters of its size, so 24 MB of it does not fit in one 15 MB chunk
+        ApplicationJson applicationJson = createLargeApplicationJson(generateRandomString(24));
+
+        List<ApplicationSnapshot> savedSnapshots = createSnapshotChunks(branchedAppId, applicationJson);
+
+        assertThat(savedSnapshots).hasSizeGreaterThanOrEqualTo(2);
+        for (int i = 0; i < savedSnapshots.size(); i++) {
+            ApplicationSnapshot snapshot = savedSnapshots.get(i);
+            assertThat(snapshot.getApplicationId()).isEqualTo(branchedAppId);
+            assertThat(snapshot.getChunkOrder()).isEqualTo(i + 1);
+            assertThat(snapshot.getData().length).isLessThanOrEqualTo(15 * 1024 * 1024);
+        }
+    }
+
+    @Test
+    public void restoreSnapshot_WhenCompressedSnapshotHasMultipleChunks_RestoredSuccessfully() {
+        String branchedAppId = "branched-app-id", workspaceId = "workspace-id";
+        String dslValue = generateRandomString(24);
+
+        List<ApplicationSnapshot> savedSnapshots =
+                createSnapshotChunks(branchedAppId, createLargeApplicationJson(dslValue));
+        assertThat(savedSnapshots).hasSizeGreaterThanOrEqualTo(2);
+
+        Application application = new Application();
+        application.setName("Snapshot test");
+        application.setWorkspaceId(workspaceId);
+        application.setId(branchedAppId);
+
+        Mockito.when(applicationService.findById(branchedAppId, AclPermission.MANAGE_APPLICATIONS))
+                .thenReturn(Mono.just(application));
+
+        // the chunks are not necessarily read back in the order they were written
+        List<ApplicationSnapshot> storedSnapshots = new ArrayList<>(savedSnapshots);
+        Collections.reverse(storedSnapshots);
+        Mockito.when(applicationSnapshotRepository.findByApplicationId(branchedAppId))
+                .thenReturn(Flux.fromIterable(storedSnapshots));
+
+        // matcher to check that ApplicationJson read from the compressed chunks matches the original one
+        ArgumentMatcher<ApplicationJson> matchApplicationJson = applicationJson -> dslValue.equals(applicationJson
+                .getPageList()
+                .get(0)
+                .getUnpublishedPage()
+                .getLayouts()
+                .get(0)
+                .getDsl()
+                .getAsString("key"));
+
+        Mockito.when(importService.restoreSnapshot(eq(workspaceId), eq(branchedAppId), argThat(matchApplicationJson)))
+                .thenAnswer(getTypeSafeMockAnswer(application));
+
+        StepVerifier.create(applicationSnapshotService.restoreSnapshot(branchedAppId))
+                .assertNext(application1 -> {
+                    assertThat(application1.getName()).isEqualTo(application.getName());
+                })
+                .verifyComplete();
     }
 
     @Test
@@ -26,6 +26,7 @@ import com.appsmith.server.dtos.PageNameIdDTO;
 import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.UserProfileDTO;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.DSLMigrationUtils;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -35,6 +36,7 @@ import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ConsolidatedAPIService;
 import com.appsmith.server.services.MockDataService;
+import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.ProductAlertService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
@@ -47,6 +49,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -55,6 +58,8 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import static com.appsmith.external.constants.PluginConstants.PackageName.APPSMITH_AI_PLUGIN;
 import static com.appsmith.external.constants.PluginConstants.PackageName.GRAPHQL_PLUGIN;
@@ -65,12 +70,17 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
 @DirtiesContext
+@TestPropertySource(properties = "appsmith.consolidated-api.view-mode-snapshot.enabled=true")
 public class ConsolidatedAPIServiceImplTest {
 
     @Autowired
@@ -127,6 +137,12 @@ public class ConsolidatedAPIServiceImplTest {
     @SpyBean
     NewPageRepository mockNewPageRepository;
 
+    @SpyBean
+    PermissionGroupService spyPermissionGroupService;
+
+    @SpyBean
+    DSLMigrationUtils spyDSLMigrationUtils;
+
     @Test
     public void testErrorWhenModeIsNullAndPageIdAvailable() {
         Mono<ConsolidatedAPIResponseDTO> consolidatedInfoForPageLoad =
@@ -456,15 +472,9 @@ public class ConsolidatedAPIServiceImplTest {
                 .when(spyApplicationPageService)
                 .getPageAndMigrateDslByBranchAndBasePageId(anyString(), anyString(), anyBoolean(), anyBoolean());
 
-        doReturn(Mono.just(samplePageDTO))
-                .doReturn(Mono.just(samplePageDTO))
-                .when(spyApplicationPageService)
-                .getPageDTOAfterMigratingDSL(any(), anyBoolean(), anyBoolean());
-
-        doReturn(Mono.just(samplePageDTO))
-                .doReturn(Mono.just(samplePageDTO))
+        doReturn(Mono.just(List.of(samplePageDTO)))
                 .when(spyApplicationPageService)
-                .getPageDTOAfterMigratingDSL(any(), anyBoolean(), anyBoolean());
+                .getPagesDTOAfterMigratingDSL(anyList(), anyBoolean());
 
         ActionDTO sampleActionDTO = new ActionDTO();
         sampleActionDTO.setName("sampleActionDTO");
@@ -877,4 +887,123 @@ public class ConsolidatedAPIServiceImplTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testPageLoadResponseForViewMode_whenApplicationIsPublished_servedFromSnapshotOnSecondLoad() {
+        String applicationId = UUID.randomUUID().toString();
+        String pageId = UUID.randomUUID().toString();
+
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(new User()));
+        when(mockUserService.buildUserProfileDTO(any())).thenReturn(Mono.just(new UserProfileDTO()));
+        when(mockUserDataService.getFeatureFlagsForCurrentUser()).thenReturn(Mono.just(new HashMap<>()));
+        when(mockTenantService.getTenantConfiguration()).thenReturn(Mono.just(new Tenant()));
+        when(mockProductAlertService.getSingleApplicableMessage()).thenReturn(Mono.just(List.of()));
+
+        doReturn(Mono.just(Set.of("permissionGroupId")))
+                .when(spyPermissionGroupService)
+                .getSessionUserPermissionGroupIds();
+        doReturn(Mono.just(88)).when(spyDSLMigrationUtils).getLatestDslVersion();
+
+        Application mockApplication = new Application();
+        mockApplication.setId(applicationId);
+        mockApplication.setWorkspaceId("sampleWorkspaceId");
+        mockApplication.setLastDeployedAt(Instant.now());
+        doReturn(Mono.just(mockApplication))
+                .when(spyApplicationService)
+                .findByBranchedApplicationIdAndApplicationMode(anyString(), any());
+        doReturn(Mono.just(mockApplication))
+                .when(spyApplicationService)
+                .findByBaseIdBranchNameAndApplicationMode(any(), any(), any());
+
+        NewPage mockNewPage = new NewPage();
+        mockNewPage.setApplicationId(applicationId);
+        mockNewPage.setId(pageId);
+        doReturn(Mono.just(mockNewPage))
+                .when(spyNewPageService)
+                .findByBranchNameAndBasePageIdAndApplicationMode(any(), anyString(), any());
+        doReturn(Mono.just(List.of(mockNewPage)))
+                .when(spyApplicationPageService)
+                .getPagesBasedOnApplicationMode(any(), any());
+
+        PageNameIdDTO samplePageNameIdDTO = new PageNameIdDTO();
+        samplePageNameIdDTO.setId(pageId);
+        samplePageNameIdDTO.setName("samplePage");
+        ApplicationPagesDTO sampleApplicationPagesDTO = new ApplicationPagesDTO();
+        sampleApplicationPagesDTO.setWorkspaceId("sampleWorkspaceId");
+        sampleApplicationPagesDTO.setPages(List.of(samplePageNameIdDTO));
+        doReturn(Mono.just(sampleApplicationPagesDTO))
+                .when(spyNewPageService)
+                .createApplicationPagesDTO(any(), any(), anyBoolean(), anyBoolean());
+
+        Theme sampleTheme = new Theme();
+        sampleTheme.setName("sampleTheme");
+        doReturn(Mono.just(sampleTheme)).when(spyThemeService).getApplicationTheme(eq(applicationId), any());
+        doReturn(Flux.just(sampleTheme)).when(spyThemeService).getApplicationThemes(eq(applicationId));
+
+        doReturn(Mono.just(List.of()))
+                .when(spyCustomJSLibService)
+                .getAllJSLibsInContext(eq(applicationId), any(), anyBoolean());
+
+        PageDTO samplePageDTO = new PageDTO();
+        samplePageDTO.setId(pageId);
+        samplePageDTO.setName("samplePageDTO");
+        doReturn(Mono.just(samplePageDTO))
+                .when(spyApplicationPageService)
+                .getPageAndMigrateDslByBranchAndBasePageId(eq(pageId), any(), anyBoolean(), anyBoolean());
+        doReturn(Mono.empty()).when(spyApplicationPageService).sendPageViewAnalyticsEvent(any(), anyBoolean());
+
+        ActionViewDTO sampleActionViewDTO = new ActionViewDTO();
+        sampleActionViewDTO.setName("sampleActionViewDTO");
+        doReturn(Flux.just(sampleActionViewDTO)).when(spyNewActionService).getActionsForViewModeByPageId(eq(pageId));
+
+        ActionCollectionViewDTO sampleActionCollectionViewDTO = new ActionCollectionViewDTO();
+        sampleActionCollectionViewDTO.setName("sampleActionCollectionViewDTO");
+        doReturn(Flux.just(sampleActionCollectionViewDTO))
+                .when(spyActionCollectionService)
+                .getActionCollectionsForViewMode(eq(applicationId));
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(consolidatedAPIService.getConsolidatedInfoForPageLoad(
+                            pageId, null, null, ApplicationMode.PUBLISHED))
+                    .assertNext(consolidatedAPIResponseDTO -> {
+                        ApplicationPagesDTO applicationPagesDTO =
+                                consolidatedAPIResponseDTO.getPages().getData();
+                        assertEquals("sampleWorkspaceId", applicationPagesDTO.getWorkspaceId());
+                        assertEquals(pageId, applicationPagesDTO.getPages().get(0).getId());
+                        assertEquals(
+                                "sampleTheme",
+                                consolidatedAPIResponseDTO
+                                        .getCurrentTheme()
+                                        .getData()
+                                        .getName());
+                        assertEquals(
+                                "samplePageDTO",
+                                consolidatedAPIResponseDTO
+                                        .getPageWithMigratedDsl()
+                                        .getData()
+                                        .getName());
+                        assertEquals(
+                                "sampleActionViewDTO",
+                                consolidatedAPIResponseDTO
+                                        .getPublishedActions()
+                                        .getData()
+                                        .get(0)
+                                        .getName());
+                        assertEquals(
+                                "sampleActionCollectionViewDTO",
+                                consolidatedAPIResponseDTO
+                                        .getPublishedActionCollections()
+                                        .getData()
+                                        .get(0)
+                                        .getName());
+                    })
+                    .verifyComplete();
+        }
+
+        // The second load is served from the snapshot of the first one, except for the application itself
+        verify(spyThemeService, times(1)).getApplicationTheme(eq(applicationId), any());
+        verify(spyNewActionService, times(1)).getActionsForViewModeByPageId(eq(pageId));
+        verify(spyActionCollectionService, times(1)).getActionCollectionsForViewMode(eq(applicationId));
+        verify(spyApplicationPageService, times(1)).sendPageViewAnalyticsEvent(any(), eq(true));
+    }
 }
@@ -15,10 +15,12 @@ import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionResultCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.ratelimiting.ActionExecutionBulkhead;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.AuthenticationValidator;
 import com.appsmith.server.services.ConfigService;
@@ -132,6 +134,12 @@ class ActionExecutionSolutionCEImplTest {
     @SpyBean
     CommonConfig commonConfig;
 
+    @Autowired
+    ActionExecutionBulkhead actionExecutionBulkhead;
+
+    @Autowired
+    ActionExecutionResultCache actionExecutionResultCache;
+
     @Autowired
     EnvironmentPermission environmentPermission;
 
@@ -162,7 +170,9 @@ class ActionExecutionSolutionCEImplTest {
                 environmentPermission,
                 configService,
                 tenantService,
-                commonConfig);
+                commonConfig,
+                actionExecutionBulkhead,
+                actionExecutionResultCache);
 
         ObservationRegistry.ObservationConfig mockObservationConfig =
                 Mockito.mock(ObservationRegistry.ObservationConfig.class);
@@ -22,6 +22,10 @@ import reactor.core.publisher.Mono;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
@@ -36,6 +40,12 @@ public class CacheAspect {
 
     public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
+    /**
+     * Loads that are currently running after a cache miss, keyed by cache name and key. Concurrent callers missing on
+     * the same key subscribe to the load that is already running instead of calling the original method again.
+     */
+    private final Map<String, Mono<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
     @Autowired
     public CacheAspect(CacheManager cacheManager) {
         this.cacheManager = cacheManager;
@@ -89,6 +99,31 @@ public class CacheAspect {
         }
     }
 
+    /**
+     * This method is used to share a single load of the original method among all the callers that miss on the same
+     * key at the same time. The load is forgotten as soon as it terminates, so later misses call the method again.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key to be used for caching
+     * @param loader    Supplies the Mono that calls the original method and caches its result
+     * @return A Mono that emits the result of the shared load
+     */
+    private Mono<Object> callOnceForKey(String cacheName, String key, Supplier<Mono<Object>> loader) {
+        String loadKey = cacheName + ":" + key;
+        AtomicReference<Mono<Object>> loadHolder = new AtomicReference<>();
+        Mono<Object> load = Mono.defer(loader)
+                .doFinally(signalType -> inFlightLoads.remove(loadKey, loadHolder.get()))
+                .share();
+        loadHolder.set(load);
+
+        Mono<Object> existingLoad = inFlightLoads.putIfAbsent(loadKey, load);
+        if (existingLoad != null) {
+            cacheManager.recordCoalescedCall(cacheName);
+            return existingLoad;
+        }
+        return load;
+    }
+
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments.
      * This uses original strategy used by Spring's Cacheable annotation.
@@ -166,19 +201,23 @@ public class CacheAspect {
 
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
+            // defer the creation of Mono until subscription as it will call original function
             return cacheManager
                     .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+                    .switchIfEmpty(Mono.defer(
+                            () -> callOnceForKey(cacheName, key, () -> callMonoMethodAndCache(joinPoint, cacheName, key))));
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
+            // defer the creation of Flux until subscription as it will call original function
             return cacheManager
                     .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
-                            .collectList())) // defer the creation of Flux until subscription as it will call original
-                    // function
+                    .switchIfEmpty(Mono.defer(() -> callOnceForKey(
+                            cacheName,
+                            key,
+                            () -> callFluxMethodAndCache(joinPoint, cacheName, key)
+                                    .collectList()
+                                    .map(list -> (Object) list))))
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
@@ -8,6 +8,12 @@ public interface CacheManager {
      */
     void logStats();
 
+    /**
+     * This will record a caller that shared an in-flight load instead of calling the original method after a miss.
+     * @param cacheName The name of the cache.
+     */
+    void recordCoalescedCall(String cacheName);
+
     /**
      * This will get item from the cache, Mono.empty() if not found.
      * @param cacheName The name of the cache.
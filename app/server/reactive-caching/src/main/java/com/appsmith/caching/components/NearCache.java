@@ -0,0 +1,89 @@
+package com.appsmith.caching.components;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, TTL based in-memory store for a single cache name. Entries are kept in access order so that the least
+ * recently used entry is dropped first once the cache is full.
+ */
+public class NearCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, CachedValue> entries;
+
+    /**
+     * Bumped on every invalidation. A value read from Redis is only stored if no invalidation happened while it was
+     * being read, otherwise an eviction racing with the read could leave a stale value in memory until it expires.
+     */
+    private long generation = 0;
+
+    public NearCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedValue> eldest) {
+                return size() > NearCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the value for the key, or null if it is absent or has expired.
+     */
+    public synchronized Object get(String key) {
+        CachedValue entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Stores the value unless the cache was invalidated after {@code expectedGeneration} was read.
+     */
+    public synchronized void put(String key, Object value, long expectedGeneration) {
+        put(key, value, expectedGeneration, ttlMillis);
+    }
+
+    /**
+     * Same as {@link #put(String, Object, long)}, with a TTL for this entry only instead of the cache wide one.
+     */
+    public synchronized void put(String key, Object value, long expectedGeneration, long entryTtlMillis) {
+        if (value == null || generation != expectedGeneration) {
+            return;
+        }
+        entries.put(key, new CachedValue(value, System.currentTimeMillis() + entryTtlMillis));
+    }
+
+    public synchronized void invalidate(String key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateByPrefix(String prefix) {
+        generation++;
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record CachedValue(Object value, long expiresAtMillis) {}
+}
@@ -0,0 +1,48 @@
+package com.appsmith.caching.components;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration for the in-process tier that sits in front of Redis. Only caches listed here get a near-cache, so a
+ * cache name has to be opted in explicitly, for example:
+ * <pre>
+ * appsmith.caching.near-cache.caches.permissionGroupsForUser.max-size=10000
+ * appsmith.caching.near-cache.caches.permissionGroupsForUser.ttl=30s
+ * </pre>
+ * Values held in the near-cache are shared between callers, so only caches whose values are never mutated by the
+ * caller should be enabled.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "appsmith.caching.near-cache")
+public class NearCacheProperties {
+
+    /**
+     * Redis pub/sub channel used to propagate evictions to the near-caches of the other nodes.
+     */
+    private String invalidationChannel = "appsmith:cache:invalidations";
+
+    /**
+     * Near-cache settings keyed by cache name.
+     */
+    private Map<String, CacheSpec> caches = new HashMap<>();
+
+    @Data
+    public static class CacheSpec {
+        /**
+         * Maximum number of entries held in memory for this cache.
+         */
+        private int maxSize = 1000;
+
+        /**
+         * Time after which an entry is dropped from memory and read from Redis again.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+}
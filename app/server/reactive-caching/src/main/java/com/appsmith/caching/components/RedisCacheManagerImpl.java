@@ -1,21 +1,27 @@
 package com.appsmith.caching.components;
 
 import com.appsmith.caching.model.CacheStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
- * Used Redis as the cache backend.
+ * Used Redis as the cache backend, with an optional in-process near-cache in front of it for the cache names configured
+ * in {@link NearCacheProperties}. Evictions are broadcast over Redis pub/sub so that the near-caches of all the nodes
+ * drop the evicted entries.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
@@ -24,9 +30,31 @@ public class RedisCacheManagerImpl implements CacheManager {
 
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final NearCacheProperties nearCacheProperties;
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
+    private final Map<String, NearCache> nearCaches = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies this node in invalidation messages so that it can skip the ones it published itself.
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Number of keys Redis looks at per SCAN call while evicting a complete cache.
+     */
+    static final long EVICT_ALL_SCAN_COUNT = 1000;
+
+    /**
+     * Number of keys removed per UNLINK call while evicting a complete cache.
+     */
+    static final int EVICT_ALL_BATCH_SIZE = 500;
+
+    private static final String MESSAGE_SEPARATOR = "\n";
+
+    private Disposable invalidationSubscription;
+
     /**
      * Ensures that the key for cacheName is present in statsMap.
      * @param cacheName The name of the cache.
@@ -42,15 +70,24 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                    "Cache {} stats: nearCacheHits = {}, nearCacheMisses = {}, hits = {}, misses = {}, coalescedCalls = {}, singleEvictions = {}, completeEvictions = {}",
                     key,
+                    stats.getNearCacheHits(),
+                    stats.getNearCacheMisses(),
                     stats.getHits(),
                     stats.getMisses(),
+                    stats.getCoalescedCalls(),
                     stats.getSingleEvictions(),
                     stats.getCompleteEvictions());
         });
     }
 
+    @Override
+    public void recordCoalescedCall(String cacheName) {
+        ensureStats(cacheName);
+        statsMap.get(cacheName).getCoalescedCalls().incrementAndGet();
+    }
+
     /**
      * Resets the stats.
      */
@@ -61,14 +98,107 @@ public class RedisCacheManagerImpl implements CacheManager {
     @Autowired
     public RedisCacheManagerImpl(
             ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            NearCacheProperties nearCacheProperties) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveRedisOperations = reactiveRedisOperations;
+        this.nearCacheProperties = nearCacheProperties;
+        nearCacheProperties
+                .getCaches()
+                .forEach((cacheName, spec) -> nearCaches.put(
+                        cacheName,
+                        new NearCache(spec.getMaxSize(), spec.getTtl().toMillis())));
+    }
+
+    /**
+     * Listens for evictions published by other nodes, only when at least one near-cache is configured.
+     */
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        if (nearCaches.isEmpty()) {
+            return;
+        }
+
+        invalidationSubscription = reactiveRedisOperations
+                .listenToChannel(nearCacheProperties.getInvalidationChannel())
+                .subscribe(
+                        message -> handleInvalidation(message.getMessage()),
+                        error -> log.error("Near-cache invalidation listener stopped", error));
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * Invalidation messages are of the form {@code nodeId\ncacheName} for a complete eviction, and
+     * {@code nodeId\ncacheName\nkey} for a single key.
+     */
+    void handleInvalidation(String message) {
+        String[] parts = message.split(MESSAGE_SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        invalidateNearCache(parts[1], parts.length == 2 ? null : parts[2]);
+    }
+
+    /**
+     * Drops a single key, or the whole cache when the key is null, from the local near-cache.
+     */
+    private void invalidateNearCache(String cacheName, String key) {
+        NearCache nearCache = nearCaches.get(cacheName);
+        if (nearCache == null) {
+            return;
+        }
+
+        if (key == null) {
+            nearCache.invalidateAll();
+        } else {
+            nearCache.invalidate(key);
+        }
+    }
+
+    private Mono<Void> publishInvalidation(String cacheName, String key) {
+        if (!nearCaches.containsKey(cacheName)) {
+            return Mono.empty();
+        }
+
+        String message = key == null
+                ? nodeId + MESSAGE_SEPARATOR + cacheName
+                : nodeId + MESSAGE_SEPARATOR + cacheName + MESSAGE_SEPARATOR + key;
+        return reactiveRedisOperations
+                .convertAndSend(nearCacheProperties.getInvalidationChannel(), message)
+                .onErrorResume(error -> {
+                    log.error("Failed to publish near-cache invalidation for cache {}", cacheName, error);
+                    return Mono.empty();
+                })
+                .then();
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
         ensureStats(cacheName);
+        NearCache nearCache = nearCaches.get(cacheName);
+        if (nearCache == null) {
+            return getFromRedis(cacheName, key);
+        }
+
+        Object value = nearCache.get(key);
+        if (value != null) {
+            statsMap.get(cacheName).getNearCacheHits().incrementAndGet();
+            return Mono.just(value);
+        }
+
+        statsMap.get(cacheName).getNearCacheMisses().incrementAndGet();
+        long generation = nearCache.getGeneration();
+        return getFromRedis(cacheName, key).doOnNext(redisValue -> nearCache.put(key, redisValue, generation));
+    }
+
+    private Mono<Object> getFromRedis(String cacheName, String key) {
         String path = cacheName + ":" + key;
         return reactiveRedisTemplate
                 .opsForValue()
@@ -100,17 +230,31 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        // The near-cache is invalidated again once Redis is updated, so that a concurrent read which picked up the old
+        // value from Redis in between does not keep it in memory.
+        invalidateNearCache(cacheName, key);
+        return reactiveRedisTemplate
+                .delete(path)
+                .then(Mono.fromRunnable(() -> invalidateNearCache(cacheName, key)))
+                .then(publishInvalidation(cacheName, key));
     }
 
     @Override
     public Mono<Void> evictAll(String cacheName) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        // Walk the matching keys with SCAN instead of KEYS, so that Redis is never blocked for the whole keyspace walk,
+        // and drop them in batches with UNLINK which frees the memory outside the main Redis thread.
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(cacheName + ":*")
+                .count(EVICT_ALL_SCAN_COUNT)
+                .build();
+        invalidateNearCache(cacheName, null);
+        return reactiveRedisTemplate
+                .scan(scanOptions)
+                .buffer(EVICT_ALL_BATCH_SIZE)
+                .concatMap(keys -> reactiveRedisTemplate.unlink(keys.toArray(new String[0])))
+                .then(Mono.fromRunnable(() -> invalidateNearCache(cacheName, null)))
+                .then(publishInvalidation(cacheName, null));
     }
 }
@@ -13,15 +13,31 @@ import java.util.concurrent.atomic.AtomicInteger;
 @NoArgsConstructor(staticName = "newInstance")
 public class CacheStats {
     /**
-     * The number of times the cache was hit.
+     * The number of times the cache was hit in Redis.
      */
     private AtomicInteger hits = new AtomicInteger(0);
 
     /**
-     * The number of times the cache was missed.
+     * The number of times the cache was missed in Redis.
      */
     private AtomicInteger misses = new AtomicInteger(0);
 
+    /**
+     * The number of times the value was served from the in-process near-cache, without going to Redis.
+     */
+    private AtomicInteger nearCacheHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the in-process near-cache was missed and the lookup fell through to Redis.
+     */
+    private AtomicInteger nearCacheMisses = new AtomicInteger(0);
+
+    /**
+     * The number of callers that missed the cache while the same key was already being loaded, and shared that load
+     * instead of calling the original method again.
+     */
+    private AtomicInteger coalescedCalls = new AtomicInteger(0);
+
     /**
      * The number of times the cache was evicted (single key).
      */
@@ -13,12 +13,17 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class CacheTestService {
 
     PodamFactory factory = new PodamFactoryImpl();
 
+    private final Map<String, AtomicInteger> objectCallCounts = new ConcurrentHashMap<>();
+
     /**
      * This method is used to test the caching functionality for Mono<T>.
      * @param id The id
@@ -26,11 +31,23 @@ public class CacheTestService {
      */
     @Cache(cacheName = "objectcache")
     public Mono<TestModel> getObjectFor(String id) {
+        objectCallCounts.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
         TestModel model = factory.manufacturePojo(TestModel.class);
         model.setId(id);
         return Mono.just(model).delayElement(Duration.ofSeconds(2));
     }
 
+    /**
+     * Returns the number of times the original getObjectFor method was called for the id, i.e. the cache misses that
+     * were not served by another load.
+     * @param id The id
+     * @return The number of calls
+     */
+    public int getObjectCallCount(String id) {
+        AtomicInteger count = objectCallCounts.get(id);
+        return count == null ? 0 : count.get();
+    }
+
     /**
      * This method is used to test the eviction functionality for Mono<T>.
      * @param id The id
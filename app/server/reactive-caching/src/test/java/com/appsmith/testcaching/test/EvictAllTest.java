@@ -0,0 +1,69 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.CacheManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.publisher.Flux;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that evictAll removes every key of a cache, walking them with SCAN and unlinking them in batches, and leaves
+ * the keys of other caches alone.
+ */
+@SpringBootTest
+public class EvictAllTest {
+
+    // Spans several SCAN pages and UNLINK batches
+    private static final int KEY_COUNT = 2_500;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Test
+    public void evictAll_manyKeys_removesAllKeysOfCacheOnly() {
+        populate("evictAllTest", KEY_COUNT);
+        // Shares the name of the evicted cache as a prefix, but is a different cache
+        populate("evictAllTestOther", 10);
+
+        cacheManager.evictAll("evictAllTest").block();
+
+        assertEquals(0L, count("evictAllTest"));
+        assertEquals(10L, count("evictAllTestOther"));
+    }
+
+    @Test
+    public void evictAll_noKeys_completes() {
+        cacheManager.evictAll("evictAllTestEmpty").block();
+
+        assertEquals(0L, count("evictAllTestEmpty"));
+    }
+
+    private void populate(String cacheName, int keyCount) {
+        Flux.range(0, keyCount)
+                .buffer(1000)
+                .concatMap(batch -> {
+                    Map<String, Object> values = new HashMap<>();
+                    batch.forEach(i -> values.put(cacheName + ":" + i, "value-" + i));
+                    return reactiveRedisTemplate.opsForValue().multiSet(values);
+                })
+                .then()
+                .block();
+        assertEquals((long) keyCount, count(cacheName));
+    }
+
+    private long count(String cacheName) {
+        ScanOptions scanOptions =
+                ScanOptions.scanOptions().match(cacheName + ":*").count(1000).build();
+        return reactiveRedisTemplate.scan(scanOptions).count().block();
+    }
+}
@@ -0,0 +1,78 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.NearCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class NearCacheTest {
+
+    @Test
+    public void testPutAndGet() {
+        NearCache nearCache = new NearCache(10, 60_000);
+        nearCache.put("key", "value", nearCache.getGeneration());
+        assertEquals("value", nearCache.get("key"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsDroppedWhenFull() {
+        NearCache nearCache = new NearCache(2, 60_000);
+        nearCache.put("a", 1, nearCache.getGeneration());
+        nearCache.put("b", 2, nearCache.getGeneration());
+        // Touch a so that b becomes the eldest entry
+        nearCache.get("a");
+        nearCache.put("c", 3, nearCache.getGeneration());
+
+        assertEquals(2, nearCache.size());
+        assertEquals(1, nearCache.get("a"));
+        assertNull(nearCache.get("b"));
+        assertEquals(3, nearCache.get("c"));
+    }
+
+    @Test
+    public void testExpiredEntryIsNotReturned() throws InterruptedException {
+        NearCache nearCache = new NearCache(10, 1);
+        nearCache.put("key", "value", nearCache.getGeneration());
+        Thread.sleep(5);
+        assertNull(nearCache.get("key"));
+    }
+
+    @Test
+    public void testPutAfterInvalidationIsIgnored() {
+        NearCache nearCache = new NearCache(10, 60_000);
+        long generation = nearCache.getGeneration();
+        // An eviction happens while the value is being read from Redis
+        nearCache.invalidate("key");
+        nearCache.put("key", "stale", generation);
+        assertNull(nearCache.get("key"));
+    }
+
+    @Test
+    public void testEntryTtlOverridesCacheTtl() throws InterruptedException {
+        NearCache nearCache = new NearCache(10, 60_000);
+        nearCache.put("key", "value", nearCache.getGeneration(), 1);
+        Thread.sleep(5);
+        assertNull(nearCache.get("key"));
+    }
+
+    @Test
+    public void testInvalidateByPrefix() {
+        NearCache nearCache = new NearCache(10, 60_000);
+        nearCache.put("a:1", 1, nearCache.getGeneration());
+        nearCache.put("a:2", 2, nearCache.getGeneration());
+        nearCache.put("b:1", 3, nearCache.getGeneration());
+        nearCache.invalidateByPrefix("a:");
+        assertEquals(1, nearCache.size());
+        assertEquals(3, nearCache.get("b:1"));
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        NearCache nearCache = new NearCache(10, 60_000);
+        nearCache.put("a", 1, nearCache.getGeneration());
+        nearCache.put("b", 2, nearCache.getGeneration());
+        nearCache.invalidateAll();
+        assertEquals(0, nearCache.size());
+    }
+}
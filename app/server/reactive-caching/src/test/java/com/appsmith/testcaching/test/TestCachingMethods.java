@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -64,6 +65,25 @@ public class TestCachingMethods {
         }
     }
 
+    /**
+     * This Test is used to test that concurrent misses on the same key share a single call to the original method
+     */
+    @Test
+    public void testConcurrentMissesAreCoalesced() {
+        cacheTestService.evictObjectFor("coalesce").block();
+        int callCountBefore = cacheTestService.getObjectCallCount("coalesce");
+
+        List<TestModel> models = Flux.range(0, 5)
+                .flatMap(i -> cacheTestService.getObjectFor("coalesce"))
+                .collectList()
+                .block();
+
+        assertEquals(5, models.size());
+        models.forEach(model -> assertEquals(models.get(0), model));
+        // Only the first miss calls the original method, the others wait for its result
+        assertEquals(callCountBefore + 1, cacheTestService.getObjectCallCount("coalesce"));
+    }
+
     /**
      * This Test is used to test evict all
      */